@@ -38,21 +38,8 @@ public abstract class AbstractAlgorithm implements Algorithm, Stoppable {
     private volatile boolean running;
     private boolean initialised;
     protected Problem optimisationProblem;
-    /**
-     * This {@linkplain ThreadLocal} variable maintains the stack of the currently
-     * executing algorithm. It is defined as a static member and as a result is not
-     * required to be marked as transient as static members are not allowed to be
-     * serialisable according to the Java Specification.
-     *
-     * @TODO: This static variable needs to be removed.
-     */
-    private static ThreadLocal<AlgorithmStack> currentAlgorithmStack = new ThreadLocal<AlgorithmStack>() {
-
-        @Override
-        protected AlgorithmStack initialValue() {
-            return new AlgorithmStack();
-        }
-    };
+    private transient ExecutionContext context;
+    private transient AlgorithmEvent event;
 
     /**
      * Default constructor for {@linkplain Algorithm} classes. Sets up the correct state
@@ -104,9 +91,13 @@ public abstract class AbstractAlgorithm implements Algorithm, Stoppable {
         running = true;
         initialised = true;
 
-        currentAlgorithmStack.get().push(this);
-        algorithmInitialisation();
-        currentAlgorithmStack.get().pop();
+        ExecutionContext current = getExecutionContext();
+        current.push(this);
+        try {
+            algorithmInitialisation();
+        } finally {
+            current.pop();
+        }
     }
 
     /**
@@ -114,10 +105,29 @@ public abstract class AbstractAlgorithm implements Algorithm, Stoppable {
      */
     @Override
     public final void performIteration() {
-        currentAlgorithmStack.get().push(this);
-        algorithmIteration();
-        iteration++;
-        currentAlgorithmStack.get().pop();
+        ExecutionContext current = getExecutionContext();
+        current.push(this);
+        try {
+            algorithmIteration();
+            iteration++;
+        } finally {
+            current.pop();
+        }
+    }
+
+    /**
+     * Get the {@linkplain ExecutionContext} in which this algorithm executes
+     * on the current thread. The context is looked up once and then reused for
+     * as long as the algorithm keeps executing on the same thread.
+     * @return The context of the current thread.
+     */
+    public final ExecutionContext getExecutionContext() {
+        ExecutionContext current = context;
+        if (current == null || !current.isCurrent()) {
+            current = ExecutionContext.current();
+            context = current;
+        }
+        return current;
     }
 
     /**
@@ -157,20 +167,23 @@ public abstract class AbstractAlgorithm implements Algorithm, Stoppable {
             performInitialisation();
         }
 
-        currentAlgorithmStack.get().push(this);
-        fireAlgorithmStarted();
-
-        runAlgorithm();
+        ExecutionContext current = getExecutionContext();
+        current.push(this);
+        try {
+            fireAlgorithmStarted();
+            runAlgorithm();
+            fireAlgorithmFinished();
+        } finally {
+            current.pop();
+        }
 
-        fireAlgorithmFinished();
-        currentAlgorithmStack.get().pop();
-        
         cleanUp();
     }
 
     public void cleanUp() {
         // Cleanup thread-local variables -- very ugly hack!!!
-        currentAlgorithmStack.remove();
+        ExecutionContext.remove();
+        context = null;
         EntityIdFactory.remove();
         Archive.Provider.remove();
     }
@@ -259,20 +272,25 @@ public abstract class AbstractAlgorithm implements Algorithm, Stoppable {
     }
 
     /**
-     * Accessor for the top-level currently executing algorithm running in the current thread.
+     * Accessor for the innermost algorithm running in the current thread.
+     * <p>
+     * This is a compatibility accessor for code that is not given the
+     * {@linkplain ExecutionContext} explicitly; it reads the context of the
+     * current thread.
+     * </p>
      * @return the instance of the algorithm that is running in the current thread.
      */
     public static AbstractAlgorithm get() {
-        return (AbstractAlgorithm) currentAlgorithmStack.get().peek();
+        return (AbstractAlgorithm) ExecutionContext.current().peek();
     }
 
     /**
      * Static accessor to allow the current level of algorithm composition to be returned.
-     * @see AlgorithmStack#asList()
+     * @see ExecutionContext#asList()
      * @return An unmodifiable list of algorithms.
      */
     public static List<Algorithm> getAlgorithmList() {
-        return currentAlgorithmStack.get().asList();
+        return ExecutionContext.current().asList();
     }
 
     /**
@@ -290,8 +308,9 @@ public abstract class AbstractAlgorithm implements Algorithm, Stoppable {
      * has started execution.
      */
     private void fireAlgorithmStarted() {
-        for (AlgorithmListener listener : algorithmListeners) {
-            listener.algorithmStarted(new AlgorithmEvent(this));
+        AlgorithmEvent e = getEvent();
+        for (int i = 0; i < algorithmListeners.size(); i++) {
+            algorithmListeners.get(i).algorithmStarted(e);
         }
     }
 
@@ -300,8 +319,9 @@ public abstract class AbstractAlgorithm implements Algorithm, Stoppable {
      * has finished execution.
      */
     private void fireAlgorithmFinished() {
-        for (AlgorithmListener listener : algorithmListeners) {
-            listener.algorithmFinished(new AlgorithmEvent(this));
+        AlgorithmEvent e = getEvent();
+        for (int i = 0; i < algorithmListeners.size(); i++) {
+            algorithmListeners.get(i).algorithmFinished(e);
         }
     }
 
@@ -310,9 +330,25 @@ public abstract class AbstractAlgorithm implements Algorithm, Stoppable {
      * has completed an iteration.
      */
     private void fireIterationCompleted() {
-        for (AlgorithmListener listener : algorithmListeners) {
-            listener.iterationCompleted(new AlgorithmEvent(this));
+        if (algorithmListeners.isEmpty()) {
+            return;
+        }
+        AlgorithmEvent e = getEvent();
+        for (int i = 0; i < algorithmListeners.size(); i++) {
+            algorithmListeners.get(i).iterationCompleted(e);
+        }
+    }
+
+    /**
+     * Get the {@linkplain AlgorithmEvent} that is passed to the listeners of
+     * this algorithm. Events only identify their source, so the same instance
+     * is reused for every notification.
+     */
+    private AlgorithmEvent getEvent() {
+        if (event == null) {
+            event = new AlgorithmEvent(this);
         }
+        return event;
     }
 
     /**
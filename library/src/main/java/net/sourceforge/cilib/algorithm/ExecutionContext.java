@@ -0,0 +1,156 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.algorithm;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The stack of algorithms that are currently executing, with the innermost
+ * running algorithm on top.
+ * <p>
+ * A context is not synchronised: it is installed on at most one thread at a
+ * time and only used by that thread. Algorithms obtain the context of their
+ * thread once, when they are first run on it, and afterwards push and pop
+ * themselves without looking it up again. Work that is handed to another
+ * thread, such as a fitness evaluation, should be given a {@link #copy()} of
+ * the context, which that thread installs with {@link #set(ExecutionContext)}.
+ * </p><p>
+ * {@link AbstractAlgorithm#get()} and {@link AbstractAlgorithm#getAlgorithmList()}
+ * read the context of the current thread.
+ * </p>
+ */
+public final class ExecutionContext {
+
+    private static final ThreadLocal<ExecutionContext> CURRENT = new ThreadLocal<ExecutionContext>() {
+        @Override
+        protected ExecutionContext initialValue() {
+            ExecutionContext context = new ExecutionContext();
+            context.owner = Thread.currentThread();
+            return context;
+        }
+    };
+
+    private Algorithm[] algorithms;
+    private int size;
+    private Thread owner;
+
+    /**
+     * Create a new, empty {@linkplain ExecutionContext}.
+     */
+    public ExecutionContext() {
+        this.algorithms = new Algorithm[4];
+        this.size = 0;
+    }
+
+    private ExecutionContext(ExecutionContext copy) {
+        this.algorithms = copy.algorithms.clone();
+        this.size = copy.size;
+    }
+
+    /**
+     * Get the context that is installed on the current thread.
+     * @return The context of the current thread.
+     */
+    public static ExecutionContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Install a context on the current thread.
+     * @param context The context to install.
+     * @return The context that was previously installed.
+     */
+    public static ExecutionContext set(ExecutionContext context) {
+        ExecutionContext previous = CURRENT.get();
+        previous.owner = null;
+        context.owner = Thread.currentThread();
+        CURRENT.set(context);
+        return previous;
+    }
+
+    /**
+     * Remove the context of the current thread. A new, empty context is
+     * created when the current thread next requires one.
+     */
+    public static void remove() {
+        CURRENT.get().owner = null;
+        CURRENT.remove();
+    }
+
+    /**
+     * Determine whether this context is installed on the current thread.
+     * @return {@code true} if this is the context of the current thread.
+     */
+    public boolean isCurrent() {
+        return owner == Thread.currentThread();
+    }
+
+    /**
+     * Create a copy of this context that refers to the same
+     * {@linkplain Algorithm} instances. The copy is not installed on any
+     * thread.
+     * @return A copy of this context.
+     */
+    public ExecutionContext copy() {
+        return new ExecutionContext(this);
+    }
+
+    /**
+     * Push an {@linkplain Algorithm} onto the stack.
+     * @param algorithm The {@linkplain Algorithm} that starts executing.
+     */
+    public void push(Algorithm algorithm) {
+        if (size == algorithms.length) {
+            algorithms = Arrays.copyOf(algorithms, size * 2);
+        }
+        algorithms[size++] = algorithm;
+    }
+
+    /**
+     * Remove the top of the stack and return it.
+     * @return The {@linkplain Algorithm} that was on top of the stack.
+     * @throws IllegalStateException if the stack is empty.
+     */
+    public Algorithm pop() {
+        checkState(size > 0, "No algorithm is executing.");
+        Algorithm algorithm = algorithms[--size];
+        algorithms[size] = null;
+        return algorithm;
+    }
+
+    /**
+     * Get the {@linkplain Algorithm} that is on top of the stack.
+     * @return The innermost executing {@linkplain Algorithm}.
+     * @throws IllegalStateException if the stack is empty.
+     */
+    public Algorithm peek() {
+        checkState(size > 0, "No algorithm is executing.");
+        return algorithms[size - 1];
+    }
+
+    /**
+     * Get the number of algorithms on the stack.
+     * @return The depth of the stack.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Return an immutable snapshot of the stack, with the outermost algorithm
+     * first. The returned list will have a size {@literal > 1} if and only if
+     * the executing algorithm is a composition of other algorithms.
+     * @return An immutable list of algorithm instances.
+     */
+    public List<Algorithm> asList() {
+        return ImmutableList.copyOf(Arrays.asList(algorithms).subList(0, size));
+    }
+}
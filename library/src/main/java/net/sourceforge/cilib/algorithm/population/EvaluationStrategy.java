@@ -0,0 +1,43 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.algorithm.population;
+
+import fj.Effect;
+import java.util.List;
+import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.util.Cloneable;
+
+/**
+ * Strategy that determines how the fitness of a collection of entities is
+ * calculated by a population based algorithm.
+ * <p>
+ * Implementations may calculate fitness values in any order, on any thread,
+ * but the reduction effect is always applied on the calling thread, once for
+ * each entity and in the order of the provided list.
+ */
+public interface EvaluationStrategy extends Cloneable {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    EvaluationStrategy getClone();
+
+    /**
+     * Calculate the fitness of each of the provided entities.
+     * @param entities The entities to evaluate.
+     */
+    <E extends Entity> void evaluate(List<E> entities);
+
+    /**
+     * Calculate the fitness of each of the provided entities, applying
+     * {@code reduction} to each entity once its fitness is known.
+     * @param entities The entities to evaluate.
+     * @param reduction The effect to apply to each evaluated entity.
+     */
+    <E extends Entity> void evaluate(List<E> entities, Effect<E> reduction);
+}
@@ -0,0 +1,173 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.algorithm.population;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import com.google.common.collect.Lists;
+import fj.Effect;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import net.sourceforge.cilib.algorithm.ExecutionContext;
+import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.math.random.generator.SplitMix64;
+
+/**
+ * Evaluate entities concurrently on a shared fork/join pool.
+ * <p>
+ * Each entity is evaluated with its own random stream, seeded from a single
+ * value drawn from the random stream of the calling thread. The outcome of an
+ * evaluation is therefore independent of the number of threads and of the order
+ * in which the entities are scheduled, and a seeded simulation remains
+ * reproducible. Reductions are applied serially on the calling thread, in list
+ * order, after all entities have been evaluated.
+ * <p>
+ * The problem being optimised must support concurrent fitness evaluations.
+ */
+public class ParallelEvaluationStrategy implements EvaluationStrategy {
+
+    private static final long serialVersionUID = -3305370580934626094L;
+    private static final ConcurrentMap<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<Integer, ForkJoinPool>();
+
+    private int parallelism;
+    private int granularity;
+
+    /**
+     * Create a new instance using all available processors.
+     */
+    public ParallelEvaluationStrategy() {
+        this.parallelism = Runtime.getRuntime().availableProcessors();
+        this.granularity = 1;
+    }
+
+    /**
+     * Create a copy of the provided instance.
+     * @param copy The instance to copy.
+     */
+    public ParallelEvaluationStrategy(ParallelEvaluationStrategy copy) {
+        this.parallelism = copy.parallelism;
+        this.granularity = copy.granularity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ParallelEvaluationStrategy getClone() {
+        return new ParallelEvaluationStrategy(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <E extends Entity> void evaluate(List<E> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+
+        List<E> list = Lists.newArrayList(entities);
+        getPool(parallelism).invoke(new EvaluationTask(list, 0, list.size(), Rand.nextLong(), ExecutionContext.current()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <E extends Entity> void evaluate(List<E> entities, Effect<E> reduction) {
+        evaluate(entities);
+        for (E entity : entities) {
+            reduction.e(entity);
+        }
+    }
+
+    private static ForkJoinPool getPool(int parallelism) {
+        ForkJoinPool pool = POOLS.get(parallelism);
+        if (pool == null) {
+            ForkJoinPool created = new ForkJoinPool(parallelism);
+            pool = POOLS.putIfAbsent(parallelism, created);
+            if (pool == null) {
+                pool = created;
+            } else {
+                created.shutdown();
+            }
+        }
+        return pool;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Set the number of threads used to evaluate entities.
+     * @param parallelism The number of threads.
+     */
+    public void setParallelism(int parallelism) {
+        checkArgument(parallelism > 0, "Parallelism must be positive.");
+        this.parallelism = parallelism;
+    }
+
+    public int getGranularity() {
+        return granularity;
+    }
+
+    /**
+     * Set the number of entities below which a range of entities is evaluated
+     * sequentially instead of being split further.
+     * @param granularity The minimum number of entities per task.
+     */
+    public void setGranularity(int granularity) {
+        checkArgument(granularity > 0, "Granularity must be positive.");
+        this.granularity = granularity;
+    }
+
+    private final class EvaluationTask extends RecursiveAction {
+        private static final long serialVersionUID = 8577612458613436312L;
+        private final List<? extends Entity> entities;
+        private final int from;
+        private final int to;
+        private final long seed;
+        private final ExecutionContext context;
+
+        EvaluationTask(List<? extends Entity> entities, int from, int to, long seed, ExecutionContext context) {
+            this.entities = entities;
+            this.from = from;
+            this.to = to;
+            this.seed = seed;
+            this.context = context;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= granularity) {
+                ExecutionContext previous = ExecutionContext.set(context.copy());
+                try {
+                    for (int i = from; i < to; i++) {
+                        final Entity entity = entities.get(i);
+                        Rand.runWith(SplitMix64.derive(seed, i), new Runnable() {
+                            @Override
+                            public void run() {
+                                entity.calculateFitness();
+                            }
+                        });
+                    }
+                } finally {
+                    ExecutionContext.set(previous);
+                }
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new EvaluationTask(entities, from, middle, seed, context),
+                    new EvaluationTask(entities, middle, to, seed, context));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.algorithm.population;
+
+import fj.Effect;
+import java.util.List;
+import net.sourceforge.cilib.entity.Entity;
+
+/**
+ * Evaluate entities one after the other on the calling thread. The reduction
+ * of an entity is applied directly after its fitness is calculated, before
+ * the next entity is evaluated.
+ */
+public class SerialEvaluationStrategy implements EvaluationStrategy {
+
+    private static final long serialVersionUID = 2371620734906373287L;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SerialEvaluationStrategy getClone() {
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <E extends Entity> void evaluate(List<E> entities) {
+        for (E entity : entities) {
+            entity.calculateFitness();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <E extends Entity> void evaluate(List<E> entities, Effect<E> reduction) {
+        for (E entity : entities) {
+            entity.calculateFitness();
+            reduction.e(entity);
+        }
+    }
+}
@@ -27,6 +27,7 @@ public abstract class SinglePopulationBasedAlgorithm<E extends Entity> extends A
     protected PopulationInitialisationStrategy<E> initialisationStrategy;
     protected Topology<E> topology;
     protected ContributionSelectionStrategy contributionSelection;
+    protected EvaluationStrategy evaluationStrategy;
 
     /**
      * Create an empty {@linkplain PopulationBasedAlgorithm}.
@@ -34,6 +35,7 @@ public abstract class SinglePopulationBasedAlgorithm<E extends Entity> extends A
     protected SinglePopulationBasedAlgorithm() {
         this.topology = new GBestTopology();
         this.contributionSelection = new ZeroContributionSelectionStrategy();
+        this.evaluationStrategy = new SerialEvaluationStrategy();
     }
 
     /**
@@ -45,6 +47,7 @@ public abstract class SinglePopulationBasedAlgorithm<E extends Entity> extends A
         this.initialisationStrategy = copy.initialisationStrategy.getClone();
         this.topology = copy.topology.getClone();
         this.contributionSelection = copy.contributionSelection.getClone();
+        this.evaluationStrategy = copy.evaluationStrategy.getClone();
     }
 
     /**
@@ -118,4 +121,21 @@ public abstract class SinglePopulationBasedAlgorithm<E extends Entity> extends A
         return contributionSelection;
     }
 
+    /**
+     * Get the {@linkplain EvaluationStrategy} used to calculate the fitness
+     * of the entities in the population.
+     * @return The current {@linkplain EvaluationStrategy}.
+     */
+    public EvaluationStrategy getEvaluationStrategy() {
+        return evaluationStrategy;
+    }
+
+    /**
+     * Set the {@linkplain EvaluationStrategy} used to calculate the fitness
+     * of the entities in the population.
+     * @param evaluationStrategy The {@linkplain EvaluationStrategy} to use.
+     */
+    public void setEvaluationStrategy(EvaluationStrategy evaluationStrategy) {
+        this.evaluationStrategy = evaluationStrategy;
+    }
 }
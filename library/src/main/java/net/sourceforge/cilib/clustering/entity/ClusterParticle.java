@@ -96,6 +96,14 @@ public class ClusterParticle extends AbstractParticle{
         return (Fitness) this.getProperties().get(EntityType.Particle.BEST_FITNESS);
     }
 
+    /*
+     * Returns the property that holds the best fitness
+     */
+    @Override
+    protected Enum<?> getBestFitnessKey() {
+        return EntityType.Particle.BEST_FITNESS;
+    }
+
     /*
      * Returns the dimension of the ClusterParticle
      * @return size The size of the Candidate Solution
@@ -8,6 +8,7 @@ package net.sourceforge.cilib.clustering.iterationstrategies;
 
 import net.sourceforge.cilib.clustering.DataClusteringPSO;
 import net.sourceforge.cilib.clustering.entity.ClusterParticle;
+import net.sourceforge.cilib.entity.EntityProperties;
 import net.sourceforge.cilib.entity.Topology;
 import net.sourceforge.cilib.io.pattern.StandardPattern;
 import net.sourceforge.cilib.type.types.container.CentroidHolder;
@@ -98,7 +99,7 @@ public class StandardDataClusteringIterationStrategy extends SinglePopulationDat
 
         for (ClusterParticle current : topology) {
             for (ClusterParticle other : topology.neighbourhood(current)) {
-                if (current.getSocialFitness().compareTo(other.getNeighbourhoodBest().getSocialFitness()) > 0) {
+                if (EntityProperties.compareSocialFitness(current, other.getNeighbourhoodBest()) > 0) {
                     other.setNeighbourhoodBest(current);
                 }
             }
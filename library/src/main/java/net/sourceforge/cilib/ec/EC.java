@@ -67,9 +67,7 @@ public class EC<I extends Individual> extends SinglePopulationBasedAlgorithm<I>
         topology.clear();
         Iterables.addAll(topology, initialisationStrategy.initialise(optimisationProblem));
 
-        for (Individual i : topology) {
-            i.calculateFitness();
-        }
+        evaluationStrategy.evaluate(topology);
 
         for (Individual i : topology) {
             this.strategyParameterInitialisation.initialise(EntityType.STRATEGY_PARAMETERS, i);
@@ -8,11 +8,14 @@ package net.sourceforge.cilib.ec;
 
 import net.sourceforge.cilib.entity.AbstractEntity;
 import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.entity.EntityProperties;
 import net.sourceforge.cilib.entity.EntityType;
 import net.sourceforge.cilib.entity.initialisation.InitialisationStrategy;
 import net.sourceforge.cilib.entity.initialisation.RandomInitialisationStrategy;
 import net.sourceforge.cilib.problem.Problem;
 import net.sourceforge.cilib.problem.solution.InferiorFitness;
+import net.sourceforge.cilib.type.types.Blackboard;
+import net.sourceforge.cilib.type.types.Type;
 import net.sourceforge.cilib.type.types.container.StructuredType;
 import net.sourceforge.cilib.type.types.container.Vector;
 
@@ -42,6 +45,18 @@ public class Individual extends AbstractEntity {
         initialisationStrategy = copy.initialisationStrategy;
     }
 
+    /**
+     * Offspring constructor. Create an {@linkplain Individual} that shares the
+     * properties of {@code parent}; see {@link #getOffspring()}.
+     * @param parent The {@linkplain Individual} to share properties with.
+     * @param properties The shared properties.
+     */
+    protected Individual(Individual parent, Blackboard<Enum<?>, Type> properties) {
+        super(properties);
+        setFitnessCalculator(parent.getFitnessCalculator().getClone());
+        initialisationStrategy = parent.initialisationStrategy;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -50,6 +65,34 @@ public class Individual extends AbstractEntity {
         return new Individual(this);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The offspring shares the properties of this individual until they are
+     * obtained from the offspring (see {@link Blackboard#share()}), so that
+     * the candidate solution and fitness of the offspring are replaced
+     * without those of the parent being cloned first. The properties of
+     * this individual must not be modified in place while they are shared.
+     * Subclasses of {@code Individual} keep additional state, so their
+     * offspring is an ordinary clone.
+     * </p>
+     */
+    @Override
+    public Individual getOffspring() {
+        if (getClass() != Individual.class) {
+            return getClone();
+        }
+        return new Individual(this, getProperties().share());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void promote() {
+        getProperties().unshare();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -106,7 +149,7 @@ public class Individual extends AbstractEntity {
      */
     @Override
     public int compareTo(Entity o) {
-        return this.getFitness().compareTo(o.getFitness());
+        return EntityProperties.compareFitness(this, o);
     }
 
     /**
@@ -122,7 +165,7 @@ public class Individual extends AbstractEntity {
      */
     @Override
     public void calculateFitness() {
-        this.getProperties().put(EntityType.FITNESS, this.getFitnessCalculator().getFitness(this));
+        updateFitness();
     }
 
     /**
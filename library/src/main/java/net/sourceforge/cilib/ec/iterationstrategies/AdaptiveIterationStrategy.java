@@ -11,6 +11,7 @@ import java.util.List;
 import net.sourceforge.cilib.algorithm.population.AbstractIterationStrategy;
 import net.sourceforge.cilib.ec.EC;
 import net.sourceforge.cilib.ec.SaDEIndividual;
+import net.sourceforge.cilib.entity.EntityProperties;
 import net.sourceforge.cilib.entity.Topology;
 import net.sourceforge.cilib.util.selection.recipes.RandomSelector;
 import net.sourceforge.cilib.util.selection.recipes.Selector;
@@ -73,7 +74,7 @@ public class AdaptiveIterationStrategy extends AbstractIterationStrategy<EC> {
             boundaryConstraint.enforce(offspringEntity);
             offspringEntity.calculateFitness();
 
-            if (offspringEntity.getFitness().compareTo(current.getFitness()) > 0) { // the trial vector is better than the parent
+            if (EntityProperties.compareFitness(offspringEntity, current) > 0) { // the trial vector is better than the parent
                 topology.set(i, offspringEntity); // Replace the parent with the offspring individual
             }
 
@@ -0,0 +1,229 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.ec.iterationstrategies;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import java.util.Arrays;
+import java.util.List;
+import net.sourceforge.cilib.algorithm.population.AbstractIterationStrategy;
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
+import net.sourceforge.cilib.controlparameter.ControlParameter;
+import net.sourceforge.cilib.ec.EC;
+import net.sourceforge.cilib.ec.Individual;
+import net.sourceforge.cilib.entity.EntityProperties;
+import net.sourceforge.cilib.entity.EntityType;
+import net.sourceforge.cilib.entity.Topology;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.problem.boundaryconstraint.UnconstrainedBoundary;
+import net.sourceforge.cilib.type.types.Bounds;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * DE/rand/1/bin iteration strategy that keeps the population in contiguous
+ * arrays.
+ * <p>
+ * The candidate solutions of the population are packed into a row-major
+ * {@code double[]} matrix on the first iteration, and again whenever the
+ * members of the topology change. Mutation and binomial crossover read and
+ * write the matrix directly, and the trial vectors are
+ * evaluated through a fixed set of trial {@linkplain Individual}s that is
+ * reused every iteration, using the
+ * {@linkplain net.sourceforge.cilib.algorithm.population.EvaluationStrategy}
+ * of the {@linkplain EC}. A target individual that is beaten by its trial
+ * vector takes over the trial's candidate solution and fitness; the members
+ * of the topology are never replaced.
+ * </p><p>
+ * This strategy implements the same algorithm as the default configuration
+ * of the {@linkplain DifferentialEvolutionIterationStrategy}, but it does not
+ * create any entities while iterating. Candidate solutions that are changed
+ * in place by other components are not noticed until the population is
+ * packed again.
+ * </p>
+ */
+public class ArrayDifferentialEvolutionIterationStrategy extends AbstractIterationStrategy<EC<Individual>> {
+
+    private static final long serialVersionUID = 3383140786400316658L;
+
+    private ControlParameter scaleParameter;
+    private ControlParameter crossoverProbability;
+    private transient Individual[] members;
+    private transient List<Individual> trials;
+    private transient Bounds[] bounds;
+    private transient double[] positions;
+    private transient double[] offspring;
+
+    /**
+     * Create a new instance with a scale factor and crossover probability of
+     * {@code 0.5}.
+     */
+    public ArrayDifferentialEvolutionIterationStrategy() {
+        this.scaleParameter = ConstantControlParameter.of(0.5);
+        this.crossoverProbability = ConstantControlParameter.of(0.5);
+    }
+
+    /**
+     * Copy constructor. Create a copy of the given instance. The copy packs
+     * its own population.
+     * @param copy The instance to copy.
+     */
+    public ArrayDifferentialEvolutionIterationStrategy(ArrayDifferentialEvolutionIterationStrategy copy) {
+        super(copy);
+        this.scaleParameter = copy.scaleParameter.getClone();
+        this.crossoverProbability = copy.crossoverProbability.getClone();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ArrayDifferentialEvolutionIterationStrategy getClone() {
+        return new ArrayDifferentialEvolutionIterationStrategy(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void performIteration(EC<Individual> ec) {
+        Topology<Individual> topology = ec.getTopology();
+        checkState(topology.size() >= 4, "DE/rand/1 requires a population of at least 4 individuals.");
+        if (!isPacked(topology)) {
+            pack(topology);
+        }
+
+        final int size = members.length;
+        final int dimension = bounds.length;
+        final boolean constrained = !(boundaryConstraint instanceof UnconstrainedBoundary);
+
+        for (int i = 0; i < size; i++) {
+            int r1 = pick(size, i, -1, -1);
+            int r2 = pick(size, i, r1, -1);
+            int r3 = pick(size, i, r1, r2);
+            int always = Rand.nextInt(dimension);
+            double scale = scaleParameter.getParameter();
+
+            int offset = i * dimension;
+            for (int j = 0; j < dimension; j++) {
+                if (Rand.nextDouble() < crossoverProbability.getParameter() || j == always) {
+                    offspring[offset + j] = positions[r1 * dimension + j]
+                            + scale * (positions[r2 * dimension + j] - positions[r3 * dimension + j]);
+                } else {
+                    offspring[offset + j] = positions[offset + j];
+                }
+            }
+
+            Individual trial = trials.get(i);
+            trial.setCandidateSolution(row(offspring, i));
+            if (constrained) {
+                boundaryConstraint.enforce(trial);
+                Vector enforced = (Vector) trial.getCandidateSolution();
+                for (int j = 0; j < dimension; j++) {
+                    offspring[offset + j] = enforced.doubleValueOf(j);
+                }
+            }
+        }
+
+        ec.getEvaluationStrategy().evaluate(trials);
+
+        for (int i = 0; i < size; i++) {
+            Individual trial = trials.get(i);
+            if (EntityProperties.compareFitness(trial, members[i]) > 0) {
+                int offset = i * dimension;
+                System.arraycopy(offspring, offset, positions, offset, dimension);
+                members[i].setCandidateSolution(trial.getCandidateSolution());
+                members[i].getProperties().put(EntityType.FITNESS, trial.getFitness());
+            }
+        }
+    }
+
+    /**
+     * Select a random index that differs from the provided indices.
+     */
+    private static int pick(int size, int a, int b, int c) {
+        int index;
+        do {
+            index = Rand.nextInt(size);
+        } while (index == a || index == b || index == c);
+        return index;
+    }
+
+    private Vector row(double[] matrix, int index) {
+        int dimension = bounds.length;
+        return Vector.copyOf(Arrays.copyOfRange(matrix, index * dimension, (index + 1) * dimension), bounds);
+    }
+
+    /**
+     * Determine whether the topology consists of exactly the packed members,
+     * in order.
+     */
+    private boolean isPacked(Topology<Individual> topology) {
+        if (members == null || members.length != topology.size()) {
+            return false;
+        }
+        for (int i = 0; i < members.length; i++) {
+            if (topology.get(i) != members[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void pack(Topology<Individual> topology) {
+        Vector first = (Vector) topology.get(0).getCandidateSolution();
+        int dimension = first.size();
+        bounds = new Bounds[dimension];
+        for (int j = 0; j < dimension; j++) {
+            bounds[j] = first.boundsOf(j);
+        }
+
+        members = topology.toArray(new Individual[topology.size()]);
+        positions = new double[members.length * dimension];
+        offspring = new double[members.length * dimension];
+        Individual[] buffer = new Individual[members.length];
+        for (int i = 0; i < members.length; i++) {
+            Vector solution = (Vector) members[i].getCandidateSolution();
+            for (int j = 0; j < dimension; j++) {
+                positions[i * dimension + j] = solution.doubleValueOf(j);
+            }
+            buffer[i] = members[i].getClone();
+        }
+        trials = Arrays.asList(buffer);
+    }
+
+    /**
+     * Get the scale factor applied to the difference vector.
+     * @return The scale factor {@linkplain ControlParameter}.
+     */
+    public ControlParameter getScaleParameter() {
+        return scaleParameter;
+    }
+
+    /**
+     * Set the scale factor applied to the difference vector.
+     * @param scaleParameter The value to set.
+     */
+    public void setScaleParameter(ControlParameter scaleParameter) {
+        this.scaleParameter = scaleParameter;
+    }
+
+    /**
+     * Get the probability that a component is taken from the mutant vector.
+     * @return The crossover probability {@linkplain ControlParameter}.
+     */
+    public ControlParameter getCrossoverProbability() {
+        return crossoverProbability;
+    }
+
+    /**
+     * Set the probability that a component is taken from the mutant vector.
+     * @param crossoverProbability The value to set.
+     */
+    public void setCrossoverProbability(ControlParameter crossoverProbability) {
+        this.crossoverProbability = crossoverProbability;
+    }
+}
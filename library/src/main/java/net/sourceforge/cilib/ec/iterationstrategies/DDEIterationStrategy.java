@@ -12,6 +12,7 @@ import net.sourceforge.cilib.algorithm.population.AbstractIterationStrategy;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.ec.EC;
 import net.sourceforge.cilib.ec.Individual;
+import net.sourceforge.cilib.entity.EntityProperties;
 import net.sourceforge.cilib.entity.Topology;
 import net.sourceforge.cilib.entity.operators.creation.CreationStrategy;
 import net.sourceforge.cilib.entity.operators.creation.RandCreationStrategy;
@@ -20,6 +21,7 @@ import net.sourceforge.cilib.entity.operators.crossover.de.DifferentialEvolution
 import net.sourceforge.cilib.math.random.ProbabilityDistributionFunction;
 import net.sourceforge.cilib.math.random.UniformDistribution;
 import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.util.Entities;
 import net.sourceforge.cilib.util.selection.recipes.FeasibilitySelector;
 import net.sourceforge.cilib.util.selection.recipes.RandomSelector;
 import net.sourceforge.cilib.util.selection.recipes.Selector;
@@ -137,12 +139,12 @@ public class DDEIterationStrategy  extends AbstractIterationStrategy<EC> {
 
             //select the best between the current entity and the offspring entity
             if(Rand.nextDouble() > selectorParameter) {
-                if(bestOffspring.getFitness().compareTo(current.getFitness()) > 0 ){
-                    topology.set(i, bestOffspring);
+                if(EntityProperties.compareFitness(bestOffspring, current) > 0 ){
+                    topology.set(i, Entities.promote(bestOffspring));
                 }
             } else {
                 bestOffspring = nextGenerationSelectionStrategy.on(Arrays.asList(bestOffspring, current)).select();
-                topology.set(i, bestOffspring);
+                topology.set(i, Entities.promote(bestOffspring));
             }
         }
     }
@@ -12,11 +12,13 @@ import java.util.List;
 import net.sourceforge.cilib.algorithm.population.AbstractIterationStrategy;
 import net.sourceforge.cilib.ec.EC;
 import net.sourceforge.cilib.ec.Individual;
+import net.sourceforge.cilib.entity.EntityProperties;
 import net.sourceforge.cilib.entity.Topology;
 import net.sourceforge.cilib.entity.operators.creation.CreationStrategy;
 import net.sourceforge.cilib.entity.operators.creation.RandCreationStrategy;
 import net.sourceforge.cilib.entity.operators.crossover.CrossoverStrategy;
 import net.sourceforge.cilib.entity.operators.crossover.de.DifferentialEvolutionBinomialCrossover;
+import net.sourceforge.cilib.util.Entities;
 import net.sourceforge.cilib.util.selection.recipes.RandomSelector;
 import net.sourceforge.cilib.util.selection.recipes.Selector;
 
@@ -60,12 +62,15 @@ public class DifferentialEvolutionIterationStrategy extends AbstractIterationStr
 
     /**
      * Perform an iteration of the DE algorithm defined as the DE/x/y/z implementation.
+     * All offspring are created before any of them are evaluated, which allows the
+     * {@linkplain net.sourceforge.cilib.algorithm.population.EvaluationStrategy} of
+     * the {@linkplain EC} to evaluate the offspring concurrently.
      * @param ec The {@linkplain EC} on which to perform this iteration.
      */
     @Override
     public void performIteration(EC ec) {
-        List<Individual> newTopology = Lists.newArrayList();
         Topology<Individual> topology = ec.getTopology();
+        List<Individual> offspringEntities = Lists.newArrayListWithCapacity(topology.size());
 
         for (int i = 0; i < topology.size(); i++) {
             Individual current = topology.get(i);
@@ -79,13 +84,21 @@ public class DifferentialEvolutionIterationStrategy extends AbstractIterationStr
             // Create the offspring by applying cross-over
             List<Individual> offspring = crossoverStrategy.crossover(Arrays.asList(current, trialEntity)); // Order is VERY important here!!
 
-            // Replace the parent (current) if the offspring is better
             Individual offspringEntity = offspring.get(0);
             boundaryConstraint.enforce(offspringEntity);
-            offspringEntity.calculateFitness();
+            offspringEntities.add(offspringEntity);
+        }
+
+        ec.getEvaluationStrategy().evaluate(offspringEntities);
+
+        // Replace the parent (current) if the offspring is better
+        List<Individual> newTopology = Lists.newArrayListWithCapacity(topology.size());
+        for (int i = 0; i < topology.size(); i++) {
+            Individual current = topology.get(i);
+            Individual offspringEntity = offspringEntities.get(i);
 
-            if (offspringEntity.getFitness().compareTo(current.getFitness()) > 0) { // the trial vector is better than the parent
-                newTopology.add(offspringEntity); // Replace the parent with the offspring individual
+            if (EntityProperties.compareFitness(offspringEntity, current) > 0) { // the trial vector is better than the parent
+                newTopology.add(Entities.promote(offspringEntity)); // Replace the parent with the offspring individual
             } else {
                 newTopology.add(current);
             }
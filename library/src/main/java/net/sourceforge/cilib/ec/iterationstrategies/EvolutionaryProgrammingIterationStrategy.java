@@ -13,12 +13,12 @@ import java.util.List;
 import net.sourceforge.cilib.algorithm.population.AbstractIterationStrategy;
 import net.sourceforge.cilib.ec.EC;
 import net.sourceforge.cilib.ec.Individual;
+import net.sourceforge.cilib.entity.EntityProperties;
 import net.sourceforge.cilib.entity.Topology;
 import net.sourceforge.cilib.entity.operators.mutation.GaussianMutationStrategy;
 import net.sourceforge.cilib.entity.operators.mutation.MutationStrategy;
 import net.sourceforge.cilib.util.selection.Samples;
 import net.sourceforge.cilib.util.selection.Selection;
-import net.sourceforge.cilib.util.selection.arrangement.RandomArrangement;
 
 public class EvolutionaryProgrammingIterationStrategy extends AbstractIterationStrategy<EC> {
 
@@ -86,11 +86,10 @@ public class EvolutionaryProgrammingIterationStrategy extends AbstractIterationS
     private int getScore(Individual current, Topology<Individual> topology) {
         int score = 0;
         List<Individual> selection = Selection.copyOf(topology)
-                .orderBy(new RandomArrangement())
-                .select(Samples.first(10).unique());
+                .select(Samples.random(10).unique());
 
         for (Individual i : selection) {
-            if (current.getFitness().compareTo(i.getFitness()) < 0) {
+            if (EntityProperties.compareFitness(current, i) < 0) {
                 score++;
             }
         }
@@ -7,9 +7,7 @@
 package net.sourceforge.cilib.ec.iterationstrategies;
 
 import com.google.common.collect.Lists;
-import java.util.Collections;
 import java.util.List;
-import java.util.ListIterator;
 import net.sourceforge.cilib.algorithm.population.AbstractIterationStrategy;
 import net.sourceforge.cilib.algorithm.population.IterationStrategy;
 import net.sourceforge.cilib.ec.EC;
@@ -21,6 +19,10 @@ import net.sourceforge.cilib.entity.operators.crossover.CrossoverStrategy;
 import net.sourceforge.cilib.entity.operators.crossover.UniformCrossoverStrategy;
 import net.sourceforge.cilib.entity.operators.mutation.GaussianMutationStrategy;
 import net.sourceforge.cilib.entity.operators.mutation.MutationStrategy;
+import net.sourceforge.cilib.entity.operators.survivor.PlusSurvivorSelectionStrategy;
+import net.sourceforge.cilib.entity.operators.survivor.SurvivorSelectionStrategy;
+import net.sourceforge.cilib.util.Entities;
+import net.sourceforge.cilib.util.selection.PreparedSelection;
 
 /**
  * TODO: Complete this javadoc.
@@ -30,16 +32,19 @@ public class GeneticAlgorithmIterationStrategy extends AbstractIterationStrategy
     private static final long serialVersionUID = -2429984051022079804L;
     private CrossoverOperator crossover;
     private MutationStrategy mutationStrategy;
+    private SurvivorSelectionStrategy survivorSelectionStrategy;
 
     /**
      * Create an instance of the {@linkplain IterationStrategy}. Default cross-over
      * and mutation operators are {@linkplain UniformCrossoverStrategy} and
-     * {@linkplain GaussianMutationStrategy} respectively.
+     * {@linkplain GaussianMutationStrategy} respectively. The best individuals
+     * of the population and the offspring survive.
      */
     public GeneticAlgorithmIterationStrategy() {
         this.crossover = new CrossoverOperator();
         this.crossover.setCrossoverStrategy(new UniformCrossoverStrategy());
         this.mutationStrategy = new GaussianMutationStrategy();
+        this.survivorSelectionStrategy = new PlusSurvivorSelectionStrategy();
     }
 
     /**
@@ -49,6 +54,7 @@ public class GeneticAlgorithmIterationStrategy extends AbstractIterationStrategy
     public GeneticAlgorithmIterationStrategy(GeneticAlgorithmIterationStrategy copy) {
         this.crossover = copy.crossover.getClone();
         this.mutationStrategy = copy.mutationStrategy.getClone();
+        this.survivorSelectionStrategy = copy.survivorSelectionStrategy.getClone();
     }
 
     /**
@@ -69,9 +75,10 @@ public class GeneticAlgorithmIterationStrategy extends AbstractIterationStrategy
         Topology<Individual> population = ec.getTopology();
 
         // Perform crossover: Allow each individual to create an offspring
+        PreparedSelection<Individual> parents = crossover.prepare(population);
         List<Individual> crossedOver = Lists.newArrayList();
         for (int i = 0, n = population.size(); i < n; i++) {
-            crossedOver.addAll(crossover.crossover(ec.getTopology()));
+            crossedOver.addAll(crossover.crossover(parents));
         }
 
         // Perform mutation on offspring
@@ -85,19 +92,13 @@ public class GeneticAlgorithmIterationStrategy extends AbstractIterationStrategy
 
         // Perform new population selection
         Topology<Individual> topology = ec.getTopology();
-        topology.addAll(crossedOver);
-
-        Collections.sort(ec.getTopology());
-        ListIterator<? extends Entity> i = ec.getTopology().listIterator();
-
-        int count = 0;
-        int size = ec.getTopology().size() - ec.getInitialisationStrategy().getEntityNumber();
-
-        while (i.hasNext() && count < size) {
-            i.next();
-            i.remove();
-            count++;
+        List<Individual> survivors = survivorSelectionStrategy.select(topology, crossedOver,
+                ec.getInitialisationStrategy().getEntityNumber());
+        for (Individual survivor : survivors) {
+            Entities.promote(survivor);
         }
+        topology.clear();
+        topology.addAll(survivors);
     }
 
     /**
@@ -131,4 +132,22 @@ public class GeneticAlgorithmIterationStrategy extends AbstractIterationStrategy
     public void setMutationStrategy(MutationStrategy mutationStrategy) {
         this.mutationStrategy = mutationStrategy;
     }
+
+    /**
+     * Get the {@linkplain SurvivorSelectionStrategy} that forms the next
+     * population.
+     * @return The current {@linkplain SurvivorSelectionStrategy}.
+     */
+    public SurvivorSelectionStrategy getSurvivorSelectionStrategy() {
+        return survivorSelectionStrategy;
+    }
+
+    /**
+     * Set the {@linkplain SurvivorSelectionStrategy} that forms the next
+     * population.
+     * @param survivorSelectionStrategy The {@linkplain SurvivorSelectionStrategy} to use.
+     */
+    public void setSurvivorSelectionStrategy(SurvivorSelectionStrategy survivorSelectionStrategy) {
+        this.survivorSelectionStrategy = survivorSelectionStrategy;
+    }
 }
@@ -13,6 +13,7 @@ import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.ec.EC;
 import net.sourceforge.cilib.ec.Individual;
 import net.sourceforge.cilib.ec.ParameterisedIndividual;
+import net.sourceforge.cilib.entity.EntityProperties;
 import net.sourceforge.cilib.entity.Topology;
 import net.sourceforge.cilib.entity.topologies.GBestTopology;
 import net.sourceforge.cilib.math.random.ProbabilityDistributionFunction;
@@ -168,7 +169,7 @@ public class SaDDEIterationStrategy extends AbstractIterationStrategy<EC> {
 
             //Replace the Individual with the surviving individual
             if(Rand.nextDouble() > selectorParameter.doubleValue()) {
-                if(bestOffspring.getFitness().compareTo(current.getFitness()) > 0 ){
+                if(EntityProperties.compareFitness(bestOffspring, current) > 0 ){
                     topology.set(i, bestOffspring.getClone());
                 }
             } else {
@@ -11,6 +11,7 @@ import java.util.List;
 import net.sourceforge.cilib.algorithm.population.AbstractIterationStrategy;
 import net.sourceforge.cilib.ec.EC;
 import net.sourceforge.cilib.ec.SaDEIndividual;
+import net.sourceforge.cilib.entity.EntityProperties;
 import net.sourceforge.cilib.entity.Topology;
 import net.sourceforge.cilib.entity.operators.creation.SaDECreationStrategy;
 import net.sourceforge.cilib.type.types.container.Vector;
@@ -110,7 +111,7 @@ public class SaDEIterationStrategy extends AbstractIterationStrategy<EC> {
             offspringEntity.calculateFitness();
 
             boolean acceptedOffspring = false;
-            if (offspringEntity.getFitness().compareTo(current.getFitness()) > 0) { // the trial vector is better than the parent
+            if (EntityProperties.compareFitness(offspringEntity, current) > 0) { // the trial vector is better than the parent
                 acceptedOffspring = true;
             }
             
@@ -6,6 +6,9 @@
  */
 package net.sourceforge.cilib.entity;
 
+import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
+import net.sourceforge.cilib.problem.AbstractProblem;
+import net.sourceforge.cilib.problem.Problem;
 import net.sourceforge.cilib.problem.solution.Fitness;
 import net.sourceforge.cilib.type.types.Blackboard;
 import net.sourceforge.cilib.type.types.Type;
@@ -30,8 +33,18 @@ public abstract class AbstractEntity implements Entity {
      * Initialise the candidate solution of the {@linkplain Entity}.
      */
     protected AbstractEntity() {
+        this(new EntityProperties());
+    }
+
+    /**
+     * Initialise the {@linkplain Entity} to use the provided properties.
+     * This allows an {@linkplain Entity} to keep its properties somewhere
+     * other than in {@linkplain EntityProperties}.
+     * @param properties The properties of the {@linkplain Entity}.
+     */
+    protected AbstractEntity(Blackboard<Enum<?>, Type> properties) {
         this.id = EntityIdFactory.getNextId();
-        this.properties = new Blackboard<Enum<?>, Type>();
+        this.properties = properties;
         this.fitnessCalculator = new EntityBasedFitnessCalculator();
     }
 
@@ -45,6 +58,26 @@ public abstract class AbstractEntity implements Entity {
         this.fitnessCalculator = copy.fitnessCalculator.getClone();
     }
 
+    /**
+     * Create an offspring of this {@linkplain Entity}: a copy of which at
+     * least the candidate solution is about to be replaced. Subclasses may
+     * create an offspring that shares state with this entity instead of
+     * cloning it, in which case the offspring is made independent by
+     * {@link #promote()}. By default the offspring is a clone.
+     * @return The offspring.
+     */
+    public Entity getOffspring() {
+        return getClone();
+    }
+
+    /**
+     * Make an offspring created by {@link #getOffspring()} independent of its
+     * parent, as is required before it replaces an entity in a population.
+     * By default, this does nothing.
+     */
+    public void promote() {
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -126,6 +159,62 @@ public abstract class AbstractEntity implements Entity {
         return getFitness();
     }
 
+    /**
+     * Get the property that holds the fitness returned by
+     * {@link #getBestFitness()}. Subclasses that override
+     * {@link #getBestFitness()} must override this method as well.
+     * @return The best fitness property.
+     */
+    protected Enum<?> getBestFitnessKey() {
+        return EntityType.FITNESS;
+    }
+
+    /**
+     * Get the property that holds the social fitness of this entity, if it
+     * is a {@linkplain SocialEntity}.
+     * @return The social fitness property, or {@code null} if it is not known.
+     */
+    protected Enum<?> getSocialFitnessKey() {
+        return null;
+    }
+
+    /**
+     * Calculate the fitness of the candidate solution with the
+     * {@linkplain FitnessCalculator} of this entity and set the
+     * {@link EntityType#FITNESS} property. If the fitness is calculated by an
+     * {@linkplain EntityBasedFitnessCalculator} for a problem that
+     * {@linkplain AbstractProblem#hasFitnessValues() has fitness values}, only
+     * the value is kept and no {@linkplain Fitness} is created.
+     */
+    protected void updateFitness() {
+        AbstractProblem problem = getFitnessValueProblem();
+        if (problem != null && properties instanceof EntityProperties) {
+            double value = problem.getFitnessValue(getCandidateSolution());
+            ((EntityProperties) properties).putFitness(EntityType.FITNESS, value, problem.getObjective());
+            return;
+        }
+        properties.put(EntityType.FITNESS, fitnessCalculator.getFitness(this));
+    }
+
+    /**
+     * Get the problem that calculates the fitness of this entity as a plain
+     * value, if the {@linkplain FitnessCalculator} of this entity is an
+     * {@linkplain EntityBasedFitnessCalculator} and the current problem
+     * {@linkplain AbstractProblem#hasFitnessValues() has fitness values}.
+     * @return The problem, or {@code null} if the fitness must be calculated
+     *         by the {@linkplain FitnessCalculator}.
+     */
+    protected AbstractProblem getFitnessValueProblem() {
+        if (fitnessCalculator.getClass() != EntityBasedFitnessCalculator.class) {
+            return null;
+        }
+        Problem problem = AbstractAlgorithm.get().getOptimisationProblem();
+        if (problem instanceof AbstractProblem && ((AbstractProblem) problem).hasFitnessValues()) {
+            return (AbstractProblem) problem;
+        }
+        return null;
+    }
+
     /**
      * Get the current {@code FitnessCalculator} for the current {@code Entity}.
      * @return The {@code FitnessCalculator} associated with this {@code Entity}.
@@ -32,6 +32,22 @@ public final class EntityIdFactory {
         return instance.getAndIncrement();
     }
 
+    /**
+     * Get the next number in the sequence without advancing the sequence.
+     * @return the next number in the sequence.
+     */
+    public static long peekNextId() {
+        return sequence.get().get();
+    }
+
+    /**
+     * Continue the sequence of the current thread from {@code next}.
+     * @param next the next number in the sequence.
+     */
+    public static void setNextId(long next) {
+        sequence.get().set(next);
+    }
+
     public static void remove() {
         sequence.remove();
     }
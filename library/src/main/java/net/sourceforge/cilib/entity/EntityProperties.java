@@ -0,0 +1,262 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.entity;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Map;
+import net.sourceforge.cilib.problem.objective.Objective;
+import net.sourceforge.cilib.type.types.Blackboard;
+import net.sourceforge.cilib.type.types.Type;
+
+/**
+ * The properties of an {@linkplain AbstractEntity}.
+ * <p>
+ * The fitness properties, {@link EntityType#FITNESS},
+ * {@link EntityType#PREVIOUS_FITNESS} and
+ * {@link EntityType.Particle#BEST_FITNESS}, may be held as a plain value of
+ * an {@linkplain Objective} with {@link #putFitness(Enum, double, Objective)}.
+ * The {@code Fitness} of such a property is only created when it is obtained
+ * with {@link #get(Enum)}. The static comparison methods compare the fitness
+ * of entities without creating {@code Fitness} objects when both values are
+ * held in this way, and fall back to {@code Fitness.compareTo} otherwise.
+ * </p>
+ */
+public class EntityProperties extends Blackboard<Enum<?>, Type> {
+
+    private static final long serialVersionUID = -1839189923132777714L;
+    private static final Enum<?>[] FITNESS_KEYS = {
+        EntityType.FITNESS, EntityType.PREVIOUS_FITNESS, EntityType.Particle.BEST_FITNESS
+    };
+    private static final int UNORDERED = Integer.MIN_VALUE;
+
+    private double[] values;
+    private Objective[] objectives;
+
+    /**
+     * Create empty properties.
+     */
+    public EntityProperties() {
+        this.values = new double[FITNESS_KEYS.length];
+        this.objectives = new Objective[FITNESS_KEYS.length];
+    }
+
+    /**
+     * Copy constructor. Create a copy of the provided instance.
+     * @param copy The instance to copy.
+     */
+    public EntityProperties(EntityProperties copy) {
+        super(copy);
+        this.values = copy.values.clone();
+        this.objectives = copy.objectives.clone();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EntityProperties getClone() {
+        return new EntityProperties(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EntityProperties share() {
+        EntityProperties copy = shareSlots(new EntityProperties());
+        System.arraycopy(values, 0, copy.values, 0, values.length);
+        System.arraycopy(objectives, 0, copy.objectives, 0, objectives.length);
+        return copy;
+    }
+
+    /**
+     * Hold the fitness property with the provided key as a value of the
+     * provided {@linkplain Objective}, replacing its current {@code Fitness}.
+     * @param key The fitness property.
+     * @param value The fitness value.
+     * @param objective The {@linkplain Objective} of the value.
+     */
+    public void putFitness(Enum<?> key, double value, Objective objective) {
+        int index = fitnessIndexOf(key);
+        super.put(key, null);
+        values[index] = value;
+        objectives[index] = checkNotNull(objective);
+    }
+
+    private void copy(Enum<?> from, Enum<?> to) {
+        int source = fitnessIndexOf(from);
+        int target = fitnessIndexOf(to);
+        if (objectives[source] == null) {
+            put(to, get(from));
+            return;
+        }
+        super.put(to, super.get(from));
+        values[target] = values[source];
+        objectives[target] = objectives[source];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Type put(Enum<?> key, Type value) {
+        int index = indexOf(key);
+        if (index < 0 || objectives == null || objectives[index] == null) {
+            return super.put(key, value);
+        }
+        Type previous = get(key);
+        objectives[index] = null;
+        super.put(key, value);
+        return previous;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Type get(Enum<?> key) {
+        int index = indexOf(key);
+        if (index < 0 || objectives == null || objectives[index] == null) {
+            return super.get(key);
+        }
+        Type fitness = super.get(key);
+        if (fitness == null) {
+            fitness = objectives[index].evaluate(values[index]);
+            super.put(key, fitness);
+        }
+        return fitness;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Map<Enum<?>, Type> asMap() {
+        for (int i = 0; i < FITNESS_KEYS.length; i++) {
+            if (objectives[i] != null) {
+                get(FITNESS_KEYS[i]);
+            }
+        }
+        return super.asMap();
+    }
+
+    /**
+     * Compare the fitness of two entities, as
+     * {@code a.getFitness().compareTo(b.getFitness())}.
+     * @param a The first entity.
+     * @param b The second entity.
+     * @return The ordering of the fitness of {@code a} relative to that of {@code b}.
+     */
+    public static int compareFitness(Entity a, Entity b) {
+        int result = compareValues(a, fitnessKeyOf(a), b, fitnessKeyOf(b));
+        return result != UNORDERED ? result : a.getFitness().compareTo(b.getFitness());
+    }
+
+    /**
+     * Compare the best fitness of two entities, as
+     * {@code a.getBestFitness().compareTo(b.getBestFitness())}.
+     * @param a The first entity.
+     * @param b The second entity.
+     * @return The ordering of the best fitness of {@code a} relative to that of {@code b}.
+     */
+    public static int compareBestFitness(Entity a, Entity b) {
+        int result = compareValues(a, bestFitnessKeyOf(a), b, bestFitnessKeyOf(b));
+        return result != UNORDERED ? result : a.getBestFitness().compareTo(b.getBestFitness());
+    }
+
+    /**
+     * Compare the social fitness of two entities, as
+     * {@code a.getSocialFitness().compareTo(b.getSocialFitness())}.
+     * @param a The first entity.
+     * @param b The second entity.
+     * @return The ordering of the social fitness of {@code a} relative to that of {@code b}.
+     */
+    public static int compareSocialFitness(SocialEntity a, SocialEntity b) {
+        Enum<?> aKey = socialFitnessKeyOf(a);
+        Enum<?> bKey = socialFitnessKeyOf(b);
+        int result = aKey == null || bKey == null ? UNORDERED : compareValues((Entity) a, aKey, (Entity) b, bKey);
+        return result != UNORDERED ? result : a.getSocialFitness().compareTo(b.getSocialFitness());
+    }
+
+    /**
+     * Compare the fitness of an entity to its best fitness, as
+     * {@code entity.getFitness().compareTo(entity.getBestFitness())}.
+     * @param entity The entity.
+     * @return The ordering of the fitness of {@code entity} relative to its best fitness.
+     */
+    public static int compareFitnessToBest(Entity entity) {
+        int result = compareValues(entity, fitnessKeyOf(entity), entity, bestFitnessKeyOf(entity));
+        return result != UNORDERED ? result : entity.getFitness().compareTo(entity.getBestFitness());
+    }
+
+    /**
+     * Set the fitness property {@code to} of an entity to the fitness of its
+     * property {@code from}, without creating a {@code Fitness} if it is held
+     * as a value.
+     * @param entity The entity.
+     * @param from The fitness property to copy.
+     * @param to The fitness property to set.
+     */
+    public static void copyFitness(Entity entity, Enum<?> from, Enum<?> to) {
+        Blackboard<Enum<?>, Type> properties = entity.getProperties();
+        if (properties instanceof EntityProperties) {
+            ((EntityProperties) properties).copy(from, to);
+        } else {
+            properties.put(to, properties.get(from));
+        }
+    }
+
+    private static int compareValues(Entity a, Enum<?> aKey, Entity b, Enum<?> bKey) {
+        if (aKey == null || bKey == null
+                || !(a.getProperties() instanceof EntityProperties)
+                || !(b.getProperties() instanceof EntityProperties)) {
+            return UNORDERED;
+        }
+        EntityProperties first = (EntityProperties) a.getProperties();
+        EntityProperties second = (EntityProperties) b.getProperties();
+        int i = indexOf(aKey);
+        int j = indexOf(bKey);
+        if (i < 0 || j < 0) {
+            return UNORDERED;
+        }
+        Objective objective = first.objectives[i];
+        if (objective == null || second.objectives[j] == null
+                || objective.getClass() != second.objectives[j].getClass()) {
+            return UNORDERED;
+        }
+        return objective.compare(first.values[i], second.values[j]);
+    }
+
+    private static Enum<?> fitnessKeyOf(Object entity) {
+        return entity instanceof AbstractEntity ? EntityType.FITNESS : null;
+    }
+
+    private static Enum<?> bestFitnessKeyOf(Object entity) {
+        return entity instanceof AbstractEntity ? ((AbstractEntity) entity).getBestFitnessKey() : null;
+    }
+
+    private static Enum<?> socialFitnessKeyOf(Object entity) {
+        return entity instanceof AbstractEntity ? ((AbstractEntity) entity).getSocialFitnessKey() : null;
+    }
+
+    private static int fitnessIndexOf(Enum<?> key) {
+        int index = indexOf(key);
+        checkArgument(index >= 0, "%s is not a fitness property.", key);
+        return index;
+    }
+
+    private static int indexOf(Enum<?> key) {
+        for (int i = 0; i < FITNESS_KEYS.length; i++) {
+            if (FITNESS_KEYS[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
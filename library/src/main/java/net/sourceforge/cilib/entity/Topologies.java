@@ -6,14 +6,17 @@
  */
 package net.sourceforge.cilib.entity;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.PriorityQueue;
 import java.util.Set;
 import net.sourceforge.cilib.entity.comparator.AscendingFitnessComparator;
+import net.sourceforge.cilib.entity.topologies.GBestTopology;
 
 /**
  * Topology related utilities.
@@ -38,6 +41,14 @@ public final class Topologies {
     public static <E extends Entity> Set<E> getNeighbourhoodBestEntities(Topology<E> p, Comparator<? super E> c) {
         Set<E> nBests = new LinkedHashSet<E>(p.size());
 
+        if (p instanceof GBestTopology) { // Every neighbourhood is the whole topology
+            E best = getBestEntity(p, c);
+            if (best != null) {
+                nBests.add(best);
+            }
+            return nBests;
+        }
+
         for (E e : p) {
             E best = getBestEntity(p.neighbourhood(e), c);
             if (best != null) {
@@ -57,16 +68,86 @@ public final class Topologies {
     }
 
     /**
-     * Returns an entity from a given topology using the given comparator.
+     * Returns an entity from a given topology using the given comparator. The
+     * entity is the greatest according to the comparator and, if several
+     * entities are equally good, the last of them. The entities are examined
+     * in a single pass, without sorting or copying the collection.
      */
     public static <T extends Entity> T getBestEntity(Collection<T> p, Comparator<? super T> c) {
-        if (p.isEmpty()) {
-            return null;
+        T best = null;
+        for (T entity : p) {
+            if (best == null || c.compare(entity, best) >= 0) {
+                best = entity;
+            }
         }
+        return best;
+    }
 
-        List<T> tmp = new ArrayList(p);
-        Collections.sort(tmp, c);
-        return tmp.get(tmp.size() - 1);
+    /**
+     * Returns the current worst entity from a given topology based on the
+     * current fitness of the entities.
+     */
+    public static <T extends Entity> T getWorstEntity(Collection<T> p) {
+        return getWorstEntity(p, new AscendingFitnessComparator<T>());
+    }
+
+    /**
+     * Returns the least entity of a given topology according to the given
+     * comparator and, if several entities are equally bad, the first of them.
+     */
+    public static <T extends Entity> T getWorstEntity(Collection<T> p, Comparator<? super T> c) {
+        T worst = null;
+        for (T entity : p) {
+            if (worst == null || c.compare(entity, worst) < 0) {
+                worst = entity;
+            }
+        }
+        return worst;
+    }
+
+    /**
+     * Returns the {@code k} best entities of a given topology based on the
+     * current fitness of the entities.
+     */
+    public static <T extends Entity> List<T> getBestEntities(Collection<T> p, int k) {
+        return getBestEntities(p, k, new AscendingFitnessComparator<T>());
+    }
+
+    /**
+     * Returns the {@code k} best entities of a given topology using the given
+     * comparator, with the best entity first. Equally good entities are
+     * ordered as they would be by {@link #getBestEntity(Collection, Comparator)}:
+     * the last such entity is considered the best. Only {@code k} entities are
+     * kept in order, so that the selection takes {@code O(n log k)} time.
+     * @return The best entities, or all the entities if there are fewer than {@code k}.
+     */
+    public static <T extends Entity> List<T> getBestEntities(Collection<T> p, int k, final Comparator<? super T> c) {
+        checkArgument(k >= 0, "The number of entities may not be negative.");
+        final List<T> entities = new ArrayList<T>(p);
+        Comparator<Integer> order = new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                int result = c.compare(entities.get(a), entities.get(b));
+                return result != 0 ? result : a.compareTo(b);
+            }
+        };
+
+        PriorityQueue<Integer> kept = new PriorityQueue<Integer>(Math.max(1, k), order); // The worst kept entity is at the head
+        for (int i = 0; i < entities.size(); i++) {
+            if (kept.size() < k) {
+                kept.add(i);
+            } else if (k > 0 && order.compare(i, kept.peek()) > 0) {
+                kept.poll();
+                kept.add(i);
+            }
+        }
+
+        List<T> best = new ArrayList<T>(kept.size());
+        while (!kept.isEmpty()) {
+            best.add(entities.get(kept.poll()));
+        }
+        Collections.reverse(best);
+        return best;
     }
 
     /**
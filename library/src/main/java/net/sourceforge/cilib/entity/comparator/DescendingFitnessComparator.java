@@ -9,7 +9,7 @@ package net.sourceforge.cilib.entity.comparator;
 import java.io.Serializable;
 import java.util.Comparator;
 import net.sourceforge.cilib.entity.Entity;
-import net.sourceforge.cilib.problem.solution.Fitness;
+import net.sourceforge.cilib.entity.EntityProperties;
 
 /**
  * Comparator to order {@linkplain Entity} instances based on fitness values.
@@ -31,10 +31,7 @@ public class DescendingFitnessComparator<E extends Entity> implements Comparator
      */
     @Override
     public int compare(E e1, E e2) {
-        Fitness f1 = e1.getFitness();
-        Fitness f2 = e2.getFitness();
-
-        return -f1.compareTo(f2);
+        return -EntityProperties.compareFitness(e1, e2);
     }
 
 }
@@ -8,8 +8,8 @@ package net.sourceforge.cilib.entity.comparator;
 
 import java.io.Serializable;
 import java.util.Comparator;
+import net.sourceforge.cilib.entity.EntityProperties;
 import net.sourceforge.cilib.entity.SocialEntity;
-import net.sourceforge.cilib.problem.solution.Fitness;
 
 /**
  * Compare two {@link SocialEntity} instances, based on the available social best
@@ -25,10 +25,7 @@ public class SocialBestFitnessComparator<E extends SocialEntity> implements Comp
      */
     @Override
     public int compare(E o1, E o2) {
-        Fitness f1 = o1.getSocialFitness();
-        Fitness f2 = o2.getSocialFitness();
-
-        return f1.compareTo(f2);
+        return EntityProperties.compareSocialFitness(o1, o2);
     }
 
 }
@@ -15,7 +15,9 @@ import net.sourceforge.cilib.entity.operators.crossover.CrossoverStrategy;
 import net.sourceforge.cilib.entity.operators.crossover.OnePointCrossoverStrategy;
 import net.sourceforge.cilib.math.random.ProbabilityDistributionFunction;
 import net.sourceforge.cilib.math.random.UniformDistribution;
+import net.sourceforge.cilib.util.selection.PreparedSelection;
 import net.sourceforge.cilib.util.selection.Samples;
+import net.sourceforge.cilib.util.selection.recipes.PreparableSelector;
 import net.sourceforge.cilib.util.selection.recipes.RandomSelector;
 import net.sourceforge.cilib.util.selection.recipes.Selector;
 
@@ -55,14 +57,54 @@ public class CrossoverOperator implements Operator {
 
     public <E extends Entity> List<E> crossover(List<E> parentCollection) {
         if (randomDistribution.getRandomNumber() < crossoverProbability.getParameter()) {
-            return crossoverStrategy.crossover(selectionStrategy
-                    .on(parentCollection).select(Samples
-                    .first(crossoverStrategy.getNumberOfParents())));
+            return crossoverStrategy.crossover(prepare(parentCollection)
+                    .select(crossoverStrategy.getNumberOfParents()));
         }
 
         return Lists.<E>newArrayList();
     }
 
+    /**
+     * Perform crossover with parents drawn from a prepared selection. Use
+     * {@link #prepare(List)} once to create many offspring from the same
+     * parent collection.
+     * @param parents The prepared selection of the parent collection.
+     * @return The offspring, or an empty list if no crossover is performed.
+     */
+    public <E extends Entity> List<E> crossover(PreparedSelection<E> parents) {
+        if (randomDistribution.getRandomNumber() < crossoverProbability.getParameter()) {
+            return crossoverStrategy.crossover(parents.select(crossoverStrategy.getNumberOfParents()));
+        }
+
+        return Lists.<E>newArrayList();
+    }
+
+    /**
+     * Prepare the selection strategy for the given parent collection. A
+     * selection strategy that cannot be prepared performs its full selection
+     * for every crossover.
+     * @param parentCollection The entities to select parents from.
+     * @return The prepared selection of parents.
+     */
+    @SuppressWarnings("unchecked") // The selection strategy is held as a raw Selector.
+    public <E extends Entity> PreparedSelection<E> prepare(final List<E> parentCollection) {
+        if (selectionStrategy instanceof PreparableSelector) {
+            return ((PreparableSelector<E>) selectionStrategy).prepare(parentCollection);
+        }
+
+        return new PreparedSelection<E>() {
+            @Override
+            public E select() {
+                return (E) selectionStrategy.on(parentCollection).select();
+            }
+
+            @Override
+            public List<E> select(int number) {
+                return selectionStrategy.on(parentCollection).select(Samples.first(number));
+            }
+        };
+    }
+
     public ControlParameter getCrossoverProbability() {
         return crossoverProbability;
     }
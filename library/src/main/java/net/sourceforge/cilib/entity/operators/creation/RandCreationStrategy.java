@@ -6,6 +6,7 @@
  */
 package net.sourceforge.cilib.entity.operators.creation;
 
+import com.google.common.collect.Lists;
 import fj.P1;
 import java.util.Iterator;
 import java.util.List;
@@ -14,9 +15,8 @@ import net.sourceforge.cilib.controlparameter.SettableControlParameter;
 import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.entity.Topology;
 import net.sourceforge.cilib.type.types.container.Vector;
-import net.sourceforge.cilib.util.selection.Samples;
-import net.sourceforge.cilib.util.selection.Selection;
-import net.sourceforge.cilib.util.selection.arrangement.RandomArrangement;
+import net.sourceforge.cilib.util.Entities;
+import net.sourceforge.cilib.util.selection.RandomIndices;
 
 public class RandCreationStrategy implements CreationStrategy {
 
@@ -56,10 +56,7 @@ public class RandCreationStrategy implements CreationStrategy {
     @Override
     public <T extends Entity> T create(T targetEntity, T current, Topology<T> topology) {
         int number = Double.valueOf(this.numberOfDifferenceVectors.getParameter()).intValue();
-        List<T> participants = Selection.copyOf(topology)
-                .exclude(targetEntity, current)
-                .orderBy(new RandomArrangement())
-                .select(Samples.first(number).unique());
+        List<T> participants = selectParticipants(topology, number, targetEntity, current);
         Vector differenceVector = determineDistanceVector(participants);
 
         Vector targetVector = (Vector) targetEntity.getCandidateSolution();
@@ -70,12 +67,36 @@ public class RandCreationStrategy implements CreationStrategy {
             }
         }));
 
-        T trialEntity = (T) current.getClone();
+        T trialEntity = Entities.offspringOf(current);
         trialEntity.setCandidateSolution(trialVector);
 
         return trialEntity;
     }
 
+    /**
+     * Select {@code number} distinct random entities from the population,
+     * excluding the provided entities. Only the selected positions are drawn,
+     * so the population is neither copied nor shuffled.
+     * @param population The population to select from; its entities must be distinct.
+     * @param number The number of entities to select.
+     * @param excluded The entities that may not be selected.
+     * @return The selected entities, in random order.
+     */
+    @SafeVarargs
+    protected static <T> List<T> selectParticipants(List<T> population, int number, T... excluded) {
+        int[] positions = new int[excluded.length];
+        for (int i = 0; i < excluded.length; i++) {
+            positions[i] = population.indexOf(excluded[i]);
+        }
+
+        int[] indices = RandomIndices.sampleExcluding(population.size(), number, positions);
+        List<T> participants = Lists.newArrayListWithCapacity(number);
+        for (int index : indices) {
+            participants.add(population.get(index));
+        }
+        return participants;
+    }
+
     /**
      * Calculate the {@linkplain Vector} that is the resultant of several difference vectors.
      * @param participants The {@linkplain Entity} list to create the difference vectors from. It
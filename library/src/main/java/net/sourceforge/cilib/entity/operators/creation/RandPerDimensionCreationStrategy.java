@@ -7,16 +7,16 @@
 package net.sourceforge.cilib.entity.operators.creation;
 
 import fj.P1;
-import java.util.Iterator;
 import java.util.List;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.SettableControlParameter;
 import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.entity.Topology;
 import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.Entities;
+import net.sourceforge.cilib.util.selection.RandomIndices;
 import net.sourceforge.cilib.util.selection.Samples;
 import net.sourceforge.cilib.util.selection.Selection;
-import net.sourceforge.cilib.util.selection.arrangement.RandomArrangement;
 
 /**
  * A creation strategy for DE where the difference vector is computed by
@@ -73,7 +73,7 @@ public class RandPerDimensionCreationStrategy implements CreationStrategy {
             }
         }));
 
-        T trialEntity = (T) current.getClone();
+        T trialEntity = Entities.offspringOf(current);
         trialEntity.setCandidateSolution(trialVector);
 
         return trialEntity;
@@ -89,23 +89,22 @@ public class RandPerDimensionCreationStrategy implements CreationStrategy {
      */
     protected <T extends Entity> Vector determineDistanceVector(List<T> participants) {
         Vector distanceVector = Vector.fill(0.0, participants.get(0).getCandidateSolution().size());
-        Iterator<Entity> iterator;
         int number = Double.valueOf(this.numberOfDifferenceVectors.getParameter()).intValue();
-        List<Entity> currentParticipants;
+        int[] indices = new int[participants.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
 
         Vector first, second;
         double difference;
 
         for (int d = 0; d < distanceVector.size(); d++) {
             //get random participants for this dimension
-            currentParticipants = (List<Entity>) Selection.copyOf(participants)
-                    .orderBy(new RandomArrangement())
-                    .select(Samples.first(number));
-            iterator = currentParticipants.iterator();
-
-            while (iterator.hasNext()) {
-                first = (Vector) iterator.next().getCandidateSolution();
-                second = (Vector) iterator.next().getCandidateSolution();
+            RandomIndices.partialShuffle(indices, number);
+
+            for (int i = 0; i + 1 < number; i += 2) {
+                first = (Vector) participants.get(indices[i]).getCandidateSolution();
+                second = (Vector) participants.get(indices[i + 1]).getCandidateSolution();
 
                 difference = first.doubleValueOf(d) - second.doubleValueOf(d);
 
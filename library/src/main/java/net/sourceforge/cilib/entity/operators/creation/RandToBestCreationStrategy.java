@@ -13,9 +13,7 @@ import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.entity.Topologies;
 import net.sourceforge.cilib.entity.Topology;
 import net.sourceforge.cilib.type.types.container.Vector;
-import net.sourceforge.cilib.util.selection.Samples;
-import net.sourceforge.cilib.util.selection.Selection;
-import net.sourceforge.cilib.util.selection.arrangement.RandomArrangement;
+import net.sourceforge.cilib.util.Entities;
 
 /**
  * This is an implementation of the Rand-to-best DE  target creation strategy. This implementation is simply an extension of the {@linkplain RandCreationStrategy} that also includes the best {@linkplain Entity}'s solution vector. The influence of the best vector and the
@@ -49,10 +47,8 @@ public class RandToBestCreationStrategy extends RandCreationStrategy {
     @Override
     public <T extends Entity> T create(T targetEntity, T current, Topology<T> topology) {
         T bestEntity = Topologies.getBestEntity(topology);
-        List<T> participants = Selection.copyOf(topology)
-                .exclude(targetEntity, bestEntity, current)
-                .orderBy(new RandomArrangement())
-                .select(Samples.first((int) numberOfDifferenceVectors.getParameter()).unique());
+        List<T> participants = selectParticipants(topology, (int) numberOfDifferenceVectors.getParameter(),
+                targetEntity, bestEntity, current);
         Vector differenceVector = determineDistanceVector(participants);
 
         Vector targetVector = ((Vector) targetEntity.getCandidateSolution()).multiply(1 - greedynessParameter.getParameter());
@@ -60,7 +56,7 @@ public class RandToBestCreationStrategy extends RandCreationStrategy {
 
         Vector trialVector = bestVector.plus(targetVector.plus(differenceVector.multiply(scaleParameter.getParameter())));
 
-        T trialEntity = (T) current.getClone();
+        T trialEntity = Entities.offspringOf(current);
         trialEntity.setCandidateSolution(trialVector);
 
         return trialEntity;
@@ -15,6 +15,7 @@ import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.math.random.ProbabilityDistributionFunction;
 import net.sourceforge.cilib.math.random.UniformDistribution;
 import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.Entities;
 
 public class TwoPointCrossoverStrategy implements DiscreteCrossoverStrategy {
 
@@ -53,14 +54,14 @@ public class TwoPointCrossoverStrategy implements DiscreteCrossoverStrategy {
     public <E extends Entity> List<E> crossover(List<E> parentCollection, List<Integer> crossoverPoints) {
         Preconditions.checkArgument(parentCollection.size() == 2, "TwoPointCrossoverStrategy requires 2 parents.");
 
-        E offspring1 = (E) parentCollection.get(0).getClone();
-        E offspring2 = (E) parentCollection.get(1).getClone();
+        E offspring1 = Entities.offspringOf(parentCollection.get(0));
+        E offspring2 = Entities.offspringOf(parentCollection.get(1));
 
         int p1 = crossoverPoints.get(0);
         int p2 = crossoverPoints.get(1);
 
-        Vector offspringVector1 = (Vector) offspring1.getCandidateSolution();
-        Vector offspringVector2 = (Vector) offspring2.getCandidateSolution();
+        Vector offspringVector1 = (Vector) parentCollection.get(0).getCandidateSolution();
+        Vector offspringVector2 = (Vector) parentCollection.get(1).getCandidateSolution();
 
         Vector.Builder offspringVector1Builder = Vector.newBuilder();
         Vector.Builder offspringVector2Builder = Vector.newBuilder();
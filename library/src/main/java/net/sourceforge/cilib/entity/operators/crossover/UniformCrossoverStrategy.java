@@ -16,6 +16,7 @@ import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.math.random.ProbabilityDistributionFunction;
 import net.sourceforge.cilib.math.random.UniformDistribution;
 import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.Entities;
 
 public class UniformCrossoverStrategy implements DiscreteCrossoverStrategy {
 
@@ -61,23 +62,23 @@ public class UniformCrossoverStrategy implements DiscreteCrossoverStrategy {
         Preconditions.checkArgument(parentCollection.size() == 2, "UniformCrossoverStrategy requires 2 parents.");
 
         //How do we handle variable sizes? Resizing the entities?
-        E offspring1 = (E) parentCollection.get(0).getClone();
-        E offspring2 = (E) parentCollection.get(1).getClone();
+        E offspring1 = Entities.offspringOf(parentCollection.get(0));
+        E offspring2 = Entities.offspringOf(parentCollection.get(1));
 
-        int minDimension = Math.min(offspring1.getDimension(), offspring2.getDimension());
+        int minDimension = Math.min(parentCollection.get(0).getDimension(), parentCollection.get(1).getDimension());
 
-        Vector parentChromosome1 = (Vector) offspring1.getCandidateSolution();
-        Vector parentChromosome2 = (Vector) offspring2.getCandidateSolution();
+        Vector parentChromosome1 = (Vector) parentCollection.get(0).getCandidateSolution();
+        Vector parentChromosome2 = (Vector) parentCollection.get(1).getCandidateSolution();
         Vector.Builder offspringChromosome1Builder = Vector.newBuilder();
         Vector.Builder offspringChromosome2Builder = Vector.newBuilder();
 
         for (int i = 0; i < minDimension; i++) {
             if (crossoverPoints.contains(i)) {
-                offspringChromosome1Builder.add(parentChromosome1.get(i));
-                offspringChromosome2Builder.add(parentChromosome2.get(i));
+                offspringChromosome1Builder.add(parentChromosome1.get(i).getClone());
+                offspringChromosome2Builder.add(parentChromosome2.get(i).getClone());
             } else {
-                offspringChromosome1Builder.add(parentChromosome2.get(i));
-                offspringChromosome2Builder.add(parentChromosome1.get(i));
+                offspringChromosome1Builder.add(parentChromosome2.get(i).getClone());
+                offspringChromosome2Builder.add(parentChromosome1.get(i).getClone());
             }
         }
 
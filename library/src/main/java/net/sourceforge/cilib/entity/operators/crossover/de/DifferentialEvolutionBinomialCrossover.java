@@ -16,6 +16,7 @@ import net.sourceforge.cilib.entity.operators.crossover.CrossoverStrategy;
 import net.sourceforge.cilib.math.random.ProbabilityDistributionFunction;
 import net.sourceforge.cilib.math.random.UniformDistribution;
 import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.Entities;
 
 /**
  * Binomial crossover operator.
@@ -84,7 +85,7 @@ public class DifferentialEvolutionBinomialCrossover implements CrossoverStrategy
             }
         }
 
-        E offspring = (E) parentCollection.get(0).getClone();
+        E offspring = Entities.offspringOf(parentCollection.get(0));
         offspring.setCandidateSolution(offspringVector.build());
 
         return Arrays.asList(offspring);
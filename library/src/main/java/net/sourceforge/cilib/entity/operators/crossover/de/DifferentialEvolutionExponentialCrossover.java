@@ -17,6 +17,7 @@ import net.sourceforge.cilib.entity.operators.crossover.CrossoverStrategy;
 import net.sourceforge.cilib.math.random.ProbabilityDistributionFunction;
 import net.sourceforge.cilib.math.random.UniformDistribution;
 import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.Entities;
 
 public class DifferentialEvolutionExponentialCrossover implements CrossoverStrategy {
 
@@ -70,7 +71,7 @@ public class DifferentialEvolutionExponentialCrossover implements CrossoverStrat
             }
         }
 
-        E offspring = (E) parentCollection.get(0).getClone();
+        E offspring = Entities.offspringOf(parentCollection.get(0));
         offspring.setCandidateSolution(offspringVector.build());
 
         return Arrays.asList(offspring);
@@ -15,6 +15,7 @@ import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.entity.operators.crossover.CrossoverStrategy;
 import net.sourceforge.cilib.math.random.UniformDistribution;
 import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.Entities;
 
 public class ArithmeticCrossoverStrategy implements CrossoverStrategy {
     
@@ -37,11 +38,11 @@ public class ArithmeticCrossoverStrategy implements CrossoverStrategy {
     public <E extends Entity> List<E> crossover(List<E> parentCollection) {
         Preconditions.checkArgument(parentCollection.size() == 2, "ArithmeticCrossoverStrategy requires 2 parents.");
 
-        E o1 = (E) parentCollection.get(0).getClone();
-        E o2 = (E) parentCollection.get(1).getClone();
+        E o1 = Entities.offspringOf(parentCollection.get(0));
+        E o2 = Entities.offspringOf(parentCollection.get(1));
         
-        Vector o1Vec = (Vector) o1.getCandidateSolution();
-        Vector o2Vec = (Vector) o2.getCandidateSolution();
+        Vector o1Vec = (Vector) parentCollection.get(0).getCandidateSolution();
+        Vector o2Vec = (Vector) parentCollection.get(1).getCandidateSolution();
         
         double value = lambda.getParameter();
 
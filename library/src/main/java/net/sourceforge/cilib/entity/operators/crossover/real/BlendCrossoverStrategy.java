@@ -17,6 +17,7 @@ import net.sourceforge.cilib.math.random.ProbabilityDistributionFunction;
 import net.sourceforge.cilib.math.random.UniformDistribution;
 import net.sourceforge.cilib.type.types.Real;
 import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.Entities;
 
 /**
  * <p>Implementation of the blend cross-over strategy.</p>
@@ -61,8 +62,8 @@ public class BlendCrossoverStrategy implements CrossoverStrategy {
         Preconditions.checkArgument(parentCollection.size() == 2, "BlendCrossoverStrategy requires 2 parents.");
 
         // How do we handle variable sizes? Resizing the entities?
-        E offspring1 = (E) parentCollection.get(0).getClone();
-        E offspring2 = (E) parentCollection.get(1).getClone();
+        E offspring1 = Entities.offspringOf(parentCollection.get(0));
+        E offspring2 = Entities.offspringOf(parentCollection.get(1));
 
         Vector parentChromosome1 = (Vector) parentCollection.get(0).getCandidateSolution();
         Vector parentChromosome2 = (Vector) parentCollection.get(1).getCandidateSolution();
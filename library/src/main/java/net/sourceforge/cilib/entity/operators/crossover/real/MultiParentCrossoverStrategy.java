@@ -15,6 +15,7 @@ import net.sourceforge.cilib.entity.operators.crossover.CrossoverStrategy;
 import net.sourceforge.cilib.math.random.ProbabilityDistributionFunction;
 import net.sourceforge.cilib.math.random.UniformDistribution;
 import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.Entities;
 
 public class MultiParentCrossoverStrategy implements CrossoverStrategy {
     
@@ -53,7 +54,7 @@ public class MultiParentCrossoverStrategy implements CrossoverStrategy {
         Vector v3 = (Vector) parentCollection.get(2).getCandidateSolution();
         Vector v4 = (Vector) parentCollection.get(3).getCandidateSolution();
         
-        E offspring = (E) parentCollection.get(0).getClone();
+        E offspring = Entities.offspringOf(parentCollection.get(0));
         offspring.setCandidateSolution(v1.multiply(a1).plus(v2.multiply(a2)).plus(v3.multiply(a3)).plus(v4.multiply(a4)));
 
         return Arrays.asList(offspring);
@@ -148,7 +148,7 @@ public class ParentCentricCrossoverStrategy implements CrossoverStrategy {
                 }
             }
 
-            E result = (E) parentCollection.get(parent).getClone();
+            E result = Entities.offspringOf(parentCollection.get(parent));
             result.setCandidateSolution(child);
 
             offspring.add(result);
@@ -110,7 +110,7 @@ public class SimplexCrossoverStrategy implements CrossoverStrategy {
 
             Vector variables = simplexVertices.get(n - 1).plus(offsetVectors.get(n - 1));
 
-            E child = (E) parentCollection.get(n - 1).getClone();
+            E child = Entities.offspringOf(parentCollection.get(n - 1));
             child.setCandidateSolution(variables);
             
             offspring.add(child);
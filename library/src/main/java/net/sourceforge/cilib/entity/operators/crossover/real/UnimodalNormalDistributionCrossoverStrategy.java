@@ -160,7 +160,7 @@ public class UnimodalNormalDistributionCrossoverStrategy implements CrossoverStr
                 }
             }
 
-            E child = (E) parentCollection.get(parent).getClone();
+            E child = Entities.offspringOf(parentCollection.get(parent));
             child.setCandidateSolution(variables);
             
             offspring.add(child);
@@ -0,0 +1,42 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.entity.operators.survivor;
+
+import java.util.List;
+import net.sourceforge.cilib.entity.Entity;
+
+/**
+ * (&mu;, &lambda;) survivor selection: only the best offspring survive. If
+ * there are fewer offspring than survivors, all offspring survive together
+ * with the best entities of the current population.
+ */
+public class CommaSurvivorSelectionStrategy implements SurvivorSelectionStrategy {
+
+    private static final long serialVersionUID = 2536713581936367004L;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CommaSurvivorSelectionStrategy getClone() {
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <E extends Entity> List<E> select(List<E> parents, List<E> offspring, int number) {
+        if (offspring.size() >= number) {
+            return Survivors.best(offspring, number);
+        }
+
+        List<E> candidates = Survivors.best(parents, number - offspring.size());
+        candidates.addAll(offspring);
+        return Survivors.best(candidates, number);
+    }
+}
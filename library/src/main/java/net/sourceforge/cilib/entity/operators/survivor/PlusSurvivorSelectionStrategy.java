@@ -0,0 +1,39 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.entity.operators.survivor;
+
+import com.google.common.collect.Lists;
+import java.util.List;
+import net.sourceforge.cilib.entity.Entity;
+
+/**
+ * (&mu; + &lambda;) survivor selection: the best entities of the current
+ * population and its offspring together survive.
+ */
+public class PlusSurvivorSelectionStrategy implements SurvivorSelectionStrategy {
+
+    private static final long serialVersionUID = -3151279387398962347L;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PlusSurvivorSelectionStrategy getClone() {
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <E extends Entity> List<E> select(List<E> parents, List<E> offspring, int number) {
+        List<E> candidates = Lists.newArrayListWithCapacity(parents.size() + offspring.size());
+        candidates.addAll(parents);
+        candidates.addAll(offspring);
+        return Survivors.best(candidates, number);
+    }
+}
@@ -0,0 +1,34 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.entity.operators.survivor;
+
+import java.util.List;
+import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.entity.operators.Operator;
+
+/**
+ * Determines which entities survive to the next generation of an evolutionary
+ * algorithm, given the current population and the offspring that it
+ * produced.
+ */
+public interface SurvivorSelectionStrategy extends Operator {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    SurvivorSelectionStrategy getClone();
+
+    /**
+     * Select the survivors of a generation.
+     * @param parents The current population.
+     * @param offspring The offspring of the current population.
+     * @param number The number of survivors.
+     * @return The survivors, ordered from worst to best.
+     */
+    <E extends Entity> List<E> select(List<E> parents, List<E> offspring, int number);
+}
@@ -0,0 +1,103 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.entity.operators.survivor;
+
+import com.google.common.collect.Lists;
+import java.util.List;
+import net.sourceforge.cilib.entity.Entity;
+
+/**
+ * Partial selection of the best entities with a bounded binary heap.
+ * <p>
+ * Selecting the best {@code k} of {@code n} entities takes
+ * {@code O(n log k)} comparisons, instead of the {@code O(n log n)} of sorting
+ * all entities. Entities with equal fitness are ranked by position, later
+ * entities being better, so the result is exactly the last {@code k} entities
+ * of a stable sort of the candidates.
+ * </p>
+ */
+final class Survivors {
+
+    private Survivors() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Select the best entities.
+     * @param candidates The entities to select from.
+     * @param number The number of entities to select.
+     * @return The best {@code number} candidates, or all of them if there are
+     *         fewer, ordered from worst to best.
+     */
+    static <E extends Entity> List<E> best(List<E> candidates, int number) {
+        int k = Math.min(number, candidates.size());
+        int[] heap = new int[k];
+        int size = 0;
+        for (int i = 0; i < candidates.size(); i++) {
+            if (size < k) {
+                heap[size] = i;
+                siftUp(candidates, heap, size++);
+            } else if (k > 0 && isWorse(candidates, heap[0], i)) {
+                heap[0] = i;
+                siftDown(candidates, heap, size);
+            }
+        }
+
+        List<E> result = Lists.newArrayListWithCapacity(k);
+        while (size > 0) {
+            result.add(candidates.get(heap[0]));
+            heap[0] = heap[--size];
+            siftDown(candidates, heap, size);
+        }
+        return result;
+    }
+
+    /**
+     * Determine whether the candidate at {@code i} ranks below the candidate
+     * at {@code j}.
+     */
+    private static <E extends Entity> boolean isWorse(List<E> candidates, int i, int j) {
+        int comparison = candidates.get(i).compareTo(candidates.get(j));
+        return comparison < 0 || (comparison == 0 && i < j);
+    }
+
+    private static <E extends Entity> void siftUp(List<E> candidates, int[] heap, int position) {
+        int value = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!isWorse(candidates, value, heap[parent])) {
+                break;
+            }
+            heap[position] = heap[parent];
+            position = parent;
+        }
+        heap[position] = value;
+    }
+
+    private static <E extends Entity> void siftDown(List<E> candidates, int[] heap, int size) {
+        if (size == 0) {
+            return;
+        }
+        int position = 0;
+        int value = heap[0];
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && isWorse(candidates, heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!isWorse(candidates, heap[child], value)) {
+                break;
+            }
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = value;
+    }
+}
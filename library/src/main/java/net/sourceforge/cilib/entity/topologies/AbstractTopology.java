@@ -10,8 +10,10 @@ import com.google.common.collect.ForwardingList;
 import com.google.common.collect.Lists;
 import java.util.AbstractCollection;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
 import net.sourceforge.cilib.entity.Entity;
@@ -31,6 +33,7 @@ public abstract class AbstractTopology<E extends Entity> extends ForwardingList<
 
     protected List<E> entities;
     protected ControlParameter neighbourhoodSize;
+    private transient volatile Map<Long, Integer> positions;
 
     /**
      * Default constructor.
@@ -98,6 +101,52 @@ public abstract class AbstractTopology<E extends Entity> extends ForwardingList<
         return this.entities;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The position of an entity is found with an index of the positions of
+     * all the entities, keyed by entity id. The index is not updated when the
+     * topology is modified; instead, each position obtained from the index is
+     * verified and the index is rebuilt when it is found to be stale. A
+     * lookup therefore takes constant time as long as the order of the
+     * entities does not change.
+     */
+    @Override
+    public int indexOf(Object element) {
+        if (!(element instanceof Entity)) {
+            return entities.indexOf(element);
+        }
+
+        Long id = ((Entity) element).getId();
+        Map<Long, Integer> index = positions;
+        if (index != null && isAt(index.get(id), element)) {
+            return index.get(id);
+        }
+
+        index = indexPositions();
+        positions = index;
+        Integer position = index.get(id);
+        if (position == null) {
+            return -1;
+        }
+        return isAt(position, element) ? position : entities.indexOf(element);
+    }
+
+    private boolean isAt(Integer position, Object element) {
+        return position != null && position < entities.size() && entities.get(position).equals(element);
+    }
+
+    /**
+     * Determine the first position of each entity id.
+     */
+    private Map<Long, Integer> indexPositions() {
+        Map<Long, Integer> index = new HashMap<Long, Integer>(entities.size() * 2);
+        for (int i = entities.size() - 1; i >= 0; i--) {
+            index.put(entities.get(i).getId(), i);
+        }
+        return index;
+    }
+
     public void setNeighbourhoodSize(ControlParameter neighbourhoodSize) {
         this.neighbourhoodSize = neighbourhoodSize;
     }
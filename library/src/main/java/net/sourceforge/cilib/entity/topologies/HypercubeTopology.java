@@ -48,7 +48,7 @@ public class HypercubeTopology<E extends Entity> extends AbstractTopology<E> {
         return new UnmodifiableIterator<E>() {
 
             private int count = 0;
-            private int index = entities.indexOf(e);
+            private int index = indexOf(e);
 
             @Override
             public E next() {
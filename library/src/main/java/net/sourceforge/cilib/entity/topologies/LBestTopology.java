@@ -60,7 +60,7 @@ public class LBestTopology<E extends Entity> extends AbstractTopology<E> {
             int count = 0;
             int ns = getNeighbourhoodSize();
             int ts = size();
-            int index = (entities.indexOf(e) - (ns / 2) - 1 + ts) % ts;
+            int index = (indexOf(e) - (ns / 2) - 1 + ts) % ts;
 
             @Override
             public boolean hasNext() {
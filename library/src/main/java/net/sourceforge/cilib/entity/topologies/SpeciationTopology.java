@@ -133,7 +133,7 @@ public class SpeciationTopology<E extends Entity> extends AbstractTopology<E> {
     protected Iterator<E> neighbourhoodOf(final E e) {
         return new UnmodifiableIterator<E>() {
 
-            private List<Integer> neighbours = getNeighbourhood(distanceMeasure, radius, neighbourhoodSize, entities.indexOf(e))
+            private List<Integer> neighbours = getNeighbourhood(distanceMeasure, radius, neighbourhoodSize, indexOf(e))
                     .f(List.<Entity>iterableList((java.util.List<Entity>) entities).zipIndex());
             private int index = -1;
 
@@ -54,7 +54,7 @@ public class VonNeumannTopology<E extends Entity> extends AbstractTopology<E> {
     protected Iterator<E> neighbourhoodOf(final E e) {
         return new UnmodifiableIterator<E>() {
             private int np = entities.size();
-            private int index = entities.indexOf(e);
+            private int index = indexOf(e);
             private final int sqSide = (int) Math.round(Math.sqrt(np));
             private final int nRows = (int) Math.ceil(np / (double) sqSide);;
             private final int row = index / sqSide;
@@ -0,0 +1,35 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.functions;
+
+/**
+ * A {@linkplain ContinuousFunction} that can evaluate many inputs in one
+ * call.
+ * <p>
+ * The inputs are passed as a matrix of {@code count} rows, one per input,
+ * stored row by row in a single {@code double[]}. Decorators transform the
+ * matrix in place and pass it on to the function that they decorate with
+ * {@link BatchFunctions#apply(ContinuousFunction, double[], int, double[])},
+ * which evaluates functions that do not implement this interface one row at
+ * a time.
+ * </p><p>
+ * Evaluating a batch must give the same results as applying the function to
+ * each input in turn.
+ * </p>
+ */
+public interface BatchFunction extends ContinuousFunction {
+
+    /**
+     * Evaluate each of the packed inputs.
+     * @param inputs The inputs, {@code count} rows of equal length stored one
+     *        after the other. The contents may be overwritten.
+     * @param count The number of inputs.
+     * @param results The array to receive the value of each input, of at
+     *        least {@code count} elements.
+     */
+    void apply(double[] inputs, int count, double[] results);
+}
@@ -0,0 +1,91 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.functions;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Arrays;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * Utility methods for the evaluation of {@linkplain BatchFunction}s.
+ */
+public final class BatchFunctions {
+
+    private BatchFunctions() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Evaluate each of the packed inputs with {@code function}. If the
+     * function is not a {@linkplain BatchFunction}, each row is copied into a
+     * {@linkplain Vector} and evaluated separately.
+     * @param function The function to evaluate.
+     * @param inputs The inputs, {@code count} rows of equal length stored one
+     *        after the other. The contents may be overwritten.
+     * @param count The number of inputs.
+     * @param results The array to receive the value of each input.
+     */
+    public static void apply(ContinuousFunction function, double[] inputs, int count, double[] results) {
+        if (function instanceof BatchFunction) {
+            ((BatchFunction) function).apply(inputs, count, results);
+            return;
+        }
+
+        int dimension = dimension(inputs, count);
+        for (int i = 0; i < count; i++) {
+            results[i] = function.apply(Vector.copyOf(Arrays.copyOfRange(inputs, i * dimension, (i + 1) * dimension)));
+        }
+    }
+
+    /**
+     * Get the length of the rows of a packed matrix of inputs.
+     * @param inputs The packed inputs.
+     * @param count The number of inputs.
+     * @return The length of each input.
+     * @throws IllegalArgumentException if the inputs cannot be divided into
+     *         {@code count} rows of equal length.
+     */
+    public static int dimension(double[] inputs, int count) {
+        checkArgument(count > 0 ? inputs.length % count == 0 : inputs.length == 0,
+                "%s values cannot be divided into %s inputs.", inputs.length, count);
+        return count == 0 ? 0 : inputs.length / count;
+    }
+
+    /**
+     * Obtain a {@linkplain BatchFunction} view of {@code function}.
+     * @param function The function to adapt.
+     * @return {@code function} itself if it is a {@linkplain BatchFunction},
+     *         otherwise a {@linkplain BatchFunction} that evaluates each input
+     *         with {@code function}.
+     */
+    public static BatchFunction of(ContinuousFunction function) {
+        if (function instanceof BatchFunction) {
+            return (BatchFunction) function;
+        }
+        return new Adapter(function);
+    }
+
+    private static final class Adapter implements BatchFunction {
+        private static final long serialVersionUID = -6250460011437981632L;
+        private final ContinuousFunction function;
+
+        Adapter(ContinuousFunction function) {
+            this.function = function;
+        }
+
+        @Override
+        public Double apply(Vector input) {
+            return function.apply(input);
+        }
+
+        @Override
+        public void apply(double[] inputs, int count, double[] results) {
+            BatchFunctions.apply(function, inputs, count, results);
+        }
+    }
+}
@@ -6,6 +6,8 @@
  */
 package net.sourceforge.cilib.functions;
 
+import java.io.Serializable;
+
 /**
  * Function definition. All functions apply some or other transformation
  * on a set of input variables and create an output that is representative of
@@ -13,7 +15,7 @@ package net.sourceforge.cilib.functions;
  * @param <F> The "from" type.
  * @param <T> The "to" type.
  */
-public interface Function<F, T> {
+public interface Function<F, T> extends Serializable {
 
     /**
      * Perform the evaluation of the input and return the result.
@@ -8,6 +8,8 @@ package net.sourceforge.cilib.functions.continuous.decorators;
 
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
+import net.sourceforge.cilib.functions.BatchFunction;
+import net.sourceforge.cilib.functions.BatchFunctions;
 import net.sourceforge.cilib.functions.ContinuousFunction;
 import net.sourceforge.cilib.type.types.container.Vector;
 
@@ -22,7 +24,9 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * on Real-Parameter Optimization." (2013).
  * </p>
  */
-public class AsymmetricFunctionDecorator implements ContinuousFunction {
+public class AsymmetricFunctionDecorator implements BatchFunction {
+
+    private static final long serialVersionUID = -1183432922616127392L;
 
     private ContinuousFunction function;
     private ControlParameter beta;
@@ -36,18 +40,34 @@ public class AsymmetricFunctionDecorator implements ContinuousFunction {
         Vector.Builder builder = Vector.newBuilder();
 
         for (int i = 0; i < input.size(); i++) {
-            double x = input.doubleValueOf(i);
-            if (x > 0) {
-                builder.add(Math.pow(x, 1 + beta.getParameter() * Math.sqrt(x) * i / (input.size() - 1)));
-            } else {
-                builder.add(x);
-            }
-
+            builder.add(transform(input.doubleValueOf(i), beta.getParameter(), i, input.size()));
         }
 
         return function.apply(builder.build());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void apply(double[] inputs, int count, double[] results) {
+        int dimension = BatchFunctions.dimension(inputs, count);
+        for (int i = 0; i < count; i++) {
+            int offset = i * dimension;
+            for (int j = 0; j < dimension; j++) {
+                inputs[offset + j] = transform(inputs[offset + j], beta.getParameter(), j, dimension);
+            }
+        }
+        BatchFunctions.apply(function, inputs, count, results);
+    }
+
+    static double transform(double x, double beta, int i, int size) {
+        if (x > 0) {
+            return Math.pow(x, 1 + beta * Math.sqrt(x) * i / (size - 1));
+        }
+        return x;
+    }
+
     public void setFunction(ContinuousFunction function) {
         this.function = function;
     }
@@ -0,0 +1,186 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.functions.continuous.decorators;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import net.sourceforge.cilib.io.IOUtils;
+import net.sourceforge.cilib.math.DenseMatrix;
+
+/**
+ * Shift vectors, permutations and rotation matrices that are read from the
+ * data files of benchmark suites, such as the CEC 2013 large scale global
+ * optimisation (LSGO) suite.
+ * <p>
+ * The files contain numbers separated by white space or commas. Each file
+ * is read once and the values are kept in primitive arrays, which are shared
+ * by all decorators that refer to the same file, so that the simulations of
+ * every sample use a single copy of the data. The files are parsed as they
+ * are read, without holding their text in memory. The shared arrays are
+ * never exposed outside this package and must not be modified.
+ * Values that are no longer used may be released when memory runs low; they
+ * are then read again when next required.
+ * </p>
+ */
+final class BenchmarkData {
+
+    private static final LoadingCache<File, double[]> VECTORS = CacheBuilder.newBuilder().softValues().build(
+            new CacheLoader<File, double[]>() {
+                @Override
+                public double[] load(File file) throws IOException {
+                    return read(file);
+                }
+            });
+
+    private static final LoadingCache<File, int[]> PERMUTATIONS = CacheBuilder.newBuilder().softValues().build(
+            new CacheLoader<File, int[]>() {
+                @Override
+                public int[] load(File file) throws IOException {
+                    return toPermutation(read(file));
+                }
+            });
+
+    private static final LoadingCache<File, DenseMatrix> ROTATIONS = CacheBuilder.newBuilder().softValues().build(
+            new CacheLoader<File, DenseMatrix>() {
+                @Override
+                public DenseMatrix load(File file) throws IOException {
+                    return toRotation(read(file));
+                }
+            });
+
+    private BenchmarkData() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Get the values in the provided file, for example a shift vector.
+     * @param path The path of the file.
+     * @return The shared values, which must not be modified.
+     * @throws IllegalArgumentException if the file cannot be read.
+     */
+    static double[] vector(String path) {
+        return get(VECTORS, path);
+    }
+
+    /**
+     * Get the permutation in the provided file. The file contains each of
+     * the indices {@code 0} to {@code n - 1}, or {@code 1} to {@code n}, once.
+     * @param path The path of the file.
+     * @return The shared permutation, with indices from {@code 0}, which must
+     *         not be modified.
+     * @throws IllegalArgumentException if the file cannot be read or does
+     *         not contain a permutation.
+     */
+    static int[] permutation(String path) {
+        return get(PERMUTATIONS, path);
+    }
+
+    /**
+     * Get the square rotation matrix {@code M} in the provided file, stored
+     * row by row. The returned matrix is the transpose of {@code M}, so that
+     * {@link DenseMatrix#leftMultiply(double[], double[])} computes
+     * {@code M x}, as the benchmark definitions do.
+     * @param path The path of the file.
+     * @return The shared rotation matrix.
+     * @throws IllegalArgumentException if the file cannot be read or does
+     *         not contain a square matrix.
+     */
+    static DenseMatrix rotation(String path) {
+        return get(ROTATIONS, path);
+    }
+
+    private static <T> T get(LoadingCache<File, T> cache, String path) {
+        File file = new File(path).getAbsoluteFile();
+        try {
+            return cache.getUnchecked(file);
+        } catch (UncheckedExecutionException e) {
+            throw new IllegalArgumentException("Unable to read benchmark data from " + file, e.getCause());
+        }
+    }
+
+    private static double[] read(File file) throws IOException {
+        long size = file.length();
+        checkArgument(size <= Integer.MAX_VALUE, "%s is too large.", file);
+        InputStream input = new FileInputStream(file);
+        try {
+            return parse(input, (int) size);
+        } finally {
+            input.close();
+        }
+    }
+
+    /**
+     * Parse the numbers in the stream, which are separated by white space or
+     * commas. The size of the stream, in bytes, is used to estimate the
+     * number of values.
+     */
+    static double[] parse(InputStream input, int size) throws IOException {
+        double[] values = new double[Math.max(16, size / 16)];
+        int count = 0;
+        StringBuilder token = new StringBuilder(32);
+        byte[] buffer = new byte[16 * IOUtils.Block.KILOBYTE.size()];
+        int length = 0;
+        int position = 0;
+        while (true) {
+            if (position == length) {
+                length = input.read(buffer);
+                position = 0;
+            }
+            char c = length > 0 ? (char) buffer[position++] : ' ';
+            if (Character.isWhitespace(c) || c == ',') {
+                if (token.length() > 0) {
+                    if (count == values.length) {
+                        values = Arrays.copyOf(values, count * 2);
+                    }
+                    values[count++] = Double.parseDouble(token.toString());
+                    token.setLength(0);
+                }
+                if (length < 0) {
+                    break;
+                }
+            } else {
+                token.append(c);
+            }
+        }
+        return count == values.length ? values : Arrays.copyOf(values, count);
+    }
+
+    private static int[] toPermutation(double[] values) {
+        int offset = 1;
+        for (double value : values) {
+            if (value == 0.0) {
+                offset = 0;
+            }
+        }
+
+        int[] permutation = new int[values.length];
+        boolean[] seen = new boolean[values.length];
+        for (int i = 0; i < values.length; i++) {
+            int index = (int) values[i] - offset;
+            checkArgument(index == values[i] - offset && index >= 0 && index < values.length && !seen[index],
+                    "Not a permutation of %s indices: unexpected value %s.", values.length, values[i]);
+            seen[index] = true;
+            permutation[i] = index;
+        }
+        return permutation;
+    }
+
+    private static DenseMatrix toRotation(double[] values) {
+        int size = (int) Math.round(Math.sqrt(values.length));
+        checkArgument(size * size == values.length, "%s values do not form a square matrix.", values.length);
+        return DenseMatrix.transposeOf(size, size, values);
+    }
+}
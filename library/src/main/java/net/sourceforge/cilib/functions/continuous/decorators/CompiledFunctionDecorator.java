@@ -0,0 +1,344 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.functions.continuous.decorators;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.collect.Lists;
+import java.util.Arrays;
+import java.util.List;
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
+import net.sourceforge.cilib.controlparameter.ControlParameter;
+import net.sourceforge.cilib.functions.BatchFunction;
+import net.sourceforge.cilib.functions.BatchFunctions;
+import net.sourceforge.cilib.functions.ContinuousFunction;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * Evaluates a chain of element-wise decorators as a single loop.
+ * <p>
+ * Benchmark functions are usually built by nesting several decorators, for
+ * example shifted, irregular, asymmetric and ill-conditioned decorators
+ * around a Rastrigin function. Each decorator creates a new
+ * {@linkplain Vector} of the transformed input. This decorator compiles the
+ * outermost run of {@linkplain ShiftedFunctionDecorator},
+ * {@linkplain ScaledFunctionDecorator}, {@linkplain IrregularFunctionDecorator},
+ * {@linkplain AsymmetricFunctionDecorator} and
+ * {@linkplain IllConditionedFunctionDecorator} instances in the decorated
+ * function into a list of transforms, which are applied to each element of
+ * the input in turn, in a single pass over a {@code double[]}. Shift vectors
+ * that were read from data files are applied in the same loop. The function
+ * at the end of the run is then applied once to the result, and the vertical
+ * shifts and scales of the decorators are applied to its value.
+ * </p><p>
+ * Only decorators with {@linkplain ConstantControlParameter}s are compiled,
+ * and their values are read when the chain is compiled, on the first
+ * evaluation. The compiled chain produces exactly the same values as the
+ * decorators themselves. Changes to the decorators after the first
+ * evaluation are only seen after the function is set again.
+ * </p>
+ */
+public class CompiledFunctionDecorator implements BatchFunction {
+
+    private static final long serialVersionUID = -3089958137790687533L;
+
+    private ContinuousFunction function;
+    private transient volatile Pipeline pipeline;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Double apply(Vector input) {
+        Pipeline p = getPipeline();
+        double[] values = new double[input.size()];
+        for (int j = 0; j < values.length; j++) {
+            values[j] = input.doubleValueOf(j);
+        }
+        p.transform(values, 0, values.length);
+        return p.finish(p.target.apply(Vector.copyOf(values)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void apply(double[] inputs, int count, double[] results) {
+        Pipeline p = getPipeline();
+        int dimension = BatchFunctions.dimension(inputs, count);
+        for (int i = 0; i < count; i++) {
+            p.transform(inputs, i * dimension, dimension);
+        }
+
+        BatchFunctions.apply(p.target, inputs, count, results);
+        for (int i = 0; i < count; i++) {
+            results[i] = p.finish(results[i]);
+        }
+    }
+
+    private Pipeline getPipeline() {
+        Pipeline p = pipeline;
+        if (p == null) {
+            p = compile();
+        }
+        return p;
+    }
+
+    private synchronized Pipeline compile() {
+        if (pipeline == null) {
+            pipeline = new Pipeline(function);
+        }
+        return pipeline;
+    }
+
+    /**
+     * Get the decorated function.
+     * @return The decorated function.
+     */
+    public ContinuousFunction getFunction() {
+        return function;
+    }
+
+    /**
+     * Set the function that is to be decorated. The function is compiled
+     * again when it is next evaluated.
+     * @param function The function to decorate.
+     */
+    public synchronized void setFunction(ContinuousFunction function) {
+        this.function = function;
+        this.pipeline = null;
+    }
+
+    /**
+     * Get the number of decorators that were folded into a single loop, or
+     * {@code 0} if the function has not been evaluated yet.
+     * @return The number of compiled decorators.
+     */
+    public int getCompiledDecorators() {
+        Pipeline p = pipeline;
+        return p == null ? 0 : p.decorators;
+    }
+
+    /**
+     * The compiled form of a chain of decorators.
+     */
+    private static final class Pipeline {
+        private static final int SHIFT = 0;
+        private static final int SCALE = 1;
+        private static final int IRREGULAR = 2;
+        private static final int ASYMMETRIC = 3;
+        private static final int ILL_CONDITIONED = 4;
+        private static final int SHIFT_VECTOR = 5;
+
+        private final int[] operations;
+        private final double[] constants;
+        private final double[][] vectors;
+        private final int[] resultOperations;
+        private final double[] resultConstants;
+        private final ContinuousFunction target;
+        private final int decorators;
+        private volatile Factors factors;
+
+        Pipeline(ContinuousFunction function) {
+            int[] ops = new int[0];
+            double[] values = new double[0];
+            List<double[]> shiftVectors = Lists.newArrayList();
+            int[] resultOps = new int[0];
+            double[] resultValues = new double[0];
+            int count = 0;
+
+            ContinuousFunction current = function;
+            while (true) {
+                if (current instanceof ShiftedFunctionDecorator) {
+                    ShiftedFunctionDecorator shifted = (ShiftedFunctionDecorator) current;
+                    if (!isConstant(shifted.getHorizontalShift(), shifted.getVerticalShift())) {
+                        break;
+                    }
+                    double horizontal = shifted.getHorizontalShift().getParameter();
+                    if (shifted.getShifts() != null) {
+                        ops = append(ops, SHIFT_VECTOR);
+                        values = append(values, 0.0);
+                        shiftVectors.add(shifted.getShifts());
+                    } else if (horizontal != 0.0) {
+                        ops = append(ops, SHIFT);
+                        values = append(values, horizontal);
+                    }
+                    resultOps = append(resultOps, SHIFT);
+                    resultValues = append(resultValues, shifted.getVerticalShift().getParameter());
+                    current = shifted.getFunction();
+                } else if (current instanceof ScaledFunctionDecorator) {
+                    ScaledFunctionDecorator scaled = (ScaledFunctionDecorator) current;
+                    if (!isConstant(scaled.getHorizontalScale(), scaled.getVerticalScale())) {
+                        break;
+                    }
+                    double horizontal = scaled.getHorizontalScale().getParameter();
+                    double vertical = scaled.getVerticalScale().getParameter();
+                    if (horizontal != 1.0) {
+                        ops = append(ops, SCALE);
+                        values = append(values, horizontal);
+                    }
+                    if (vertical != 1.0) {
+                        resultOps = append(resultOps, SCALE);
+                        resultValues = append(resultValues, vertical);
+                    }
+                    current = scaled.getFunction();
+                } else if (current instanceof IrregularFunctionDecorator) {
+                    ops = append(ops, IRREGULAR);
+                    values = append(values, 0.0);
+                    current = ((IrregularFunctionDecorator) current).getFunction();
+                } else if (current instanceof AsymmetricFunctionDecorator) {
+                    AsymmetricFunctionDecorator asymmetric = (AsymmetricFunctionDecorator) current;
+                    if (!isConstant(asymmetric.getBeta())) {
+                        break;
+                    }
+                    ops = append(ops, ASYMMETRIC);
+                    values = append(values, asymmetric.getBeta().getParameter());
+                    current = asymmetric.getFunction();
+                } else if (current instanceof IllConditionedFunctionDecorator) {
+                    IllConditionedFunctionDecorator illConditioned = (IllConditionedFunctionDecorator) current;
+                    if (!isConstant(illConditioned.getAlpha())) {
+                        break;
+                    }
+                    ops = append(ops, ILL_CONDITIONED);
+                    values = append(values, illConditioned.getAlpha().getParameter());
+                    current = illConditioned.getFunction();
+                } else {
+                    break;
+                }
+                count++;
+            }
+
+            // The results of inner decorators are transformed first
+            for (int i = 0, j = resultOps.length - 1; i < j; i++, j--) {
+                int op = resultOps[i];
+                resultOps[i] = resultOps[j];
+                resultOps[j] = op;
+                double value = resultValues[i];
+                resultValues[i] = resultValues[j];
+                resultValues[j] = value;
+            }
+
+            this.operations = ops;
+            this.constants = values;
+            this.vectors = shiftVectors.toArray(new double[shiftVectors.size()][]);
+            this.resultOperations = resultOps;
+            this.resultConstants = resultValues;
+            this.target = current;
+            this.decorators = count;
+        }
+
+        /**
+         * Transform the {@code size} elements of {@code x} that start at
+         * {@code offset} in place.
+         */
+        void transform(double[] x, int offset, int size) {
+            double[][] scales = getFactors(size);
+            for (int j = 0; j < size; j++) {
+                double value = x[offset + j];
+                for (int s = 0, v = 0; s < operations.length; s++) {
+                    switch (operations[s]) {
+                        case SHIFT:
+                            value = value - constants[s];
+                            break;
+                        case SCALE:
+                            value = constants[s] * value;
+                            break;
+                        case IRREGULAR:
+                            value = IrregularFunctionDecorator.transform(value);
+                            break;
+                        case ASYMMETRIC:
+                            value = AsymmetricFunctionDecorator.transform(value, constants[s], j, size);
+                            break;
+                        case ILL_CONDITIONED:
+                            value = value * scales[s][j];
+                            break;
+                        case SHIFT_VECTOR:
+                            value = value - vectors[v++][j];
+                            break;
+                        default:
+                            throw new IllegalStateException("Unknown operation: " + operations[s]);
+                    }
+                }
+                x[offset + j] = value;
+            }
+        }
+
+        /**
+         * Apply the vertical transforms to the value of the target function.
+         */
+        double finish(double value) {
+            double result = value;
+            for (int s = 0; s < resultOperations.length; s++) {
+                if (resultOperations[s] == SHIFT) {
+                    result = result + resultConstants[s];
+                } else {
+                    result = resultConstants[s] * result;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Get the per-dimension factors of the ill-conditioned transforms for
+         * inputs of the provided size.
+         */
+        private double[][] getFactors(int size) {
+            Factors f = factors;
+            if (f == null || f.size != size) {
+                for (double[] vector : vectors) {
+                    checkArgument(size <= vector.length, "The shift vector has only %s dimensions.", vector.length);
+                }
+                double[][] scales = new double[operations.length][];
+                for (int s = 0; s < operations.length; s++) {
+                    if (operations[s] == ILL_CONDITIONED) {
+                        scales[s] = new double[size];
+                        for (int j = 0; j < size; j++) {
+                            scales[s][j] = IllConditionedFunctionDecorator.factor(constants[s], j, size);
+                        }
+                    }
+                }
+                f = new Factors(size, scales);
+                factors = f;
+            }
+            return f.scales;
+        }
+
+        private static boolean isConstant(ControlParameter... parameters) {
+            for (ControlParameter parameter : parameters) {
+                if (!(parameter instanceof ConstantControlParameter)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int[] append(int[] array, int value) {
+            int[] result = Arrays.copyOf(array, array.length + 1);
+            result[array.length] = value;
+            return result;
+        }
+
+        private static double[] append(double[] array, double value) {
+            double[] result = Arrays.copyOf(array, array.length + 1);
+            result[array.length] = value;
+            return result;
+        }
+    }
+
+    /**
+     * The factors of the ill-conditioned transforms for one input size.
+     */
+    private static final class Factors {
+        private final int size;
+        private final double[][] scales;
+
+        Factors(int size, double[][] scales) {
+            this.size = size;
+            this.scales = scales;
+        }
+    }
+}
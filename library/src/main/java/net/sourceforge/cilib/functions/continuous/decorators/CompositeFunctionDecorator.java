@@ -18,6 +18,9 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * </p>
  */
 public class CompositeFunctionDecorator implements ContinuousFunction {
+
+    private static final long serialVersionUID = 766067394685559428L;
+
     private ContinuousFunction innerFunction;
     private ContinuousFunction outerFunction;
 
@@ -20,6 +20,9 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * </p>
  */
 public class ExpandedFunctionDecorator implements ContinuousFunction {
+
+    private static final long serialVersionUID = 366207984632801848L;
+
     private ContinuousFunction function;
     private int splitSize;
     
@@ -24,6 +24,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class IllConditionedFunctionDecorator implements ContinuousFunction {
 
+    private static final long serialVersionUID = -1269225354428405180L;
+
     private ContinuousFunction function;
     private ControlParameter alpha;
 
@@ -37,12 +39,16 @@ public class IllConditionedFunctionDecorator implements ContinuousFunction {
 
         for (int i = 0; i < input.size(); i++) {
             double x = input.doubleValueOf(i);
-            builder.add(x * Math.pow(alpha.getParameter(), i * 0.5 / (input.size() - 1)));
+            builder.add(x * factor(alpha.getParameter(), i, input.size()));
         }
 
         return function.apply(builder.build());
     }
 
+    static double factor(double alpha, int i, int size) {
+        return Math.pow(alpha, i * 0.5 / (size - 1));
+    }
+
     public void setFunction(ContinuousFunction function) {
         this.function = function;
     }
@@ -7,6 +7,8 @@
 package net.sourceforge.cilib.functions.continuous.decorators;
 
 import fj.F;
+import net.sourceforge.cilib.functions.BatchFunction;
+import net.sourceforge.cilib.functions.BatchFunctions;
 import net.sourceforge.cilib.functions.ContinuousFunction;
 import net.sourceforge.cilib.type.types.Numeric;
 import net.sourceforge.cilib.type.types.Real;
@@ -23,7 +25,9 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * on Real-Parameter Optimization." (2013).
  * </p>
  */
-public class IrregularFunctionDecorator implements ContinuousFunction {
+public class IrregularFunctionDecorator implements BatchFunction {
+
+    private static final long serialVersionUID = -7869206488391264810L;
 
     private ContinuousFunction function;
 
@@ -32,16 +36,29 @@ public class IrregularFunctionDecorator implements ContinuousFunction {
         return function.apply(input.map(new F<Numeric, Numeric>() {
             @Override
             public Numeric f(Numeric a) {
-                double x = a.doubleValue();
-                double xHat = x == 0.0 ? 0.0 : Math.log(Math.abs(x));
-                double c1 = x > 0 ? 10 : 5.5;
-                double c2 = x > 0 ? 7.9 : 3.1;
-                double result = Math.signum(x) * Math.exp(xHat + 0.049 * (Math.sin(xHat * c1) + Math.sin(xHat * c2)));
-                return Real.valueOf(result);
+                return Real.valueOf(transform(a.doubleValue()));
             }
         }));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void apply(double[] inputs, int count, double[] results) {
+        for (int j = 0; j < inputs.length; j++) {
+            inputs[j] = transform(inputs[j]);
+        }
+        BatchFunctions.apply(function, inputs, count, results);
+    }
+
+    static double transform(double x) {
+        double xHat = x == 0.0 ? 0.0 : Math.log(Math.abs(x));
+        double c1 = x > 0 ? 10 : 5.5;
+        double c2 = x > 0 ? 7.9 : 3.1;
+        return Math.signum(x) * Math.exp(xHat + 0.049 * (Math.sin(xHat * c1) + Math.sin(xHat * c2)));
+    }
+
     public void setFunction(ContinuousFunction function) {
         this.function = function;
     }
@@ -28,6 +28,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class NoisyFunctionDecorator implements ContinuousFunction {
 
+    private static final long serialVersionUID = 7836431293247046292L;
+
     private ContinuousFunction function;
     private ProbabilityDistributionFunction randomNumber;
     private ControlParameter scale;
@@ -6,6 +6,8 @@
  */
 package net.sourceforge.cilib.functions.continuous.decorators;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import net.sourceforge.cilib.functions.ContinuousFunction;
 import net.sourceforge.cilib.type.types.container.Vector;
 import net.sourceforge.cilib.type.types.Numeric;
@@ -14,11 +16,19 @@ import net.sourceforge.cilib.type.types.Numeric;
  * Creates a fixed permutation vector of indices.
  * Using the permuted indices, this decorator permutes the input
  * vector before applying the decorated function.
+ * <p>
+ * The permutation may instead be read from a data file, such as those of
+ * the CEC benchmark suites; see {@link BenchmarkData}.
+ * </p>
  */
 public class PermutationFunctionDecorator implements ContinuousFunction {
 
+    private static final long serialVersionUID = -5745189394597027676L;
+
     private ContinuousFunction function;
     private Vector permutedIndices;
+    private String permutationFile;
+    private transient int[] permutation;
 
     /**
      * Default constructor that initialises an empty indices vector.
@@ -32,6 +42,17 @@ public class PermutationFunctionDecorator implements ContinuousFunction {
      */
     @Override
     public Double apply(Vector input) {
+        int[] indices = getPermutation();
+        if (indices != null) {
+            checkArgument(indices.length == input.size(), "The permutation has %s dimensions, but the input has %s.",
+                    indices.length, input.size());
+            double[] values = new double[indices.length];
+            for (int i = 0; i < indices.length; i++) {
+                values[i] = input.doubleValueOf(indices[i]);
+            }
+            return function.apply(Vector.copyOf(values));
+        }
+
         if (permutedIndices.size() != input.size()) {
             permutedIndices = Vector.newBuilder()
                 .range(0, input.size(), 1)
@@ -63,4 +84,30 @@ public class PermutationFunctionDecorator implements ContinuousFunction {
     public void setFunction(ContinuousFunction function) {
         this.function = function;
     }
+
+    private int[] getPermutation() {
+        if (permutation == null && permutationFile != null) {
+            permutation = BenchmarkData.permutation(permutationFile);
+        }
+        return permutation;
+    }
+
+    /**
+     * Get the file that the permutation is read from.
+     * @return The path of the permutation file, or {@code null} if a random
+     *         permutation is used.
+     */
+    public String getPermutationFile() {
+        return permutationFile;
+    }
+
+    /**
+     * Read the permutation from a file of indices separated by white space
+     * or commas. The indices may start at either {@code 0} or {@code 1}.
+     * @param permutationFile The path of the permutation file.
+     */
+    public void setPermutationFile(String permutationFile) {
+        this.permutation = permutationFile == null ? null : BenchmarkData.permutation(permutationFile);
+        this.permutationFile = permutationFile;
+    }
 }
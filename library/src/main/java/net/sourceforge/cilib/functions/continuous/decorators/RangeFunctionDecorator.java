@@ -16,6 +16,8 @@ import net.sourceforge.cilib.type.types.Real;
  */
 public class RangeFunctionDecorator implements ContinuousFunction {
 
+    private static final long serialVersionUID = 462473460327791485L;
+
     private ContinuousFunction function;
     private ControlParameter start;
     private ControlParameter end;
@@ -6,7 +6,14 @@
  */
 package net.sourceforge.cilib.functions.continuous.decorators;
 
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.Arrays;
+import java.util.List;
+import net.sourceforge.cilib.functions.BatchFunction;
+import net.sourceforge.cilib.functions.BatchFunctions;
 import net.sourceforge.cilib.functions.ContinuousFunction;
+import net.sourceforge.cilib.math.DenseMatrix;
 import net.sourceforge.cilib.type.types.container.Matrix;
 import net.sourceforge.cilib.type.types.container.Vector;
 import net.sourceforge.cilib.util.Matrices;
@@ -14,15 +21,25 @@ import net.sourceforge.cilib.util.Matrices;
 /**
  * A function decorator that rotates a given function by a random orthonormal
  * matrix or a linear transformation matrix.
+ * <p>
+ * The rotation is performed by a {@linkplain DenseMatrix} copy of the
+ * rotation matrix, which is created when the matrix is set. The random
+ * rotation matrix is created once, on first use, and the decorator may then
+ * be applied from several threads at once.
+ * </p><p>
+ * The rotation matrix may instead be read from a data file, such as those
+ * of the CEC benchmark suites; see {@link BenchmarkData}.
+ * </p>
  */
-public class RotatedFunctionDecorator implements ContinuousFunction {
+public class RotatedFunctionDecorator implements BatchFunction {
 
     private static final long serialVersionUID = 3107473364744861153L;
     private ContinuousFunction function;
     private Matrix rotationMatrix;
-    private boolean initialised;
+    private transient volatile DenseMatrix kernel;
     private MatrixType type;
     private int condition;
+    private String rotationFile;
 
     public enum MatrixType {
         IDENTITY,
@@ -33,7 +50,6 @@ public class RotatedFunctionDecorator implements ContinuousFunction {
     public RotatedFunctionDecorator() {
         this.rotationMatrix = null;
         this.type = MatrixType.ORTHONORMAL;
-        this.initialised = false;
         this.condition = 1;
     }
 
@@ -48,20 +64,85 @@ public class RotatedFunctionDecorator implements ContinuousFunction {
             return function.apply(input);
         }
 
-        if (!initialised || input.size() != rotationMatrix.getRows()) {
-            setRotationMatrix(input.size());
-            initialised = true;
+        return function.apply(rotate(input));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void apply(double[] inputs, int count, double[] results) {
+        if (type == MatrixType.IDENTITY || count == 0) {
+            BatchFunctions.apply(function, inputs, count, results);
+            return;
         }
 
-        Vector rotatedX = Vector.fill(0.0, input.size());
+        DenseMatrix kernel = getKernel(BatchFunctions.dimension(inputs, count));
+        double[] rotated = kernel.leftMultiply(inputs, count, new double[inputs.length]);
+        BatchFunctions.apply(function, rotated, count, results);
+    }
 
-        for (int j = 0; j < input.size(); j++) {
-            for (int i = 0; i < input.size(); i++) {
-                rotatedX.setReal(j, rotatedX.doubleValueOf(j) + input.doubleValueOf(i) * rotationMatrix.valueAt(i, j));
-            }
+    /**
+     * Multiply the argument vector by the transpose of the rotation matrix.
+     * A rotation matrix of the size of the vector is created if necessary.
+     * @param input The vector to rotate.
+     * @return The rotated vector.
+     */
+    public Vector rotate(Vector input) {
+        double[] rotated = new double[input.size()];
+        getKernel(input.size()).leftMultiply(input.toDoubleArray(), rotated);
+        return Vector.copyOf(rotated);
+    }
+
+    /**
+     * Rotate several vectors of the same size at once. The vectors are packed
+     * into a single matrix, which is multiplied by the rotation matrix in one
+     * pass over the rotation matrix.
+     * @param inputs The vectors to rotate.
+     * @return The rotated vectors, in the same order.
+     */
+    public List<Vector> rotate(List<Vector> inputs) {
+        List<Vector> result = Lists.newArrayListWithCapacity(inputs.size());
+        if (inputs.isEmpty()) {
+            return result;
+        }
+
+        int size = inputs.get(0).size();
+        double[] packed = new double[inputs.size() * size];
+        for (int v = 0; v < inputs.size(); v++) {
+            double[] values = inputs.get(v).toDoubleArray();
+            Preconditions.checkArgument(values.length == size, "All vectors must have the same size.");
+            System.arraycopy(values, 0, packed, v * size, size);
         }
 
-        return function.apply(rotatedX);
+        double[] rotated = getKernel(size).leftMultiply(packed, inputs.size(), new double[packed.length]);
+        for (int v = 0; v < inputs.size(); v++) {
+            result.add(Vector.copyOf(Arrays.copyOfRange(rotated, v * size, (v + 1) * size)));
+        }
+        return result;
+    }
+
+    private DenseMatrix getKernel(int size) {
+        DenseMatrix current = kernel;
+        if (current != null && current.getRows() == size) {
+            return current;
+        }
+        return initialise(size);
+    }
+
+    private synchronized DenseMatrix initialise(int size) {
+        if (rotationFile != null) {
+            kernel = BenchmarkData.rotation(rotationFile);
+            Preconditions.checkArgument(kernel.getRows() == size,
+                    "The rotation matrix in %s has %s dimensions, but the input has %s.", rotationFile, kernel.getRows(), size);
+            return kernel;
+        }
+        if (rotationMatrix == null || rotationMatrix.getRows() != size) {
+            setRotationMatrix(size);
+        } else if (kernel == null) {
+            kernel = DenseMatrix.copyOf(rotationMatrix);
+        }
+        return kernel;
     }
 
     /**
@@ -88,7 +169,7 @@ public class RotatedFunctionDecorator implements ContinuousFunction {
     /**
      * @param rotationMatrix the rotationMatrix to set
      */
-    public void setRotationMatrix(int size) {
+    public synchronized void setRotationMatrix(int size) {
         switch(type) {
             case IDENTITY:
                 rotationMatrix = Matrices.getIdentityMatrix(size);
@@ -100,6 +181,12 @@ public class RotatedFunctionDecorator implements ContinuousFunction {
                 rotationMatrix = Matrices.getRandomLinearTransformationMatrix(size, condition);
                 break;
         }
+        kernel = DenseMatrix.copyOf(rotationMatrix);
+        rotationFile = null;
+    }
+
+    public MatrixType getMatrixType() {
+        return type;
     }
 
     public void setMatrixType(String type) {
@@ -117,4 +204,25 @@ public class RotatedFunctionDecorator implements ContinuousFunction {
     public void setCondition(int condition) {
         this.condition = condition;
     }
+
+    /**
+     * Get the file that the rotation matrix is read from.
+     * @return The path of the rotation file, or {@code null} if a random
+     *         matrix is used.
+     */
+    public String getRotationFile() {
+        return rotationFile;
+    }
+
+    /**
+     * Read the rotation matrix {@code M} from a file of numbers separated by
+     * white space or commas, row by row. Inputs {@code x} are rotated to
+     * {@code M x}, as in the definitions of the CEC benchmark functions.
+     * @param rotationFile The path of the rotation file.
+     */
+    public synchronized void setRotationFile(String rotationFile) {
+        this.rotationFile = rotationFile;
+        this.rotationMatrix = null;
+        this.kernel = rotationFile == null ? null : BenchmarkData.rotation(rotationFile);
+    }
 }
@@ -33,6 +33,9 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * </p>
  */
 public class RoundingFunctionDecorator implements ContinuousFunction {
+
+    private static final long serialVersionUID = 3485235452734321613L;
+
     private ContinuousFunction function;
 
     /**
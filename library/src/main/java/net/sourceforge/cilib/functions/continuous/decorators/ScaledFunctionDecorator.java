@@ -8,6 +8,8 @@ package net.sourceforge.cilib.functions.continuous.decorators;
 
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
+import net.sourceforge.cilib.functions.BatchFunction;
+import net.sourceforge.cilib.functions.BatchFunctions;
 import net.sourceforge.cilib.functions.ContinuousFunction;
 import net.sourceforge.cilib.type.types.container.Vector;
 
@@ -25,7 +27,7 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * g(x) is f(x) compressed in the vertical direction by a factor of 1/c
  *
  */
-public class ScaledFunctionDecorator implements ContinuousFunction {
+public class ScaledFunctionDecorator implements BatchFunction {
 
     private static final long serialVersionUID = -5316734133098401441L;
     private ContinuousFunction function;
@@ -54,6 +56,21 @@ public class ScaledFunctionDecorator implements ContinuousFunction {
         return (verticalScale.getParameter() * function.apply(tmp));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void apply(double[] inputs, int count, double[] results) {
+        for (int j = 0; j < inputs.length; j++) {
+            inputs[j] = horizontalScale.getParameter() * inputs[j];
+        }
+
+        BatchFunctions.apply(function, inputs, count, results);
+        for (int i = 0; i < count; i++) {
+            results[i] = verticalScale.getParameter() * results[i];
+        }
+    }
+
     /**
      * Get the decorated function.
      * @return The decorated function.
@@ -6,12 +6,13 @@
  */
 package net.sourceforge.cilib.functions.continuous.decorators;
 
-import fj.F;
+import static com.google.common.base.Preconditions.checkArgument;
+
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
+import net.sourceforge.cilib.functions.BatchFunction;
+import net.sourceforge.cilib.functions.BatchFunctions;
 import net.sourceforge.cilib.functions.ContinuousFunction;
-import net.sourceforge.cilib.type.types.Numeric;
-import net.sourceforge.cilib.type.types.Real;
 import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
@@ -31,13 +32,18 @@ import net.sourceforge.cilib.type.types.container.Vector;
  *             (c > 0) means that g(x) is f(x) shifted c units upwards
  *             (c < 0) means that g(x) is f(x) shifted c units downwards
  *
+ * Instead of the same horizontal shift in every dimension, a shift vector
+ * may be read from a data file, such as the shifted optima of the CEC
+ * benchmark suites; see {@link BenchmarkData}.
  */
-public class ShiftedFunctionDecorator implements ContinuousFunction {
+public class ShiftedFunctionDecorator implements BatchFunction {
 
     private static final long serialVersionUID = 8687711759870298103L;
     private ContinuousFunction function;
     private ControlParameter verticalShift;
     private ControlParameter horizontalShift;
+    private String shiftFile;
+    private transient double[] shifts;
 
     public ShiftedFunctionDecorator() {
         this.verticalShift = ConstantControlParameter.of(0.0);
@@ -49,14 +55,64 @@ public class ShiftedFunctionDecorator implements ContinuousFunction {
      */
     @Override
     public Double apply(Vector input) {
-        Vector tmp = horizontalShift.getParameter() == 0.0 ? input : input.map(new F<Numeric, Numeric>() {
-            @Override
-            public Numeric f(Numeric x) {
-                return Real.valueOf(x.doubleValue() - horizontalShift.getParameter());
+        double[] vector = getShifts();
+        double shift = horizontalShift.getParameter();
+        if (vector == null && shift == 0.0) {
+            return function.apply(input) + verticalShift.getParameter();
+        }
+
+        double[] values = input.toDoubleArray();
+        shift(values, values.length, vector, shift);
+        return function.apply(Vector.copyOf(values)) + verticalShift.getParameter();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void apply(double[] inputs, int count, double[] results) {
+        double[] vector = getShifts();
+        double shift = horizontalShift.getParameter();
+        if (vector != null || shift != 0.0) {
+            shift(inputs, BatchFunctions.dimension(inputs, count), vector, shift);
+        }
+
+        BatchFunctions.apply(function, inputs, count, results);
+        for (int i = 0; i < count; i++) {
+            results[i] = results[i] + verticalShift.getParameter();
+        }
+    }
+
+    /**
+     * Subtract the shift vector, if there is one, or else the scalar shift
+     * from each of the packed inputs.
+     */
+    private static void shift(double[] inputs, int dimension, double[] vector, double shift) {
+        if (vector == null) {
+            for (int j = 0; j < inputs.length; j++) {
+                inputs[j] = inputs[j] - shift;
             }
-        });
+            return;
+        }
 
-        return function.apply(tmp) + verticalShift.getParameter();
+        checkArgument(dimension <= vector.length, "The shift vector has only %s dimensions.", vector.length);
+        for (int offset = 0; offset < inputs.length; offset += dimension) {
+            for (int j = 0; j < dimension; j++) {
+                inputs[offset + j] = inputs[offset + j] - vector[j];
+            }
+        }
+    }
+
+    /**
+     * Get the shift vector that was read from the shift file.
+     * @return The shared shift vector, or {@code null} if there is no shift
+     *         file.
+     */
+    double[] getShifts() {
+        if (shifts == null && shiftFile != null) {
+            shifts = BenchmarkData.vector(shiftFile);
+        }
+        return shifts;
     }
 
     /**
@@ -104,4 +160,25 @@ public class ShiftedFunctionDecorator implements ContinuousFunction {
     public void setVerticalShift(ControlParameter verticalShift) {
         this.verticalShift = verticalShift;
     }
+
+    /**
+     * Get the file that the shift vector is read from.
+     * @return The path of the shift file, or {@code null} if the horizontal
+     *         shift is used.
+     */
+    public String getShiftFile() {
+        return shiftFile;
+    }
+
+    /**
+     * Read a shift vector from a file of numbers separated by white space or
+     * commas. Each dimension of the input is shifted by the corresponding
+     * element of the vector, instead of by the horizontal shift. Only the
+     * first elements are used if the vector is longer than the input.
+     * @param shiftFile The path of the shift file.
+     */
+    public void setShiftFile(String shiftFile) {
+        this.shifts = shiftFile == null ? null : BenchmarkData.vector(shiftFile);
+        this.shiftFile = shiftFile;
+    }
 }
@@ -28,6 +28,8 @@ import net.sourceforge.cilib.type.types.Real;
  */
 public class SummationRangeFunctionDecorator implements ContinuousFunction {
 
+    private static final long serialVersionUID = -3903734746349152409L;
+
     private RangeFunctionDecorator range;
     private ControlParameter lower;
     private ControlParameter upper;
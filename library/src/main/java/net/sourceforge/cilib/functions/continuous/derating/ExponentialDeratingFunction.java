@@ -14,6 +14,9 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * R^1
  */
 public class ExponentialDeratingFunction implements DeratingFunction {
+
+    private static final long serialVersionUID = 794106044736808630L;
+
     private ControlParameter radius;
     private ControlParameter m;
     
@@ -14,6 +14,9 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * R^1
  */
 public class PowerDeratingFunction implements DeratingFunction {
+
+    private static final long serialVersionUID = -9054699366007088651L;
+
     private ControlParameter radius;
     private ControlParameter alpha;
     
@@ -37,6 +37,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class GeneralisedMovingPeaks implements ContinuousFunction, DynamicFunction<Vector, Double> {
 
+    private static final long serialVersionUID = -5036077554805671837L;
+
     private ProbabilityDistributionFunction gaussian, uniform; //random providers.
     private int frequency; //the frequency (in iterations) with which the environment changes.
     private int peaks; //the number of peaks.
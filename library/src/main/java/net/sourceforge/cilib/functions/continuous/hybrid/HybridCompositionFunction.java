@@ -21,9 +21,16 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * Problem Definitions and Evaluation Criteria for the CEC 2005 Special Session on Real-Parameter Optimization.
  * Natural Computing, 1-50. Available at: http://vg.perso.eisti.fr/These/Papiers/Bibli2/CEC05.pdf.
  * </p>
+ * <p>
+ * The weights of the composed functions are kept in a local array for each
+ * evaluation, so the function may be evaluated from several threads at once
+ * if the composed functions allow it.
+ * </p>
  */
 public class HybridCompositionFunction implements ContinuousFunction {
 
+    private static final long serialVersionUID = -2554085992061239849L;
+
     private List<SingleFunction> functions;
     private double scaleConstant;
 
@@ -34,36 +41,38 @@ public class HybridCompositionFunction implements ContinuousFunction {
 
     @Override
     public Double apply(Vector input) {
-        int nDims = input.size();
+        double[] x = input.toDoubleArray();
+        int nDims = x.length;
+        double[] weights = new double[functions.size()];
 
         // Get the raw weights
         double wMax = Double.NEGATIVE_INFINITY;
         double wSum = 0.0;
-        for (SingleFunction f : functions) {
-            f.shift(input);
-            double sumSqr = Math.pow(f.getShifted().norm(), 2);
-
-            f.setWeight(Math.exp(-1.0 * sumSqr / (2.0 * nDims * f.getSigma() * f.getSigma())));
+        for (int i = 0; i < weights.length; i++) {
+            SingleFunction f = functions.get(i);
+            double sumSqr = f.squaredDistance(x);
+            weights[i] = Math.exp(-1.0 * sumSqr / (2.0 * nDims * f.getSigma() * f.getSigma()));
 
-            if (wMax < f.getWeight())
-                wMax = f.getWeight();
+            if (wMax < weights[i])
+                wMax = weights[i];
 
-            wSum += f.getWeight();
+            wSum += weights[i];
         }
 
-        // Modify the weights
+        // Modify the weights and sum the weighted functions
         double w1mMaxPow = 1.0 - Math.pow(wMax, 10.0);
-        for (SingleFunction f : functions) {
-            if (f.getWeight() != wMax) {
-                f.setWeight(f.getWeight() * w1mMaxPow);
+        double[] shifted = new double[nDims];
+        double[] rotated = new double[nDims];
+        double sumF = 0.0;
+        for (int i = 0; i < weights.length; i++) {
+            SingleFunction f = functions.get(i);
+            double weight = weights[i];
+            if (weight != wMax) {
+                weight *= w1mMaxPow;
             }
+            weight /= wSum;
 
-            f.setWeight(f.getWeight() / wSum);
-        }
-
-        double sumF = 0.0;
-        for (SingleFunction f : functions) {
-            sumF += f.getWeight() * (scaleConstant * f.apply(input) + f.getBias());
+            sumF += weight * (scaleConstant * f.evaluate(x, shifted, rotated) + f.getBias());
         }
 
         return sumF;
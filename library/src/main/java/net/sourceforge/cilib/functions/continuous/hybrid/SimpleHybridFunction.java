@@ -18,6 +18,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class SimpleHybridFunction implements ContinuousFunction {
 
+    private static final long serialVersionUID = 126154537334525426L;
+
     private List<ContinuousFunction> functions;
 
     public SimpleHybridFunction() {
@@ -6,8 +6,13 @@
  */
 package net.sourceforge.cilib.functions.continuous.hybrid;
 
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
 import net.sourceforge.cilib.functions.ContinuousFunction;
 import net.sourceforge.cilib.functions.continuous.decorators.RotatedFunctionDecorator;
+import net.sourceforge.cilib.functions.continuous.decorators.RotatedFunctionDecorator.MatrixType;
+import net.sourceforge.cilib.math.DenseMatrix;
+import net.sourceforge.cilib.type.types.container.Matrix;
 import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
@@ -28,6 +33,12 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * When adding functions to the HybridCompositionFunction make sure the horizontalShift
  * </p>
  * <p>
+ * The rotation matrix and the normalising value {@code fmax} are computed once
+ * for each problem dimension, on first use, and are not changed by evaluating
+ * the function. Once configured, the function may be evaluated from several
+ * threads at once.
+ * </p>
+ * <p>
  * Reference:
  * </p>
  * <p>
@@ -37,22 +48,21 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * </p>
  */
 public class SingleFunction implements ContinuousFunction {
+
+    private static final long serialVersionUID = 1421443342961115545L;
+
     private ContinuousFunction function;
     private RotatedFunctionDecorator rotationFunction;
     private double sigma;
-    private double weight;
     private double lambda;
     private double horizontalShift;
-    private double fmax;
     private double bias;
-    private Vector shifted; //A temporary vector to hold the shifted input
-    private boolean initialised;
-    
+    private transient volatile Configuration configuration;
+
     /**
      * Default constructor.
      */
     public SingleFunction() {
-        this.initialised = false;
         this.rotationFunction = new RotatedFunctionDecorator();
         this.sigma = 1.0;
         this.lambda = 1.0;
@@ -63,14 +73,6 @@ public class SingleFunction implements ContinuousFunction {
     /*
      * Getters and setters for the parameters
      */
-    public void setWeight(double weight) {
-        this.weight = weight;
-    }
-
-    public double getWeight() {
-        return weight;
-    }
-
     public void setSigma(double sigma) {
         this.sigma = sigma;
     }
@@ -81,6 +83,7 @@ public class SingleFunction implements ContinuousFunction {
 
     public void setLambda(double lambda) {
         this.lambda = lambda;
+        this.configuration = null;
     }
 
     public double getLambda() {
@@ -90,6 +93,7 @@ public class SingleFunction implements ContinuousFunction {
     public void setFunction(ContinuousFunction function) {
         this.function = function;
         this.rotationFunction.setFunction(function);
+        this.configuration = null;
     }
 
     public ContinuousFunction getFunction() {
@@ -112,44 +116,33 @@ public class SingleFunction implements ContinuousFunction {
         this.bias = bias;
     }
 
-    public void setfMax(double fmax) {
-        this.fmax = fmax;
-    }
-
-    public double getfMax() {
-        return fmax;
-    }    
-
-    public void setShifted(Vector shifted) {
-        this.shifted = shifted;
+    /**
+     * Get the value by which the function is divided for the given problem
+     * dimension: the absolute value of the function at {@code 5 / lambda} in
+     * every dimension.
+     * @param dimension The problem dimension.
+     * @return The value of {@code fmax}.
+     */
+    public double getfMax(int dimension) {
+        return configure(dimension).fmax;
     }
 
-    public Vector getShifted() {
-        return shifted;
-    }
-    
     /**
      * Sets the rotation matrix type.
      * @param type Either "identity" or "orthonormal"
      */
     public void setMatrixType(String type) {
         rotationFunction.setMatrixType(type);
+        this.configuration = null;
     }
-    
+
     /**
      * Sets the condition for the linear transformation matrix if it's used.
      * @param condition The condition of the matrix.
      */
     public void setCondition(int condition) {
         rotationFunction.setCondition(condition);
-    }
-    
-    /**
-     * Shifts the input vector.
-     * @param input 
-     */
-    public void shift(Vector input) {
-        setShifted(input.subtract(Vector.fill(horizontalShift, input.size())));
+        this.configuration = null;
     }
 
     /**
@@ -157,12 +150,98 @@ public class SingleFunction implements ContinuousFunction {
      */
     @Override
     public Double apply(Vector input) {
-        //need to get input's size to set fMax
-        if (!initialised) {
-            setfMax(Math.abs(rotationFunction.apply(Vector.fill(5.0, input.size()).divide(lambda))));
-            initialised = true;
+        int size = input.size();
+        return evaluate(input.toDoubleArray(), new double[size], new double[size]);
+    }
+
+    /**
+     * Get the squared distance between {@code x} and the optimum of this
+     * function.
+     */
+    double squaredDistance(double[] x) {
+        double sum = 0.0;
+        for (int i = 0; i < x.length; i++) {
+            double d = x[i] - horizontalShift;
+            sum += d * d;
         }
+        return sum;
+    }
+
+    /**
+     * Evaluate the shifted, scaled and rotated function at {@code x}, divided
+     * by {@code fmax}. The arrays {@code shifted} and {@code rotated} are
+     * scratch space of the same length as {@code x}.
+     */
+    double evaluate(double[] x, double[] shifted, double[] rotated) {
+        Configuration c = configure(x.length);
+        for (int i = 0; i < x.length; i++) {
+            shifted[i] = (x[i] - horizontalShift) * c.scale;
+        }
+        return function.apply(c.rotate(shifted, rotated)) / c.fmax;
+    }
 
-        return rotationFunction.apply(shifted.divide(lambda)) / getfMax();
+    private Configuration configure(int dimension) {
+        Configuration c = configuration;
+        if (c != null && c.dimension == dimension) {
+            return c;
+        }
+        return createConfiguration(dimension);
+    }
+
+    private synchronized Configuration createConfiguration(int dimension) {
+        Configuration c = configuration;
+        if (c != null && c.dimension == dimension) {
+            return c;
+        }
+
+        Preconditions.checkState(lambda != 0.0, "Lambda may not be zero.");
+        DenseMatrix rotation = null;
+        if (rotationFunction.getMatrixType() != MatrixType.IDENTITY) {
+            // Keep the rotation of the function, which is serialized with it
+            Matrix matrix = rotationFunction.getRotationMatrix();
+            if (matrix == null || matrix.getRows() != dimension) {
+                rotationFunction.setRotationMatrix(dimension);
+                matrix = rotationFunction.getRotationMatrix();
+            }
+            rotation = DenseMatrix.copyOf(matrix);
+        }
+
+        double scale = 1.0 / lambda;
+        double[] corner = new double[dimension];
+        Arrays.fill(corner, 5.0 * scale);
+        double fmax = Math.abs(function.apply(Configuration.rotate(rotation, corner, new double[dimension])));
+
+        c = new Configuration(dimension, scale, rotation, fmax);
+        configuration = c;
+        return c;
+    }
+
+    /**
+     * The values that are derived from the parameters for a problem
+     * dimension.
+     */
+    private static final class Configuration {
+        private final int dimension;
+        private final double scale;
+        private final DenseMatrix rotation;
+        private final double fmax;
+
+        Configuration(int dimension, double scale, DenseMatrix rotation, double fmax) {
+            this.dimension = dimension;
+            this.scale = scale;
+            this.rotation = rotation;
+            this.fmax = fmax;
+        }
+
+        Vector rotate(double[] x, double[] result) {
+            return rotate(rotation, x, result);
+        }
+
+        static Vector rotate(DenseMatrix rotation, double[] x, double[] result) {
+            if (rotation == null) {
+                return Vector.copyOf(x);
+            }
+            return Vector.copyOf(rotation.leftMultiply(x, result));
+        }
     }
 }
@@ -21,29 +21,39 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * "Problem Definitions and Evaluation Criteria for the CEC 2013 Special Session
  * on Real-Parameter Optimization." (2013).
  * </p>
+ * <p>
+ * The weight of each composed function is calculated once per evaluation and
+ * kept in a local array, so the function may be evaluated from several
+ * threads at once if the composed functions allow it.
+ * </p>
  */
 public class HybridCompositionFunction implements ContinuousFunction {
 
+    private static final long serialVersionUID = -385371513933117415L;
+
     private List<SingleFunction> functions;
 
     public HybridCompositionFunction() {
-        this.functions = new ArrayList();
+        this.functions = new ArrayList<SingleFunction>();
     }
 
     @Override
     public Double apply(Vector input) {
+        double[] x = input.toDoubleArray();
+        double[] weights = new double[functions.size()];
         double totalWeight = 0;
-        for (SingleFunction s : functions) {
-            totalWeight += s.getWeight(input);
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = functions.get(i).getWeight(x);
+            totalWeight += weights[i];
         }
 
         double sum = 0;
-        for (SingleFunction s : functions) {
+        for (int i = 0; i < weights.length; i++) {
             double weight = totalWeight == 0
                 ? (1.0 / input.size())
-                : (s.getWeight(input) / totalWeight);
+                : (weights[i] / totalWeight);
 
-            sum += weight * s.apply(input);
+            sum += weight * functions.get(i).apply(input);
         }
 
         return sum;
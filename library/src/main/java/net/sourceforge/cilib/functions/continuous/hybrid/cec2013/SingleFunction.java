@@ -28,6 +28,9 @@ import net.sourceforge.cilib.math.random.UniformDistribution;
  * <li>function: the optimization function that makes up the overall function</li>
  * </ul>
  * <p>
+ * The horizontal shift is read from its {@linkplain ControlParameter} once,
+ * when the weight of the function is first calculated, and is fixed from then
+ * on. The function may then be evaluated from several threads at once.
  * </p>
  * <p>
  * Reference:
@@ -39,11 +42,15 @@ import net.sourceforge.cilib.math.random.UniformDistribution;
  * </p>
  */
 public class SingleFunction implements ContinuousFunction {
+
+    private static final long serialVersionUID = 6690397634854325371L;
+
     private ContinuousFunction function;
     private double sigma;
     private double lambda;
     private ControlParameter horizontalShift;
     private double bias;
+    private volatile double shift = Double.NaN;
 
     /**
      * Default constructor.
@@ -80,18 +87,41 @@ public class SingleFunction implements ContinuousFunction {
      * @return The weight contribution.
      */
     public double getWeight(Vector input) {
+        return getWeight(input.toDoubleArray());
+    }
+
+    /**
+     * Get the weight contribution of the function with respect to the input
+     * values.
+     */
+    double getWeight(double[] x) {
         double distance = 0.0;
-        double shift = horizontalShift.getParameter();
+        double shift = getShift();
 
-        for (int i = 0; i < input.size(); i++) {
-            distance += Math.pow(input.doubleValueOf(i) - shift, 2);
+        for (int i = 0; i < x.length; i++) {
+            double d = x[i] - shift;
+            distance += d * d;
         }
 
-        double expTerm = Math.exp(-distance / (2 * input.size() * sigma * sigma));
+        double expTerm = Math.exp(-distance / (2 * x.length * sigma * sigma));
 
         return (1.0 / distance) * expTerm;
     }
 
+    private double getShift() {
+        double current = shift;
+        if (Double.isNaN(current)) {
+            synchronized (this) {
+                current = shift;
+                if (Double.isNaN(current)) {
+                    current = horizontalShift.getParameter();
+                    shift = current;
+                }
+            }
+        }
+        return current;
+    }
+
     public void setSigma(double sigma) {
         this.sigma = sigma;
     }
@@ -118,6 +148,7 @@ public class SingleFunction implements ContinuousFunction {
 
     public void setHorizontalShift(ControlParameter horizontalShift) {
         this.horizontalShift = horizontalShift;
+        this.shift = Double.NaN;
     }
 
     public ControlParameter getHorizontalShift() {
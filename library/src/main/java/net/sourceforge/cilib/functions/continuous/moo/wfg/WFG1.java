@@ -31,6 +31,8 @@ public class WFG1 extends MOOptimisationProblem {
             final int index = i;
             ContinuousFunction function = new ContinuousFunction() {
 
+                private static final long serialVersionUID = -8719813516387398796L;
+
                 @Override
                 public Double apply(Vector input) {
                     Vector y = Problems.WFG1(input, k, M);
@@ -31,6 +31,8 @@ public class WFG2 extends MOOptimisationProblem {
             final int index = i;
             ContinuousFunction function = new ContinuousFunction() {
 
+                private static final long serialVersionUID = 6692622216821697139L;
+
                 @Override
                 public Double apply(Vector input) {
                     Vector y = Problems.WFG2(input, k, M);
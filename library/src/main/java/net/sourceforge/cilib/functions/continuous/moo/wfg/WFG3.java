@@ -31,6 +31,8 @@ public class WFG3 extends MOOptimisationProblem {
             final int index = i;
             ContinuousFunction function = new ContinuousFunction() {
 
+                private static final long serialVersionUID = -8318623158953523440L;
+
                 @Override
                 public Double apply(Vector input) {
                     Vector y = Problems.WFG3(input, k, M);
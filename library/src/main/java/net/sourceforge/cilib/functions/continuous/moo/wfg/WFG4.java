@@ -31,6 +31,8 @@ public class WFG4 extends MOOptimisationProblem {
             final int index = i;
             ContinuousFunction function = new ContinuousFunction() {
 
+                private static final long serialVersionUID = 796749992685410286L;
+
                 @Override
                 public Double apply(Vector input) {
                     Vector y = Problems.WFG4(input, k, M);
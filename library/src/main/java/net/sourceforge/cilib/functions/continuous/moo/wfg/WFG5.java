@@ -31,6 +31,8 @@ public class WFG5 extends MOOptimisationProblem {
             final int index = i;
             ContinuousFunction function = new ContinuousFunction() {
 
+                private static final long serialVersionUID = -8107733068270276443L;
+
                 @Override
                 public Double apply(Vector input) {
                     Vector y = Problems.WFG5(input, k, M);
@@ -31,6 +31,8 @@ public class WFG6 extends MOOptimisationProblem {
             final int index = i;
             ContinuousFunction function = new ContinuousFunction() {
 
+                private static final long serialVersionUID = 1043310071939532721L;
+
                 @Override
                 public Double apply(Vector input) {
                     Vector y = Problems.WFG6(input, k, M);
@@ -31,6 +31,8 @@ public class WFG7 extends MOOptimisationProblem {
             final int index = i;
             ContinuousFunction function = new ContinuousFunction() {
 
+                private static final long serialVersionUID = -879955958733436282L;
+
                 @Override
                 public Double apply(Vector input) {
                     Vector y = Problems.WFG7(input, k, M);
@@ -31,6 +31,8 @@ public class WFG8 extends MOOptimisationProblem {
             final int index = i;
             ContinuousFunction function = new ContinuousFunction() {
 
+                private static final long serialVersionUID = -5596140825694940925L;
+
                 @Override
                 public Double apply(Vector input) {
                     Vector y = Problems.WFG8(input, k, M);
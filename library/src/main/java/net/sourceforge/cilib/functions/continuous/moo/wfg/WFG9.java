@@ -31,6 +31,8 @@ public class WFG9 extends MOOptimisationProblem {
             final int index = i;
             ContinuousFunction function = new ContinuousFunction() {
 
+                private static final long serialVersionUID = -6556011025097013046L;
+
                 @Override
                 public Double apply(Vector input){ 
                     Vector y = Problems.WFG9(input, k, M);
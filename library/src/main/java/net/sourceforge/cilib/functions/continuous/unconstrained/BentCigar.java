@@ -24,6 +24,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class BentCigar implements ContinuousFunction {
 
+    private static final long serialVersionUID = -7160213620339294541L;
+
     /**
      * {@inheritDoc}
      */
@@ -43,6 +43,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class Central2PeakTrap implements ContinuousFunction {
 
+    private static final long serialVersionUID = -3484020538747365224L;
+
     /**
      * {@inheritDoc}
      */
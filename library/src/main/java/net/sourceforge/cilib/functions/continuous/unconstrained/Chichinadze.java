@@ -36,6 +36,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class Chichinadze implements ContinuousFunction {
 
+    private static final long serialVersionUID = -2142268749714412734L;
+
 	@Override
 	public Double apply(Vector input) {
 		Preconditions.checkArgument(input.size() == 2, "Chichinadze function is only defined for 2 dimensions");
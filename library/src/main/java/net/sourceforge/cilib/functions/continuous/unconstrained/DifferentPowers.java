@@ -24,6 +24,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class DifferentPowers implements ContinuousFunction {
 
+    private static final long serialVersionUID = -6195622202448991789L;
+
     /**
      * {@inheritDoc}
      */
@@ -24,6 +24,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class Discus implements ContinuousFunction {
 
+    private static final long serialVersionUID = -683708997799186098L;
+
     /**
      * {@inheritDoc}
      */
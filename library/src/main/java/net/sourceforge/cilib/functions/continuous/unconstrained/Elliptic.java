@@ -25,6 +25,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class Elliptic implements ContinuousFunction {
 
+    private static final long serialVersionUID = 5443138795982035458L;
+
     /*
      * The condition number 10^6 is used to transform a sphere
      * to an elliptic function
@@ -41,6 +41,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class FiveUnevenPeakTrap implements ContinuousFunction {
 
+    private static final long serialVersionUID = 1707066362705966970L;
+
     /**
      * {@inheritDoc}
      */
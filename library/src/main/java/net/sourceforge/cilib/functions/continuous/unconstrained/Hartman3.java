@@ -26,6 +26,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class Hartman3 implements ContinuousFunction {
 
+    private static final long serialVersionUID = -7068760247825379396L;
+
     private final double A[][] = {
         {3.0, 10.0, 30.0},
         {0.1, 10.0, 35.0},
@@ -26,6 +26,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class Hartman6 implements ContinuousFunction {
 
+    private static final long serialVersionUID = -3563532349888146746L;
+
     private final double A[][] = {
         {10.0, 3.00, 17.0, 3.50, 1.70, 8.00},
         {0.05, 10.0, 17.0, 0.10, 8.00, 14.0},
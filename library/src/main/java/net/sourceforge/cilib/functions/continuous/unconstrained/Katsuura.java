@@ -23,6 +23,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class Katsuura implements ContinuousFunction {
 
+    private static final long serialVersionUID = -2905141998820578392L;
+
     /**
      * {@inheritDoc}
      */
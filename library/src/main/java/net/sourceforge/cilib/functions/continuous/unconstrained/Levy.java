@@ -17,6 +17,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class Levy implements ContinuousFunction {
 
+    private static final long serialVersionUID = 8879498348461916176L;
+
     /**
      * {@inheritDoc}
      */
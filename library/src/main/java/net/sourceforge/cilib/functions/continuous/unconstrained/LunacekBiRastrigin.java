@@ -32,6 +32,9 @@ import net.sourceforge.cilib.type.types.Real;
  *
  */
 public class LunacekBiRastrigin implements ContinuousFunction {
+
+    private static final long serialVersionUID = 6992161471885117516L;
+
     private double mu0;
     private double d;
     private double horizontalScale;
@@ -32,6 +32,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class Matyas implements ContinuousFunction {
 
+    private static final long serialVersionUID = -3646001949093972266L;
+
     /**
      * {@inheritDoc}
      */
@@ -24,6 +24,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class ModifiedRastrigin implements ContinuousFunction {
 
+    private static final long serialVersionUID = -6383769390074515387L;
+
     /**
      * {@inheritDoc}
      */
@@ -33,6 +33,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class ModifiedSchaffer2 implements ContinuousFunction {
 
+    private static final long serialVersionUID = 1332177762014290784L;
+
     /**
      * {@inheritDoc}
      */
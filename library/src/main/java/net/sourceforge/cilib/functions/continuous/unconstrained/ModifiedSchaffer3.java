@@ -33,6 +33,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class ModifiedSchaffer3 implements ContinuousFunction {
 
+    private static final long serialVersionUID = 7954682003369541022L;
+
     /**
      * {@inheritDoc}
      */
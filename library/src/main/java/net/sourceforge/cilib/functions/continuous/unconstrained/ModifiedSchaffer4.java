@@ -32,6 +32,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class ModifiedSchaffer4 implements ContinuousFunction {
 
+    private static final long serialVersionUID = 8674713024039966947L;
+
     /**
      * {@inheritDoc}
      */
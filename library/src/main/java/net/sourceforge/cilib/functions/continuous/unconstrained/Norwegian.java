@@ -13,6 +13,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * Norwegian function.
  */
 public class Norwegian implements ContinuousFunction {
+
+    private static final long serialVersionUID = -3881442282734575868L;
     
     /**
      * {@inheritDoc}
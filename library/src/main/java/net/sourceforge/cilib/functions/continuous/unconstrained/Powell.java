@@ -32,6 +32,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class Powell implements ContinuousFunction {
 
+    private static final long serialVersionUID = 5521738514420526416L;
+
     /**
      * {@inheritDoc}
      */
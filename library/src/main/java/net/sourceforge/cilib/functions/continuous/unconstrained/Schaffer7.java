@@ -33,6 +33,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class Schaffer7 implements ContinuousFunction {
 
+    private static final long serialVersionUID = -2782322834845788249L;
+
     /**
      * {@inheritDoc}
      */
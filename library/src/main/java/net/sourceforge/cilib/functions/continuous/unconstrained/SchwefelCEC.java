@@ -24,6 +24,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class SchwefelCEC implements ContinuousFunction {
 
+    private static final long serialVersionUID = 8670865929563306946L;
+
     /**
      * {@inheritDoc}
      */
@@ -27,6 +27,9 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * </p>
  */
 public class SchwefelProblem2_13 implements ContinuousFunction {
+
+    private static final long serialVersionUID = -3272130453861020212L;
+
     private double[] optimum;
     private double[][] m_a;
     private double[][] m_b;
@@ -27,6 +27,9 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * </p>
  */
 public class SchwefelProblem2_6 implements ContinuousFunction {
+
+    private static final long serialVersionUID = -2414079442922210878L;
+
     private Vector optimum;
     private double[][] m_A;
 
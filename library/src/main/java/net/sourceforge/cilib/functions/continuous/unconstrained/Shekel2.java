@@ -19,6 +19,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class Shekel2 implements ContinuousFunction {
 
+    private static final long serialVersionUID = -7301501373253180788L;
+
     private double[][] a = new double[2][25];
 
     public Shekel2() {
@@ -23,6 +23,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class Shekel4 implements ContinuousFunction {
 
+    private static final long serialVersionUID = 7970430935478331273L;
+
     private int n;
 
     private static final double[][] A = {
@@ -38,6 +38,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class Shubert implements ContinuousFunction {
 
+    private static final long serialVersionUID = 3489637826029015936L;
+
     /**
      * {@inheritDoc}
      */
@@ -27,6 +27,9 @@ import net.sourceforge.cilib.type.types.container.Vector;
  *
  */
 public class Vincent implements ContinuousFunction {
+
+    private static final long serialVersionUID = 9029418544562677821L;
+
     /**
      * {@inheritDoc}
      */
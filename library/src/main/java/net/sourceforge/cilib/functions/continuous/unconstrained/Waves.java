@@ -34,6 +34,9 @@ import net.sourceforge.cilib.type.types.container.Vector;
  *
  */
 public class Waves implements ContinuousFunction {
+
+    private static final long serialVersionUID = -5944404277676738266L;
+
     /**
      * {@inheritDoc}
      */
@@ -21,6 +21,9 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * </p>
  */
 public class Weierstrass implements ContinuousFunction {
+
+    private static final long serialVersionUID = 6371363855751006240L;
+
     private double a;
     private double b;
     private int kMax;
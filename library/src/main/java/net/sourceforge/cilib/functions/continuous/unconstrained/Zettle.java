@@ -36,6 +36,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class Zettle implements ContinuousFunction {
 
+    private static final long serialVersionUID = -3258980178603566933L;
+
 	@Override
 	public Double apply(Vector input) {
 		Preconditions.checkArgument(input.size() == 2, "Zettle function is only defined for 2 dimensions");
@@ -17,6 +17,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
 **/
 public class Onemax implements ContinuousFunction {
 
+    private static final long serialVersionUID = 7040529988591844761L;
+
     /**
      * {@inheritDoc}
      */
@@ -24,6 +24,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class Order3Bipolar implements ContinuousFunction {
 
+    private static final long serialVersionUID = 4864496533037719468L;
+
     /**
      * {@inheritDoc}
      */
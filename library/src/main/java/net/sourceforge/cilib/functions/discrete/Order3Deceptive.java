@@ -24,6 +24,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class Order3Deceptive implements ContinuousFunction {
 
+    private static final long serialVersionUID = 5299089908717906334L;
+
     /**
      * {@inheritDoc}
      */
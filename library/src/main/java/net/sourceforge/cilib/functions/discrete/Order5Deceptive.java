@@ -24,6 +24,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class Order5Deceptive implements ContinuousFunction {
 
+    private static final long serialVersionUID = -3067295339322674749L;
+
     /**
      * {@inheritDoc}
      */
@@ -25,6 +25,8 @@ import net.sourceforge.cilib.type.types.container.Vector;
  */
 public class RoyalRoad implements ContinuousFunction {
 
+    private static final long serialVersionUID = 4217137273451702018L;
+
     private int k;
     private int b;
     private int g;
@@ -0,0 +1,183 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.math;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import net.sourceforge.cilib.type.types.container.Matrix;
+
+/**
+ * An immutable matrix of {@code double} values stored contiguously in
+ * row-major order, with kernels for multiplying row vectors by the matrix.
+ * <p>
+ * The kernels compute {@code y = x A} for a single row vector {@code x}
+ * (a matrix-vector product) or for several row vectors at once (a
+ * matrix-matrix product). Each element of {@code y} is accumulated over the
+ * rows of {@code A} in order, so the result is exactly that of the naive
+ * triple loop, but the matrix is only ever read along its rows. The columns
+ * are processed in blocks, so that the block of the result being accumulated
+ * stays in cache, and a block of the matrix is applied to several row
+ * vectors before moving on.
+ * </p>
+ */
+public final class DenseMatrix implements Serializable {
+
+    private static final long serialVersionUID = -4380637206946425473L;
+
+    /** Number of columns of the result that are accumulated together. */
+    private static final int COLUMN_BLOCK = 256;
+    /** Number of row vectors that share a block of the matrix. */
+    private static final int ROW_BLOCK = 8;
+
+    private final int rows;
+    private final int columns;
+    private final double[] values;
+
+    private DenseMatrix(int rows, int columns, double[] values) {
+        this.rows = rows;
+        this.columns = columns;
+        this.values = values;
+    }
+
+    /**
+     * Create a matrix from values in row-major order.
+     * @param rows The number of rows.
+     * @param columns The number of columns.
+     * @param values The values, row by row. The array is copied.
+     * @return A new {@code DenseMatrix}.
+     */
+    public static DenseMatrix copyOf(int rows, int columns, double[] values) {
+        checkArgument(rows > 0 && columns > 0, "A matrix must have at least one row and column.");
+        checkArgument(values.length == rows * columns, "Expected %s values, but got %s.", rows * columns, values.length);
+        return new DenseMatrix(rows, columns, values.clone());
+    }
+
+    /**
+     * Create the transpose of a matrix of values in row-major order, without
+     * an intermediate copy of the values.
+     * @param rows The number of rows of the matrix to transpose.
+     * @param columns The number of columns of the matrix to transpose.
+     * @param values The values, row by row. The array is not modified.
+     * @return A new {@code DenseMatrix} with {@code columns} rows and
+     *         {@code rows} columns.
+     */
+    public static DenseMatrix transposeOf(int rows, int columns, double[] values) {
+        checkArgument(rows > 0 && columns > 0, "A matrix must have at least one row and column.");
+        checkArgument(values.length == rows * columns, "Expected %s values, but got %s.", rows * columns, values.length);
+        double[] transposed = new double[values.length];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                transposed[j * rows + i] = values[i * columns + j];
+            }
+        }
+        return new DenseMatrix(columns, rows, transposed);
+    }
+
+    /**
+     * Create a copy of the provided {@linkplain Matrix}.
+     * @param matrix The matrix to copy.
+     * @return A new {@code DenseMatrix} with the same values.
+     */
+    public static DenseMatrix copyOf(Matrix matrix) {
+        int rows = matrix.getRows();
+        int columns = matrix.getColumns();
+        double[] values = new double[rows * columns];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                values[i * columns + j] = matrix.valueAt(i, j);
+            }
+        }
+        return new DenseMatrix(rows, columns, values);
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Obtain the value at the provided co-ordinates.
+     * @param row The row, indexed from 0.
+     * @param column The column, indexed from 0.
+     * @return The value at {@code [row][column]}.
+     */
+    public double valueAt(int row, int column) {
+        return values[row * columns + column];
+    }
+
+    /**
+     * Multiply the row vector {@code x} by this matrix.
+     * @param x The row vector, of {@code getRows()} elements.
+     * @param result The array to receive the product, of {@code getColumns()}
+     *        elements. It must not be {@code x}.
+     * @return The {@code result} array.
+     */
+    public double[] leftMultiply(double[] x, double[] result) {
+        checkArgument(x.length == rows && result.length == columns, "Dimensions do not match.");
+        checkArgument(x != result, "The result may not overwrite the input.");
+        for (int from = 0; from < columns; from += COLUMN_BLOCK) {
+            int length = Math.min(COLUMN_BLOCK, columns - from);
+            Arrays.fill(result, from, from + length, 0.0);
+            for (int i = 0; i < rows; i++) {
+                axpy(x[i], values, i * columns + from, result, from, length);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Multiply each of {@code count} row vectors by this matrix. The vectors
+     * and the products are packed one after the other.
+     * @param x The row vectors, of {@code count * getRows()} elements.
+     * @param count The number of row vectors.
+     * @param result The array to receive the products, of
+     *        {@code count * getColumns()} elements. It must not be {@code x}.
+     * @return The {@code result} array.
+     */
+    public double[] leftMultiply(double[] x, int count, double[] result) {
+        checkArgument(x.length == count * rows && result.length == count * columns, "Dimensions do not match.");
+        checkArgument(x != result, "The result may not overwrite the input.");
+        for (int from = 0; from < columns; from += COLUMN_BLOCK) {
+            int length = Math.min(COLUMN_BLOCK, columns - from);
+            for (int first = 0; first < count; first += ROW_BLOCK) {
+                int last = Math.min(first + ROW_BLOCK, count);
+                for (int v = first; v < last; v++) {
+                    Arrays.fill(result, v * columns + from, v * columns + from + length, 0.0);
+                }
+                for (int i = 0; i < rows; i++) {
+                    int offset = i * columns + from;
+                    for (int v = first; v < last; v++) {
+                        axpy(x[v * rows + i], values, offset, result, v * columns + from, length);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@code y[yOffset + k] += a * m[mOffset + k]} for {@code k < length},
+     * unrolled by four.
+     */
+    private static void axpy(double a, double[] m, int mOffset, double[] y, int yOffset, int length) {
+        int k = 0;
+        for (; k + 3 < length; k += 4) {
+            y[yOffset + k] += a * m[mOffset + k];
+            y[yOffset + k + 1] += a * m[mOffset + k + 1];
+            y[yOffset + k + 2] += a * m[mOffset + k + 2];
+            y[yOffset + k + 3] += a * m[mOffset + k + 3];
+        }
+        for (; k < length; k++) {
+            y[yOffset + k] += a * m[mOffset + k];
+        }
+    }
+}
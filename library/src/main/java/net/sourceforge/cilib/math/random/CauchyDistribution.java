@@ -13,6 +13,8 @@ import net.sourceforge.cilib.math.random.generator.Rand;
 
 public class CauchyDistribution implements ProbabilityDistributionFunction {
 
+    private static final long serialVersionUID = -4335859903069019560L;
+
     private ControlParameter location;
     private ControlParameter scale;
 
@@ -13,6 +13,8 @@ import net.sourceforge.cilib.math.random.generator.Rand;
 
 public class ExponentialDistribution implements ProbabilityDistributionFunction {
 
+    private static final long serialVersionUID = 5734709196175299578L;
+
     private ControlParameter rate;
 
     public ExponentialDistribution() {
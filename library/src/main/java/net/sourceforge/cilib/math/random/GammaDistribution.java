@@ -12,6 +12,8 @@ import net.sourceforge.cilib.controlparameter.ControlParameter;
 
 public class GammaDistribution implements ProbabilityDistributionFunction {
 
+    private static final long serialVersionUID = 8477393054583469095L;
+
     private ControlParameter shape;
     private ControlParameter scale;
 
@@ -12,6 +12,8 @@ import net.sourceforge.cilib.controlparameter.ControlParameter;
 import net.sourceforge.cilib.math.random.generator.Rand;
 
 public class GaussianDistribution implements ProbabilityDistributionFunction {
+
+    private static final long serialVersionUID = -1530877750783873699L;
     private ControlParameter mean;
     private ControlParameter deviation;
 
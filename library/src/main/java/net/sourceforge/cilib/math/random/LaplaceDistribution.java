@@ -13,6 +13,8 @@ import net.sourceforge.cilib.math.random.generator.Rand;
 
 public class LaplaceDistribution implements ProbabilityDistributionFunction {
 
+    private static final long serialVersionUID = -2436151166399687713L;
+
     private ControlParameter location;
     private ControlParameter scale;
 
@@ -6,13 +6,15 @@
  */
 package net.sourceforge.cilib.math.random;
 
+import java.io.Serializable;
+
 /**
  * An interface for probability distribution functions. Concrete classes of
  * this type provide methods to sample random values from specific probability
  * distributions.
  *
  */
-public interface ProbabilityDistributionFunction {
+public interface ProbabilityDistributionFunction extends Serializable {
 
     /**
      * Sample a random number from the distribution.
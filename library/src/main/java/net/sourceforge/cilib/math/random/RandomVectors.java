@@ -0,0 +1,193 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.math.random;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * Utility methods that sample a complete array or {@linkplain Vector} of
+ * random numbers in a single call.
+ * <p>
+ * Uniform, Cauchy and Laplace samples are obtained by transforming a block of
+ * uniform numbers drawn with {@link Rand#nextDoubles(double[])}. Gaussian
+ * samples are generated with the ziggurat method, which requires a single
+ * uniform number and no transcendental functions for the vast majority of
+ * samples.
+ * <p>
+ * References:
+ * <ul><li>
+ * G. Marsaglia and W.W. Tsang, "The Ziggurat Method for Generating Random
+ * Variables", Journal of Statistical Software, vol. 5, no. 8, 2000.
+ * </li><li>
+ * J.A. Doornik, "An Improved Ziggurat Method to Generate Normal Random
+ * Samples", University of Oxford, 2005.
+ * </li></ul>
+ */
+public final class RandomVectors {
+
+    private static final int ZIGGURAT_LAYERS = 128;
+    private static final double ZIGGURAT_R = 3.442619855899;
+    private static final double ZIGGURAT_V = 9.91256303526217e-3;
+    private static final double[] ZIGGURAT_X = new double[ZIGGURAT_LAYERS + 1];
+    private static final double[] ZIGGURAT_RATIO = new double[ZIGGURAT_LAYERS];
+
+    static {
+        double f = Math.exp(-0.5 * ZIGGURAT_R * ZIGGURAT_R);
+        ZIGGURAT_X[0] = ZIGGURAT_V / f;
+        ZIGGURAT_X[1] = ZIGGURAT_R;
+        ZIGGURAT_X[ZIGGURAT_LAYERS] = 0.0;
+
+        for (int i = 2; i < ZIGGURAT_LAYERS; i++) {
+            ZIGGURAT_X[i] = Math.sqrt(-2.0 * Math.log(ZIGGURAT_V / ZIGGURAT_X[i - 1] + f));
+            f = Math.exp(-0.5 * ZIGGURAT_X[i] * ZIGGURAT_X[i]);
+        }
+
+        for (int i = 0; i < ZIGGURAT_LAYERS; i++) {
+            ZIGGURAT_RATIO[i] = ZIGGURAT_X[i + 1] / ZIGGURAT_X[i];
+        }
+    }
+
+    private RandomVectors() {
+    }
+
+    /**
+     * Fill {@code values} with uniform random numbers within {@code [lower, upper)}.
+     * @param values The array to fill.
+     * @param lower The lower bound.
+     * @param upper The upper bound.
+     */
+    public static void uniform(double[] values, double lower, double upper) {
+        checkArgument(upper > lower, "The lower bound (first parameter) must be less than upper bound (second parameter).");
+        Rand.nextDoubles(values);
+        double range = upper - lower;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = range * values[i] + lower;
+        }
+    }
+
+    /**
+     * Fill {@code values} with normally distributed random numbers.
+     * @param values The array to fill.
+     * @param mean The mean of the distribution.
+     * @param deviation The standard deviation of the distribution.
+     */
+    public static void gaussian(double[] values, double mean, double deviation) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = mean + deviation * ziggurat();
+        }
+    }
+
+    /**
+     * Fill {@code values} with Cauchy distributed random numbers.
+     * @param values The array to fill.
+     * @param location The location of the distribution.
+     * @param scale The scale of the distribution.
+     */
+    public static void cauchy(double[] values, double location, double scale) {
+        checkArgument(scale > 0, "The scale must be greater than zero.");
+        Rand.nextDoubles(values);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = location + scale * Math.tan(Math.PI * (values[i] - 0.5));
+        }
+    }
+
+    /**
+     * Fill {@code values} with Laplace distributed random numbers.
+     * @param values The array to fill.
+     * @param location The location of the distribution.
+     * @param scale The scale of the distribution.
+     */
+    public static void laplace(double[] values, double location, double scale) {
+        checkArgument(scale > 0, "The scale parameter must be greater than zero.");
+        Rand.nextDoubles(values);
+        for (int i = 0; i < values.length; i++) {
+            double r = values[i] - 0.5;
+            values[i] = location - scale * Math.log(1 - 2 * Math.abs(r)) * Math.signum(r);
+        }
+    }
+
+    /**
+     * Fill {@code values} with random numbers sampled from {@code pdf}, using
+     * the current parameters of the distribution. The uniform, Gaussian, Cauchy
+     * and Laplace distributions are sampled in bulk; any other distribution is
+     * sampled one number at a time.
+     * @param values The array to fill.
+     * @param pdf The distribution to sample.
+     */
+    public static void fill(double[] values, ProbabilityDistributionFunction pdf) {
+        if (pdf instanceof UniformDistribution) {
+            UniformDistribution uniform = (UniformDistribution) pdf;
+            uniform(values, uniform.getLowerBound().getParameter(), uniform.getUpperBound().getParameter());
+        } else if (pdf instanceof GaussianDistribution) {
+            GaussianDistribution gaussian = (GaussianDistribution) pdf;
+            gaussian(values, gaussian.getMean().getParameter(), gaussian.getDeviation().getParameter());
+        } else if (pdf instanceof CauchyDistribution) {
+            CauchyDistribution cauchy = (CauchyDistribution) pdf;
+            cauchy(values, cauchy.getLocation().getParameter(), cauchy.getScale().getParameter());
+        } else if (pdf instanceof LaplaceDistribution) {
+            LaplaceDistribution laplace = (LaplaceDistribution) pdf;
+            laplace(values, laplace.getLocation().getParameter(), laplace.getScale().getParameter());
+        } else {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = pdf.getRandomNumber();
+            }
+        }
+    }
+
+    /**
+     * Create a dense {@linkplain Vector} of {@code dimension} random numbers
+     * sampled from {@code pdf}.
+     * @param dimension The number of elements.
+     * @param pdf The distribution to sample.
+     * @return The sampled {@linkplain Vector}.
+     * @see #fill(double[], ProbabilityDistributionFunction)
+     */
+    public static Vector sample(int dimension, ProbabilityDistributionFunction pdf) {
+        double[] values = new double[dimension];
+        fill(values, pdf);
+        return Vector.copyOf(values);
+    }
+
+    /**
+     * Sample a standard normal number with the ziggurat method.
+     */
+    private static double ziggurat() {
+        while (true) {
+            double u = 2.0 * Rand.nextDouble() - 1.0;
+            int i = Rand.nextInt() & (ZIGGURAT_LAYERS - 1);
+
+            if (Math.abs(u) < ZIGGURAT_RATIO[i]) {
+                return u * ZIGGURAT_X[i];
+            }
+
+            if (i == 0) {
+                return tail(u < 0);
+            }
+
+            double x = u * ZIGGURAT_X[i];
+            double f0 = Math.exp(-0.5 * (ZIGGURAT_X[i] * ZIGGURAT_X[i] - x * x));
+            double f1 = Math.exp(-0.5 * (ZIGGURAT_X[i + 1] * ZIGGURAT_X[i + 1] - x * x));
+            if (f1 + Rand.nextDouble() * (f0 - f1) < 1.0) {
+                return x;
+            }
+        }
+    }
+
+    /**
+     * Sample from the tail of the normal distribution beyond the base layer.
+     */
+    private static double tail(boolean negative) {
+        double x, y;
+        do {
+            x = Math.log(1.0 - Rand.nextDouble()) / ZIGGURAT_R;
+            y = Math.log(1.0 - Rand.nextDouble());
+        } while (-2.0 * y < x * x);
+        return negative ? x - ZIGGURAT_R : ZIGGURAT_R - x;
+    }
+}
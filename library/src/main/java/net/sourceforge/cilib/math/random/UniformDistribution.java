@@ -13,6 +13,8 @@ import net.sourceforge.cilib.math.random.generator.Rand;
 
 public class UniformDistribution implements ProbabilityDistributionFunction {
 
+    private static final long serialVersionUID = -3893919048800886773L;
+
     private ControlParameter lowerBound;
     private ControlParameter upperBound;
 
@@ -36,7 +36,7 @@ package net.sourceforge.cilib.math.random.generator;
  * Comment text ripped from GSL.
  *
  */
-class MersenneTwister {
+class MersenneTwister implements RandomGenerator {
 
     private static final long serialVersionUID = -4165908582605023476L;
     private final long seed;
@@ -55,6 +55,17 @@ class MersenneTwister {
         this.seed = seed;
     }
 
+    private MersenneTwister(MersenneTwister copy) {
+        this.seed = copy.seed;
+        this.data = copy.data == null ? null : copy.data.clone();
+        this.index = copy.index;
+    }
+
+    @Override
+    public MersenneTwister getCopy() {
+        return new MersenneTwister(this);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -108,6 +119,7 @@ class MersenneTwister {
         return (int) ((k & 0xffffffffL) >>> (32 - bits));
     }
 
+    @Override
     public double nextDouble() {
         double result = (((long) next(26) << 27) + next(27)) / (double) (1L << 53);
         index--;
@@ -120,14 +132,17 @@ class MersenneTwister {
         }
     }
     
+    @Override
     public boolean nextBoolean() {
         return next(1) != 0;
     }
 
+    @Override
     public int nextInt() {
         return next(32);
     }
 
+    @Override
     public int nextInt(int n) {
         if (n <= 0) {
             throw new IllegalArgumentException("n must be positive");
@@ -146,14 +161,17 @@ class MersenneTwister {
         return val;
     }
 
+    @Override
     public long nextLong() {
         return ((long) (next(32)) << 32) + next(32);
     }
 
+    @Override
     public float nextFloat() {
         return next(24) / ((float) (1 << 24));
     }
 
+    @Override
     public void nextBytes(byte[] bytes) {
         for (int i = 0, len = bytes.length; i < len;) {
             for (int rnd = nextInt(),
@@ -164,6 +182,7 @@ class MersenneTwister {
         }
     }
 
+    @Override
     public long getSeed() {
         return seed;
     }
@@ -6,13 +6,25 @@
  */
 package net.sourceforge.cilib.math.random.generator;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import java.io.Serializable;
 import net.sourceforge.cilib.math.random.generator.seeder.Seeder;
 
+/**
+ * Static access to the random stream of the current thread. Each thread is
+ * initially given a Mersenne Twister seeded by the {@linkplain Seeder}.
+ * <p>
+ * Work that is distributed over several threads should not rely on the order
+ * in which threads draw from their streams. Instead, such work should run with
+ * a {@linkplain SplitMix64} stream derived with {@link #substream(long...)},
+ * using keys that identify the work (such as an entity or dimension index),
+ * so that the outcome does not depend on which thread performed the work.
+ */
 public class Rand {
-    
-    private static ThreadLocal<MersenneTwister> random = new ThreadLocal<MersenneTwister>() {
+
+    private static ThreadLocal<RandomGenerator> random = new ThreadLocal<RandomGenerator>() {
         @Override
-        protected MersenneTwister initialValue() {
+        protected RandomGenerator initialValue() {
             return new MersenneTwister(Seeder.getSeed());
         }
     };
@@ -41,6 +53,19 @@ public class Rand {
         return Rand.random.get().nextDouble();
     }
 
+    /**
+     * Fill {@code values} with uniform random numbers within {@code [0, 1)}.
+     * The values are identical to those obtained by successive calls to
+     * {@link #nextDouble()}, but the stream of the thread is obtained once.
+     * @param values The array to fill.
+     */
+    public static void nextDoubles(double[] values) {
+        RandomGenerator generator = Rand.random.get();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = generator.nextDouble();
+        }
+    }
+
     public static void nextBytes(byte[] bytes) {
         Rand.random.get().nextBytes(bytes);
     }
@@ -57,4 +82,64 @@ public class Rand {
         setSeed(Seeder.getSeed());
     }
 
+    /**
+     * Obtain a snapshot of the state of the random stream of the current
+     * thread. The stream of the thread is not affected.
+     * @return The state of the stream, which may be restored with
+     *         {@link #setState(Serializable)}.
+     */
+    public static Serializable getState() {
+        return random.get().getCopy();
+    }
+
+    /**
+     * Restore the state of the random stream of the current thread. The
+     * stream continues from the point at which the state was obtained.
+     * @param state A state obtained from {@link #getState()}.
+     */
+    public static void setState(Serializable state) {
+        checkArgument(state instanceof RandomGenerator, "Not a random stream state: %s", state);
+        random.set(((RandomGenerator) state).getCopy());
+    }
+
+    /**
+     * Derive a stream from the seed of the current thread's stream and the
+     * given {@code keys}. The current stream is not advanced and the derived
+     * stream may be used directly, without the per-call thread lookup of the
+     * static methods of this class.
+     * @param keys The keys identifying the sub-stream.
+     * @return The derived stream.
+     */
+    public static SplitMix64 substream(long... keys) {
+        return SplitMix64.derive(getSeed(), keys);
+    }
+
+    /**
+     * Execute {@code task} on the current thread using a stream seeded
+     * with {@code seed}.
+     * @param seed The seed for the random stream of the task.
+     * @param task The task to execute.
+     * @see #runWith(SplitMix64, Runnable)
+     */
+    public static void runWithSeed(long seed, Runnable task) {
+        runWith(new SplitMix64(seed), task);
+    }
+
+    /**
+     * Execute {@code task} on the current thread using {@code stream} as the
+     * random stream of the thread. The stream previously associated with the
+     * thread is restored once the task completes, so that the task does not
+     * disturb the random stream of the thread.
+     * @param stream The random stream of the task.
+     * @param task The task to execute.
+     */
+    public static void runWith(SplitMix64 stream, Runnable task) {
+        RandomGenerator previous = random.get();
+        random.set(stream);
+        try {
+            task.run();
+        } finally {
+            random.set(previous);
+        }
+    }
 }
@@ -0,0 +1,39 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.math.random.generator;
+
+import java.io.Serializable;
+
+/**
+ * Common interface of the generators that may back the random stream of a
+ * thread in {@linkplain Rand}.
+ */
+interface RandomGenerator extends Serializable {
+
+    /**
+     * Create an independent copy of this generator, which produces the same
+     * sequence of numbers as this generator.
+     * @return The copy.
+     */
+    RandomGenerator getCopy();
+
+    boolean nextBoolean();
+
+    int nextInt();
+
+    int nextInt(int n);
+
+    long nextLong();
+
+    float nextFloat();
+
+    double nextDouble();
+
+    void nextBytes(byte[] bytes);
+
+    long getSeed();
+}
@@ -0,0 +1,155 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.math.random.generator;
+
+/**
+ * <p>
+ * A splittable random number generator based on the SplitMix64 algorithm.
+ * </p><p>
+ * The generator has a single word of state which is advanced by a fixed odd
+ * constant, with each output being a bijective mix of the state. As a result
+ * a generator is cheap to create and independent sub-streams can be derived
+ * from a seed and a sequence of keys (for example a simulation, an entity and
+ * a dimension index) without consuming values from any other stream, which
+ * allows work performed on several threads to remain reproducible.
+ * </p><p>
+ * Instances are not thread-safe; each thread should use its own stream.
+ * </p>
+ * References:
+ * <ul><li>
+ * Guy L. Steele Jr., Doug Lea and Christine H. Flood, "Fast splittable
+ * pseudorandom number generators", Proceedings of OOPSLA 2014, pp. 453-472.
+ * </li></ul>
+ */
+public final class SplitMix64 implements RandomGenerator {
+
+    private static final long serialVersionUID = 3207151620458305254L;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final double DOUBLE_UNIT = 1.0 / (1L << 53);
+    private static final float FLOAT_UNIT = 1.0f / (1 << 24);
+
+    private final long seed;
+    private long state;
+
+    /**
+     * Create a new stream with the given seed.
+     * @param seed The initial seed value to use.
+     */
+    public SplitMix64(long seed) {
+        this.seed = seed;
+        this.state = seed;
+    }
+
+    private SplitMix64(SplitMix64 copy) {
+        this.seed = copy.seed;
+        this.state = copy.state;
+    }
+
+    @Override
+    public SplitMix64 getCopy() {
+        return new SplitMix64(this);
+    }
+
+    /**
+     * Create a stream that is determined only by {@code seed} and the given
+     * {@code keys}. Streams derived with different keys are statistically
+     * independent of each other and of the stream seeded with {@code seed}.
+     * @param seed The seed of the parent stream.
+     * @param keys The keys identifying the sub-stream.
+     * @return The derived stream.
+     */
+    public static SplitMix64 derive(long seed, long... keys) {
+        long s = mix(seed);
+        for (long key : keys) {
+            s = mix(s + (key + 1) * GOLDEN_GAMMA);
+        }
+        return new SplitMix64(s);
+    }
+
+    /**
+     * Apply the SplitMix64 output function to {@code z}.
+     * @param z The value to mix.
+     * @return The mixed value.
+     */
+    public static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Create a new stream seeded from this stream. This stream advances by a
+     * single value.
+     * @return The new stream.
+     */
+    public SplitMix64 split() {
+        return new SplitMix64(nextLong());
+    }
+
+    /**
+     * Derive the sub-stream of this stream identified by {@code keys} without
+     * advancing this stream.
+     * @param keys The keys identifying the sub-stream.
+     * @return The derived stream.
+     */
+    public SplitMix64 substream(long... keys) {
+        return derive(seed, keys);
+    }
+
+    @Override
+    public long nextLong() {
+        return mix(state += GOLDEN_GAMMA);
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    @Override
+    public int nextInt(int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n must be positive");
+        }
+
+        int bits, val;
+        do {
+            bits = (int) (nextLong() >>> 33);
+            val = bits % n;
+        } while (bits - val + (n - 1) < 0);
+        return val;
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    @Override
+    public float nextFloat() {
+        return (nextLong() >>> 40) * FLOAT_UNIT;
+    }
+
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    @Override
+    public void nextBytes(byte[] bytes) {
+        for (int i = 0, len = bytes.length; i < len;) {
+            for (long rnd = nextLong(), n = Math.min(len - i, Long.SIZE / Byte.SIZE); n-- > 0; rnd >>= Byte.SIZE) {
+                bytes[i++] = (byte) rnd;
+            }
+        }
+    }
+
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+}
@@ -6,10 +6,14 @@
  */
 package net.sourceforge.cilib.measurement;
 
+import java.io.Serializable;
+
 /**
  *
  */
-public class MeasurementMemento {
+public class MeasurementMemento implements Serializable {
+
+    private static final long serialVersionUID = 5723087623150468418L;
 
     private byte[] data;
 
@@ -7,6 +7,7 @@
 package net.sourceforge.cilib.measurement;
 
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import net.sourceforge.cilib.algorithm.Algorithm;
@@ -14,7 +15,8 @@ import net.sourceforge.cilib.algorithm.Algorithm;
 /**
  *
  */
-public class MeasurementStateManager {
+public class MeasurementStateManager implements Serializable {
+    private static final long serialVersionUID = -1870046342215618427L;
     private ConcurrentHashMap<Algorithm, ConcurrentHashMap<Measurement, MeasurementMemento>> algorithmData;
 
     public MeasurementStateManager() {
@@ -6,7 +6,6 @@
  */
 package net.sourceforge.cilib.nn.components;
 
-import net.sourceforge.cilib.type.types.Randomisable;
 import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
@@ -21,8 +20,8 @@ public class RandomWeightInitialisationStrategy implements WeightInitialisationS
      */
     @Override
     public void initialise(Vector weights) {
-        for (Randomisable weight : weights) {
-            weight.randomise();
+        for (int i = 0; i < weights.size(); i++) {
+            weights.randomise(i);
         }
     }
 }
@@ -6,6 +6,8 @@
  */
 package net.sourceforge.cilib.problem;
 
+import com.google.common.collect.Lists;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import net.sourceforge.cilib.problem.objective.Minimise;
 import net.sourceforge.cilib.problem.objective.Objective;
@@ -66,6 +68,69 @@ public abstract class AbstractProblem implements Problem {
         return calculateFitness(solution);
     }
 
+    /**
+     * Determine whether this problem can calculate the fitness of a solution
+     * as a plain value of its {@linkplain Objective}, with
+     * {@link #getFitnessValue(Type)}.
+     * @return {@code true} if fitness values are supported, {@code false} by default.
+     */
+    public boolean hasFitnessValues() {
+        return false;
+    }
+
+    /**
+     * Determine the fitness of the provided solution as a value of the
+     * {@linkplain Objective} of this problem, without creating a
+     * {@code Fitness}. {@code getObjective().evaluate(getFitnessValue(solution))}
+     * equals {@code getFitness(solution)}. The solution counts as one fitness
+     * evaluation.
+     * @param solution The candidate solution.
+     * @return The fitness value of the solution.
+     * @throws UnsupportedOperationException if {@link #hasFitnessValues()} is {@code false}.
+     */
+    public final double getFitnessValue(Type solution) {
+        fitnessEvaluations.incrementAndGet();
+
+        return calculateFitnessValue(solution);
+    }
+
+    /**
+     * Determine the fitness value of the provided solution. Subclasses that
+     * override this method must also override {@link #hasFitnessValues()}.
+     * @param solution The candidate solution.
+     * @return The fitness value of the solution.
+     */
+    protected double calculateFitnessValue(Type solution) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not calculate fitness values.");
+    }
+
+    /**
+     * Determine the {@code Fitness} of each of the provided solutions. Each
+     * solution counts as one fitness evaluation.
+     * @param solutions The candidate solutions.
+     * @return The {@link Fitness} of each solution, in the same order.
+     */
+    public final List<Fitness> getFitness(List<? extends Type> solutions) {
+        fitnessEvaluations.addAndGet(solutions.size());
+
+        return calculateFitness(solutions);
+    }
+
+    /**
+     * Determine the {@code Fitness} of each of the provided solutions.
+     * Subclasses may override this method to evaluate the solutions together;
+     * by default each solution is evaluated with {@link #calculateFitness(Type)}.
+     * @param solutions The candidate solutions.
+     * @return The {@link Fitness} of each solution, in the same order.
+     */
+    protected List<Fitness> calculateFitness(List<? extends Type> solutions) {
+        List<Fitness> result = Lists.newArrayListWithCapacity(solutions.size());
+        for (Type solution : solutions) {
+            result.add(calculateFitness(solution));
+        }
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -87,6 +152,16 @@ public abstract class AbstractProblem implements Problem {
         this.domainRegistry.setDomainString(domain);
     }
 
+    /**
+     * Set whether a domain consisting only of {@code Real} types should be
+     * represented by a dense {@code Vector}, which avoids allocating a
+     * {@code Real} per element during vector arithmetic.
+     * @param dense {@code true} to use the dense representation.
+     */
+    public void setDenseDomain(boolean dense) {
+        ((StringBasedDomainRegistry) this.domainRegistry).setDense(dense);
+    }
+
     public void setObjective(Objective objective) {
         this.objective = objective;
     }
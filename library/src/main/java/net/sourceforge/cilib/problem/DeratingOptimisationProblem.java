@@ -63,10 +63,22 @@ public class DeratingOptimisationProblem extends FunctionOptimisationProblem {
     }
 
     @Override
-    protected Fitness calculateFitness(Type solution) {
+    protected double calculateFitnessValue(Type solution) {
         Vector input = (Vector) solution;
-        double fitness = super.calculateFitness(input).getValue();
+        return derate(input, super.calculateFitnessValue(input));
+    }
+
+    @Override
+    protected List<Fitness> calculateFitness(List<? extends Type> candidates) {
+        List<Fitness> raw = super.calculateFitness(candidates);
+        List<Fitness> result = Lists.newArrayListWithCapacity(raw.size());
+        for (int i = 0; i < raw.size(); i++) {
+            result.add(objective.evaluate(derate((Vector) candidates.get(i), raw.get(i).getValue())));
+        }
+        return result;
+    }
 
+    private double derate(Vector input, double fitness) {
         for (Vector v : solutions) {
             double distance = distanceMeasure.distance(input.normalize(), v.normalize());
 
@@ -75,7 +87,7 @@ public class DeratingOptimisationProblem extends FunctionOptimisationProblem {
             }
         }
 
-        return objective.evaluate(fitness);
+        return fitness;
     }
 
     public void addSolution(Vector solution) {
@@ -6,6 +6,11 @@
  */
 package net.sourceforge.cilib.problem;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.collect.Lists;
+import java.util.List;
+import net.sourceforge.cilib.functions.BatchFunction;
 import net.sourceforge.cilib.functions.Function;
 import net.sourceforge.cilib.problem.solution.Fitness;
 import net.sourceforge.cilib.type.types.Type;
@@ -71,6 +76,53 @@ public class FunctionOptimisationProblem extends AbstractProblem {
 
     @Override
     protected Fitness calculateFitness(Type solution) {
-        return objective.evaluate(function.apply((Vector) solution).doubleValue());
+        return objective.evaluate(calculateFitnessValue(solution));
+    }
+
+    @Override
+    public boolean hasFitnessValues() {
+        return true;
+    }
+
+    @Override
+    protected double calculateFitnessValue(Type solution) {
+        return function.apply((Vector) solution).doubleValue();
+    }
+
+    /**
+     * Determine the {@code Fitness} of each of the provided solutions. If the
+     * function is a {@linkplain BatchFunction}, the solutions are packed into
+     * a single array and evaluated together.
+     * @param solutions The candidate solutions, which must be
+     *        {@linkplain Vector}s of the same size.
+     * @return The {@link Fitness} of each solution, in the same order.
+     */
+    @Override
+    protected List<Fitness> calculateFitness(List<? extends Type> solutions) {
+        List<Fitness> result = Lists.newArrayListWithCapacity(solutions.size());
+        if (!(function instanceof BatchFunction)) {
+            for (Type solution : solutions) {
+                result.add(objective.evaluate(function.apply((Vector) solution).doubleValue()));
+            }
+            return result;
+        }
+
+        int count = solutions.size();
+        int dimension = count == 0 ? 0 : ((Vector) solutions.get(0)).size();
+        double[] inputs = new double[count * dimension];
+        for (int i = 0; i < count; i++) {
+            Vector solution = (Vector) solutions.get(i);
+            checkArgument(solution.size() == dimension, "All solutions must have %s dimensions.", dimension);
+            for (int j = 0; j < dimension; j++) {
+                inputs[i * dimension + j] = solution.doubleValueOf(j);
+            }
+        }
+
+        double[] values = new double[count];
+        ((BatchFunction) function).apply(inputs, count, values);
+        for (double value : values) {
+            result.add(objective.evaluate(value));
+        }
+        return result;
     }
 }
@@ -37,16 +37,12 @@ public class PerElementReinitialisation extends ReinitialisationBoundary {
 
     /**
      * This method only randomises those elements inside the given {@linkplain Type} object that are out of bounds.
-     * NOTE: This method is recursive so that it can handle <tt>Vectors</tt> inside <tt>Vectors</tt>.
      * @param type the {@linkplain Type} object whose individual elements should be randomised if they are out of bounds
      */
     private void enforce(Vector vector) {
-        for (Type element : vector) {
-            try {
-                enforce((Numeric) element);
-            }
-            catch (ClassCastException cce) {
-                enforce((Vector) element);
+        for (int i = 0; i < vector.size(); i++) {
+            if (!Types.isInsideBounds(vector.get(i))) {
+                vector.randomise(i);
             }
         }
     }
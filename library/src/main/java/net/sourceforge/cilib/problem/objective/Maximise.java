@@ -11,8 +11,14 @@ import net.sourceforge.cilib.problem.solution.MaximisationFitness;
 
 public class Maximise implements Objective {
 
+    private static final long serialVersionUID = -5805336836590806979L;
+
     public Fitness evaluate(double fitness) {
         return new MaximisationFitness(fitness);
     }
 
+    public int compare(double a, double b) {
+        return Double.compare(a, b);
+    }
+
 }
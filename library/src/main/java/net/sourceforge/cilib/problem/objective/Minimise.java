@@ -11,8 +11,14 @@ import net.sourceforge.cilib.problem.solution.MinimisationFitness;
 
 public class Minimise implements Objective {
 
+    private static final long serialVersionUID = 5512609680735193283L;
+
     public Fitness evaluate(double fitness) {
         return new MinimisationFitness(fitness);
     }
 
+    public int compare(double a, double b) {
+        return Double.compare(b, a);
+    }
+
 }
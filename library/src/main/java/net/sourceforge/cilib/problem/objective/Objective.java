@@ -6,9 +6,21 @@
  */
 package net.sourceforge.cilib.problem.objective;
 
+import java.io.Serializable;
 import net.sourceforge.cilib.problem.solution.Fitness;
 
-public interface Objective {
+public interface Objective extends Serializable {
 
     Fitness evaluate(double fitness);
+
+    /**
+     * Compare two fitness values of this objective without creating
+     * {@code Fitness} objects. The result is that of
+     * {@code evaluate(a).compareTo(evaluate(b))}: positive if {@code a} is
+     * the better value.
+     * @param a The first fitness value.
+     * @param b The second fitness value.
+     * @return The ordering of {@code a} relative to {@code b}.
+     */
+    int compare(double a, double b);
 }
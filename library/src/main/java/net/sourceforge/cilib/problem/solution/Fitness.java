@@ -46,6 +46,12 @@ public interface Fitness extends Type, Comparable<Fitness> {
      */
     Double getValue();
 
+    /**
+     * Returns the underlying fitness value without boxing it.
+     * @return the actual fitness value.
+     */
+    double doubleValue();
+
     /**
      * Creation method that maintains Fitness object immutability by returning
      * a new instance of the current class type.
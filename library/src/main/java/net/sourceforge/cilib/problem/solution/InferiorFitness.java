@@ -39,6 +39,16 @@ public final class InferiorFitness implements Fitness {
         return Double.NaN;
     }
 
+    /**
+     * Always returns {@code Double.NaN}.
+     * @return {@code Double.NaN} as the value is always inferior.
+     * @see #getValue()
+     */
+    @Override
+    public double doubleValue() {
+        return Double.NaN;
+    }
+
     /**
      * {@inheritDoc}
      */
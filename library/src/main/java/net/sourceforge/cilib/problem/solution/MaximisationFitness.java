@@ -9,18 +9,20 @@ package net.sourceforge.cilib.problem.solution;
 /**
  *
  * This class implements the <code>Comparable</code> interface for a maximisation problem.
- * That is, larger fitness values have superior fitness.
+ * That is, larger fitness values have superior fitness. The value is kept as
+ * a primitive {@code double}, and two maximisation fitnesses are compared
+ * without boxing.
  */
 public class MaximisationFitness implements Fitness {
     private static final long serialVersionUID = 317110873134837946L;
 
-    private Double value;
+    private final double value;
 
    /**
     * Constructs a new <code>MaximisationFitness</code> with the given fitness value.
     * @param value The actual fitness value for the problem.
     */
-    public MaximisationFitness(Double value) {
+    public MaximisationFitness(double value) {
         this.value = value;
     }
 
@@ -46,6 +48,14 @@ public class MaximisationFitness implements Fitness {
         return value;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double doubleValue() {
+        return value;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -65,10 +75,13 @@ public class MaximisationFitness implements Fitness {
      */
     @Override
     public int compareTo(Fitness other) {
+        if (other instanceof MaximisationFitness) {
+            return Double.compare(value, ((MaximisationFitness) other).value);
+        }
         if (other == InferiorFitness.instance()) {
             return 1;
         }
-        return value.compareTo(other.getValue());
+        return Double.compare(value, other.doubleValue());
     }
 
     /**
@@ -81,8 +94,8 @@ public class MaximisationFitness implements Fitness {
         if ((obj == null) || (this.getClass() != obj.getClass()))
             return false;
 
-        Fitness other = (Fitness) obj;
-        return getValue().equals(other.getValue());
+        MaximisationFitness other = (MaximisationFitness) obj;
+        return Double.doubleToLongBits(value) == Double.doubleToLongBits(other.value);
     }
 
     /**
@@ -90,7 +103,8 @@ public class MaximisationFitness implements Fitness {
      */
     public int hashCode() {
         int hash = 7;
-        hash = 31 * hash + (value == null ? 0 : value.hashCode());
+        long bits = Double.doubleToLongBits(value);
+        hash = 31 * hash + (int) (bits ^ (bits >>> 32));
         return hash;
     }
 
@@ -8,19 +8,21 @@ package net.sourceforge.cilib.problem.solution;
 
 /**
  * This class implements the <code>Comparable</code> interface for a minimisation problem.
- * That is, smaller fitness values have superior fitness.
+ * That is, smaller fitness values have superior fitness. The value is kept as
+ * a primitive {@code double}, and two minimisation fitnesses are compared
+ * without boxing.
  *
  */
 public class MinimisationFitness implements Fitness {
     private static final long serialVersionUID = 8380821922737298435L;
 
-    private Double value;
+    private final double value;
 
     /**
      * Constructs a new <code>MinimisationFitness</code> with the given fitness value.
      * @param value The actual fitness value for the problem.
      */
-    public MinimisationFitness(Double value) {
+    public MinimisationFitness(double value) {
         this.value = value;
     }
 
@@ -47,6 +49,14 @@ public class MinimisationFitness implements Fitness {
         return value;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double doubleValue() {
+        return value;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -67,11 +77,13 @@ public class MinimisationFitness implements Fitness {
      */
     @Override
     public int compareTo(Fitness other) {
+        if (other instanceof MinimisationFitness) {
+            return Double.compare(((MinimisationFitness) other).value, value);
+        }
         if (other == InferiorFitness.instance()) {
             return 1;
         }
-
-        return -value.compareTo(other.getValue());
+        return Double.compare(other.doubleValue(), value);
     }
 
     /**
@@ -84,8 +96,8 @@ public class MinimisationFitness implements Fitness {
         if ((obj == null) || (this.getClass() != obj.getClass()))
             return false;
 
-        Fitness other = (Fitness) obj;
-        return getValue().equals(other.getValue());
+        MinimisationFitness other = (MinimisationFitness) obj;
+        return Double.doubleToLongBits(value) == Double.doubleToLongBits(other.value);
     }
 
     /**
@@ -93,7 +105,8 @@ public class MinimisationFitness implements Fitness {
      */
     public int hashCode() {
         int hash = 7;
-        hash = 31 * hash + (value == null ? 0 : value.hashCode());
+        long bits = Double.doubleToLongBits(value);
+        hash = 31 * hash + (int) (bits ^ (bits >>> 32));
         return hash;
     }
 
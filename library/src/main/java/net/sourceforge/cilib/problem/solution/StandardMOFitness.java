@@ -46,6 +46,11 @@ public class StandardMOFitness implements MOFitness {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public double doubleValue() {
+        return getValue();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -87,9 +87,7 @@ public class PSO extends SinglePopulationBasedAlgorithm<Particle> {
         topology.clear();
         Iterables.addAll(topology, initialisationStrategy.initialise(optimisationProblem));
 
-        for (Particle p : topology) {
-            p.calculateFitness();
-        }
+        evaluationStrategy.evaluate(topology);
     }
 
     /**
@@ -8,6 +8,7 @@ package net.sourceforge.cilib.pso.dynamic.responsestrategies;
 
 import net.sourceforge.cilib.algorithm.population.PopulationBasedAlgorithm;
 import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.entity.EntityProperties;
 import net.sourceforge.cilib.entity.Topology;
 import net.sourceforge.cilib.pso.particle.Particle;
 import net.sourceforge.cilib.util.Cloneable;
@@ -67,7 +68,7 @@ public abstract class EnvironmentChangeResponseStrategy<E extends PopulationBase
         for (P current : topology) {
             current.calculateFitness();
             for (P other : topology.neighbourhood(current)) {
-                if (current.getSocialFitness().compareTo(other.getNeighbourhoodBest().getSocialFitness()) > 0) {
+                if (EntityProperties.compareSocialFitness(current, other.getNeighbourhoodBest()) > 0) {
                     other.setNeighbourhoodBest(current);
                 }
             }
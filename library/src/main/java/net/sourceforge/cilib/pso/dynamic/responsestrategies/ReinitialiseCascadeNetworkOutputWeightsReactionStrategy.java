@@ -12,7 +12,6 @@ import net.sourceforge.cilib.entity.Topology;
 import net.sourceforge.cilib.nn.NeuralNetwork;
 import net.sourceforge.cilib.problem.nn.NNDataTrainingProblem;
 import net.sourceforge.cilib.pso.dynamic.DynamicParticle;
-import net.sourceforge.cilib.type.types.Real;
 import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
@@ -66,7 +65,7 @@ public class ReinitialiseCascadeNetworkOutputWeightsReactionStrategy<E extends P
             Vector position = (Vector) particle.getPosition();
             Vector velocity = (Vector) particle.getVelocity();
             for (int curElement = position.size() - nrOfweightsToDo; curElement < position.size(); ++curElement) {
-                ((Real) position.get(curElement)).randomise();
+                position.randomise(curElement);
                 velocity.setReal(curElement, 0.0);
             }
         }
@@ -8,6 +8,7 @@ package net.sourceforge.cilib.pso.iterationstrategies;
 
 import fj.F;
 import net.sourceforge.cilib.algorithm.population.AbstractIterationStrategy;
+import net.sourceforge.cilib.entity.EntityProperties;
 import net.sourceforge.cilib.entity.Topology;
 import net.sourceforge.cilib.pso.PSO;
 import net.sourceforge.cilib.pso.particle.Particle;
@@ -64,7 +65,7 @@ public class ASynchronousIterationStrategy extends AbstractIterationStrategy<PSO
             topology.set(topology.indexOf(current), newParticle);
 
             for (Particle other : topology.neighbourhood(current)) {
-                if (current.getSocialFitness().compareTo(other.getNeighbourhoodBest().getSocialFitness()) > 0) {
+                if (EntityProperties.compareSocialFitness(current, other.getNeighbourhoodBest()) > 0) {
                     other.setNeighbourhoodBest(newParticle); // TODO: neighbourhood visitor?
                 }
             }
@@ -0,0 +1,233 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.pso.iterationstrategies;
+
+import fj.Effect;
+import net.sourceforge.cilib.algorithm.population.AbstractIterationStrategy;
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
+import net.sourceforge.cilib.controlparameter.ControlParameter;
+import net.sourceforge.cilib.entity.EntityProperties;
+import net.sourceforge.cilib.entity.Topology;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.problem.boundaryconstraint.UnconstrainedBoundary;
+import net.sourceforge.cilib.pso.PSO;
+import net.sourceforge.cilib.pso.particle.ArrayParticle;
+import net.sourceforge.cilib.pso.particle.Particle;
+import net.sourceforge.cilib.pso.particle.ParticleArrays;
+import net.sourceforge.cilib.pso.particle.StandardParticle;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * Synchronous iteration strategy for PSO that keeps the swarm in a
+ * {@linkplain ParticleArrays}.
+ * <p>
+ * On the first iteration, and whenever the members of the topology change,
+ * the particles are packed into contiguous arrays and replaced within the
+ * topology by {@linkplain ArrayParticle} views. The inertia weight velocity
+ * update and the standard position update are then performed directly on the
+ * arrays:
+ * </p>
+ * <pre>
+ * v = w*v + c1*r1*(pbest - x) + c2*r2*(nbest - x)
+ * x = x + v
+ * </pre>
+ * <p>
+ * With the default behaviour of a {@linkplain StandardParticle} and the same
+ * control parameters, this strategy produces exactly the same swarm as the
+ * {@linkplain SynchronousIterationStrategy}. The velocity and position
+ * providers and the guide providers of the particles are not consulted.
+ * Fitness values are calculated by the
+ * {@linkplain net.sourceforge.cilib.algorithm.population.EvaluationStrategy}
+ * of the PSO and neighbourhood bests are updated in topology order.
+ * </p><p>
+ * The boundary constraint is only applied to particles with a position or
+ * velocity element outside of its bounds. Such a particle is materialised as a
+ * {@linkplain StandardParticle}, constrained and stored again; the boundary
+ * constraints of CIlib leave particles within their bounds unchanged.
+ * </p>
+ */
+public class ArraySynchronousIterationStrategy extends AbstractIterationStrategy<PSO> {
+
+    private static final long serialVersionUID = -6002531841262871353L;
+
+    private ControlParameter inertiaWeight;
+    private ControlParameter socialAcceleration;
+    private ControlParameter cognitiveAcceleration;
+    private transient ParticleArrays arrays;
+
+    /**
+     * Create a new instance with the parameters of the
+     * {@linkplain net.sourceforge.cilib.pso.velocityprovider.StandardVelocityProvider}.
+     */
+    public ArraySynchronousIterationStrategy() {
+        this.inertiaWeight = ConstantControlParameter.of(0.729844);
+        this.socialAcceleration = ConstantControlParameter.of(1.496180);
+        this.cognitiveAcceleration = ConstantControlParameter.of(1.496180);
+    }
+
+    /**
+     * Copy constructor. Create a copy of the given instance. The copy packs
+     * its own swarm.
+     * @param copy The instance to copy.
+     */
+    public ArraySynchronousIterationStrategy(ArraySynchronousIterationStrategy copy) {
+        super(copy);
+        this.inertiaWeight = copy.inertiaWeight.getClone();
+        this.socialAcceleration = copy.socialAcceleration.getClone();
+        this.cognitiveAcceleration = copy.cognitiveAcceleration.getClone();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ArraySynchronousIterationStrategy getClone() {
+        return new ArraySynchronousIterationStrategy(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void performIteration(PSO pso) {
+        final Topology<Particle> topology = pso.getTopology();
+        if (!isPacked(topology)) {
+            arrays = ParticleArrays.copyOf(topology);
+            for (int i = 0; i < arrays.getSize(); i++) {
+                topology.set(i, arrays.get(i));
+            }
+        }
+
+        final int size = arrays.getSize();
+        final int dimension = arrays.getDimension();
+        final double[] positions = arrays.getPositions();
+        final double[] velocities = arrays.getVelocities();
+        final double[] bestPositions = arrays.getBestPositions();
+        final boolean constrained = !(boundaryConstraint instanceof UnconstrainedBoundary);
+        double[] r1 = new double[dimension];
+        double[] r2 = new double[dimension];
+
+        for (int i = 0; i < size; i++) {
+            int offset = i * dimension;
+            int best = arrays.getNeighbourhoodBest(i);
+            double[] social = bestPositions;
+            int socialOffset = best * dimension;
+            if (best < 0) {
+                social = ((Vector) arrays.get(i).getNeighbourhoodBest().getBestPosition()).toDoubleArray();
+                socialOffset = 0;
+            }
+
+            double w = inertiaWeight.getParameter();
+            double c1 = cognitiveAcceleration.getParameter();
+            double c2 = socialAcceleration.getParameter();
+            Rand.nextDoubles(r1);
+            Rand.nextDoubles(r2);
+
+            for (int j = 0; j < dimension; j++) {
+                double x = positions[offset + j];
+                double v = velocities[offset + j] * w
+                        + (bestPositions[offset + j] - x) * c1 * r1[j]
+                        + (social[socialOffset + j] - x) * c2 * r2[j];
+                velocities[offset + j] = v;
+                positions[offset + j] = x + v;
+            }
+
+            if (constrained && !arrays.isInsideBounds(i)) {
+                StandardParticle particle = arrays.materialise(i);
+                boundaryConstraint.enforce(particle);
+                arrays.store(i, particle);
+            }
+        }
+
+        pso.getEvaluationStrategy().evaluate(topology, new Effect<Particle>() {
+            @Override
+            public void e(Particle current) {
+                for (Particle other : topology.neighbourhood(current)) {
+                    if (compareSocialFitness(current, other.getNeighbourhoodBest()) > 0) {
+                        other.setNeighbourhoodBest(current);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Compare the social fitness of two particles, on the arrays if both are
+     * views of the current arrays.
+     */
+    private int compareSocialFitness(Particle a, Particle b) {
+        if (a instanceof ArrayParticle && b instanceof ArrayParticle
+                && ((ArrayParticle) a).getArrays() == arrays && ((ArrayParticle) b).getArrays() == arrays) {
+            return arrays.compareSocialFitness(((ArrayParticle) a).getIndex(), ((ArrayParticle) b).getIndex());
+        }
+        return EntityProperties.compareSocialFitness(a, b);
+    }
+
+    /**
+     * Determine whether the topology consists of exactly the views of the
+     * current arrays, in order.
+     */
+    private boolean isPacked(Topology<Particle> topology) {
+        if (arrays == null || arrays.getSize() != topology.size()) {
+            return false;
+        }
+        for (int i = 0; i < topology.size(); i++) {
+            if (topology.get(i) != arrays.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the inertia weight of the velocity update.
+     * @return The inertia weight {@linkplain ControlParameter}.
+     */
+    public ControlParameter getInertiaWeight() {
+        return inertiaWeight;
+    }
+
+    /**
+     * Set the inertia weight of the velocity update.
+     * @param inertiaWeight The value to set.
+     */
+    public void setInertiaWeight(ControlParameter inertiaWeight) {
+        this.inertiaWeight = inertiaWeight;
+    }
+
+    /**
+     * Get the social acceleration coefficient of the velocity update.
+     * @return The social acceleration {@linkplain ControlParameter}.
+     */
+    public ControlParameter getSocialAcceleration() {
+        return socialAcceleration;
+    }
+
+    /**
+     * Set the social acceleration coefficient of the velocity update.
+     * @param socialAcceleration The value to set.
+     */
+    public void setSocialAcceleration(ControlParameter socialAcceleration) {
+        this.socialAcceleration = socialAcceleration;
+    }
+
+    /**
+     * Get the cognitive acceleration coefficient of the velocity update.
+     * @return The cognitive acceleration {@linkplain ControlParameter}.
+     */
+    public ControlParameter getCognitiveAcceleration() {
+        return cognitiveAcceleration;
+    }
+
+    /**
+     * Set the cognitive acceleration coefficient of the velocity update.
+     * @param cognitiveAcceleration The value to set.
+     */
+    public void setCognitiveAcceleration(ControlParameter cognitiveAcceleration) {
+        this.cognitiveAcceleration = cognitiveAcceleration;
+    }
+}
@@ -19,6 +19,7 @@ import net.sourceforge.cilib.entity.operators.CrossoverOperator;
 import net.sourceforge.cilib.entity.operators.crossover.real.BlendCrossoverStrategy;
 import net.sourceforge.cilib.pso.PSO;
 import net.sourceforge.cilib.pso.particle.Particle;
+import net.sourceforge.cilib.util.selection.PreparedSelection;
 import net.sourceforge.cilib.util.selection.Samples;
 import net.sourceforge.cilib.util.selection.recipes.ElitistSelector;
 import net.sourceforge.cilib.util.selection.recipes.RouletteWheelSelector;
@@ -85,9 +86,10 @@ public class HybridEAIterationStrategy extends AbstractIterationStrategy<PSO> {
         }
 
         // crossover
+        PreparedSelection<Particle> parents = crossover.prepare(topology);
         List<Particle> offspring = Lists.newArrayList();
         for (Particle p : topology) {
-            List<Particle> o = crossover.crossover(topology);
+            List<Particle> o = crossover.crossover(parents);
             if (!o.isEmpty()) {
                 offspring.add(o.get(0));
             }
@@ -7,6 +7,7 @@
 package net.sourceforge.cilib.pso.iterationstrategies;
 
 import net.sourceforge.cilib.algorithm.population.AbstractIterationStrategy;
+import net.sourceforge.cilib.entity.EntityProperties;
 import net.sourceforge.cilib.entity.Topology;
 import net.sourceforge.cilib.pso.PSO;
 import net.sourceforge.cilib.pso.crossover.operations.BoltzmannCrossoverSelection;
@@ -69,7 +70,7 @@ public class PSOCrossoverIterationStrategy extends AbstractIterationStrategy<PSO
 
         for (Particle current : topology) {
             for (Particle other : topology.neighbourhood(current)) {
-                if (current.getSocialFitness().compareTo(other.getNeighbourhoodBest().getSocialFitness()) > 0) {
+                if (EntityProperties.compareSocialFitness(current, other.getNeighbourhoodBest()) > 0) {
                     other.setNeighbourhoodBest(current);
                 }
             }
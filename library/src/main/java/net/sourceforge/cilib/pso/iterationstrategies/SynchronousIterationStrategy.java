@@ -6,7 +6,9 @@
  */
 package net.sourceforge.cilib.pso.iterationstrategies;
 
+import fj.Effect;
 import net.sourceforge.cilib.algorithm.population.AbstractIterationStrategy;
+import net.sourceforge.cilib.entity.EntityProperties;
 import net.sourceforge.cilib.entity.Topology;
 import net.sourceforge.cilib.pso.PSO;
 import net.sourceforge.cilib.pso.particle.Particle;
@@ -37,13 +39,16 @@ public class SynchronousIterationStrategy extends AbstractIterationStrategy<PSO>
      *     <li>For all particles in the current particle's neighbourhood:</li>
      *     <ol><li>Update the neighbourhood best</li></ol></ol>
      * </ol>
+     * <p>Fitness values are calculated by the {@linkplain
+     * net.sourceforge.cilib.algorithm.population.EvaluationStrategy} of the
+     * PSO; neighbourhood bests are always updated in topology order.</p>
      *
      * @see net.sourceforge.cilib.PSO.IterationStrategy#performIteration(net.sourceforge.cilib.PSO.PSO)
      * @param pso The {@link PSO} to have an iteration applied.
      */
     @Override
     public void performIteration(PSO pso) {
-        Topology<Particle> topology = pso.getTopology();
+        final Topology<Particle> topology = pso.getTopology();
 
         for (Particle current : topology) {
             current.updateVelocity();
@@ -52,13 +57,15 @@ public class SynchronousIterationStrategy extends AbstractIterationStrategy<PSO>
             boundaryConstraint.enforce(current);
         }
 
-        for (Particle current : topology) {
-            current.calculateFitness();
-            for (Particle other : topology.neighbourhood(current)) {
-                if (current.getSocialFitness().compareTo(other.getNeighbourhoodBest().getSocialFitness()) > 0) {
-                    other.setNeighbourhoodBest(current);
+        pso.getEvaluationStrategy().evaluate(topology, new Effect<Particle>() {
+            @Override
+            public void e(Particle current) {
+                for (Particle other : topology.neighbourhood(current)) {
+                    if (EntityProperties.compareSocialFitness(current, other.getNeighbourhoodBest()) > 0) {
+                        other.setNeighbourhoodBest(current);
+                    }
                 }
             }
-        }
+        });
     }
 }
@@ -8,6 +8,8 @@ package net.sourceforge.cilib.pso.particle;
 
 import net.sourceforge.cilib.entity.AbstractEntity;
 import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.entity.EntityProperties;
+import net.sourceforge.cilib.entity.EntityType;
 import net.sourceforge.cilib.entity.initialisation.ConstantInitialisationStrategy;
 import net.sourceforge.cilib.entity.initialisation.InitialisationStrategy;
 import net.sourceforge.cilib.entity.initialisation.RandomInitialisationStrategy;
@@ -16,10 +18,13 @@ import net.sourceforge.cilib.problem.solution.Fitness;
 import net.sourceforge.cilib.pso.guideprovider.GuideProvider;
 import net.sourceforge.cilib.pso.pbestupdate.PersonalBestUpdateStrategy;
 import net.sourceforge.cilib.pso.pbestupdate.StandardPersonalBestUpdateStrategy;
+import net.sourceforge.cilib.pso.positionprovider.IterationNeighbourhoodBestUpdateStrategy;
 import net.sourceforge.cilib.pso.positionprovider.MemoryNeighbourhoodBestUpdateStrategy;
 import net.sourceforge.cilib.pso.positionprovider.NeighbourhoodBestUpdateStrategy;
 import net.sourceforge.cilib.pso.positionprovider.PositionProvider;
 import net.sourceforge.cilib.pso.velocityprovider.VelocityProvider;
+import net.sourceforge.cilib.type.types.Blackboard;
+import net.sourceforge.cilib.type.types.Type;
 import net.sourceforge.cilib.type.types.container.StructuredType;
 
 /**
@@ -43,6 +48,15 @@ public abstract class AbstractParticle extends AbstractEntity implements Particl
      * Default constructor for all Particles.
      */
     public AbstractParticle() {
+        this(new EntityProperties());
+    }
+
+    /**
+     * Create a {@code Particle} that uses the provided properties.
+     * @param properties The properties of the {@code Particle}.
+     */
+    protected AbstractParticle(Blackboard<Enum<?>, Type> properties) {
+        super(properties);
         this.behavior = new ParticleBehavior();
 
         this.velocityInitialisationStrategy = new ConstantInitialisationStrategy<Particle>(0.0);
@@ -315,12 +329,26 @@ public abstract class AbstractParticle extends AbstractEntity implements Particl
         return this.neighbourhoodBestUpdateStrategy.getSocialBestFitness(this);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Enum<?> getSocialFitnessKey() {
+        if (neighbourhoodBestUpdateStrategy instanceof MemoryNeighbourhoodBestUpdateStrategy) {
+            return getBestFitnessKey();
+        }
+        if (neighbourhoodBestUpdateStrategy instanceof IterationNeighbourhoodBestUpdateStrategy) {
+            return EntityType.FITNESS;
+        }
+        return null;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public int compareTo(Entity o) {
-        return this.getFitness().compareTo(o.getFitness());
+        return EntityProperties.compareFitness(this, o);
     }
 
     /**
@@ -0,0 +1,352 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.pso.particle;
+
+import java.util.Map;
+import net.sourceforge.cilib.entity.EntityProperties;
+import net.sourceforge.cilib.entity.EntityType;
+import net.sourceforge.cilib.entity.initialisation.InitialisationStrategy;
+import net.sourceforge.cilib.problem.AbstractProblem;
+import net.sourceforge.cilib.problem.Problem;
+import net.sourceforge.cilib.problem.solution.Fitness;
+import net.sourceforge.cilib.pso.pbestupdate.StandardPersonalBestUpdateStrategy;
+import net.sourceforge.cilib.type.types.Blackboard;
+import net.sourceforge.cilib.type.types.Int;
+import net.sourceforge.cilib.type.types.Type;
+import net.sourceforge.cilib.type.types.container.StructuredType;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * A {@linkplain Particle} that is a view onto one row of a
+ * {@linkplain ParticleArrays}.
+ * <p>
+ * The position, velocity, personal best, fitness values, pbest stagnation
+ * counter and neighbourhood best of the particle are read from and written to
+ * the arrays, also when they are accessed through {@link #getProperties()}.
+ * Other properties are kept by the view itself. The {@linkplain Vector}
+ * instances returned by a view are copies: changes to them must be written
+ * back with {@link #setCandidateSolution(StructuredType)} or by putting them
+ * into the properties.
+ * </p><p>
+ * Cloning a view produces an ordinary {@linkplain StandardParticle}, and a
+ * view is serialised as one.
+ * </p>
+ */
+public final class ArrayParticle extends AbstractParticle {
+
+    private static final long serialVersionUID = 5190347758326152104L;
+
+    private final ParticleArrays arrays;
+    private final int index;
+
+    /**
+     * Create the view of the row {@code index}, sharing the behaviour,
+     * strategies and remaining properties of {@code particle}.
+     */
+    ArrayParticle(ParticleArrays arrays, int index, Particle particle) {
+        super(new ArrayProperties(arrays, index));
+        this.arrays = arrays;
+        this.index = index;
+
+        @SuppressWarnings("unchecked") // Particle declares a raw InitialisationStrategy.
+        InitialisationStrategy<Particle> velocityInitialisation = particle.getVelocityInitialisationStrategy();
+        this.behavior = particle.getParticleBehavior();
+        this.velocityInitialisationStrategy = velocityInitialisation;
+        this.personalBestUpdateStrategy = particle.getPersonalBestUpdateStrategy();
+        this.neighbourhoodBestUpdateStrategy = particle.getNeighbourhoodBestUpdateStrategy();
+        if (particle instanceof AbstractParticle) {
+            AbstractParticle source = (AbstractParticle) particle;
+            this.positionInitialisationStrategy = source.positionInitialisationStrategy;
+            this.personalBestInitialisationStrategy = source.personalBestInitialisationStrategy;
+            this.setFitnessCalculator(source.getFitnessCalculator());
+        }
+
+        for (Map.Entry<Enum<?>, Type> entry : particle.getProperties().entrySet()) {
+            if (!ArrayProperties.isStored(entry.getKey())) {
+                getProperties().put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The clone is a {@linkplain StandardParticle} that is independent of the
+     * arrays.
+     * </p>
+     */
+    @Override
+    public StandardParticle getClone() {
+        return arrays.materialise(index).getClone();
+    }
+
+    /**
+     * Get the {@linkplain ParticleArrays} that store the state of this view.
+     * @return The backing {@linkplain ParticleArrays}.
+     */
+    public ParticleArrays getArrays() {
+        return arrays;
+    }
+
+    /**
+     * Get the row of this view within the backing arrays.
+     * @return The index of this particle.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Vector getPosition() {
+        return arrays.row(arrays.positions, index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Vector getCandidateSolution() {
+        return getPosition();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("rawtypes") // Entity declares a raw StructuredType.
+    public void setCandidateSolution(StructuredType candidateSolution) {
+        arrays.setRow(arrays.positions, index, candidateSolution);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Vector getVelocity() {
+        return arrays.row(arrays.velocities, index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Vector getBestPosition() {
+        return arrays.row(arrays.bestPositions, index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Fitness getFitness() {
+        return arrays.getFitness(arrays.fitness, index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Fitness getBestFitness() {
+        return arrays.getFitness(arrays.bestFitness, index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Enum<?> getBestFitnessKey() {
+        return EntityType.Particle.BEST_FITNESS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getDimension() {
+        return arrays.getDimension();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Particle getNeighbourhoodBest() {
+        int best = arrays.neighbourhoodBest[index];
+        return best < 0 ? arrays.externalBest[index] : arrays.views[best];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setNeighbourhoodBest(Particle particle) {
+        if (particle instanceof ArrayParticle && ((ArrayParticle) particle).arrays == arrays) {
+            arrays.neighbourhoodBest[index] = ((ArrayParticle) particle).index;
+            arrays.externalBest[index] = null;
+        } else {
+            arrays.neighbourhoodBest[index] = -1;
+            arrays.externalBest[index] = particle;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The fitness value is kept in the arrays without creating a
+     * {@linkplain Fitness} when the problem supports it. The standard personal
+     * best update is performed directly on the arrays; other strategies update
+     * the particle through its properties.
+     * </p>
+     */
+    @Override
+    public void calculateFitness() {
+        arrays.fitness.copy(index, arrays.previousFitness);
+        AbstractProblem problem = getFitnessValueProblem();
+        if (problem != null) {
+            arrays.setFitness(arrays.fitness, index, problem.getFitnessValue(getPosition()), problem.getObjective());
+        } else {
+            arrays.setFitness(arrays.fitness, index, getFitnessCalculator().getFitness(this));
+        }
+
+        if (personalBestUpdateStrategy instanceof StandardPersonalBestUpdateStrategy) {
+            arrays.updatePersonalBest(index);
+        } else {
+            personalBestUpdateStrategy.updatePersonalBest(this);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updatePosition() {
+        getProperties().put(EntityType.PREVIOUS_SOLUTION, getPosition());
+        setCandidateSolution(behavior.getPositionProvider().get(this));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateVelocity() {
+        arrays.setRow(arrays.velocities, index, behavior.getVelocityProvider().get(this));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void initialise(Problem problem) {
+        StandardParticle particle = arrays.materialise(index);
+        particle.initialise(problem);
+        arrays.store(index, particle);
+        setNeighbourhoodBest(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reinitialise() {
+        StandardParticle particle = arrays.materialise(index);
+        particle.reinitialise();
+        arrays.store(index, particle);
+    }
+
+    private Object writeReplace() {
+        return arrays.materialise(index);
+    }
+
+    /**
+     * Properties of a view. The values that are kept in the arrays are read
+     * from and written to the arrays; everything else is kept as usual.
+     */
+    private static final class ArrayProperties extends Blackboard<Enum<?>, Type> {
+
+        private static final long serialVersionUID = -1751829405263395216L;
+
+        private final ParticleArrays arrays;
+        private final int index;
+
+        ArrayProperties(ParticleArrays arrays, int index) {
+            this.arrays = arrays;
+            this.index = index;
+        }
+
+        static boolean isStored(Enum<?> key) {
+            return key == EntityType.CANDIDATE_SOLUTION
+                    || key == EntityType.Particle.VELOCITY
+                    || key == EntityType.Particle.BEST_POSITION
+                    || key == EntityType.FITNESS
+                    || key == EntityType.PREVIOUS_FITNESS
+                    || key == EntityType.Particle.BEST_FITNESS
+                    || key == EntityType.Particle.Count.PBEST_STAGNATION_COUNTER;
+        }
+
+        @Override
+        public Type get(Enum<?> key) {
+            if (key == EntityType.CANDIDATE_SOLUTION) {
+                return arrays.row(arrays.positions, index);
+            } else if (key == EntityType.Particle.VELOCITY) {
+                return arrays.row(arrays.velocities, index);
+            } else if (key == EntityType.Particle.BEST_POSITION) {
+                return arrays.row(arrays.bestPositions, index);
+            } else if (arrays.valuesOf(key) != null) {
+                return arrays.getFitness(arrays.valuesOf(key), index);
+            } else if (key == EntityType.Particle.Count.PBEST_STAGNATION_COUNTER) {
+                return Int.valueOf(arrays.stagnation[index]);
+            }
+            return super.get(key);
+        }
+
+        @Override
+        public Type put(Enum<?> key, Type value) {
+            if (!isStored(key)) {
+                return super.put(key, value);
+            }
+
+            Type previous = get(key);
+            if (key == EntityType.CANDIDATE_SOLUTION) {
+                arrays.setRow(arrays.positions, index, (StructuredType) value);
+            } else if (key == EntityType.Particle.VELOCITY) {
+                arrays.setRow(arrays.velocities, index, (StructuredType) value);
+            } else if (key == EntityType.Particle.BEST_POSITION) {
+                arrays.setRow(arrays.bestPositions, index, (StructuredType) value);
+            } else if (arrays.valuesOf(key) != null) {
+                arrays.setFitness(arrays.valuesOf(key), index, (Fitness) value);
+            } else {
+                arrays.stagnation[index] = ((Int) value).intValue();
+            }
+            return previous;
+        }
+
+        @Override
+        protected Map<Enum<?>, Type> asMap() {
+            Map<Enum<?>, Type> map = super.asMap();
+            map.put(EntityType.CANDIDATE_SOLUTION, get(EntityType.CANDIDATE_SOLUTION));
+            map.put(EntityType.Particle.VELOCITY, get(EntityType.Particle.VELOCITY));
+            map.put(EntityType.Particle.BEST_POSITION, get(EntityType.Particle.BEST_POSITION));
+            map.put(EntityType.FITNESS, get(EntityType.FITNESS));
+            map.put(EntityType.PREVIOUS_FITNESS, get(EntityType.PREVIOUS_FITNESS));
+            map.put(EntityType.Particle.BEST_FITNESS, get(EntityType.Particle.BEST_FITNESS));
+            map.put(EntityType.Particle.Count.PBEST_STAGNATION_COUNTER, get(EntityType.Particle.Count.PBEST_STAGNATION_COUNTER));
+            return map;
+        }
+
+        @Override
+        public Blackboard<Enum<?>, Type> getClone() {
+            Blackboard<Enum<?>, Type> copy = new EntityProperties();
+            for (Map.Entry<Enum<?>, Type> entry : asMap().entrySet()) {
+                copy.put(entry.getKey(), entry.getValue().getClone());
+            }
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,397 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.pso.particle;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import net.sourceforge.cilib.entity.EntityType;
+import net.sourceforge.cilib.problem.objective.Maximise;
+import net.sourceforge.cilib.problem.objective.Minimise;
+import net.sourceforge.cilib.problem.objective.Objective;
+import net.sourceforge.cilib.problem.solution.Fitness;
+import net.sourceforge.cilib.problem.solution.InferiorFitness;
+import net.sourceforge.cilib.problem.solution.MaximisationFitness;
+import net.sourceforge.cilib.problem.solution.MinimisationFitness;
+import net.sourceforge.cilib.type.types.Bounds;
+import net.sourceforge.cilib.type.types.Int;
+import net.sourceforge.cilib.type.types.Type;
+import net.sourceforge.cilib.type.types.container.StructuredType;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * Structure-of-arrays storage for a swarm of {@linkplain Particle} instances.
+ * <p>
+ * The positions, velocities and personal best positions of all particles are
+ * kept in three contiguous {@code double[]} matrices of {@code size} rows and
+ * {@code dimension} columns, stored row-major. Fitness values, pbest
+ * stagnation counters and neighbourhood bests are kept in parallel arrays
+ * indexed by particle.
+ * </p><p>
+ * Fitness values are kept as plain values of the {@linkplain Objective} of
+ * the swarm, and are compared without creating {@linkplain Fitness} objects.
+ * A {@linkplain Fitness} is only created when it is obtained through a view.
+ * The swarm therefore only holds {@linkplain MinimisationFitness},
+ * {@linkplain MaximisationFitness} and {@linkplain InferiorFitness} values of
+ * a single objective.
+ * </p><p>
+ * Each particle is presented as an {@linkplain ArrayParticle}: a thin view
+ * onto one row of the arrays, which allows the swarm to be placed in an
+ * ordinary {@linkplain net.sourceforge.cilib.entity.Topology}. Iteration
+ * strategies that know about the arrays may update them directly.
+ * </p><p>
+ * All particles share the {@linkplain Bounds} of the first particle that was
+ * packed, so the swarm must consist of real valued particles of the same
+ * dimension.
+ * </p>
+ */
+public class ParticleArrays implements Serializable {
+
+    private static final long serialVersionUID = -4210861127372590118L;
+    private static final Objective MINIMISE = new Minimise();
+    private static final Objective MAXIMISE = new Maximise();
+
+    private final int size;
+    private final int dimension;
+    private final Bounds[] bounds;
+
+    final double[] positions;
+    final double[] velocities;
+    final double[] bestPositions;
+    final FitnessValues fitness;
+    final FitnessValues previousFitness;
+    final FitnessValues bestFitness;
+    final int[] stagnation;
+    final int[] neighbourhoodBest;
+    final Particle[] externalBest;
+    final ArrayParticle[] views;
+    private Objective objective;
+
+    private ParticleArrays(int size, Bounds[] bounds) {
+        this.size = size;
+        this.dimension = bounds.length;
+        this.bounds = bounds;
+        this.positions = new double[size * dimension];
+        this.velocities = new double[size * dimension];
+        this.bestPositions = new double[size * dimension];
+        this.fitness = new FitnessValues(size);
+        this.previousFitness = new FitnessValues(size);
+        this.bestFitness = new FitnessValues(size);
+        this.stagnation = new int[size];
+        this.neighbourhoodBest = new int[size];
+        this.externalBest = new Particle[size];
+        this.views = new ArrayParticle[size];
+    }
+
+    /**
+     * Pack the provided particles into a new {@code ParticleArrays}. The
+     * state of each particle is copied, and the views share the behaviour and
+     * strategies of the particles they were created from. Neighbourhood bests
+     * that are not part of {@code particles} are retained as references.
+     * @param particles The particles to pack.
+     * @return A new {@code ParticleArrays} holding the state of {@code particles}.
+     */
+    public static ParticleArrays copyOf(List<? extends Particle> particles) {
+        checkArgument(!particles.isEmpty(), "Cannot pack an empty swarm.");
+
+        Vector first = (Vector) particles.get(0).getPosition();
+        Bounds[] bounds = new Bounds[first.size()];
+        for (int j = 0; j < bounds.length; j++) {
+            bounds[j] = first.boundsOf(j);
+        }
+
+        ParticleArrays arrays = new ParticleArrays(particles.size(), bounds);
+        Map<Particle, Integer> indices = new IdentityHashMap<Particle, Integer>();
+        for (int i = 0; i < arrays.size; i++) {
+            Particle particle = particles.get(i);
+            indices.put(particle, i);
+            arrays.views[i] = new ArrayParticle(arrays, i, particle);
+            arrays.store(i, particle);
+        }
+
+        for (int i = 0; i < arrays.size; i++) {
+            Particle best = particles.get(i).getNeighbourhoodBest();
+            Integer index = indices.get(best);
+            if (index != null) {
+                arrays.neighbourhoodBest[i] = index;
+            } else {
+                arrays.neighbourhoodBest[i] = -1;
+                arrays.externalBest[i] = best == null ? arrays.views[i] : best;
+            }
+        }
+        return arrays;
+    }
+
+    /**
+     * Get the number of particles.
+     * @return The number of particles.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Get the dimension of each particle.
+     * @return The dimension.
+     */
+    public int getDimension() {
+        return dimension;
+    }
+
+    /**
+     * Get the view of the particle at the given index.
+     * @param index The index of the particle.
+     * @return The {@linkplain ArrayParticle} for {@code index}.
+     */
+    public ArrayParticle get(int index) {
+        return views[index];
+    }
+
+    /**
+     * Get the views of all the particles, in packing order.
+     * @return An unmodifiable list of the views.
+     */
+    public List<ArrayParticle> getParticles() {
+        return Collections.unmodifiableList(Arrays.asList(views));
+    }
+
+    /**
+     * Get the positions of all particles as a row-major matrix. The array is
+     * the backing storage of the swarm, not a copy.
+     * @return The position matrix.
+     */
+    public double[] getPositions() {
+        return positions;
+    }
+
+    /**
+     * Get the velocities of all particles as a row-major matrix. The array is
+     * the backing storage of the swarm, not a copy.
+     * @return The velocity matrix.
+     */
+    public double[] getVelocities() {
+        return velocities;
+    }
+
+    /**
+     * Get the personal best positions of all particles as a row-major matrix.
+     * The array is the backing storage of the swarm, not a copy.
+     * @return The personal best position matrix.
+     */
+    public double[] getBestPositions() {
+        return bestPositions;
+    }
+
+    /**
+     * Get the index of the neighbourhood best of the particle at
+     * {@code index}, or {@code -1} if the neighbourhood best is not part of
+     * this swarm.
+     * @param index The index of the particle.
+     * @return The index of the neighbourhood best.
+     */
+    public int getNeighbourhoodBest(int index) {
+        return neighbourhoodBest[index];
+    }
+
+    /**
+     * Compare the social fitness of the particles at the given indices, as
+     * {@code get(a).getSocialFitness().compareTo(get(b).getSocialFitness())}.
+     * @param a The index of the first particle.
+     * @param b The index of the second particle.
+     * @return The ordering of the social fitness of {@code a} relative to that of {@code b}.
+     */
+    public int compareSocialFitness(int a, int b) {
+        FitnessValues first = valuesOf(views[a].getSocialFitnessKey());
+        FitnessValues second = valuesOf(views[b].getSocialFitnessKey());
+        if (first == null || second == null) {
+            return views[a].getSocialFitness().compareTo(views[b].getSocialFitness());
+        }
+        return compare(first, a, second, b);
+    }
+
+    /**
+     * Determine whether the position and velocity of the particle at
+     * {@code index} are within the bounds of the swarm.
+     * @param index The index of the particle.
+     * @return {@code true} if no element is outside of its bounds.
+     */
+    public boolean isInsideBounds(int index) {
+        int offset = index * dimension;
+        for (int j = 0; j < dimension; j++) {
+            if (!bounds[j].isInsideBounds(positions[offset + j]) || !bounds[j].isInsideBounds(velocities[offset + j])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Create an ordinary {@linkplain StandardParticle} with the state and
+     * strategies of the particle at {@code index}. The returned particle is
+     * independent of the arrays; use {@link #store(int, Particle)} to copy
+     * its state back.
+     * @param index The index of the particle.
+     * @return A new {@linkplain StandardParticle}.
+     */
+    public StandardParticle materialise(int index) {
+        ArrayParticle view = views[index];
+        StandardParticle particle = new StandardParticle();
+        particle.setParticleBehavior(view.behavior);
+        particle.setVelocityInitialisationStrategy(view.velocityInitialisationStrategy);
+        particle.setPositionInitialisationStrategy(view.positionInitialisationStrategy);
+        particle.setPersonalBestInitialisationStrategy(view.personalBestInitialisationStrategy);
+        particle.setPersonalBestUpdateStrategy(view.personalBestUpdateStrategy);
+        particle.setNeighbourhoodBestUpdateStrategy(view.neighbourhoodBestUpdateStrategy);
+        particle.setFitnessCalculator(view.getFitnessCalculator());
+
+        for (Map.Entry<Enum<?>, Type> entry : view.getProperties().entrySet()) {
+            particle.getProperties().put(entry.getKey(), entry.getValue());
+        }
+        particle.setNeighbourhoodBest(view.getNeighbourhoodBest());
+        return particle;
+    }
+
+    /**
+     * Copy the state of the provided particle into the row at {@code index}.
+     * The neighbourhood best of the particle is not copied.
+     * @param index The index of the row to overwrite.
+     * @param particle The particle to copy.
+     */
+    public void store(int index, Particle particle) {
+        checkArgument(particle.getDimension() == dimension, "Particle dimension does not match the swarm.");
+        int offset = index * dimension;
+        copy((Vector) particle.getPosition(), positions, offset);
+        copy((Vector) particle.getVelocity(), velocities, offset);
+        copy((Vector) particle.getBestPosition(), bestPositions, offset);
+
+        setFitness(fitness, index, particle.getFitness());
+        setFitness(bestFitness, index, particle.getBestFitness());
+        setFitness(previousFitness, index, (Fitness) particle.getProperties().get(EntityType.PREVIOUS_FITNESS));
+
+        Int counter = (Int) particle.getProperties().get(EntityType.Particle.Count.PBEST_STAGNATION_COUNTER);
+        stagnation[index] = counter == null ? 0 : counter.intValue();
+    }
+
+    /**
+     * Personal best update of {@linkplain net.sourceforge.cilib.pso.pbestupdate.StandardPersonalBestUpdateStrategy},
+     * performed on the arrays.
+     */
+    void updatePersonalBest(int index) {
+        if (compare(fitness, index, bestFitness, index) > 0) {
+            views[index].behavior.incrementSuccessCounter();
+            stagnation[index] = 0;
+            fitness.copy(index, bestFitness);
+            System.arraycopy(positions, index * dimension, bestPositions, index * dimension, dimension);
+            return;
+        }
+        stagnation[index]++;
+    }
+
+    Vector row(double[] matrix, int index) {
+        return Vector.copyOf(Arrays.copyOfRange(matrix, index * dimension, (index + 1) * dimension), bounds);
+    }
+
+    void setRow(double[] matrix, int index, StructuredType<?> value) {
+        Vector vector = (Vector) value;
+        checkArgument(vector.size() == dimension, "Vector dimension does not match the swarm.");
+        copy(vector, matrix, index * dimension);
+    }
+
+    private static void copy(Vector vector, double[] matrix, int offset) {
+        for (int j = 0, n = vector.size(); j < n; j++) {
+            matrix[offset + j] = vector.doubleValueOf(j);
+        }
+    }
+
+    /**
+     * Get the fitness property of the particle at {@code index}.
+     */
+    Fitness getFitness(FitnessValues values, int index) {
+        return values.inferior[index] ? InferiorFitness.instance() : objective.evaluate(values.values[index]);
+    }
+
+    /**
+     * Set the fitness property of the particle at {@code index}. A missing
+     * fitness is inferior.
+     */
+    void setFitness(FitnessValues values, int index, Fitness value) {
+        if (value == null || value == InferiorFitness.instance()) {
+            values.inferior[index] = true;
+            return;
+        }
+        checkArgument(value instanceof MinimisationFitness || value instanceof MaximisationFitness,
+                "A swarm only holds minimisation and maximisation fitness values.");
+        setFitness(values, index, value.doubleValue(), value instanceof MaximisationFitness ? MAXIMISE : MINIMISE);
+    }
+
+    /**
+     * Set the fitness property of the particle at {@code index} to a value
+     * of the provided {@linkplain Objective}.
+     */
+    void setFitness(FitnessValues values, int index, double value, Objective objective) {
+        checkArgument(this.objective == null || this.objective.getClass() == objective.getClass(),
+                "The fitness values of a swarm must share an objective.");
+        this.objective = objective;
+        values.values[index] = value;
+        values.inferior[index] = false;
+    }
+
+    /**
+     * Get the fitness property that holds the values of the provided key.
+     */
+    FitnessValues valuesOf(Enum<?> key) {
+        if (key == EntityType.FITNESS) {
+            return fitness;
+        } else if (key == EntityType.PREVIOUS_FITNESS) {
+            return previousFitness;
+        } else if (key == EntityType.Particle.BEST_FITNESS) {
+            return bestFitness;
+        }
+        return null;
+    }
+
+    /**
+     * Compare two fitness values, as {@code Fitness.compareTo} would.
+     */
+    private int compare(FitnessValues a, int i, FitnessValues b, int j) {
+        if (a.inferior[i]) {
+            return b.inferior[j] ? 0 : -1;
+        }
+        if (b.inferior[j]) {
+            return 1;
+        }
+        return objective.compare(a.values[i], b.values[j]);
+    }
+
+    /**
+     * One fitness property of every particle in the swarm: either a value of
+     * the objective of the swarm, or inferior.
+     */
+    static final class FitnessValues implements Serializable {
+
+        private static final long serialVersionUID = 1074769366262046227L;
+
+        final double[] values;
+        final boolean[] inferior;
+
+        FitnessValues(int size) {
+            this.values = new double[size];
+            this.inferior = new boolean[size];
+            Arrays.fill(inferior, true);
+        }
+
+        void copy(int index, FitnessValues to) {
+            to.values[index] = values[index];
+            to.inferior[index] = inferior[index];
+        }
+    }
+}
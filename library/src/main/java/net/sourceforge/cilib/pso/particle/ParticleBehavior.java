@@ -6,6 +6,7 @@
  */
 package net.sourceforge.cilib.pso.particle;
 
+import java.io.Serializable;
 import net.sourceforge.cilib.pso.guideprovider.GuideProvider;
 import net.sourceforge.cilib.pso.guideprovider.NBestGuideProvider;
 import net.sourceforge.cilib.pso.guideprovider.PBestGuideProvider;
@@ -19,7 +20,9 @@ import net.sourceforge.cilib.pso.velocityprovider.VelocityProvider;
  * and {@link VelocityUpdateStrategy} that a particle uses.
  *
  */
-public class ParticleBehavior implements Comparable<ParticleBehavior> {
+public class ParticleBehavior implements Comparable<ParticleBehavior>, Serializable {
+
+    private static final long serialVersionUID = 6473914943604032920L;
 
     private PositionProvider positionProvider;
     private VelocityProvider velocityProvider;
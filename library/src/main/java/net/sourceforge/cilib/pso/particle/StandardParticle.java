@@ -6,6 +6,7 @@
  */
 package net.sourceforge.cilib.pso.particle;
 
+import net.sourceforge.cilib.entity.EntityProperties;
 import net.sourceforge.cilib.entity.EntityType;
 import net.sourceforge.cilib.problem.Problem;
 import net.sourceforge.cilib.problem.solution.Fitness;
@@ -70,6 +71,14 @@ public class StandardParticle extends AbstractParticle {
         return (Fitness) this.getProperties().get(EntityType.Particle.BEST_FITNESS);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Enum<?> getBestFitnessKey() {
+        return EntityType.Particle.BEST_FITNESS;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -146,9 +155,8 @@ public class StandardParticle extends AbstractParticle {
      */
     @Override
     public void calculateFitness() {
-        Fitness fitness = getFitnessCalculator().getFitness(this);
-        this.getProperties().put(EntityType.PREVIOUS_FITNESS, this.getFitness());
-        this.getProperties().put(EntityType.FITNESS, fitness);
+        EntityProperties.copyFitness(this, EntityType.FITNESS, EntityType.PREVIOUS_FITNESS);
+        updateFitness();
 
         this.personalBestUpdateStrategy.updatePersonalBest(this);
     }
@@ -6,6 +6,7 @@
  */
 package net.sourceforge.cilib.pso.pbestupdate;
 
+import net.sourceforge.cilib.entity.EntityProperties;
 import net.sourceforge.cilib.entity.EntityType;
 import net.sourceforge.cilib.pso.particle.Particle;
 import net.sourceforge.cilib.type.types.Int;
@@ -39,10 +40,10 @@ public class StandardPersonalBestUpdateStrategy implements PersonalBestUpdateStr
      */
     @Override
     public void updatePersonalBest(Particle particle) {
-        if (particle.getFitness().compareTo(particle.getBestFitness()) > 0) {
+        if (EntityProperties.compareFitnessToBest(particle) > 0) {
             particle.getParticleBehavior().incrementSuccessCounter();
             particle.getProperties().put(EntityType.Particle.Count.PBEST_STAGNATION_COUNTER, Int.valueOf(0));
-            particle.getProperties().put(EntityType.Particle.BEST_FITNESS, particle.getFitness());
+            EntityProperties.copyFitness(particle, EntityType.FITNESS, EntityType.Particle.BEST_FITNESS);
             particle.getProperties().put(EntityType.Particle.BEST_POSITION, particle.getPosition().getClone());
             return;
         }
@@ -0,0 +1,129 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.pso.velocityprovider;
+
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
+import net.sourceforge.cilib.controlparameter.ControlParameter;
+import net.sourceforge.cilib.pso.particle.Particle;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * Implementation of the standard velocity update equation that evaluates
+ * the complete update within a single {@link Vector.Accumulator}. Only the
+ * resulting velocity {@code Vector} is allocated.
+ * <p>
+ * The update is equivalent to {@link StandardVelocityProvider}, except that
+ * each {@code ControlParameter} is obtained once per particle rather than
+ * once per dimension. If none of the control parameters are random, the
+ * results are identical for the same seed.
+ */
+public final class FusedVelocityProvider implements VelocityProvider {
+
+    private static final long serialVersionUID = -5317302460215438733L;
+
+    private ControlParameter inertiaWeight;
+    private ControlParameter socialAcceleration;
+    private ControlParameter cognitiveAcceleration;
+
+    /** Creates a new instance of FusedVelocityProvider. */
+    public FusedVelocityProvider() {
+        this(ConstantControlParameter.of(0.729844),
+            ConstantControlParameter.of(1.496180),
+            ConstantControlParameter.of(1.496180));
+    }
+
+    public FusedVelocityProvider(ControlParameter inertia, ControlParameter social, ControlParameter cog) {
+        this.inertiaWeight = inertia;
+        this.socialAcceleration = social;
+        this.cognitiveAcceleration = cog;
+    }
+
+    /**
+     * Copy constructor.
+     * @param copy The object to copy.
+     */
+    public FusedVelocityProvider(FusedVelocityProvider copy) {
+        this.inertiaWeight = copy.inertiaWeight.getClone();
+        this.cognitiveAcceleration = copy.cognitiveAcceleration.getClone();
+        this.socialAcceleration = copy.socialAcceleration.getClone();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FusedVelocityProvider getClone() {
+        return new FusedVelocityProvider(this);
+    }
+
+    /**
+     * Perform the velocity update for the given <tt>Particle</tt>.
+     * @param particle The Particle velocity that should be updated.
+     */
+    @Override
+    public Vector get(Particle particle) {
+        Vector position = (Vector) particle.getPosition();
+
+        return Vector.newAccumulator((Vector) particle.getVelocity())
+                .scale(inertiaWeight.getParameter())
+                .addScaledRandom(cognitiveAcceleration.getParameter(), (Vector) particle.getLocalGuide(), position)
+                .addScaledRandom(socialAcceleration.getParameter(), (Vector) particle.getGlobalGuide(), position)
+                .build();
+    }
+
+    /**
+     * Get the <code>ControlParameter</code> representing the inertia weight of
+     * the VelocityProvider.
+     * @return Returns the inertia component <tt>ControlParameter</tt>.
+     */
+    public ControlParameter getInertiaWeight() {
+        return inertiaWeight;
+    }
+
+    /**
+     * Set the <tt>ControlParameter</tt> for the inertia weight of the velocity
+     * update equation.
+     * @param inertiaWeight The inertiaWeight to set.
+     */
+    public void setInertiaWeight(ControlParameter inertiaWeight) {
+        this.inertiaWeight = inertiaWeight;
+    }
+
+    /**
+     * Gets the <tt>ControlParameter</tt> representing the cognitive component within this
+     * <code>VelocityProvider</code>.
+     * @return Returns the cognitiveComponent.
+     */
+    public ControlParameter getCognitiveAcceleration() {
+        return cognitiveAcceleration;
+    }
+
+    /**
+     * Set the cognitive component <code>ControlParameter</code>.
+     * @param cognitiveComponent The cognitiveComponent to set.
+     */
+    public void setCognitiveAcceleration(ControlParameter cognitiveComponent) {
+        this.cognitiveAcceleration = cognitiveComponent;
+    }
+
+    /**
+     * Get the <tt>ControlParameter</tt> representing the social component of
+     * the velocity update equation.
+     * @return Returns the socialComponent.
+     */
+    public ControlParameter getSocialAcceleration() {
+        return socialAcceleration;
+    }
+
+    /**
+     * Set the <tt>ControlParameter</tt> for the social component.
+     * @param socialComponent The socialComponent to set.
+     */
+    public void setSocialAcceleration(ControlParameter socialComponent) {
+        this.socialAcceleration = socialComponent;
+    }
+}
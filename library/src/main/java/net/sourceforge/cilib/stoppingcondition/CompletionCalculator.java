@@ -6,10 +6,12 @@
  */
 package net.sourceforge.cilib.stoppingcondition;
 
+import java.io.Serializable;
+
 /**
  * An interface defining the predicate to use with a MeasuredStoppingCondition.
  */
-public interface CompletionCalculator {
+public interface CompletionCalculator extends Serializable {
     
     public double getPercentage(double actualValue, double targetValue);
     
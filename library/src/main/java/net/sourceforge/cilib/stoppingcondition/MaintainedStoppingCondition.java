@@ -14,6 +14,8 @@ import net.sourceforge.cilib.measurement.single.diversity.Diversity;
  * for a number of consecutive iterations.
  */
 public class MaintainedStoppingCondition implements StoppingCondition<Algorithm> {
+
+    private static final long serialVersionUID = -8663828214632785943L;
     
     private int consecutiveIterations;
     private int count;
@@ -12,6 +12,8 @@ import com.google.common.base.Preconditions;
  * A stopping predicate used to stop an algorithm when a measurement is greater than or equal to a value.
  */
 public class Maximum implements CompletionCalculator {
+
+    private static final long serialVersionUID = 3015622914424129177L;
     
     private double percentage;
     
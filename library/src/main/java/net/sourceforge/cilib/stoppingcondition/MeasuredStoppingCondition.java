@@ -18,6 +18,8 @@ import net.sourceforge.cilib.type.types.Numeric;
  * stops it when the population's diversity is less than or equal to 0.01, etc.
  */
 public class MeasuredStoppingCondition implements StoppingCondition<Algorithm> {
+
+    private static final long serialVersionUID = -7629719789279235135L;
     
     private CompletionCalculator predicate;
     private double target;
@@ -10,6 +10,8 @@ package net.sourceforge.cilib.stoppingcondition;
  * A stopping predicate used to stop an algorithm when a measurement is less than or equal to a value.
  */
 public class Minimum implements CompletionCalculator {
+
+    private static final long serialVersionUID = 1607152582913827585L;
     
     private double percentage;
     private double maxValue;
@@ -7,6 +7,7 @@
 package net.sourceforge.cilib.stoppingcondition;
 
 import com.google.common.base.Predicate;
+import java.io.Serializable;
 import net.sourceforge.cilib.algorithm.Algorithm;
 
 /**
@@ -21,7 +22,7 @@ import net.sourceforge.cilib.algorithm.Algorithm;
  * weights etc.
  * </p>
  */
-public interface StoppingCondition<T extends Algorithm> extends Predicate<T> {
+public interface StoppingCondition<T extends Algorithm> extends Predicate<T>, Serializable {
 
     /**
      * Determines the percentage complete for the associated algorithm.
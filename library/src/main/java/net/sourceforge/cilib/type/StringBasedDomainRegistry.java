@@ -17,6 +17,7 @@ public class StringBasedDomainRegistry implements DomainRegistry {
     private static final long serialVersionUID = 3821361290684036030L;
     private String domainString;
     private StructuredType builtRepresenation;
+    private boolean dense;
 
 
     /**
@@ -32,6 +33,7 @@ public class StringBasedDomainRegistry implements DomainRegistry {
      */
     public StringBasedDomainRegistry(StringBasedDomainRegistry copy) {
         this.domainString = copy.domainString;
+        this.dense = copy.dense;
         this.builtRepresenation = copy.builtRepresenation.getClone();
     }
 
@@ -58,7 +60,29 @@ public class StringBasedDomainRegistry implements DomainRegistry {
     @Override
     public void setDomainString(String domainString) {
         this.domainString = domainString;
-        this.builtRepresenation = net.sourceforge.cilib.type.parser.DomainParser.parse(domainString);
+        this.builtRepresenation = net.sourceforge.cilib.type.parser.DomainParser.parse(domainString, dense);
+    }
+
+    /**
+     * Determine if domains consisting only of {@code Real} types are built
+     * as dense {@code Vector} instances.
+     * @return {@code true} if the dense representation is used.
+     */
+    public boolean isDense() {
+        return dense;
+    }
+
+    /**
+     * Set whether domains consisting only of {@code Real} types should be
+     * built as dense {@code Vector} instances. If the domain string has
+     * already been set, the representation is rebuilt.
+     * @param dense {@code true} to use the dense representation.
+     */
+    public void setDense(boolean dense) {
+        this.dense = dense;
+        if (domainString != null) {
+            setDomainString(domainString);
+        }
     }
 
     /**
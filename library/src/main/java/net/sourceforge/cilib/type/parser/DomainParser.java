@@ -39,7 +39,21 @@ public final class DomainParser {
      * @return A {@code TypeList} is returned by default, but if the type is defined
      *         to consist of {@code Numeric} types, a {@code Vector} instance is returned.
      */
-    public synchronized static <E extends StructuredType<? extends Type>> E parse(String domain) {
+    public static <E extends StructuredType<? extends Type>> E parse(String domain) {
+        return parse(domain, false);
+    }
+
+    /**
+     * Parse the provided domain string and return the constructed representation.
+     * @param <E> The structured type.
+     * @param domain The string to parse.
+     * @param dense {@code true} if a domain consisting only of {@code Real}
+     *        types should be built as a dense {@code Vector}.
+     * @return A {@code TypeList} is returned by default, but if the type is defined
+     *         to consist of {@code Numeric} types, a {@code Vector} instance is returned.
+     * @see Vector#isDense()
+     */
+    public synchronized static <E extends StructuredType<? extends Type>> E parse(String domain, boolean dense) {
         final ReportingParseRunner<String> expander = new ReportingParseRunner<String>(EXPANDING_PARSER.Expansion());
         final ParsingResult<String> d = expander.run(domain.replaceAll(" ", ""));
 
@@ -68,7 +82,7 @@ public final class DomainParser {
 
         if (isVector(l)) {
             @SuppressWarnings("unchecked")
-            E vector = (E) toVector(l);
+            E vector = (E) toVector(l, dense);
             return vector;
         }
 
@@ -106,15 +120,16 @@ public final class DomainParser {
      * Convert the provided {@code representation} into a {@code Vector}.
      *
      * @param representation The {@code StructuredType} to convert.
+     * @param dense {@code true} if the dense representation should be used.
      * @return The converted vector object.
      */
-    private static Vector toVector(List<Type> representation) {
+    private static Vector toVector(List<Type> representation, boolean dense) {
         Vector.Builder vector = Vector.newBuilder();
 
         for (Type type : representation) {
             vector.add((Numeric) type);
         }
 
-        return vector.build();
+        return dense ? vector.buildDense() : vector.build();
     }
 }
@@ -6,40 +6,85 @@
  */
 package net.sourceforge.cilib.type.types;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Simple {@code Blackboard} implementation.
+ * <p>
+ * Values with {@code enum} keys, such as the {@code EntityType} properties
+ * of entities, are kept in an array: every {@code enum} type is assigned a
+ * range of slots once, and a key is located by its ordinal within that range.
+ * Getting or putting such a value therefore needs no hashing, and copying a
+ * {@code Blackboard} only copies the array. Other keys are kept in a map.
+ * </p><p>
+ * A {@code Blackboard} created with {@link #share()} refers to the values of
+ * the original board and only clones a value when it is obtained from it, so
+ * that values which are replaced before they are read are never cloned.
+ * </p><p>
+ * A {@code Blackboard} is not safe for concurrent modification.
+ * </p><p>
+ * Subclasses may keep some values elsewhere by overriding {@link #get(Object)},
+ * {@link #put(Object, Type)} and {@link #asMap()} together.
+ * </p>
  *
  * @param <K> The key type.
  * @param <V> The value type.
  */
-public final class Blackboard<K, V extends Type> implements Type {
+public class Blackboard<K, V extends Type> implements Type {
 
     private static final long serialVersionUID = -2589625146223946484L;
-    private final Map<K, V> board;
+    private static final Object[] EMPTY = new Object[0];
+    private static volatile Enum<?>[] keys = new Enum<?>[0];
+    private static final ClassValue<Integer> OFFSETS = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            synchronized (OFFSETS) {
+                Enum<?>[] constants = (Enum<?>[]) type.getEnumConstants();
+                int offset = keys.length;
+                Enum<?>[] extended = Arrays.copyOf(keys, offset + constants.length);
+                System.arraycopy(constants, 0, extended, offset, constants.length);
+                keys = extended;
+                return offset;
+            }
+        }
+    };
+
+    private transient Object[] slots;
+    private transient boolean[] shared;
+    private transient Map<K, V> board;
 
     /**
      * Create a new empty {@code Blackboard} container.
      */
     public Blackboard() {
-        this.board = new HashMap<K, V>();
+        this.slots = EMPTY;
     }
 
     /**
      * Copy constructor. Create a copy of the provided instance.
      * @param copy The instance to copy.
      */
+    @SuppressWarnings({"unchecked"})
     public Blackboard(Blackboard<K, V> copy) {
-        this.board = new ConcurrentHashMap<K, V>();
-        for (Map.Entry<K, V> entry : copy.board.entrySet()) {
-            K key = entry.getKey();
-            @SuppressWarnings({"unchecked"})
-            V value = (V) entry.getValue().getClone();
-            this.board.put(key, value);
+        this.slots = new Object[copy.slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            if (copy.slots[i] != null) {
+                this.slots[i] = ((V) copy.slots[i]).getClone();
+            }
+        }
+
+        if (copy.board != null) {
+            this.board = new HashMap<K, V>();
+            for (Map.Entry<K, V> entry : copy.board.entrySet()) {
+                this.board.put(entry.getKey(), (V) entry.getValue().getClone());
+            }
         }
     }
 
@@ -52,6 +97,79 @@ public final class Blackboard<K, V extends Type> implements Type {
         return new Blackboard<K, V>(this);
     }
 
+    /**
+     * Create a copy of this {@code Blackboard} that shares the values of
+     * this board. A shared value is cloned when it is first obtained from the
+     * copy, and is never cloned if it is replaced in the copy before then.
+     * The shared values must not be modified through this board until the
+     * copy has obtained them or {@link #unshare()} has been called on the
+     * copy. Values with keys that are not {@code enum} constants are cloned
+     * immediately.
+     * @return A new {@code Blackboard} that shares the values of this one.
+     */
+    @SuppressWarnings({"unchecked"})
+    public Blackboard<K, V> share() {
+        if (getClass() == Blackboard.class) {
+            return shareSlots(new Blackboard<K, V>());
+        }
+
+        Blackboard<K, V> copy = new Blackboard<K, V>();
+        for (Map.Entry<K, V> entry : asMap().entrySet()) {
+            if (entry.getKey() instanceof Enum) {
+                copy.put(entry.getKey(), entry.getValue());
+            } else {
+                copy.put(entry.getKey(), (V) entry.getValue().getClone());
+            }
+        }
+        copy.shared = new boolean[copy.slots.length];
+        for (int i = 0; i < copy.slots.length; i++) {
+            copy.shared[i] = copy.slots[i] != null;
+        }
+        return copy;
+    }
+
+    /**
+     * Make the provided, empty, {@code Blackboard} share the values of this
+     * board, as described by {@link #share()}. Subclasses that keep all of
+     * their values in this board may use this to implement {@link #share()}.
+     * @param copy The empty {@code Blackboard} to share the values with.
+     * @return The provided {@code copy}.
+     */
+    @SuppressWarnings({"unchecked"})
+    protected final <B extends Blackboard<K, V>> B shareSlots(B copy) {
+        unshare();
+        Blackboard<K, V> target = copy;
+        target.slots = slots.clone();
+        target.shared = new boolean[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            target.shared[i] = slots[i] != null;
+        }
+        if (board != null) {
+            for (Map.Entry<K, V> entry : board.entrySet()) {
+                target.put(entry.getKey(), (V) entry.getValue().getClone());
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Clone the values that are still shared with the {@code Blackboard}
+     * that this board was created from by {@link #share()}. Afterwards the
+     * two boards are independent.
+     */
+    @SuppressWarnings({"unchecked"})
+    public void unshare() {
+        if (shared == null) {
+            return;
+        }
+        for (int i = 0; i < shared.length; i++) {
+            if (shared[i]) {
+                slots[i] = ((V) slots[i]).getClone();
+            }
+        }
+        shared = null;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -66,7 +184,7 @@ public final class Blackboard<K, V extends Type> implements Type {
         }
 
         Blackboard<?, ?> other = (Blackboard<?, ?>) obj;
-        return this.board.equals(other.board);
+        return this.asMap().equals(other.asMap());
     }
 
     /**
@@ -75,7 +193,7 @@ public final class Blackboard<K, V extends Type> implements Type {
     @Override
     public int hashCode() {
         int hash = 7;
-        hash = 31 * hash + (this.board == null ? 0 : this.board.hashCode());
+        hash = 31 * hash + asMap().hashCode();
         return hash;
     }
 
@@ -84,16 +202,36 @@ public final class Blackboard<K, V extends Type> implements Type {
      */
     @Override
     public String toString() {
-        return this.board.toString();
+        return asMap().toString();
     }
 
     /**
      * Put the provided key / value pair into the {@code Blackboard}.
      * @param key The key value for the pair.
      * @param value The value associated with the key.
-     * @return The provided value.
+     * @return The value previously associated with the key, {@code null} otherwise.
      */
+    @SuppressWarnings({"unchecked"})
     public V put(K key, V value) {
+        if (key instanceof Enum) {
+            int slot = slotOf((Enum<?>) key);
+            if (slot >= slots.length) {
+                if (value == null) {
+                    return null;
+                }
+                slots = Arrays.copyOf(slots, Math.max(slot + 1, keys.length));
+            }
+            V previous = (V) slots[slot];
+            slots[slot] = value;
+            if (shared != null && slot < shared.length) {
+                shared[slot] = false;
+            }
+            return previous;
+        }
+
+        if (board == null) {
+            board = new HashMap<K, V>();
+        }
         return this.board.put(key, value);
     }
 
@@ -102,15 +240,70 @@ public final class Blackboard<K, V extends Type> implements Type {
      * @param key The key to obtained the value of.
      * @return The associated value to the key.
      */
+    @SuppressWarnings({"unchecked"})
     public V get(K key) {
-        return this.board.get(key);
+        if (key instanceof Enum) {
+            int slot = slotOf((Enum<?>) key);
+            if (slot >= slots.length) {
+                return null;
+            }
+            if (shared != null && slot < shared.length && shared[slot]) {
+                slots[slot] = ((V) slots[slot]).getClone();
+                shared[slot] = false;
+            }
+            return (V) slots[slot];
+        }
+        return board == null ? null : this.board.get(key);
     }
 
     /**
-     * Obtain a {@code Set} of key / value pairs.
+     * Obtain a {@code Set} of key / value pairs. The set is a snapshot of the
+     * current contents of the {@code Blackboard}.
      * @return The set of values.
      */
     public Set<Map.Entry<K, V>> entrySet() {
-        return this.board.entrySet();
+        return asMap().entrySet();
+    }
+
+    private static int slotOf(Enum<?> key) {
+        return OFFSETS.get(key.getDeclaringClass()) + key.ordinal();
+    }
+
+    /**
+     * Create a map of the contents of the {@code Blackboard}.
+     * @return A new map containing the key / value pairs.
+     */
+    @SuppressWarnings({"unchecked"})
+    protected Map<K, V> asMap() {
+        unshare();
+        Map<K, V> map = new LinkedHashMap<K, V>();
+        Enum<?>[] registered = keys;
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] != null) {
+                map.put((K) registered[i], (V) slots[i]);
+            }
+        }
+        if (board != null) {
+            map.putAll(board);
+        }
+        return map;
+    }
+
+    /**
+     * The slots of the {@code enum} types depend on the order in which the
+     * types are first used, so the contents are serialised as a map.
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeObject(new HashMap<K, V>(asMap()));
+    }
+
+    @SuppressWarnings({"unchecked"})
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        this.slots = EMPTY;
+        for (Map.Entry<K, V> entry : ((Map<K, V>) in.readObject()).entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
     }
 }
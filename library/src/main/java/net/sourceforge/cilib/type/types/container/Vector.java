@@ -8,6 +8,7 @@ package net.sourceforge.cilib.type.types.container;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
 import com.google.common.base.Predicate;
 import com.google.common.collect.Lists;
 import com.google.common.collect.UnmodifiableIterator;
@@ -40,6 +41,18 @@ import net.sourceforge.cilib.type.types.container.Vector;
  *
  * <p>{@code Vector} additionally implements a functional interface.
  *
+ * <p>A {@code Vector} that consists only of {@link Real} elements may be
+ * created in a <em>dense</em> representation (see {@link #copyOf(double[], Bounds[])}
+ * and {@link Builder#buildDense()}). A dense {@code Vector} stores its values
+ * in a primitive {@code double[]} and shares a single array of {@code Bounds}
+ * with all vectors derived from it, so arithmetic does not allocate a
+ * {@code Real} per element. Elements obtained through {@link #get(int)} or
+ * the {@link #iterator()} of a dense {@code Vector} are copies; modifications
+ * must be made through the {@code Vector} itself (e.g. {@link #setReal(int, double)}
+ * or {@link #randomise(int)}). Operations that cannot be expressed on the
+ * dense representation transparently convert the {@code Vector} back to the
+ * general representation.
+ *
  * <p><strong>Note: Many methods have been deprecated from previous versions
  * of this class.</strong> The applied deprecations have been made to enable a
  * clearer API of usage for the user. All constructors have been deprecated in
@@ -54,7 +67,10 @@ public class Vector implements StructuredType<Numeric>,
         VectorMath, RandomAccess {
 
     private static final long serialVersionUID = -4853190809813810272L;
+    private static final Bounds DEFAULT_BOUNDS = new Bounds(-Double.MAX_VALUE, Double.MAX_VALUE);
     private Numeric[] components;
+    private double[] values;
+    private Bounds[] bounds;
 
     /**
      * Returns an empty {@code Vector}.
@@ -129,9 +145,37 @@ public class Vector implements StructuredType<Numeric>,
      *         {@code Vector}.
      */
     public static Vector copyOf(Vector input) {
+        if (input.isDense()) {
+            return new Vector(input.values.clone(), input.bounds);
+        }
         return newBuilder().copyOf(input).build(); // this is a little weird :(
     }
 
+    /**
+     * Create a dense {@code Vector} of {@code Real} elements from the provided
+     * values. All elements are unbounded.
+     * @param values The values of the elements. The array is copied.
+     * @return A new dense {@code Vector} instance.
+     */
+    public static Vector copyOf(double[] values) {
+        Bounds[] unbounded = new Bounds[values.length];
+        Arrays.fill(unbounded, DEFAULT_BOUNDS);
+        return new Vector(values.clone(), unbounded);
+    }
+
+    /**
+     * Create a dense {@code Vector} of {@code Real} elements from the provided
+     * values and {@code Bounds}. The {@code bounds} array is shared, not copied,
+     * and must not be modified after the call.
+     * @param values The values of the elements. The array is copied.
+     * @param bounds The {@code Bounds} of each element.
+     * @return A new dense {@code Vector} instance.
+     */
+    public static Vector copyOf(double[] values, Bounds[] bounds) {
+        checkArgument(values.length == bounds.length, "Values and bounds must have the same length");
+        return new Vector(values.clone(), bounds);
+    }
+
     public static Vector fill(Numeric n, int size) {
     	Numeric[] a = new Numeric[size];
     	for (int i = 0; i < size; i++) {
@@ -162,6 +206,38 @@ public class Vector implements StructuredType<Numeric>,
         this.components = elements;
     }
 
+    private Vector(double[] values, Bounds[] bounds) {
+        this.values = values;
+        this.bounds = bounds;
+    }
+
+    /**
+     * Determine if this {@code Vector} uses the dense {@code double[]}
+     * representation.
+     * @return {@code true} if the {@code Vector} is dense, {@code false} otherwise.
+     */
+    public boolean isDense() {
+        return values != null;
+    }
+
+    /**
+     * Convert a dense {@code Vector} into the general representation. This
+     * is required before elements that are not {@code Real} instances may be
+     * stored.
+     */
+    private void inflate() {
+        if (values == null) {
+            return;
+        }
+        Numeric[] array = new Numeric[values.length];
+        for (int i = 0; i < values.length; i++) {
+            array[i] = Real.valueOf(values[i], bounds[i]);
+        }
+        components = array;
+        values = null;
+        bounds = null;
+    }
+
     /**
      * {@inheritDoc}
      * @deprecated Use {@link Vector#copyOf(java.lang.Iterable)} instead.
@@ -189,7 +265,22 @@ public class Vector implements StructuredType<Numeric>,
         }
 
         Vector otherList = (Vector) obj;
-        return Arrays.deepEquals(components, otherList.components);
+        if (isDense() && otherList.isDense()) {
+            return Arrays.equals(values, otherList.values)
+                    && Arrays.equals(bounds, otherList.bounds);
+        }
+        if (!isDense() && !otherList.isDense()) {
+            return Arrays.deepEquals(components, otherList.components);
+        }
+        if (size() != otherList.size()) {
+            return false;
+        }
+        for (int i = 0, n = size(); i < n; i++) {
+            if (!get(i).equals(otherList.get(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -199,16 +290,27 @@ public class Vector implements StructuredType<Numeric>,
     @Override
     public int hashCode() {
         int hash = 7;
+        if (isDense()) {
+            int elements = 1;
+            for (int i = 0; i < values.length; i++) {
+                elements = 31 * elements + get(i).hashCode();
+            }
+            return 31 * hash + elements;
+        }
         hash = 31 * hash + (this.components == null ? 0 : Arrays.hashCode(components));
         return hash;
     }
 
     /**
-     * Get the {@code Numeric} at the provided {@code index}.
+     * Get the {@code Numeric} at the provided {@code index}. If the {@code Vector}
+     * is dense, a new {@code Real} containing the value is returned.
      * @param index The index of the {@code Numeric} in the {@code Vector}.
      * @return The {@code Numeric} at index {@code index}.
      */
     public Numeric get(int index) {
+        if (values != null) {
+            return Real.valueOf(values[index], bounds[index]);
+        }
         return components[index];
     }
 
@@ -220,6 +322,13 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Deprecated
     public void set(int index, Numeric value) {
+        if (values != null) {
+            if (value instanceof Real && value.getBounds().equals(bounds[index])) {
+                values[index] = value.doubleValue();
+                return;
+            }
+            inflate();
+        }
         this.components[index] = value;
     }
 
@@ -229,6 +338,13 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Override
     public Object[] toArray() {
+        if (values != null) {
+            Object[] copy = new Object[values.length];
+            for (int i = 0; i < values.length; i++) {
+                copy[i] = get(i);
+            }
+            return copy;
+        }
         Object[] copy = new Object[components.length];
         int index = 0;
         for (Numeric n : components) {
@@ -237,6 +353,40 @@ public class Vector implements StructuredType<Numeric>,
         return copy;
     }
 
+    /**
+     * Obtain the values of this {@code Vector} as a primitive array. The
+     * returned array is a copy and may be freely modified.
+     * @return A new {@code double[]} containing the values of this {@code Vector}.
+     */
+    public double[] toDoubleArray() {
+        if (values != null) {
+            return values.clone();
+        }
+
+        double[] array = new double[components.length];
+        for (int i = 0; i < components.length; i++) {
+            array[i] = components[i].doubleValue();
+        }
+        return array;
+    }
+
+    /**
+     * Subtract the provided {@code Vector} from this {@code Vector}, writing
+     * the result into {@code result} instead of allocating a new {@code Vector}.
+     * @param vector The {@code Vector} to subtract.
+     * @param result The array to receive the result, of at least {@code size()} elements.
+     * @return The {@code result} array.
+     */
+    public double[] subtractInto(Vector vector, double[] result) {
+        if (this.size() != vector.size()) {
+            throw new UnsupportedOperationException("Cannot subtract vectors with differing dimensions");
+        }
+        for (int i = 0, n = size(); i < n; i++) {
+            result[i] = doubleValueOf(i) - vector.doubleValueOf(i);
+        }
+        return result;
+    }
+
     /**
      * Obtain a sublist from {@code fromIndex} to {@code toIndex}, where {@code toIndex} is excluded.
      * @param fromIndex The starting point.
@@ -244,6 +394,9 @@ public class Vector implements StructuredType<Numeric>,
      * @return A {@code Vector} which is a subset of the current {@code Vector}.
      */
     public Vector copyOfRange(final int fromIndex, final int toIndex) {
+        if (values != null) {
+            return new Vector(Arrays.copyOfRange(values, fromIndex, toIndex), Arrays.copyOfRange(bounds, fromIndex, toIndex));
+        }
         return new Vector(Arrays.copyOfRange(components, fromIndex, toIndex));
     }
 
@@ -256,6 +409,7 @@ public class Vector implements StructuredType<Numeric>,
     @Deprecated
     @Override
     public boolean add(Numeric element) {
+        inflate();
         Numeric[] array = new Numeric[components.length + 1];
         System.arraycopy(components, 0, array, 0, components.length);
         array[array.length - 1] = element;
@@ -274,6 +428,7 @@ public class Vector implements StructuredType<Numeric>,
     @Deprecated
     @Override
     public boolean addAll(Collection<? extends Numeric> c) {
+        inflate();
         int size = components.length + c.size();
         Numeric[] array = new Numeric[size];
         System.arraycopy(components, 0, array, 0, components.length);
@@ -294,6 +449,7 @@ public class Vector implements StructuredType<Numeric>,
      * @deprecated Use the {@code Vector.Builder} instead.
      */
     public boolean insert(int index, Numeric element) {
+        inflate();
         Numeric[] array = new Numeric[components.length + 1];
         System.arraycopy(components, 0, array, 0, index);
         array[index] = element;
@@ -311,6 +467,8 @@ public class Vector implements StructuredType<Numeric>,
     @Override
     public void clear() {
         this.components = new Numeric[]{};
+        this.values = null;
+        this.bounds = null;
     }
 
     /**
@@ -323,8 +481,8 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Override
     public boolean contains(Object o) {
-        for (int i = 0; i < components.length; i++) {
-            if (o.equals(components[i])) {
+        for (int i = 0, n = size(); i < n; i++) {
+            if (o.equals(get(i))) {
                 return true;
             }
         }
@@ -337,6 +495,9 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Override
     public boolean isEmpty() {
+        if (values != null) {
+            return values.length == 0;
+        }
         for (int i = 0; i < components.length; i++) {
             if (components[i] != null) {
                 return false;
@@ -358,12 +519,12 @@ public class Vector implements StructuredType<Numeric>,
 
             @Override
             public final boolean hasNext() {
-                return index < components.length;
+                return index < size();
             }
 
             @Override
             public final Numeric next() {
-                return components[index++];
+                return get(index++);
             }
         };
     }
@@ -378,8 +539,8 @@ public class Vector implements StructuredType<Numeric>,
     @Deprecated
     @Override
     public boolean remove(Object o) {
-        for (int i = 0; i < components.length; i++) {
-            if (components[i].equals(o)) {
+        for (int i = 0, n = size(); i < n; i++) {
+            if (get(i).equals(o)) {
                 return remove(i);
             }
         }
@@ -387,6 +548,7 @@ public class Vector implements StructuredType<Numeric>,
     }
 
     private boolean remove(final int index) {
+        inflate();
         Numeric[] array = new Numeric[components.length - 1];
         int count = 0;
         for (int i = 0; i < index; i++) {
@@ -419,7 +581,7 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Override
     public int size() {
-        return this.components.length;
+        return (values != null) ? values.length : this.components.length;
     }
 
     /**
@@ -428,7 +590,7 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Override
     public void accept(Visitor<Numeric> visitor) {
-        for (Numeric numeric : this.components) {
+        for (Numeric numeric : this) {
             if (!visitor.isDone()) {
                 visitor.visit(numeric);
             }
@@ -440,12 +602,19 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Override
     public final Vector plus(Vector vector) {
-        if (this.components.length != vector.size()) {
+        if (this.size() != vector.size()) {
             throw new UnsupportedOperationException("Cannot add vectors with differing dimensions");
         }
+        if (values != null) {
+            double[] result = new double[values.length];
+            for (int i = 0, n = values.length; i < n; i++) {
+                result[i] = values[i] + vector.doubleValueOf(i);
+            }
+            return new Vector(result, bounds);
+        }
         Numeric[] result = new Numeric[components.length];
         for (int i = 0, n = components.length; i < n; i++) {
-            result[i] = Real.valueOf(components[i].doubleValue() + vector.components[i].doubleValue(), components[i].getBounds());
+            result[i] = Real.valueOf(components[i].doubleValue() + vector.doubleValueOf(i), components[i].getBounds());
         }
         return new Vector(result);
     }
@@ -455,12 +624,19 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Override
     public final Vector subtract(Vector vector) {
-        if (this.components.length != vector.size()) {
+        if (this.size() != vector.size()) {
             throw new UnsupportedOperationException("Cannot subtract vectors with differing dimensions");
         }
+        if (values != null) {
+            double[] result = new double[values.length];
+            for (int i = 0, n = values.length; i < n; i++) {
+                result[i] = values[i] - vector.doubleValueOf(i);
+            }
+            return new Vector(result, bounds);
+        }
         Numeric[] result = new Numeric[components.length];
         for (int i = 0, n = components.length; i < n; i++) {
-            result[i] = Real.valueOf(components[i].doubleValue() - vector.components[i].doubleValue(), components[i].getBounds());
+            result[i] = Real.valueOf(components[i].doubleValue() - vector.doubleValueOf(i), components[i].getBounds());
         }
         return new Vector(result);
     }
@@ -481,10 +657,24 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Override
     public final Vector multiply(double scalar) {
+        if (values != null) {
+            double[] result = new double[values.length];
+            for (int i = 0, n = values.length; i < n; i++) {
+                result[i] = values[i] * scalar;
+            }
+            return new Vector(result, bounds);
+        }
         return multiply(P.<Number>p(scalar));
     }
 
     public final Vector multiply(P1<Number> supplier) {
+        if (values != null) {
+            double[] result = new double[values.length];
+            for (int i = 0, n = values.length; i < n; i++) {
+                result[i] = values[i] * supplier._1().doubleValue();
+            }
+            return new Vector(result, bounds);
+        }
         Numeric[] result = new Numeric[components.length];
         for (int i = 0, n = components.length; i < n; i++) {
             result[i] = Real.valueOf(components[i].doubleValue() * supplier._1().doubleValue(), components[i].getBounds());
@@ -497,6 +687,13 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Override
     public final double norm() {
+        if (values != null) {
+            double sum = 0.0;
+            for (int i = 0, n = values.length; i < n; i++) {
+                sum += values[i] * values[i];
+            }
+            return Math.sqrt(sum);
+        }
         return Math.sqrt(foldLeft(0, new F<Numeric, Double>() {
             @Override
             public Double f(Numeric x) {
@@ -538,7 +735,7 @@ public class Vector implements StructuredType<Numeric>,
         }
 
         double result = 0.0;
-        for (int i = 0, n = components.length; i < n; i++) {
+        for (int i = 0, n = size(); i < n; i++) {
             result += this.doubleValueOf(i) * vector.doubleValueOf(i);
         }
         return result;
@@ -557,7 +754,7 @@ public class Vector implements StructuredType<Numeric>,
             throw new ArithmeticException("Cannot determine the cross product on non 3-dimensional vectors.");
         }
 
-        Numeric[] n = new Numeric[components.length];
+        Numeric[] n = new Numeric[3];
         n[0] = Real.valueOf(this.doubleValueOf(1) * vector.doubleValueOf(2) - this.doubleValueOf(2) * vector.doubleValueOf(1));
         n[1] = Real.valueOf(-(vector.doubleValueOf(2) * this.doubleValueOf(0) - vector.doubleValueOf(0) * this.doubleValueOf(2)));
         n[2] = Real.valueOf(this.doubleValueOf(0) * vector.doubleValueOf(1) - this.doubleValueOf(1) * vector.doubleValueOf(0));
@@ -571,8 +768,8 @@ public class Vector implements StructuredType<Numeric>,
      * @return True if the vector is a zero vector, false otherwise
      */
     public boolean isZero() {
-        for (Numeric n : this) {
-            if (Double.compare(n.doubleValue(), 0.0) != 0) {
+        for (int i = 0, n = size(); i < n; i++) {
+            if (Double.compare(doubleValueOf(i), 0.0) != 0) {
                 return false;
             }
         }
@@ -616,9 +813,22 @@ public class Vector implements StructuredType<Numeric>,
     @Deprecated
     @Override
     public void randomise() {
-        for (int i = 0; i < components.length; i++) {
-            this.components[i].randomise();
+        for (int i = 0, n = size(); i < n; i++) {
+            randomise(i);
+        }
+    }
+
+    /**
+     * Randomise the element at {@code index} within its {@code Bounds}.
+     * @param index The index of the element to randomise.
+     */
+    public void randomise(int index) {
+        if (values != null) {
+            Bounds b = bounds[index];
+            values[index] = Rand.nextDouble() * (b.getUpperBound() - b.getLowerBound()) + b.getLowerBound();
+            return;
         }
+        this.components[index].randomise();
     }
 
     /**
@@ -627,6 +837,10 @@ public class Vector implements StructuredType<Numeric>,
      * @param value The value to be set.
      */
     public void setReal(int index, double value) {
+        if (values != null) {
+            values[index] = value;
+            return;
+        }
         this.components[index] = Real.valueOf(value, components[index].getBounds());
     }
 
@@ -638,7 +852,7 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Deprecated
     public double getReal(int index) {
-        return this.components[index].doubleValue();
+        return doubleValueOf(index);
     }
 
     /**
@@ -647,6 +861,7 @@ public class Vector implements StructuredType<Numeric>,
      * @param value The value to be set.
      */
     public void setInt(int index, int value) {
+        inflate();
         this.components[index] = Int.valueOf(value, components[index].getBounds());
     }
 
@@ -658,7 +873,7 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Deprecated
     public int getInt(int index) {
-        return this.components[index].intValue();
+        return intValueOf(index);
     }
 
     /**
@@ -667,6 +882,7 @@ public class Vector implements StructuredType<Numeric>,
      * @param value The value to be set.
      */
     public void setBit(int index, boolean value) {
+        inflate();
         this.components[index] = Bit.valueOf(value);
     }
 
@@ -678,7 +894,7 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Deprecated
     public boolean getBit(int index) {
-        return this.components[index].booleanValue();
+        return booleanValueOf(index);
     }
 
     /**
@@ -687,6 +903,9 @@ public class Vector implements StructuredType<Numeric>,
      * @return {@code double} value of index within {@code Vector}.
      */
     public double doubleValueOf(int index) {
+        if (values != null) {
+            return values[index];
+        }
         return this.components[index].doubleValue();
     }
 
@@ -696,7 +915,7 @@ public class Vector implements StructuredType<Numeric>,
      * @return {@code integer} value of index within {@code Vector}.
      */
     public int intValueOf(int index) {
-        return this.components[index].intValue();
+        return get(index).intValue();
     }
 
     /**
@@ -705,7 +924,7 @@ public class Vector implements StructuredType<Numeric>,
      * @return {@code boolean} value of index within {@code Vector}.
      */
     public boolean booleanValueOf(int index) {
-        return components[index].booleanValue();
+        return get(index).booleanValue();
     }
 
     /**
@@ -732,13 +951,20 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Override
     public <T> T[] toArray(T[] a) {
-        if (a.length < components.length) {
+        Numeric[] elements = this.components;
+        if (values != null) {
+            elements = new Numeric[values.length];
+            for (int i = 0; i < values.length; i++) {
+                elements[i] = get(i);
+            }
+        }
+        if (a.length < elements.length) {
             // Make a new array of a's runtime type, but my contents:
-            return (T[]) Arrays.copyOf(components, components.length, a.getClass());
+            return (T[]) Arrays.copyOf(elements, elements.length, a.getClass());
         }
-        System.arraycopy(components, 0, a, 0, components.length);
-        if (a.length > components.length) {
-            a[components.length] = null;
+        System.arraycopy(elements, 0, a, 0, elements.length);
+        if (a.length > elements.length) {
+            a[elements.length] = null;
         }
         return a;
     }
@@ -784,6 +1010,9 @@ public class Vector implements StructuredType<Numeric>,
      *         index {@code index}.
      */
     public Bounds boundsOf(int index) {
+        if (bounds != null) {
+            return bounds[index];
+        }
         return components[index].getBounds();
     }
 
@@ -802,10 +1031,10 @@ public class Vector implements StructuredType<Numeric>,
         builder.append("[");
         int index = 0;
         if (size() >= 1) {
-            builder.append(components[index++]);
+            builder.append(get(index++));
         }
-        for (int i = index; i < components.length; i++) {
-            builder.append(",").append(components[index++]);
+        for (int i = index, n = size(); i < n; i++) {
+            builder.append(",").append(get(index++));
         }
         builder.append("]");
         return builder.toString();
@@ -819,9 +1048,9 @@ public class Vector implements StructuredType<Numeric>,
      * @return A new {@code Vector} containing the transformed elements.
      */
     public Vector map(F<Numeric, Numeric> function) {
-        Numeric[] result = new Numeric[components.length];
-        for (int i = 0, n = components.length; i < n; i++) {
-            result[i] = function.f(components[i]);
+        Numeric[] result = new Numeric[size()];
+        for (int i = 0, n = result.length; i < n; i++) {
+            result[i] = function.f(get(i));
         }
         return new Vector(result);
     }
@@ -832,8 +1061,8 @@ public class Vector implements StructuredType<Numeric>,
      * @return a {@code Vector} containing the filtered elements.
      */
     public Vector filter(Predicate<Numeric> predicate) {
-        List<Numeric> result = Lists.newArrayListWithCapacity(components.length);
-        for (Numeric n : components) {
+        List<Numeric> result = Lists.newArrayListWithCapacity(size());
+        for (Numeric n : this) {
             if (predicate.apply(n)) {
                 result.add(n);
             }
@@ -853,8 +1082,8 @@ public class Vector implements StructuredType<Numeric>,
      */
     public double foldLeft(double initial, F<Numeric, Double> function) {
         double acc = initial;
-        for (int i = 0, n = components.length; i < n; i++) {
-            acc += function.f(components[i]);
+        for (int i = 0, n = size(); i < n; i++) {
+            acc += function.f(get(i));
         }
         return acc;
     }
@@ -908,6 +1137,16 @@ public class Vector implements StructuredType<Numeric>,
         return new Builder();
     }
 
+    /**
+     * Obtain an {@link Accumulator} that starts with the values of the
+     * provided {@code Vector}. The provided {@code Vector} is not modified.
+     * @param initial The initial values of the {@link Accumulator}.
+     * @return A new {@link Accumulator}.
+     */
+    public static Accumulator newAccumulator(Vector initial) {
+        return new Accumulator(initial);
+    }
+
     /**
      * A builder for creating {@code Vector} instances. It is especially
      * useful for creating constant instances that do not change:
@@ -1062,6 +1301,27 @@ public class Vector implements StructuredType<Numeric>,
             return new Vector(elements.toArray(new Numeric[]{}));
         }
 
+        /**
+         * Construct a dense {@code Vector} from the built up elements within
+         * the {@code Builder}. If any of the elements is not a {@link Real},
+         * the general representation is used, as with {@link #build()}.
+         * @return a new {@code Vector} instance created from the
+         *         {@code Builder}.
+         */
+        public Vector buildDense() {
+            double[] values = new double[elements.size()];
+            Bounds[] bounds = new Bounds[elements.size()];
+            int index = 0;
+            for (Numeric element : elements) {
+                if (!(element instanceof Real)) {
+                    return build();
+                }
+                values[index] = element.doubleValue();
+                bounds[index++] = element.getBounds();
+            }
+            return new Vector(values, bounds);
+        }
+
         /**
          * Construct a {@code Vector} from the built up elements within the
          * {@code Builder}. All elements are randomised upon {@code Vector}
@@ -1083,4 +1343,158 @@ public class Vector implements StructuredType<Numeric>,
             return new Vector(numerics);
         }
     }
+
+    /**
+     * A mutable accumulator used to evaluate a sequence of {@code Vector}
+     * operations without creating an intermediate {@code Vector} for each
+     * operation. All operations modify the accumulated values in place, in
+     * the spirit of the BLAS {@code axpy} operation:
+     * <pre>{@code
+     *   Vector velocity = Vector.newAccumulator(v)
+     *       .scale(w)
+     *       .addScaledRandom(c1, pbest, x)
+     *       .addScaledRandom(c2, nbest, x)
+     *       .build();}
+     * </pre>
+     * <p>
+     * The resulting {@code Vector} contains {@code Real} elements with the
+     * {@code Bounds} of the initial {@code Vector}, and is dense if the
+     * initial {@code Vector} is dense. An {@code Accumulator} may not be
+     * used after {@link #build()} has been called.
+     */
+    public static final class Accumulator {
+
+        private double[] values;
+        private final Bounds[] bounds;
+        private final boolean dense;
+        private double[] random;
+
+        private Accumulator(Vector initial) {
+            this.values = initial.toDoubleArray();
+            this.dense = initial.isDense();
+            if (dense) {
+                this.bounds = initial.bounds;
+            } else {
+                this.bounds = new Bounds[values.length];
+                for (int i = 0; i < values.length; i++) {
+                    bounds[i] = initial.boundsOf(i);
+                }
+            }
+        }
+
+        private double[] values(Vector vector) {
+            checkState(values != null, "Accumulator has already been built.");
+            checkArgument(vector == null || vector.size() == values.length, "Cannot accumulate vectors with differing dimensions");
+            return values;
+        }
+
+        /**
+         * Multiply the accumulated values by {@code scalar}.
+         * @param scalar The value to multiply with.
+         * @return The current {@code Accumulator} for chaining operations.
+         */
+        public Accumulator scale(double scalar) {
+            double[] acc = values(null);
+            for (int i = 0; i < acc.length; i++) {
+                acc[i] *= scalar;
+            }
+            return this;
+        }
+
+        /**
+         * Add the provided {@code Vector} to the accumulated values.
+         * @param vector The {@code Vector} to add.
+         * @return The current {@code Accumulator} for chaining operations.
+         */
+        public Accumulator add(Vector vector) {
+            return addScaled(1.0, vector);
+        }
+
+        /**
+         * Subtract the provided {@code Vector} from the accumulated values.
+         * @param vector The {@code Vector} to subtract.
+         * @return The current {@code Accumulator} for chaining operations.
+         */
+        public Accumulator subtract(Vector vector) {
+            return addScaled(-1.0, vector);
+        }
+
+        /**
+         * Add {@code scalar * vector} to the accumulated values.
+         * @param scalar The value to scale {@code vector} with.
+         * @param vector The {@code Vector} to add.
+         * @return The current {@code Accumulator} for chaining operations.
+         */
+        public Accumulator addScaled(double scalar, Vector vector) {
+            double[] acc = values(vector);
+            if (vector.values != null) {
+                double[] x = vector.values;
+                for (int i = 0; i < acc.length; i++) {
+                    acc[i] += scalar * x[i];
+                }
+                return this;
+            }
+            for (int i = 0; i < acc.length; i++) {
+                acc[i] += scalar * vector.doubleValueOf(i);
+            }
+            return this;
+        }
+
+        /**
+         * Add {@code scalar * (a - b)} to the accumulated values.
+         * @param scalar The value to scale the difference with.
+         * @param a The {@code Vector} to subtract from.
+         * @param b The {@code Vector} to subtract.
+         * @return The current {@code Accumulator} for chaining operations.
+         */
+        public Accumulator addScaledDifference(double scalar, Vector a, Vector b) {
+            double[] acc = values(a);
+            values(b);
+            for (int i = 0; i < acc.length; i++) {
+                acc[i] += scalar * (a.doubleValueOf(i) - b.doubleValueOf(i));
+            }
+            return this;
+        }
+
+        /**
+         * Add {@code scalar * r * (a - b)} to the accumulated values, where
+         * {@code r} is a vector of uniform random numbers in {@code [0,1)}.
+         * The random numbers are drawn in order of increasing index.
+         * @param scalar The value to scale the difference with.
+         * @param a The {@code Vector} to subtract from.
+         * @param b The {@code Vector} to subtract.
+         * @return The current {@code Accumulator} for chaining operations.
+         */
+        public Accumulator addScaledRandom(double scalar, Vector a, Vector b) {
+            double[] acc = values(a);
+            values(b);
+            if (random == null) {
+                random = new double[acc.length];
+            }
+            Rand.nextDoubles(random);
+            for (int i = 0; i < acc.length; i++) {
+                acc[i] += scalar * (a.doubleValueOf(i) - b.doubleValueOf(i)) * random[i];
+            }
+            return this;
+        }
+
+        /**
+         * Construct a {@code Vector} from the accumulated values. The
+         * accumulated values are handed over to the created {@code Vector}
+         * without being copied.
+         * @return a new {@code Vector} instance.
+         */
+        public Vector build() {
+            double[] result = values(null);
+            values = null;
+            if (dense) {
+                return new Vector(result, bounds);
+            }
+            Numeric[] elements = new Numeric[result.length];
+            for (int i = 0; i < result.length; i++) {
+                elements[i] = Real.valueOf(result[i], bounds[i]);
+            }
+            return new Vector(elements);
+        }
+    }
 }
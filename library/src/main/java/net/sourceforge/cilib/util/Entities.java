@@ -8,6 +8,7 @@ package net.sourceforge.cilib.util;
 
 import java.util.ArrayList;
 import java.util.List;
+import net.sourceforge.cilib.entity.AbstractEntity;
 import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.type.types.container.StructuredType;
 
@@ -29,4 +30,35 @@ public class Entities {
         
         return solutions;
     }
+
+    /**
+     * Create an offspring of the given entity, of which at least the
+     * candidate solution is about to be replaced. The offspring may share
+     * state with {@code parent}, and must be given to
+     * {@link #promote(Entity)} before it replaces an entity in a population.
+     * @param parent The entity to create an offspring of.
+     * @return The offspring.
+     * @see AbstractEntity#getOffspring()
+     */
+    @SuppressWarnings("unchecked") // An offspring is an instance of the class of its parent.
+    public static <E extends Entity> E offspringOf(E parent) {
+        if (parent instanceof AbstractEntity) {
+            return (E) ((AbstractEntity) parent).getOffspring();
+        }
+        return (E) parent.getClone();
+    }
+
+    /**
+     * Make an offspring created by {@link #offspringOf(Entity)} independent
+     * of its parent.
+     * @param offspring The offspring to promote.
+     * @return The given offspring.
+     * @see AbstractEntity#promote()
+     */
+    public static <E extends Entity> E promote(E offspring) {
+        if (offspring instanceof AbstractEntity) {
+            ((AbstractEntity) offspring).promote();
+        }
+        return offspring;
+    }
 }
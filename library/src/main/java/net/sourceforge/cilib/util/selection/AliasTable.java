@@ -0,0 +1,136 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.util.selection;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import net.sourceforge.cilib.math.random.generator.Rand;
+
+/**
+ * Walker's alias table for sampling indices in proportion to a fixed set of
+ * weights.
+ * <p>
+ * The table is built in linear time with Vose's method, after which every
+ * sample takes constant time, regardless of the number of weights: an index
+ * is drawn uniformly and is either kept or replaced by its alias, depending
+ * on a second uniform random number. Indices with a weight of zero are never
+ * sampled. All random numbers are obtained from {@link Rand}.
+ * </p>
+ */
+public final class AliasTable {
+
+    private final double[] weights;
+    private final double[] probability;
+    private final int[] alias;
+    private final double total;
+
+    private AliasTable(double[] weights, double[] probability, int[] alias, double total) {
+        this.weights = weights;
+        this.probability = probability;
+        this.alias = alias;
+        this.total = total;
+    }
+
+    /**
+     * Build the alias table of the given weights.
+     * @param weights The non-negative weights of the indices.
+     * @return A new {@code AliasTable}.
+     * @throws IllegalArgumentException if a weight is negative or not finite.
+     */
+    public static AliasTable of(double... weights) {
+        int n = weights.length;
+        double total = 0.0;
+        for (double weight : weights) {
+            checkArgument(weight >= 0.0 && !Double.isInfinite(weight), "Invalid weight: %s", weight);
+            total += weight;
+        }
+
+        double[] probability = new double[n];
+        int[] alias = new int[n];
+        if (total == 0.0) {
+            return new AliasTable(weights.clone(), probability, alias, total);
+        }
+
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int s = small[--smallCount];
+            int l = large[--largeCount];
+            probability[s] = scaled[s];
+            alias[s] = l;
+            scaled[l] = (scaled[l] + scaled[s]) - 1.0;
+            if (scaled[l] < 1.0) {
+                small[smallCount++] = l;
+            } else {
+                large[largeCount++] = l;
+            }
+        }
+
+        // Whatever remains differs from 1 only by rounding error
+        while (largeCount > 0) {
+            int l = large[--largeCount];
+            probability[l] = 1.0;
+            alias[l] = l;
+        }
+        while (smallCount > 0) {
+            int s = small[--smallCount];
+            probability[s] = weights[s] > 0.0 ? 1.0 : 0.0;
+            alias[s] = s;
+        }
+        return new AliasTable(weights.clone(), probability, alias, total);
+    }
+
+    /**
+     * Get the number of indices in the table.
+     * @return The number of weights the table was built from.
+     */
+    public int size() {
+        return weights.length;
+    }
+
+    /**
+     * Get the sum of the weights.
+     * @return The total weight.
+     */
+    public double getTotal() {
+        return total;
+    }
+
+    /**
+     * Get the weight of an index.
+     * @param index The index.
+     * @return The weight of {@code index}.
+     */
+    public double getWeight(int index) {
+        return weights[index];
+    }
+
+    /**
+     * Sample an index with probability proportional to its weight.
+     * @return The sampled index.
+     * @throws IllegalStateException if all weights are zero.
+     */
+    public int sample() {
+        if (total == 0.0) {
+            throw new IllegalStateException("Selection is invalid, please verify selection state.");
+        }
+        int index = Rand.nextInt(weights.length);
+        return Rand.nextDouble() < probability[index] ? index : alias[index];
+    }
+}
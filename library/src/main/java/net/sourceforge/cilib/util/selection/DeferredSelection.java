@@ -0,0 +1,87 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.util.selection;
+
+import com.google.common.base.Predicate;
+import java.util.List;
+import net.sourceforge.cilib.util.selection.arrangement.Arrangement;
+
+/**
+ * A {@linkplain PartialSelection} that draws single elements from a
+ * {@linkplain PreparedSelection}, and only builds the general form of the
+ * selection when any other operation is requested.
+ *
+ * @param <T> The selection type.
+ */
+public abstract class DeferredSelection<T> implements PartialSelection<T> {
+
+    private final PreparedSelection<T> prepared;
+
+    /**
+     * Create a selection that draws single elements from {@code prepared}.
+     * @param prepared The prepared form of the selection.
+     */
+    protected DeferredSelection(PreparedSelection<T> prepared) {
+        this.prepared = prepared;
+    }
+
+    /**
+     * The selection that this selection represents, in its general form.
+     * @return A new {@linkplain PartialSelection}.
+     */
+    protected abstract PartialSelection<T> general();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked") // The items are only passed on.
+    public PartialSelection<T> exclude(T... items) {
+        return general().exclude(items);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PartialSelection<T> exclude(Iterable<T> items) {
+        return general().exclude(items);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PartialSelection<T> filter(Predicate<? super T> predicate) {
+        return general().filter(predicate);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("rawtypes") // OrderableSelection declares a raw Arrangement.
+    public OrderableSelection<T> orderBy(Arrangement arrangement) {
+        return general().orderBy(arrangement);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T select() {
+        return prepared.select();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<T> select(Samples samples) {
+        return general().select(samples);
+    }
+}
@@ -0,0 +1,41 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.util.selection;
+
+import java.util.List;
+
+/**
+ * A selection process that has been prepared for a fixed collection of
+ * elements, from which elements may be drawn repeatedly.
+ * <p>
+ * Selection processes such as roulette wheel or rank based selection need to
+ * weigh or sort the elements before an element can be drawn. A prepared
+ * selection performs that work once, so that an algorithm that draws many
+ * times from the same population within an iteration only pays for it once.
+ * Every call draws independently of the previous calls. The collection must
+ * not be modified while the prepared selection is in use.
+ * </p>
+ *
+ * @param <T> The selection type.
+ */
+public interface PreparedSelection<T> {
+
+    /**
+     * Draw a single element.
+     * @return The selected element.
+     */
+    T select();
+
+    /**
+     * Draw the given number of distinct elements. The result is the same as
+     * that of selecting {@code Samples.first(number)} from the full
+     * selection process.
+     * @param number The number of elements to select.
+     * @return A list of the selected elements, in order of selection.
+     */
+    List<T> select(int number);
+}
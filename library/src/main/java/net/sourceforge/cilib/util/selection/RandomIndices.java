@@ -0,0 +1,141 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.util.selection;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Arrays;
+import net.sourceforge.cilib.math.random.generator.Rand;
+
+/**
+ * Sampling of indices without replacement.
+ * <p>
+ * Selecting a few random elements from a list does not require the list to
+ * be copied or shuffled: it is enough to select random indices into the
+ * list. Small samples are drawn with Floyd's algorithm, which needs only
+ * {@code k} random numbers and no storage beyond the result; larger samples
+ * are drawn with a partial Fisher-Yates shuffle of an index array.
+ * </p><p>
+ * All random numbers are obtained from {@link Rand}, and every sample is in
+ * random order: each ordered selection of {@code k} distinct indices is
+ * equally likely.
+ * </p>
+ */
+public final class RandomIndices {
+
+    /** Samples up to this size are drawn with Floyd's algorithm. */
+    private static final int FLOYD_LIMIT = 16;
+
+    private RandomIndices() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Select {@code k} distinct indices from {@code [0, n)}.
+     * @param n The number of indices to select from.
+     * @param k The number of indices to select.
+     * @return An array of {@code k} distinct indices in random order.
+     * @throws IllegalArgumentException if {@code k} is negative or greater than {@code n}.
+     */
+    public static int[] sample(int n, int k) {
+        checkArgument(k >= 0 && k <= n, "Cannot sample %s distinct indices from %s.", k, n);
+        int[] result = new int[k];
+        if (k <= FLOYD_LIMIT && k < n / 2) {
+            floyd(n, result);
+        } else {
+            int[] indices = new int[n];
+            for (int i = 0; i < n; i++) {
+                indices[i] = i;
+            }
+            partialShuffle(indices, k);
+            System.arraycopy(indices, 0, result, 0, k);
+        }
+        return result;
+    }
+
+    /**
+     * Select {@code k} distinct indices from {@code [0, n)}, none of which
+     * is one of the {@code excluded} indices. Negative excluded indices are
+     * ignored, which allows the result of a failed {@code indexOf} to be
+     * passed directly, and duplicates are only excluded once.
+     * @param n The number of indices to select from.
+     * @param k The number of indices to select.
+     * @param excluded The indices that may not be selected.
+     * @return An array of {@code k} distinct indices in random order.
+     * @throws IllegalArgumentException if fewer than {@code k} indices remain.
+     */
+    public static int[] sampleExcluding(int n, int k, int... excluded) {
+        int[] sorted = excluded.clone();
+        Arrays.sort(sorted);
+        int count = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            checkArgument(sorted[i] < n, "Excluded index %s is out of range.", sorted[i]);
+            if (sorted[i] >= 0 && (count == 0 || sorted[count - 1] != sorted[i])) {
+                sorted[count++] = sorted[i];
+            }
+        }
+
+        int[] result = sample(n - count, k);
+        for (int i = 0; i < k; i++) {
+            // Map [0, n - count) onto [0, n) without the excluded indices
+            int index = result[i];
+            for (int j = 0; j < count && sorted[j] <= index; j++) {
+                index++;
+            }
+            result[i] = index;
+        }
+        return result;
+    }
+
+    /**
+     * Move {@code k} randomly selected elements of {@code indices} to its
+     * front, in random order. This is the first {@code k} steps of a
+     * Fisher-Yates shuffle; the remaining elements are left in an unspecified
+     * order, so the same array may be passed again to draw a new sample.
+     * @param indices The array to partially shuffle.
+     * @param k The number of elements to select.
+     */
+    public static void partialShuffle(int[] indices, int k) {
+        checkArgument(k >= 0 && k <= indices.length, "Cannot sample %s elements from %s.", k, indices.length);
+        for (int i = 0; i < k; i++) {
+            int j = i + Rand.nextInt(indices.length - i);
+            int swap = indices[i];
+            indices[i] = indices[j];
+            indices[j] = swap;
+        }
+    }
+
+    /**
+     * Floyd's algorithm, modified to produce the sample in random order: when
+     * the candidate {@code j} is already selected, {@code j} itself is
+     * selected and placed directly before the earlier selection.
+     */
+    private static void floyd(int n, int[] result) {
+        int k = result.length;
+        int size = 0;
+        for (int j = n - k; j < n; j++) {
+            int t = Rand.nextInt(j + 1);
+            int position = indexOf(result, size, t);
+            if (position < 0) {
+                result[size++] = t;
+            } else {
+                System.arraycopy(result, position, result, position + 1, size - position);
+                result[position] = j;
+                size++;
+            }
+        }
+    }
+
+    private static int indexOf(int[] values, int size, int value) {
+        for (int i = 0; i < size; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,143 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.util.selection;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.Predicate;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.util.selection.arrangement.Arrangement;
+import net.sourceforge.cilib.util.selection.arrangement.RandomArrangement;
+
+/**
+ * A {@linkplain PartialSelection} of the elements of a list in random order.
+ * <p>
+ * This is equivalent to {@code Selection.copyOf(list).orderBy(new RandomArrangement())},
+ * but the list is neither copied nor shuffled until that is needed: selecting a
+ * single element, with or without a few exclusions, draws random indices into
+ * the list until an element that is not excluded is found. Random access
+ * lists are used as they are, so the selection must be completed before the
+ * list is modified.
+ * </p>
+ *
+ * @param <T> The selection type.
+ */
+public final class RandomSelection<T> implements PartialSelection<T> {
+
+    /** Attempts at drawing an element that is not excluded before falling back. */
+    private static final int ATTEMPTS = 32;
+
+    private final List<T> elements;
+    private final List<T> excluded;
+
+    private RandomSelection(List<T> elements, List<T> excluded) {
+        this.elements = elements;
+        this.excluded = excluded;
+    }
+
+    /**
+     * Create a random selection of the provided elements.
+     * @param iterable The elements to select from.
+     * @return A new {@code RandomSelection}.
+     * @throws IllegalArgumentException if {@code iterable} is empty.
+     */
+    public static <T> RandomSelection<T> of(Iterable<T> iterable) {
+        List<T> list = (iterable instanceof List && iterable instanceof RandomAccess)
+                ? (List<T>) iterable
+                : Lists.newArrayList(iterable);
+        checkArgument(!list.isEmpty(), "Attempting to create a "
+                + "selection on an empty collection is not valid.");
+        return new RandomSelection<T>(list, Collections.<T>emptyList());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked") // The items are only read.
+    public RandomSelection<T> exclude(T... items) {
+        return exclude(Arrays.asList(items));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RandomSelection<T> exclude(Iterable<T> items) {
+        List<T> result = Lists.newArrayList(excluded);
+        Iterables.addAll(result, items);
+        return new RandomSelection<T>(elements, result);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PartialSelection<T> filter(Predicate<? super T> predicate) {
+        return shuffled().filter(predicate);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("rawtypes") // OrderableSelection declares a raw Arrangement.
+    public OrderableSelection<T> orderBy(Arrangement arrangement) {
+        return shuffled().orderBy(arrangement);
+    }
+
+    /**
+     * Select an element uniformly at random from the elements that are not
+     * excluded.
+     * @return The selected element.
+     * @throws IllegalArgumentException if all elements are excluded.
+     */
+    @Override
+    public T select() {
+        for (int i = 0; i < ATTEMPTS; i++) {
+            T candidate = elements.get(Rand.nextInt(elements.size()));
+            if (!isExcluded(candidate)) {
+                return candidate;
+            }
+        }
+        return shuffled().select();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<T> select(Samples samples) {
+        return shuffled().select(samples);
+    }
+
+    private boolean isExcluded(T candidate) {
+        for (T o : excluded) {
+            if (o == null ? candidate == null : o.equals(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The selection that this selection represents, in its general form.
+     */
+    private Selection<T> shuffled() {
+        Selection<T> selection = Selection.copyOf(elements);
+        if (!excluded.isEmpty()) {
+            selection = selection.exclude(excluded);
+        }
+        return selection.orderBy(new RandomArrangement<T>());
+    }
+}
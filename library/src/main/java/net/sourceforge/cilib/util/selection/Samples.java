@@ -23,7 +23,7 @@ public class Samples {
     private static final Samples ALL = new Samples(new Strategy() {
         @Override
         public <T> List<T> sample(List<T> list) {
-            return list;
+            return Lists.newArrayList(list);
         }
     });
 
@@ -43,6 +43,26 @@ public class Samples {
         return new Samples(new DefaultStrategy(number));
     }
 
+    /**
+     * Sample {@code number} distinct positions of the list at random, without
+     * shuffling or copying the list.
+     * @param number The number of elements to sample.
+     * @return A {@code Samples} selecting random elements.
+     */
+    public static Samples random(final int number) {
+        return new Samples(new Strategy() {
+            @Override
+            public <T> List<T> sample(List<T> list) {
+                int[] indices = RandomIndices.sample(list.size(), number);
+                List<T> result = Lists.newArrayListWithCapacity(number);
+                for (int index : indices) {
+                    result.add(list.get(index));
+                }
+                return result;
+            }
+        });
+    }
+
     public Samples unique() {
         return new Samples(new UniqueStrategy(strategy));
     }
@@ -108,15 +128,7 @@ public class Samples {
         @Override
         public <T> List<T> sample(List<T> list) {
             checkArgument(list.size() >= number);
-            List<T> result = Lists.newArrayListWithExpectedSize(number);
-            int count = 0;
-            for (T t : list) {
-                if (count < number) {
-                    result.add(t);
-                    count++;
-                }
-            }
-            return result;
+            return Lists.newArrayList(list.subList(0, number));
         }
     }
 }
@@ -10,8 +10,11 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 import com.google.common.base.Predicate;
-import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import net.sourceforge.cilib.util.selection.arrangement.Arrangement;
 import net.sourceforge.cilib.util.selection.weighting.Weighting;
@@ -28,10 +31,16 @@ public final class Selection<T> implements WeighableSelection<T>, PartialSelecti
 
     // Check array size
     private static <T> Object[] copyOfInternal(Iterable<T> iterable) {
-        checkArgument(Iterables.size(iterable) >= 1, "Attempting to create a "
+        Object[] array = (iterable instanceof Collection)
+                ? ((Collection<T>) iterable).toArray()
+                : Lists.newArrayList(iterable).toArray();
+        return checkNotEmpty(array);
+    }
+
+    private static Object[] checkNotEmpty(Object[] array) {
+        checkArgument(array.length >= 1, "Attempting to create a "
                 + "selection on an empty collection is not valid.");
-        List<T> list = Lists.newArrayList(iterable);
-        return list.toArray();
+        return array;
     }
 
     Selection(Object[] array) {
@@ -40,19 +49,27 @@ public final class Selection<T> implements WeighableSelection<T>, PartialSelecti
 
     @Override
     public Selection<T> exclude(T... items) {
-        return exclude(Lists.newArrayList(items));
+        return exclude(Arrays.asList(items));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A small number of excluded items is compared directly; a larger number
+     * is placed in a set first, so that excluding is linear in the size of the
+     * selection.
+     * </p>
+     */
     @Override
     public Selection<T> exclude(Iterable<T> iterable) {
-        List<T> list = Lists.newArrayList(iterable);
-        List<T> result = Lists.newArrayList();
-        for (Object o : elements) {
-            if (!list.contains(o)) {
-                result.add((T) o);
+        final Collection<?> excluded = Lists.newArrayList(iterable);
+        final Collection<?> lookup = excluded.size() > 8 ? Sets.newHashSet(excluded) : excluded;
+        return filter(new Predicate<T>() {
+            @Override
+            public boolean apply(T input) {
+                return lookup.contains(input);
             }
-        }
-        return new Selection<T>(copyOfInternal(result));
+        });
     }
 
     @Override
@@ -74,13 +91,14 @@ public final class Selection<T> implements WeighableSelection<T>, PartialSelecti
      */
     @Override
     public Selection<T> filter(Predicate<? super T> predicate) {
-        List<T> result = Lists.newArrayList();
+        Object[] result = new Object[elements.length];
+        int size = 0;
         for (Object o : elements) {
             if (!predicate.apply((T) o)) {
-                result.add((T) o);
+                result[size++] = o;
             }
         }
-        return new Selection<T>(copyOfInternal(result));
+        return new Selection<T>(checkNotEmpty(size == result.length ? result : Arrays.copyOf(result, size)));
     }
 
     @Override
@@ -91,6 +109,6 @@ public final class Selection<T> implements WeighableSelection<T>, PartialSelecti
 
     @Override
     public List<T> select(Samples sample) {
-        return (List<T>) sample.sample(Lists.newArrayList(this.elements));
+        return (List<T>) sample.sample(Collections.unmodifiableList(Arrays.asList(this.elements)));
     }
 }
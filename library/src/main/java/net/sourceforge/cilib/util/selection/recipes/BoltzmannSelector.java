@@ -6,19 +6,24 @@
  */
 package net.sourceforge.cilib.util.selection.recipes;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.collect.Lists;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.entity.comparator.BoltzmannComparator;
 import net.sourceforge.cilib.util.selection.PartialSelection;
+import net.sourceforge.cilib.util.selection.PreparedSelection;
 import net.sourceforge.cilib.util.selection.Selection;
 
-public class BoltzmannSelector<E extends Entity> implements Selector<E> {
+public class BoltzmannSelector<E extends Entity> implements PreparableSelector<E> {
     
-    private BoltzmannComparator comparator;
+    private BoltzmannComparator<E> comparator;
     
     public BoltzmannSelector() {
-        this.comparator = new BoltzmannComparator();
+        this.comparator = new BoltzmannComparator<E>();
     }
 
     @Override
@@ -34,7 +39,38 @@ public class BoltzmannSelector<E extends Entity> implements Selector<E> {
         return Selection.copyOf(Arrays.asList(item1));
     }
 
-    public void setComparator(BoltzmannComparator comparator) {
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only the first two elements take part in the selection. Each draw
+     * compares them again, so that a different element may be selected.
+     * </p>
+     */
+    @Override
+    public PreparedSelection<E> prepare(Iterable<E> elements) {
+        Iterator<E> iter = elements.iterator();
+        final E item1 = iter.next();
+        final E item2 = iter.next();
+
+        return new PreparedSelection<E>() {
+            @Override
+            public E select() {
+                return comparator.compare(item1, item2) < 0 ? item2 : item1;
+            }
+
+            @Override
+            public List<E> select(int number) {
+                checkArgument(number >= 0 && number <= 1, "Cannot select %s elements from a single element.", number);
+                List<E> result = Lists.newArrayListWithCapacity(number);
+                if (number == 1) {
+                    result.add(select());
+                }
+                return result;
+            }
+        };
+    }
+
+    public void setComparator(BoltzmannComparator<E> comparator) {
         this.comparator = comparator;
     }
 }
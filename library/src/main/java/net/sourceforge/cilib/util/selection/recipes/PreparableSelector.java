@@ -0,0 +1,27 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.util.selection.recipes;
+
+import net.sourceforge.cilib.util.selection.PreparedSelection;
+
+/**
+ * A {@linkplain Selector} that can prepare its selection process for a
+ * collection once, so that elements can then be drawn from the collection
+ * repeatedly without repeating the preparation.
+ *
+ * @param <E> The selection type.
+ */
+public interface PreparableSelector<E> extends Selector<E> {
+
+    /**
+     * Prepare the selection process for the given elements.
+     * @param elements The elements to select from.
+     * @return The prepared selection.
+     * @throws IllegalArgumentException if {@code elements} is empty.
+     */
+    PreparedSelection<E> prepare(Iterable<E> elements);
+}
@@ -6,9 +6,15 @@
  */
 package net.sourceforge.cilib.util.selection.recipes;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.collect.Lists;
+import java.util.List;
+import net.sourceforge.cilib.math.random.generator.Rand;
 import net.sourceforge.cilib.util.selection.PartialSelection;
-import net.sourceforge.cilib.util.selection.Selection;
-import net.sourceforge.cilib.util.selection.arrangement.RandomArrangement;
+import net.sourceforge.cilib.util.selection.PreparedSelection;
+import net.sourceforge.cilib.util.selection.RandomIndices;
+import net.sourceforge.cilib.util.selection.RandomSelection;
 
 /**
  * Perform a random selection from the provided list of elements.
@@ -18,13 +24,41 @@ import net.sourceforge.cilib.util.selection.arrangement.RandomArrangement;
  *   <li>A random element is selected from the provided list.</li>
  *   <li>Return the result.</li>
  * </ol>
+ * The elements are not shuffled unless the selection requires all of them
+ * in random order; see {@link RandomSelection}.
  * @param <E>
  */
-public class RandomSelector<E> implements Selector<E> {
+public class RandomSelector<E> implements PreparableSelector<E> {
     private static final long serialVersionUID = -5099663528040315048L;
 
     @Override
     public PartialSelection<E> on(Iterable<E> iterable) {
-        return (Selection<E>) Selection.copyOf(iterable).orderBy(new RandomArrangement());
+        return RandomSelection.of(iterable);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PreparedSelection<E> prepare(Iterable<E> elements) {
+        final List<E> list = Lists.newArrayList(elements);
+        checkArgument(!list.isEmpty(), "Attempting to create a "
+                + "selection on an empty collection is not valid.");
+        return new PreparedSelection<E>() {
+            @Override
+            public E select() {
+                return list.get(Rand.nextInt(list.size()));
+            }
+
+            @Override
+            public List<E> select(int number) {
+                int[] indices = RandomIndices.sample(list.size(), number);
+                List<E> result = Lists.newArrayListWithCapacity(number);
+                for (int index : indices) {
+                    result.add(list.get(index));
+                }
+                return result;
+            }
+        };
     }
 }
@@ -6,30 +6,39 @@
  */
 package net.sourceforge.cilib.util.selection.recipes;
 
-import com.google.common.collect.Iterables;
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.collect.Lists;
 import com.google.common.collect.Ordering;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.util.selection.DeferredSelection;
 import net.sourceforge.cilib.util.selection.PartialSelection;
-import net.sourceforge.cilib.util.selection.Samples;
+import net.sourceforge.cilib.util.selection.PreparedSelection;
+import net.sourceforge.cilib.util.selection.RandomIndices;
 import net.sourceforge.cilib.util.selection.Selection;
 import net.sourceforge.cilib.util.selection.arrangement.RandomArrangement;
-import net.sourceforge.cilib.util.selection.arrangement.SortedArrangement;
 
 /**
  * A recipe for Rank based selection.
  * <p>
  * Rank based selection is performed by:
  * <ol>
- *   <li>Sorting the list of elements in a natural ordering.</li>
+ *   <li>Sorting the list of elements with the comparator, which defaults to
+ *       the natural ordering.</li>
  *   <li>Selecting portion of the elements that are better than the majority.</li>
  *   <li>Randomizing the sub list of elements and selecting an element from the randomised list.</li>
  *   <li>Return the result.</li>
  * </ol>
+ * Selecting a single element picks a random number of the best elements and
+ * then one of those elements, without randomising the sub list. Use
+ * {@link #prepare(Iterable)} to sort the elements only once when selecting
+ * repeatedly from the same elements.
  * @param <E>
  */
-public class RankBasedSelector<E extends Comparable> implements Selector<E> {
+public class RankBasedSelector<E extends Comparable> implements PreparableSelector<E> {
 
     private static final long serialVersionUID = -2387196820773731607L;
     private Comparator<E> comparator;
@@ -78,8 +87,64 @@ public class RankBasedSelector<E extends Comparable> implements Selector<E> {
      */
     @Override
     public PartialSelection<E> on(Iterable<E> iterable) {
-        int size = Iterables.size(iterable);
-        List<E> list = Selection.copyOf(iterable).orderBy(new SortedArrangement()).select(Samples.last(Rand.nextInt(size)+1));
-        return Selection.copyOf(list).orderBy(new RandomArrangement());
+        final PreparedRank<E> prepared = rank(iterable);
+        return new DeferredSelection<E>(prepared) {
+            @Override
+            protected PartialSelection<E> general() {
+                return Selection.copyOf(prepared.best()).orderBy(new RandomArrangement());
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PreparedSelection<E> prepare(Iterable<E> elements) {
+        return rank(elements);
+    }
+
+    private PreparedRank<E> rank(Iterable<E> elements) {
+        List<E> sorted = Lists.newArrayList(elements);
+        checkArgument(!sorted.isEmpty(), "Attempting to create a "
+                + "selection on an empty collection is not valid.");
+        Collections.sort(sorted, Collections.reverseOrder(comparator));
+        return new PreparedRank<E>(sorted);
+    }
+
+    /**
+     * Rank based selection from elements that are sorted once, best first.
+     */
+    private static final class PreparedRank<E> implements PreparedSelection<E> {
+
+        private final List<E> sorted;
+
+        PreparedRank(List<E> sorted) {
+            this.sorted = sorted;
+        }
+
+        /**
+         * The best elements, of which there are a random number.
+         */
+        List<E> best() {
+            return sorted.subList(0, Rand.nextInt(sorted.size()) + 1);
+        }
+
+        @Override
+        public E select() {
+            int count = Rand.nextInt(sorted.size()) + 1;
+            return sorted.get(Rand.nextInt(count));
+        }
+
+        @Override
+        public List<E> select(int number) {
+            List<E> best = best();
+            int[] indices = RandomIndices.sample(best.size(), number);
+            List<E> result = Lists.newArrayListWithCapacity(number);
+            for (int index : indices) {
+                result.add(best.get(index));
+            }
+            return result;
+        }
     }
 }
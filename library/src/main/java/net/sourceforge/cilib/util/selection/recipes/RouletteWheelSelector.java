@@ -6,8 +6,18 @@
  */
 package net.sourceforge.cilib.util.selection.recipes;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.collect.Lists;
+import java.util.Arrays;
+import java.util.List;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.util.selection.AliasTable;
+import net.sourceforge.cilib.util.selection.DeferredSelection;
 import net.sourceforge.cilib.util.selection.PartialSelection;
+import net.sourceforge.cilib.util.selection.PreparedSelection;
 import net.sourceforge.cilib.util.selection.Selection;
+import net.sourceforge.cilib.util.selection.WeightedObject;
 import net.sourceforge.cilib.util.selection.arrangement.ProportionalArrangement;
 import net.sourceforge.cilib.util.selection.arrangement.ReverseArrangement;
 import net.sourceforge.cilib.util.selection.arrangement.SortedArrangement;
@@ -23,9 +33,12 @@ import net.sourceforge.cilib.util.selection.weighting.Weighting;
  *   <li>Performing a proportional ordering of the weighed elements.</li>
  *   <li>Returning the best result.</li>
  * </ol>
+ * Single elements are drawn from an {@linkplain AliasTable} of the weights,
+ * in constant time once the table is built. Use {@link #prepare(Iterable)}
+ * to draw repeatedly from the same elements.
  * @param <E> The selection type.
  */
-public class RouletteWheelSelector<E extends Comparable> implements Selector<E> {
+public class RouletteWheelSelector<E extends Comparable> implements PreparableSelector<E> {
 
     private static final long serialVersionUID = 4194450350205390514L;
     private Weighting weighting;
@@ -73,10 +86,136 @@ public class RouletteWheelSelector<E extends Comparable> implements Selector<E>
      * {@inheritDoc}
      */
     @Override
-    public PartialSelection<E> on(Iterable<E> iterable) {
-        return Selection.copyOf(iterable).weigh(weighting)
-                .orderBy(new SortedArrangement())
-                .orderBy(new ProportionalArrangement())
-                .orderBy(new ReverseArrangement());
+    public PartialSelection<E> on(final Iterable<E> iterable) {
+        return new DeferredSelection<E>(prepare(iterable)) {
+            @Override
+            protected PartialSelection<E> general() {
+                return Selection.copyOf(iterable).weigh(weighting)
+                        .orderBy(new SortedArrangement())
+                        .orderBy(new ProportionalArrangement())
+                        .orderBy(new ReverseArrangement());
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The elements are weighed once and an {@linkplain AliasTable} is built
+     * from the weights. Weights that are not a number are treated as zero,
+     * unless no weight is a number, as when a single element is weighed
+     * linearly, in which case all elements are equally likely. Selecting an
+     * element throws an {@code IllegalStateException} if all weights are
+     * zero.
+     * </p>
+     */
+    @Override
+    public PreparedSelection<E> prepare(Iterable<E> elements) {
+        List<WeightedObject> weighed = Lists.newArrayList(weighting.weigh(elements));
+        checkArgument(!weighed.isEmpty(), "Attempting to create a "
+                + "selection on an empty collection is not valid.");
+        double[] weights = new double[weighed.size()];
+        List<E> list = Lists.newArrayListWithCapacity(weighed.size());
+        int numbers = 0;
+        for (int i = 0; i < weights.length; i++) {
+            double weight = weighed.get(i).getWeight();
+            weights[i] = Double.isNaN(weight) ? 0.0 : weight;
+            numbers += Double.isNaN(weight) ? 0 : 1;
+            @SuppressWarnings("unchecked") // The weighing keeps the elements it was given.
+            E element = (E) weighed.get(i).getObject();
+            list.add(element);
+        }
+        if (numbers == 0) {
+            Arrays.fill(weights, 1.0);
+        }
+        return new PreparedRouletteWheel<E>(list, AliasTable.of(weights));
+    }
+
+    /**
+     * Roulette wheel selection from an {@linkplain AliasTable}.
+     */
+    private static final class PreparedRouletteWheel<E> implements PreparedSelection<E> {
+
+        /** Draws per element before distinct elements are selected exactly. */
+        private static final int ATTEMPTS = 32;
+
+        private final List<E> elements;
+        private final AliasTable table;
+
+        PreparedRouletteWheel(List<E> elements, AliasTable table) {
+            this.elements = elements;
+            this.table = table;
+        }
+
+        @Override
+        public E select() {
+            return elements.get(table.sample());
+        }
+
+        /**
+         * Draws are repeated until an element that has not been selected yet
+         * is found, which selects each element with probability proportional
+         * to its weight among the remaining elements. Should that take too
+         * many draws, the remaining elements are selected with a linear scan
+         * instead. Elements with a weight of zero are selected last, in
+         * order.
+         */
+        @Override
+        public List<E> select(int number) {
+            checkArgument(number >= 0 && number <= elements.size(),
+                    "Cannot select %s elements from %s.", number, elements.size());
+            List<E> result = Lists.newArrayListWithCapacity(number);
+            if (number == 0) {
+                return result;
+            }
+            if (table.getTotal() == 0.0) {
+                throw new IllegalStateException("Selection is invalid, please verify selection state.");
+            }
+
+            int positive = 0;
+            for (int i = 0; i < table.size(); i++) {
+                if (table.getWeight(i) > 0.0) {
+                    positive++;
+                }
+            }
+
+            boolean[] selected = new boolean[elements.size()];
+            int attempts = ATTEMPTS * number;
+            while (result.size() < Math.min(number, positive) && attempts-- > 0) {
+                int index = table.sample();
+                if (!selected[index]) {
+                    selected[index] = true;
+                    result.add(elements.get(index));
+                }
+            }
+
+            while (result.size() < Math.min(number, positive)) {
+                double remaining = 0.0;
+                for (int i = 0; i < selected.length; i++) {
+                    remaining += selected[i] ? 0.0 : table.getWeight(i);
+                }
+                double randomValue = Rand.nextDouble() * remaining;
+                int index = -1;
+                double marker = 0.0;
+                for (int i = 0; i < selected.length; i++) {
+                    if (!selected[i] && table.getWeight(i) > 0.0) {
+                        index = i;
+                        marker += table.getWeight(i);
+                        if (marker >= randomValue) {
+                            break;
+                        }
+                    }
+                }
+                selected[index] = true;
+                result.add(elements.get(index));
+            }
+
+            for (int i = 0; i < selected.length && result.size() < number; i++) {
+                if (!selected[i]) {
+                    result.add(elements.get(i));
+                }
+            }
+            return result;
+        }
     }
 }
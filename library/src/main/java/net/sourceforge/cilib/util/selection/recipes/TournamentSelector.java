@@ -6,34 +6,40 @@
  */
 package net.sourceforge.cilib.util.selection.recipes;
 
-import com.google.common.collect.Iterables;
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.collect.Lists;
 import com.google.common.collect.Ordering;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
 import net.sourceforge.cilib.controlparameter.ProportionalControlParameter;
+import net.sourceforge.cilib.util.selection.DeferredSelection;
 import net.sourceforge.cilib.util.selection.PartialSelection;
-import net.sourceforge.cilib.util.selection.Samples;
+import net.sourceforge.cilib.util.selection.PreparedSelection;
+import net.sourceforge.cilib.util.selection.RandomIndices;
 import net.sourceforge.cilib.util.selection.Selection;
-import net.sourceforge.cilib.util.selection.arrangement.RandomArrangement;
-import net.sourceforge.cilib.util.selection.arrangement.ReverseArrangement;
-import net.sourceforge.cilib.util.selection.arrangement.SortedArrangement;
 
 /**
  * A recipe for Tournament selection.
  * <p>
  * Tournament selection is performed by:
  * <ol>
- *   <li>Randomly ordering a list of elements.</li>
- *   <li>Selecting a sublist of {@code tournamentSize}.</li>
- *   <li>Sorting the created sublist.</li>
+ *   <li>Selecting {@code tournamentSize} random elements.</li>
+ *   <li>Sorting the selected elements with the comparator, which defaults
+ *       to the natural ordering.</li>
  *   <li>Selecting the best performing element.</li>
  *   <li>Return the result.</li>
  * </ol>
+ * The tournament is drawn as random indices into the elements, and selecting
+ * a single element only determines the best element of the tournament. Use
+ * {@link #prepare(Iterable)} to hold several tournaments on the same
+ * elements.
  *
  * @param <E> The selection type.
  */
-public class TournamentSelector<E extends Comparable> implements Selector<E> {
+public class TournamentSelector<E extends Comparable> implements PreparableSelector<E> {
 
     private static final long serialVersionUID = -6689673224380247931L;
     private ControlParameter tournamentProportion;
@@ -93,9 +99,80 @@ public class TournamentSelector<E extends Comparable> implements Selector<E> {
      */
     @Override
     public PartialSelection<E> on(Iterable<E> iterable) {
-        int size = Iterables.size(iterable);
-        int tournamentSize = Double.valueOf(this.tournamentProportion.getParameter() * size).intValue();
-        List<E> intermediate = Selection.copyOf(iterable).orderBy(new RandomArrangement()).select(Samples.last(tournamentSize));
-        return Selection.copyOf(intermediate).orderBy(new SortedArrangement()).orderBy(new ReverseArrangement());
+        final PreparedTournament<E> prepared = tournament(iterable);
+        return new DeferredSelection<E>(prepared) {
+            @Override
+            protected PartialSelection<E> general() {
+                return Selection.copyOf(prepared.hold());
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The size of the tournaments is determined when the selection is
+     * prepared.
+     * </p>
+     */
+    @Override
+    public PreparedSelection<E> prepare(Iterable<E> elements) {
+        return tournament(elements);
+    }
+
+    private PreparedTournament<E> tournament(Iterable<E> elements) {
+        List<E> list = Lists.newArrayList(elements);
+        int tournamentSize = Double.valueOf(this.tournamentProportion.getParameter() * list.size()).intValue();
+        checkArgument(tournamentSize > 0 && tournamentSize <= list.size(),
+                "Invalid tournament size %s for %s elements.", tournamentSize, list.size());
+        return new PreparedTournament<E>(list, tournamentSize, comparator);
+    }
+
+    /**
+     * Tournaments of a fixed size on a fixed list of elements.
+     */
+    private static final class PreparedTournament<E> implements PreparedSelection<E> {
+
+        private final List<E> elements;
+        private final int size;
+        private final Comparator<E> comparator;
+
+        PreparedTournament(List<E> elements, int size, Comparator<E> comparator) {
+            this.elements = elements;
+            this.size = size;
+            this.comparator = comparator;
+        }
+
+        /**
+         * Hold a tournament.
+         * @return The participants of the tournament, best first.
+         */
+        List<E> hold() {
+            List<E> participants = Lists.newArrayListWithCapacity(size);
+            for (int index : RandomIndices.sample(elements.size(), size)) {
+                participants.add(elements.get(index));
+            }
+            Collections.sort(participants, Collections.reverseOrder(comparator));
+            return participants;
+        }
+
+        @Override
+        public E select() {
+            int[] participants = RandomIndices.sample(elements.size(), size);
+            E best = elements.get(participants[0]);
+            for (int i = 1; i < participants.length; i++) {
+                E participant = elements.get(participants[i]);
+                if (comparator.compare(participant, best) > 0) {
+                    best = participant;
+                }
+            }
+            return best;
+        }
+
+        @Override
+        public List<E> select(int number) {
+            checkArgument(number >= 0 && number <= size, "Cannot select %s elements from a tournament of %s.", number, size);
+            return Lists.newArrayList(hold().subList(0, number));
+        }
     }
 }
@@ -0,0 +1,108 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.algorithm;
+
+import com.google.common.collect.Lists;
+import java.util.List;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.measurement.generic.Iterations;
+import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
+import net.sourceforge.cilib.pso.PSO;
+import net.sourceforge.cilib.stoppingcondition.Maximum;
+import net.sourceforge.cilib.stoppingcondition.MeasuredStoppingCondition;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ExecutionContextTest {
+
+    @Test
+    public void stack() {
+        PSO outer = new PSO();
+        PSO inner = new PSO();
+        ExecutionContext context = new ExecutionContext();
+        for (int i = 0; i < 5; i++) {
+            context.push(outer);
+        }
+        context.push(inner);
+
+        ExecutionContext copy = context.copy();
+        Assert.assertSame(inner, context.pop());
+        Assert.assertSame(outer, context.peek());
+        Assert.assertEquals(5, context.size());
+        Assert.assertEquals(6, copy.size());
+        Assert.assertSame(inner, copy.asList().get(5));
+        Assert.assertFalse(copy.isCurrent());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void popEmpty() {
+        new ExecutionContext().pop();
+    }
+
+    @Test
+    public void set() {
+        ExecutionContext context = new ExecutionContext();
+        ExecutionContext previous = ExecutionContext.set(context);
+        try {
+            Assert.assertSame(context, ExecutionContext.current());
+            Assert.assertTrue(context.isCurrent());
+            Assert.assertFalse(previous.isCurrent());
+        } finally {
+            ExecutionContext.set(previous);
+        }
+        Assert.assertFalse(context.isCurrent());
+        Assert.assertTrue(previous.isCurrent());
+    }
+
+    /**
+     * Algorithms must be visible through the compatibility accessors while
+     * they iterate, and all listeners are notified with the same event.
+     */
+    @Test
+    public void run() {
+        FunctionOptimisationProblem problem = new FunctionOptimisationProblem();
+        problem.setFunction(new Spherical());
+        problem.setDomain("R(-5.12:5.12)^2");
+
+        final PSO pso = new PSO();
+        pso.setOptimisationProblem(problem);
+        pso.addStoppingCondition(new MeasuredStoppingCondition(new Iterations(), new Maximum(), 3));
+
+        final List<AlgorithmEvent> events = Lists.newArrayList();
+        pso.addAlgorithmListener(new AlgorithmListener() {
+            @Override
+            public void algorithmStarted(AlgorithmEvent e) {
+                Assert.assertSame(pso, AbstractAlgorithm.get());
+                events.add(e);
+            }
+
+            @Override
+            public void algorithmFinished(AlgorithmEvent e) {
+                events.add(e);
+            }
+
+            @Override
+            public void iterationCompleted(AlgorithmEvent e) {
+                Assert.assertEquals(Lists.newArrayList(pso), AbstractAlgorithm.getAlgorithmList());
+                events.add(e);
+            }
+
+            @Override
+            public AlgorithmListener getClone() {
+                return this;
+            }
+        });
+        pso.run();
+
+        Assert.assertEquals(5, events.size());
+        for (AlgorithmEvent e : events) {
+            Assert.assertSame(events.get(0), e);
+            Assert.assertSame(pso, e.getSource());
+        }
+        Assert.assertEquals(0, ExecutionContext.current().size());
+    }
+}
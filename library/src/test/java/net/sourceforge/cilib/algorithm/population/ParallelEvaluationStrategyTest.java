@@ -0,0 +1,105 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.algorithm.population;
+
+import com.google.common.collect.Lists;
+import fj.Effect;
+import java.util.List;
+import net.sourceforge.cilib.algorithm.ExecutionContext;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
+import net.sourceforge.cilib.pso.PSO;
+import net.sourceforge.cilib.pso.particle.Particle;
+import net.sourceforge.cilib.stoppingcondition.Maximum;
+import net.sourceforge.cilib.stoppingcondition.MeasuredStoppingCondition;
+import net.sourceforge.cilib.measurement.generic.Iterations;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ParallelEvaluationStrategyTest {
+
+    private PSO createPSO(EvaluationStrategy strategy) {
+        FunctionOptimisationProblem problem = new FunctionOptimisationProblem();
+        problem.setFunction(new Spherical());
+        problem.setDomain("R(-5.12:5.12)^10");
+
+        PSO pso = new PSO();
+        pso.setOptimisationProblem(problem);
+        pso.setEvaluationStrategy(strategy);
+        pso.addStoppingCondition(new MeasuredStoppingCondition(new Iterations(), new Maximum(), 20));
+        return pso;
+    }
+
+    private double run(int parallelism) {
+        ParallelEvaluationStrategy strategy = new ParallelEvaluationStrategy();
+        strategy.setParallelism(parallelism);
+
+        Rand.setSeed(1);
+        PSO pso = createPSO(strategy);
+        pso.performInitialisation();
+        pso.run();
+        return pso.getBestSolution().getFitness().getValue();
+    }
+
+    /**
+     * The outcome of a seeded run must not depend on the number of threads.
+     */
+    @Test
+    public void reproducible() {
+        double single = run(1);
+        Assert.assertEquals(single, run(4), 0.0);
+        Assert.assertEquals(single, run(3), 0.0);
+    }
+
+    /**
+     * Evaluating concurrently must produce the same fitness values as the
+     * serial strategy, and apply reductions in list order.
+     */
+    @Test
+    public void sameAsSerial() {
+        Rand.setSeed(3);
+        PSO pso = createPSO(new SerialEvaluationStrategy());
+        pso.performInitialisation();
+
+        List<Particle> particles = Lists.newArrayList();
+        List<Double> expected = Lists.newArrayList();
+        for (Particle p : pso.getTopology()) {
+            particles.add(p.getClone());
+            expected.add(p.getFitness().getValue());
+        }
+
+        ParallelEvaluationStrategy strategy = new ParallelEvaluationStrategy();
+        strategy.setParallelism(4);
+        strategy.setGranularity(2);
+
+        final List<Particle> order = Lists.newArrayList();
+        ExecutionContext context = new ExecutionContext();
+        context.push(pso);
+        ExecutionContext previous = ExecutionContext.set(context);
+        try {
+            strategy.evaluate(particles, new Effect<Particle>() {
+                @Override
+                public void e(Particle p) {
+                    order.add(p);
+                }
+            });
+        } finally {
+            ExecutionContext.set(previous);
+        }
+
+        Assert.assertEquals(particles, order);
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertEquals(expected.get(i), particles.get(i).getFitness().getValue(), 0.0);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidParallelism() {
+        new ParallelEvaluationStrategy().setParallelism(0);
+    }
+}
@@ -7,6 +7,8 @@
 package net.sourceforge.cilib.ec;
 
 import net.sourceforge.cilib.ec.Individual;
+import net.sourceforge.cilib.entity.EntityType;
+import net.sourceforge.cilib.problem.solution.MinimisationFitness;
 import net.sourceforge.cilib.type.types.container.Vector;
 import static org.junit.Assert.*;
 import org.junit.Test;
@@ -52,4 +54,23 @@ public class IndividualTest {
         assertTrue(i1.hashCode() != i2.hashCode());
     }
 
+    @Test
+    public void offspring() {
+        Individual parent = new Individual();
+        parent.setCandidateSolution(Vector.of(1.0, 2.0));
+        parent.getProperties().put(EntityType.STRATEGY_PARAMETERS, Vector.of(0.1, 0.2));
+        parent.getProperties().put(EntityType.FITNESS, new MinimisationFitness(3.0));
+
+        Individual offspring = parent.getOffspring();
+        assertFalse(parent.equals(offspring));
+        offspring.setCandidateSolution(Vector.of(5.0, 6.0));
+        offspring.promote();
+
+        ((Vector) parent.getProperties().get(EntityType.STRATEGY_PARAMETERS)).setReal(0, 9.0);
+        assertEquals(Vector.of(1.0, 2.0), parent.getCandidateSolution());
+        assertEquals(Vector.of(5.0, 6.0), offspring.getCandidateSolution());
+        assertEquals(Vector.of(0.1, 0.2), offspring.getProperties().get(EntityType.STRATEGY_PARAMETERS));
+        assertEquals(3.0, offspring.getFitness().getValue(), 0.0);
+    }
+
 }
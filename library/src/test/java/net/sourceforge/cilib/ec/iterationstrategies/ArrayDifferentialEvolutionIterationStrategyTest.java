@@ -0,0 +1,55 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.ec.iterationstrategies;
+
+import com.google.common.collect.Lists;
+import java.util.List;
+import net.sourceforge.cilib.ec.EC;
+import net.sourceforge.cilib.ec.Individual;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.measurement.generic.Iterations;
+import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
+import net.sourceforge.cilib.stoppingcondition.Maximum;
+import net.sourceforge.cilib.stoppingcondition.MeasuredStoppingCondition;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ArrayDifferentialEvolutionIterationStrategyTest {
+
+    /**
+     * The members of the population are updated in place, and each keeps the
+     * fitness of its own candidate solution.
+     */
+    @Test
+    public void iteration() {
+        FunctionOptimisationProblem problem = new FunctionOptimisationProblem();
+        problem.setFunction(new Spherical());
+        problem.setDomain("R(-5.12:5.12)^10");
+
+        Rand.setSeed(11);
+        EC ec = new EC();
+        ec.setOptimisationProblem(problem);
+        ec.setIterationStrategy(new ArrayDifferentialEvolutionIterationStrategy());
+        ec.addStoppingCondition(new MeasuredStoppingCondition(new Iterations(), new Maximum(), 50));
+        ec.performInitialisation();
+
+        List<Individual> members = Lists.newArrayList(ec.getTopology());
+        double initial = ec.getBestSolution().getFitness().getValue();
+        ec.run();
+
+        Assert.assertEquals(members, Lists.newArrayList(ec.getTopology()));
+        Assert.assertTrue(ec.getBestSolution().getFitness().getValue() < initial);
+        Spherical spherical = new Spherical();
+        for (Object o : ec.getTopology()) {
+            Individual individual = (Individual) o;
+            Vector solution = (Vector) individual.getCandidateSolution();
+            Assert.assertEquals(spherical.apply(solution), individual.getFitness().getValue(), 0.0);
+        }
+    }
+}
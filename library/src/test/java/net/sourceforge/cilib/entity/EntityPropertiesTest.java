@@ -0,0 +1,86 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.entity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import net.sourceforge.cilib.ec.Individual;
+import net.sourceforge.cilib.problem.objective.Maximise;
+import net.sourceforge.cilib.problem.objective.Minimise;
+import net.sourceforge.cilib.problem.solution.InferiorFitness;
+import net.sourceforge.cilib.problem.solution.MaximisationFitness;
+import net.sourceforge.cilib.problem.solution.MinimisationFitness;
+import net.sourceforge.cilib.pso.particle.StandardParticle;
+import net.sourceforge.cilib.type.types.Type;
+import net.sourceforge.cilib.util.SerializationTestHelper;
+import org.junit.Test;
+
+public class EntityPropertiesTest {
+
+    @Test
+    public void fitnessValue() {
+        EntityProperties properties = new EntityProperties();
+        properties.putFitness(EntityType.FITNESS, 2.0, new Minimise());
+
+        Type fitness = properties.get(EntityType.FITNESS);
+        assertEquals(new MinimisationFitness(2.0), fitness);
+        assertSame(fitness, properties.get(EntityType.FITNESS));
+
+        assertEquals(fitness, properties.put(EntityType.FITNESS, InferiorFitness.instance()));
+        assertSame(InferiorFitness.instance(), properties.get(EntityType.FITNESS));
+        assertNull(properties.get(EntityType.PREVIOUS_FITNESS));
+    }
+
+    @Test
+    public void copies() {
+        EntityProperties properties = new EntityProperties();
+        properties.putFitness(EntityType.FITNESS, 2.0, new Maximise());
+
+        assertEquals(new MaximisationFitness(2.0), properties.getClone().get(EntityType.FITNESS));
+        assertEquals(new MaximisationFitness(2.0), properties.share().get(EntityType.FITNESS));
+        assertEquals(properties, properties.getClone());
+
+        EntityProperties copy = SerializationTestHelper.roundTrip(properties);
+        assertEquals(new MaximisationFitness(2.0), copy.get(EntityType.FITNESS));
+    }
+
+    @Test
+    public void compareFitness() {
+        Individual better = new Individual();
+        Individual worse = new Individual();
+        ((EntityProperties) better.getProperties()).putFitness(EntityType.FITNESS, 1.0, new Minimise());
+        ((EntityProperties) worse.getProperties()).putFitness(EntityType.FITNESS, 2.0, new Minimise());
+
+        assertEquals(1, EntityProperties.compareFitness(better, worse));
+        assertEquals(-1, EntityProperties.compareFitness(worse, better));
+        assertEquals(0, EntityProperties.compareFitness(better, better));
+
+        worse.getProperties().put(EntityType.FITNESS, InferiorFitness.instance());
+        assertEquals(1, EntityProperties.compareFitness(better, worse));
+        assertEquals(better.getFitness().compareTo(worse.getFitness()), EntityProperties.compareFitness(better, worse));
+    }
+
+    @Test
+    public void personalBest() {
+        StandardParticle particle = new StandardParticle();
+        EntityProperties properties = (EntityProperties) particle.getProperties();
+        properties.put(EntityType.Particle.BEST_FITNESS, InferiorFitness.instance());
+        properties.putFitness(EntityType.FITNESS, 3.0, new Minimise());
+        assertEquals(1, EntityProperties.compareFitnessToBest(particle));
+
+        EntityProperties.copyFitness(particle, EntityType.FITNESS, EntityType.Particle.BEST_FITNESS);
+        assertEquals(0, EntityProperties.compareFitnessToBest(particle));
+        assertEquals(new MinimisationFitness(3.0), particle.getBestFitness());
+
+        properties.putFitness(EntityType.FITNESS, 4.0, new Minimise());
+        assertEquals(-1, EntityProperties.compareFitnessToBest(particle));
+        assertEquals(0, EntityProperties.compareSocialFitness(particle, particle));
+        assertEquals(new MinimisationFitness(3.0), particle.getSocialFitness());
+    }
+}
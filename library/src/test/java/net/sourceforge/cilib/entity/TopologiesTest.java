@@ -136,4 +136,29 @@ public class TopologiesTest {
         Assert.assertTrue(leastFit.containsAll(Arrays.asList(i1, i2)));
         Assert.assertTrue(other.containsAll(Arrays.asList(i3, i4)));
     }
+
+    @Test
+    public void bestAndWorstEntities() {
+        Particle i1 = createParticle(0.7);
+        Particle i2 = createParticle(0.2);
+        Particle i3 = createParticle(1.0);
+        Particle i4 = createParticle(0.2);
+        Particle i5 = createParticle(0.5);
+
+        Topology<Particle> topology = new GBestTopology<Particle>();
+        topology.addAll(Arrays.asList(i1, i2, i3, i4, i5));
+
+        Assert.assertThat(Topologies.getBestEntity(topology), is(i4));
+        Assert.assertThat(Topologies.getWorstEntity(topology), is(i3));
+        Assert.assertEquals(Arrays.asList(i4, i2, i5), Topologies.getBestEntities(topology, 3));
+        Assert.assertEquals(Arrays.asList(i4, i2, i5, i1, i3), Topologies.getBestEntities(topology, 10));
+        Assert.assertTrue(Topologies.getBestEntities(topology, 0).isEmpty());
+        Assert.assertEquals(Arrays.asList(i4), Arrays.asList(Topologies.getNeighbourhoodBestEntities(topology).toArray()));
+    }
+
+    private Particle createParticle(double fitness) {
+        Particle particle = new StandardParticle();
+        particle.getProperties().put(EntityType.FITNESS, new MinimisationFitness(fitness));
+        return particle;
+    }
 }
@@ -23,7 +23,7 @@ public class RandToBestCreationTest {
 
     @Test
     public void randToBestCreationTest() {
-        Rand.setSeed(0);
+        Rand.setSeed(1);
         RandToBestCreationStrategy creation = new RandToBestCreationStrategy();
         Topology<Entity> testTopology = new GBestTopology<Entity>();
 
@@ -0,0 +1,52 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.entity.operators.survivor;
+
+import com.google.common.collect.Lists;
+import java.util.Collections;
+import java.util.List;
+import net.sourceforge.cilib.ec.Individual;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.core.Is.is;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CommaSurvivorSelectionStrategyTest {
+
+    @Test
+    public void onlyOffspringSurvive() {
+        Rand.setSeed(1);
+        List<Individual> parents = PlusSurvivorSelectionStrategyTest.individuals(10);
+        List<Individual> offspring = PlusSurvivorSelectionStrategyTest.individuals(30);
+
+        List<Individual> expected = Lists.newArrayList(offspring);
+        Collections.sort(expected);
+        expected = expected.subList(20, 30);
+
+        Assert.assertThat(new CommaSurvivorSelectionStrategy().select(parents, offspring, 10), is(expected));
+    }
+
+    @Test
+    public void bestParentsFillShortfall() {
+        Rand.setSeed(1);
+        List<Individual> parents = PlusSurvivorSelectionStrategyTest.individuals(10);
+        List<Individual> offspring = PlusSurvivorSelectionStrategyTest.individuals(4);
+
+        List<Individual> survivors = new CommaSurvivorSelectionStrategy().select(parents, offspring, 10);
+        Assert.assertThat(survivors.size(), is(10));
+        for (Individual individual : offspring) {
+            Assert.assertThat(survivors, hasItem(individual));
+        }
+
+        List<Individual> sortedParents = Lists.newArrayList(parents);
+        Collections.sort(sortedParents);
+        for (Individual individual : sortedParents.subList(4, 10)) {
+            Assert.assertThat(survivors, hasItem(individual));
+        }
+    }
+}
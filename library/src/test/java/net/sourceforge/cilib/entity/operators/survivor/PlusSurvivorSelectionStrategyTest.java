@@ -0,0 +1,64 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.entity.operators.survivor;
+
+import com.google.common.collect.Lists;
+import java.util.Collections;
+import java.util.List;
+import net.sourceforge.cilib.ec.Individual;
+import net.sourceforge.cilib.entity.EntityType;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.problem.solution.MinimisationFitness;
+import static org.hamcrest.core.Is.is;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PlusSurvivorSelectionStrategyTest {
+
+    static List<Individual> individuals(int number) {
+        List<Individual> result = Lists.newArrayList();
+        for (int i = 0; i < number; i++) {
+            Individual individual = new Individual();
+            // Few distinct values, so that there are many ties
+            individual.getProperties().put(EntityType.FITNESS, new MinimisationFitness((double) Rand.nextInt(8)));
+            result.add(individual);
+        }
+        return result;
+    }
+
+    /**
+     * The survivors must be those that remain when the merged population is
+     * sorted and the worst entities are removed from the front.
+     */
+    @Test
+    public void sameAsSortedRemoval() {
+        Rand.setSeed(4);
+        for (int mu = 0; mu < 25; mu++) {
+            List<Individual> parents = individuals(20);
+            List<Individual> offspring = individuals(15);
+
+            List<Individual> expected = Lists.newArrayList(parents);
+            expected.addAll(offspring);
+            Collections.sort(expected);
+            expected = expected.subList(expected.size() - mu, expected.size());
+
+            List<Individual> survivors = new PlusSurvivorSelectionStrategy().select(parents, offspring, mu);
+            Assert.assertThat(survivors.size(), is(mu));
+            for (int i = 0; i < mu; i++) {
+                Assert.assertSame(expected.get(i), survivors.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void fewerCandidates() {
+        Rand.setSeed(2);
+        List<Individual> parents = individuals(3);
+        List<Individual> offspring = individuals(2);
+        Assert.assertThat(new PlusSurvivorSelectionStrategy().select(parents, offspring, 10).size(), is(5));
+    }
+}
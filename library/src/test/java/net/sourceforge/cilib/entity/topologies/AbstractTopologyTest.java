@@ -6,6 +6,11 @@
  */
 package net.sourceforge.cilib.entity.topologies;
 
+import java.util.Collections;
+import java.util.Iterator;
+import net.sourceforge.cilib.pso.particle.Particle;
+import net.sourceforge.cilib.pso.particle.StandardParticle;
+import org.junit.Assert;
 import org.junit.Test;
 
 public class AbstractTopologyTest {
@@ -56,4 +61,51 @@ public class AbstractTopologyTest {
         Assert.assertThat(best, is(p1));*/
     }
 
+    /**
+     * The position index must remain correct when the topology is modified
+     * through any of its list operations.
+     */
+    @Test
+    public void indexOfAfterModification() {
+        LBestTopology<Particle> topology = new LBestTopology<Particle>();
+        Particle[] particles = new Particle[6];
+        for (int i = 0; i < particles.length; i++) {
+            particles[i] = new StandardParticle();
+            topology.add(particles[i]);
+        }
+
+        Assert.assertEquals(3, topology.indexOf(particles[3]));
+
+        topology.remove(1);
+        Assert.assertEquals(2, topology.indexOf(particles[3]));
+        Assert.assertEquals(-1, topology.indexOf(particles[1]));
+
+        Collections.reverse(topology);
+        for (int i = 0; i < topology.size(); i++) {
+            Assert.assertEquals(i, topology.indexOf(topology.get(i)));
+        }
+
+        topology.add(0, particles[1]);
+        Assert.assertEquals(0, topology.indexOf(particles[1]));
+        Assert.assertEquals(3, topology.indexOf(particles[3]));
+        Assert.assertEquals(-1, topology.indexOf("not an entity"));
+    }
+
+    /**
+     * The neighbourhood of an entity is the same as before the index was
+     * introduced: the entities around its position in the list.
+     */
+    @Test
+    public void lbestNeighbourhood() {
+        LBestTopology<Particle> topology = new LBestTopology<Particle>();
+        for (int i = 0; i < 5; i++) {
+            topology.add(new StandardParticle());
+        }
+
+        Iterator<Particle> neighbours = topology.neighbourhood(topology.get(0)).iterator();
+        Assert.assertSame(topology.get(4), neighbours.next());
+        Assert.assertSame(topology.get(0), neighbours.next());
+        Assert.assertSame(topology.get(1), neighbours.next());
+        Assert.assertFalse(neighbours.hasNext());
+    }
 }
@@ -0,0 +1,92 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.functions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
+import net.sourceforge.cilib.functions.continuous.decorators.AsymmetricFunctionDecorator;
+import net.sourceforge.cilib.functions.continuous.decorators.IrregularFunctionDecorator;
+import net.sourceforge.cilib.functions.continuous.decorators.RotatedFunctionDecorator;
+import net.sourceforge.cilib.functions.continuous.decorators.ScaledFunctionDecorator;
+import net.sourceforge.cilib.functions.continuous.decorators.ShiftedFunctionDecorator;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Test;
+
+public class BatchFunctionsTest {
+
+    private static final double[][] INPUTS = {
+        {1.0, -2.0, 3.0, 0.5},
+        {0.0, 0.0, 0.0, 0.0},
+        {-1.5, 2.5, -0.25, 4.0}
+    };
+
+    private static double[] pack() {
+        int dimension = INPUTS[0].length;
+        double[] packed = new double[INPUTS.length * dimension];
+        for (int i = 0; i < INPUTS.length; i++) {
+            System.arraycopy(INPUTS[i], 0, packed, i * dimension, dimension);
+        }
+        return packed;
+    }
+
+    @Test
+    public void decorators() {
+        IrregularFunctionDecorator irregular = new IrregularFunctionDecorator();
+        irregular.setFunction(new Spherical());
+
+        AsymmetricFunctionDecorator asymmetric = new AsymmetricFunctionDecorator();
+        asymmetric.setFunction(irregular);
+        asymmetric.setBeta(ConstantControlParameter.of(0.5));
+
+        RotatedFunctionDecorator rotated = new RotatedFunctionDecorator();
+        rotated.setFunction(asymmetric);
+        rotated.setRotationMatrix(INPUTS[0].length);
+
+        ScaledFunctionDecorator scaled = new ScaledFunctionDecorator();
+        scaled.setFunction(rotated);
+        scaled.setHorizontalScale(ConstantControlParameter.of(2.0));
+        scaled.setVerticalScale(ConstantControlParameter.of(3.0));
+
+        ShiftedFunctionDecorator shifted = new ShiftedFunctionDecorator();
+        shifted.setFunction(scaled);
+        shifted.setHorizontalShift(ConstantControlParameter.of(1.0));
+        shifted.setVerticalShift(ConstantControlParameter.of(-5.0));
+
+        double[] results = new double[INPUTS.length];
+        shifted.apply(pack(), INPUTS.length, results);
+        for (int i = 0; i < INPUTS.length; i++) {
+            assertEquals(shifted.apply(Vector.copyOf(INPUTS[i])), results[i], 0.0);
+        }
+    }
+
+    @Test
+    public void adapter() {
+        Spherical spherical = new Spherical();
+        BatchFunction batch = BatchFunctions.of(spherical);
+        assertTrue(batch != (Object) spherical);
+
+        ShiftedFunctionDecorator shifted = new ShiftedFunctionDecorator();
+        shifted.setFunction(spherical);
+        assertSame(shifted, BatchFunctions.of(shifted));
+
+        double[] results = new double[INPUTS.length];
+        batch.apply(pack(), INPUTS.length, results);
+        for (int i = 0; i < INPUTS.length; i++) {
+            assertEquals(spherical.apply(Vector.copyOf(INPUTS[i])), results[i], 0.0);
+            assertEquals(spherical.apply(Vector.copyOf(INPUTS[i])), batch.apply(Vector.copyOf(INPUTS[i])), 0.0);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unevenInputs() {
+        BatchFunctions.dimension(new double[7], 2);
+    }
+}
@@ -0,0 +1,145 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.functions.continuous.decorators;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import net.sourceforge.cilib.functions.ContinuousFunction;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.math.DenseMatrix;
+import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.SerializationTestHelper;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+public class BenchmarkDataTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private String write(String name, String contents) throws IOException {
+        File file = folder.newFile(name);
+        Writer writer = new FileWriter(file);
+        try {
+            writer.write(contents);
+        } finally {
+            writer.close();
+        }
+        return file.getPath();
+    }
+
+    @Test
+    public void vector() throws IOException {
+        String path = write("xopt.txt", "1.5\n-2.0e1, 3 \r\n\t4.25");
+        double[] values = BenchmarkData.vector(path);
+        assertArrayEquals(new double[] {1.5, -20.0, 3.0, 4.25}, values, 0.0);
+        assertSame(values, BenchmarkData.vector(path));
+    }
+
+    @Test
+    public void largeVector() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        int count = 0;
+        while (builder.length() <= 1024 * 1024) {
+            builder.append(count++).append(".5000000000000000e+00\n");
+        }
+        double[] values = BenchmarkData.vector(write("large.txt", builder.toString()));
+        assertEquals(count, values.length);
+        for (int i = 0; i < count; i++) {
+            assertEquals(i + 0.5, values[i], 0.0);
+        }
+    }
+
+    @Test
+    public void permutation() throws IOException {
+        assertArrayEquals(new int[] {2, 0, 1}, BenchmarkData.permutation(write("one.txt", "3,1,2")));
+        assertArrayEquals(new int[] {2, 0, 1}, BenchmarkData.permutation(write("zero.txt", "2 0 1")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidPermutation() throws IOException {
+        BenchmarkData.permutation(write("invalid.txt", "1 1 2"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void missingFile() {
+        BenchmarkData.vector(new File(folder.getRoot(), "missing.txt").getPath());
+    }
+
+    @Test
+    public void rotation() throws IOException {
+        String path = write("rotation.txt", "1 2\n3 4\n");
+        DenseMatrix matrix = BenchmarkData.rotation(path);
+        double[] result = matrix.leftMultiply(new double[] {1.0, 1.0}, new double[2]);
+        assertArrayEquals(new double[] {3.0, 7.0}, result, 0.0);
+
+        RotatedFunctionDecorator rotated = new RotatedFunctionDecorator();
+        rotated.setFunction(new Spherical());
+        rotated.setRotationFile(path);
+        assertEquals(9.0 + 49.0, rotated.apply(Vector.of(1.0, 1.0)), 0.0);
+    }
+
+    @Test
+    public void shiftedDecorator() throws IOException {
+        String path = write("shift.txt", "1.0 -2.0 3.0 4.0");
+        ShiftedFunctionDecorator a = new ShiftedFunctionDecorator();
+        a.setFunction(new Spherical());
+        a.setShiftFile(path);
+        ShiftedFunctionDecorator b = new ShiftedFunctionDecorator();
+        b.setFunction(new Spherical());
+        b.setShiftFile(path);
+
+        assertSame(a.getShifts(), b.getShifts());
+        assertEquals(0.0, a.apply(Vector.of(1.0, -2.0, 3.0)), 0.0);
+        assertEquals(1.0 + 4.0 + 9.0, a.apply(Vector.of(0.0, 0.0, 0.0)), 0.0);
+
+        CompiledFunctionDecorator compiled = new CompiledFunctionDecorator();
+        compiled.setFunction(a);
+        assertEquals(a.apply(Vector.of(0.5, 0.25, -1.0)), compiled.apply(Vector.of(0.5, 0.25, -1.0)), 0.0);
+        assertEquals(1, compiled.getCompiledDecorators());
+    }
+
+    @Test
+    public void permutationDecorator() throws IOException {
+        PermutationFunctionDecorator permuted = new PermutationFunctionDecorator();
+        permuted.setFunction(new ContinuousFunction() {
+            @Override
+            public Double apply(Vector input) {
+                return input.doubleValueOf(0);
+            }
+        });
+        permuted.setPermutationFile(write("p.txt", "3 1 2"));
+        assertEquals(30.0, permuted.apply(Vector.of(10.0, 20.0, 30.0)), 0.0);
+    }
+
+    /**
+     * The data that was read from the files is not serialized, but must be
+     * read again by the copies.
+     */
+    @Test
+    public void serializedDecorators() throws IOException {
+        ShiftedFunctionDecorator shifted = new ShiftedFunctionDecorator();
+        shifted.setFunction(new Spherical());
+        shifted.setShiftFile(write("shift.txt", "1.0 -2.0 3.0"));
+        RotatedFunctionDecorator rotated = new RotatedFunctionDecorator();
+        rotated.setFunction(shifted);
+        rotated.setRotationFile(write("rotation.txt", "0 1 0\n1 0 0\n0 0 1\n"));
+        PermutationFunctionDecorator permuted = new PermutationFunctionDecorator();
+        permuted.setFunction(rotated);
+        permuted.setPermutationFile(write("p.txt", "3 1 2"));
+
+        Vector input = Vector.of(0.5, 4.0, -1.0);
+        double expected = permuted.apply(input);
+        PermutationFunctionDecorator copy = SerializationTestHelper.roundTrip(permuted);
+        assertEquals(expected, copy.apply(input), 0.0);
+        assertArrayEquals(shifted.getShifts(), ((ShiftedFunctionDecorator) ((RotatedFunctionDecorator) copy.getFunction()).getFunction()).getShifts(), 0.0);
+    }
+}
@@ -0,0 +1,111 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.functions.continuous.decorators;
+
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Rastrigin;
+import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.SerializationTestHelper;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class CompiledFunctionDecoratorTest {
+
+    private static ShiftedFunctionDecorator chain() {
+        IllConditionedFunctionDecorator illConditioned = new IllConditionedFunctionDecorator();
+        illConditioned.setFunction(new Rastrigin());
+        illConditioned.setAlpha(ConstantControlParameter.of(10.0));
+
+        AsymmetricFunctionDecorator asymmetric = new AsymmetricFunctionDecorator();
+        asymmetric.setFunction(illConditioned);
+        asymmetric.setBeta(ConstantControlParameter.of(0.2));
+
+        IrregularFunctionDecorator irregular = new IrregularFunctionDecorator();
+        irregular.setFunction(asymmetric);
+
+        ScaledFunctionDecorator scaled = new ScaledFunctionDecorator();
+        scaled.setFunction(irregular);
+        scaled.setHorizontalScale(ConstantControlParameter.of(0.0512));
+        scaled.setVerticalScale(ConstantControlParameter.of(2.0));
+
+        ShiftedFunctionDecorator shifted = new ShiftedFunctionDecorator();
+        shifted.setFunction(scaled);
+        shifted.setHorizontalShift(ConstantControlParameter.of(1.5));
+        shifted.setVerticalShift(ConstantControlParameter.of(-100.0));
+        return shifted;
+    }
+
+    @Test
+    public void testApply() {
+        ShiftedFunctionDecorator chain = chain();
+        CompiledFunctionDecorator compiled = new CompiledFunctionDecorator();
+        compiled.setFunction(chain);
+        assertEquals(0, compiled.getCompiledDecorators());
+
+        Vector[] inputs = {
+            Vector.of(0.0, 0.0, 0.0, 0.0),
+            Vector.of(1.5, 1.5, 1.5, 1.5),
+            Vector.of(-3.0, 2.0, 40.0, -0.75),
+            Vector.of(10.0, -20.0, 5.5, 0.125)
+        };
+        for (Vector input : inputs) {
+            assertEquals(chain.apply(input), compiled.apply(input), 0.0);
+        }
+        assertEquals(5, compiled.getCompiledDecorators());
+
+        double[] packed = new double[inputs.length * 4];
+        for (int i = 0; i < inputs.length; i++) {
+            for (int j = 0; j < 4; j++) {
+                packed[i * 4 + j] = inputs[i].doubleValueOf(j);
+            }
+        }
+        double[] results = new double[inputs.length];
+        compiled.apply(packed, inputs.length, results);
+        for (int i = 0; i < inputs.length; i++) {
+            assertEquals(chain.apply(inputs[i]), results[i], 0.0);
+        }
+    }
+
+    /**
+     * The compiled pipeline is not serialized, but must be compiled again
+     * for the copy.
+     */
+    @Test
+    public void testSerialization() {
+        CompiledFunctionDecorator compiled = new CompiledFunctionDecorator();
+        compiled.setFunction(chain());
+        Vector input = Vector.of(-3.0, 2.0, 40.0, -0.75);
+        double expected = compiled.apply(input);
+
+        CompiledFunctionDecorator copy = SerializationTestHelper.roundTrip(compiled);
+        assertEquals(0, copy.getCompiledDecorators());
+        assertEquals(expected, copy.apply(input), 0.0);
+        assertEquals(5, copy.getCompiledDecorators());
+    }
+
+    @Test
+    public void testStopsAtOtherDecorators() {
+        RotatedFunctionDecorator rotated = new RotatedFunctionDecorator();
+        rotated.setFunction(chain());
+        rotated.setRotationMatrix(3);
+
+        ShiftedFunctionDecorator shifted = new ShiftedFunctionDecorator();
+        shifted.setFunction(rotated);
+        shifted.setHorizontalShift(ConstantControlParameter.of(2.0));
+
+        CompiledFunctionDecorator compiled = new CompiledFunctionDecorator();
+        compiled.setFunction(shifted);
+
+        Vector input = Vector.of(1.0, -2.0, 3.0);
+        assertEquals(shifted.apply(input), compiled.apply(input), 0.0);
+        assertEquals(1, compiled.getCompiledDecorators());
+
+        compiled.setFunction(rotated);
+        assertEquals(0, compiled.getCompiledDecorators());
+        assertEquals(rotated.apply(input), compiled.apply(input), 0.0);
+    }
+}
@@ -6,9 +6,13 @@
  */
 package net.sourceforge.cilib.functions.continuous.decorators;
 
+import java.util.Arrays;
+import java.util.List;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.type.types.container.Matrix;
 import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.SerializationTestHelper;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
@@ -31,4 +35,45 @@ public class RotatedFunctionDecoratorTest {
         r.setRotationMatrix(v.size());
         assertEquals(s.apply(v), r.apply(v), 0.0);
     }
+
+    @Test
+    public void testRotate() {
+        RotatedFunctionDecorator r = new RotatedFunctionDecorator();
+        r.setFunction(new Spherical());
+        r.setRotationMatrix(5);
+        Matrix m = r.getRotationMatrix();
+
+        Vector a = Vector.of(1.0, -2.0, 3.0, 0.5, 4.0);
+        Vector b = Vector.of(0.0, 1.0, -1.0, 2.0, 3.5);
+        Vector rotated = r.rotate(a);
+        for (int j = 0; j < a.size(); j++) {
+            double expected = 0.0;
+            for (int i = 0; i < a.size(); i++) {
+                expected += a.doubleValueOf(i) * m.valueAt(i, j);
+            }
+            assertEquals(expected, rotated.doubleValueOf(j), 0.0);
+        }
+
+        List<Vector> batch = r.rotate(Arrays.asList(a, b));
+        assertEquals(rotated, batch.get(0));
+        assertEquals(r.rotate(b), batch.get(1));
+    }
+
+    /**
+     * The cached kernel is not serialized, but must be rebuilt from the
+     * rotation matrix of the copy.
+     */
+    @Test
+    public void testSerialization() {
+        RotatedFunctionDecorator r = new RotatedFunctionDecorator();
+        r.setFunction(new Spherical());
+        r.setRotationMatrix(4);
+        Vector v = Vector.of(1.0, -2.0, 3.0, 0.5);
+        double expected = r.apply(v);
+
+        RotatedFunctionDecorator copy = SerializationTestHelper.roundTrip(r);
+        assertEquals(r.getRotationMatrix(), copy.getRotationMatrix());
+        assertEquals(r.rotate(v), copy.rotate(v));
+        assertEquals(expected, copy.apply(v), 0.0);
+    }
 }
@@ -0,0 +1,93 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.functions.continuous.hybrid;
+
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Rastrigin;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.type.types.container.Vector;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class HybridCompositionFunctionTest {
+
+    private static SingleFunction single(double shift, double lambda, double bias, String matrixType) {
+        SingleFunction f = new SingleFunction();
+        f.setFunction(new Spherical());
+        f.setHorizontalShift(shift);
+        f.setLambda(lambda);
+        f.setBias(bias);
+        f.setMatrixType(matrixType);
+        return f;
+    }
+
+    @Test
+    public void singleFunction() {
+        HybridCompositionFunction hybrid = new HybridCompositionFunction();
+        SingleFunction single = single(1.0, 2.0, 100.0, "identity");
+        hybrid.addFunction(single);
+
+        Vector x = Vector.of(3.0, -1.0, 0.0);
+        // ((x - 1) / 2)^2 summed, divided by fmax = 3 * (5 / 2)^2
+        double f = (1.0 + 1.0 + 0.25) / 18.75;
+        assertEquals(2000.0 * f + 100.0, hybrid.apply(x), 1e-10);
+        assertEquals(18.75, single.getfMax(3), 0.0);
+        assertEquals(f, single.apply(x), 1e-12);
+    }
+
+    /**
+     * Concurrent evaluations of the same instance must agree with serial
+     * evaluations.
+     */
+    @Test
+    public void concurrentApply() throws Exception {
+        Rand.setSeed(5);
+        final HybridCompositionFunction hybrid = new HybridCompositionFunction();
+        hybrid.addFunction(single(1.0, 1.0, 0.0, "orthonormal"));
+        hybrid.addFunction(single(-2.0, 0.5, 100.0, "orthonormal"));
+        SingleFunction rastrigin = single(0.5, 1.0, 200.0, "identity");
+        rastrigin.setFunction(new Rastrigin());
+        hybrid.addFunction(rastrigin);
+
+        final List<Vector> inputs = Lists.newArrayList();
+        for (int i = 0; i < 50; i++) {
+            inputs.add(Vector.of(Rand.nextDouble() * 10 - 5, Rand.nextDouble() * 10 - 5,
+                    Rand.nextDouble() * 10 - 5, Rand.nextDouble() * 10 - 5));
+        }
+        hybrid.apply(inputs.get(0));
+
+        List<Callable<List<Double>>> tasks = Lists.newArrayList();
+        for (int t = 0; t < 4; t++) {
+            tasks.add(new Callable<List<Double>>() {
+                @Override
+                public List<Double> call() {
+                    List<Double> values = Lists.newArrayList();
+                    for (Vector input : inputs) {
+                        values.add(hybrid.apply(input));
+                    }
+                    return values;
+                }
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Double> expected = tasks.get(0).call();
+            for (Future<List<Double>> result : executor.invokeAll(tasks)) {
+                assertEquals(expected, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
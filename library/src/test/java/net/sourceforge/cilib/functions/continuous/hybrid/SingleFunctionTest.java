@@ -0,0 +1,50 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.functions.continuous.hybrid;
+
+import net.sourceforge.cilib.functions.continuous.unconstrained.Rastrigin;
+import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.SerializationTestHelper;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public class SingleFunctionTest {
+
+    /**
+     * Changing a parameter must not draw a new random rotation matrix.
+     */
+    @Test
+    public void testRotationIsKept() {
+        SingleFunction function = new SingleFunction();
+        function.setFunction(new Rastrigin());
+        Vector v = Vector.of(1.0, 2.0, 3.0);
+        double expected = function.apply(v);
+
+        function.setLambda(1.0);
+        assertEquals(expected, function.apply(v), 0.0);
+
+        function.setFunction(new Rastrigin());
+        assertEquals(expected, function.apply(v), 0.0);
+    }
+
+    /**
+     * The copy must use the same rotation matrix and derived values.
+     */
+    @Test
+    public void testSerialization() {
+        SingleFunction function = new SingleFunction();
+        function.setFunction(new Rastrigin());
+        function.setLambda(2.0);
+        function.setHorizontalShift(0.5);
+        Vector v = Vector.of(1.0, 2.0, 3.0, 4.0);
+        double expected = function.apply(v);
+
+        SingleFunction copy = SerializationTestHelper.roundTrip(function);
+        assertEquals(function.getfMax(4), copy.getfMax(4), 0.0);
+        assertEquals(expected, copy.apply(v), 0.0);
+    }
+}
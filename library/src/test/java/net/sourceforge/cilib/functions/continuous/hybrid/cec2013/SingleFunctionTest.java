@@ -9,6 +9,7 @@ package net.sourceforge.cilib.functions.continuous.hybrid.cec2013;
 import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.SerializationTestHelper;
 import static org.junit.Assert.assertEquals;
 import org.junit.Before;
 import org.junit.Test;
@@ -46,4 +47,16 @@ public class SingleFunctionTest {
         function.setHorizontalShift(ConstantControlParameter.of(2.0));
         assertEquals(4.60022207E-1, function.getWeight(v), 0.0000001);
     }
+
+    /**
+     * The horizontal shift is drawn once, and the copy must keep it.
+     */
+    @Test
+    public void testSerialization() {
+        Vector v = Vector.of(1.0, 2.0, 3.0);
+        double expected = function.getWeight(v);
+
+        SingleFunction copy = SerializationTestHelper.roundTrip(function);
+        assertEquals(expected, copy.getWeight(v), 0.0);
+    }
 }
@@ -0,0 +1,78 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.math;
+
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public class DenseMatrixTest {
+
+    private static double[] random(Random random, int size) {
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextGaussian();
+        }
+        return values;
+    }
+
+    /**
+     * The kernel must produce exactly the result of the naive loop, also when
+     * the columns span several blocks.
+     */
+    @Test
+    public void leftMultiply() {
+        Random random = new Random(7);
+        int rows = 301;
+        int columns = 517;
+        double[] values = random(random, rows * columns);
+        double[] x = random(random, rows);
+        DenseMatrix matrix = DenseMatrix.copyOf(rows, columns, values);
+
+        double[] expected = new double[columns];
+        for (int j = 0; j < columns; j++) {
+            for (int i = 0; i < rows; i++) {
+                expected[j] = expected[j] + x[i] * values[i * columns + j];
+            }
+        }
+
+        assertArrayEquals(expected, matrix.leftMultiply(x, new double[columns]), 0.0);
+    }
+
+    @Test
+    public void leftMultiplyBatch() {
+        Random random = new Random(11);
+        int size = 263;
+        int count = 19;
+        DenseMatrix matrix = DenseMatrix.copyOf(size, size, random(random, size * size));
+        double[] x = random(random, count * size);
+
+        double[] result = matrix.leftMultiply(x, count, new double[count * size]);
+        for (int v = 0; v < count; v++) {
+            double[] single = matrix.leftMultiply(Arrays.copyOfRange(x, v * size, (v + 1) * size), new double[size]);
+            assertArrayEquals(single, Arrays.copyOfRange(result, v * size, (v + 1) * size), 0.0);
+        }
+    }
+
+    @Test
+    public void transposeOf() {
+        double[] values = {1.0, 2.0, 3.0, 4.0, 5.0, 6.0};
+        DenseMatrix transposed = DenseMatrix.transposeOf(2, 3, values);
+        assertEquals(3, transposed.getRows());
+        assertEquals(2, transposed.getColumns());
+        assertArrayEquals(DenseMatrix.copyOf(3, 2, new double[] {1.0, 4.0, 2.0, 5.0, 3.0, 6.0})
+                .leftMultiply(new double[] {1.0, 10.0, 100.0}, new double[2]),
+                transposed.leftMultiply(new double[] {1.0, 10.0, 100.0}, new double[2]), 0.0);
+        assertArrayEquals(new double[] {1.0, 2.0, 3.0, 4.0, 5.0, 6.0}, values, 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void dimensions() {
+        DenseMatrix.copyOf(2, 3, new double[6]).leftMultiply(new double[3], new double[3]);
+    }
+}
@@ -0,0 +1,93 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.math.random;
+
+import java.util.Arrays;
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RandomVectorsTest {
+
+    @Test
+    public void uniformMatchesSequentialDraws() {
+        Rand.setSeed(7);
+        double[] expected = new double[10];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = 2.0 * Rand.nextDouble() - 1.0;
+        }
+
+        Rand.setSeed(7);
+        double[] values = new double[10];
+        RandomVectors.uniform(values, -1.0, 1.0);
+
+        Assert.assertArrayEquals(expected, values, 1e-15);
+    }
+
+    @Test
+    public void gaussianMoments() {
+        Rand.setSeed(3);
+        double[] values = new double[200000];
+        RandomVectors.gaussian(values, 2.0, 3.0);
+
+        double sum = 0.0;
+        double sumSquares = 0.0;
+        int outside = 0;
+        for (double v : values) {
+            double z = (v - 2.0) / 3.0;
+            sum += z;
+            sumSquares += z * z;
+            if (Math.abs(z) > 2.0) {
+                outside++;
+            }
+        }
+
+        double mean = sum / values.length;
+        Assert.assertEquals(0.0, mean, 0.01);
+        Assert.assertEquals(1.0, sumSquares / values.length - mean * mean, 0.02);
+        Assert.assertEquals(0.0455, outside / (double) values.length, 0.003);
+    }
+
+    @Test
+    public void laplaceAndCauchyMedians() {
+        Rand.setSeed(5);
+        double[] values = new double[100001];
+
+        RandomVectors.laplace(values, 1.0, 2.0);
+        Assert.assertEquals(1.0, median(values), 0.05);
+
+        RandomVectors.cauchy(values, -1.0, 0.5);
+        Assert.assertEquals(-1.0, median(values), 0.05);
+    }
+
+    @Test
+    public void sampleDistribution() {
+        UniformDistribution uniform = new UniformDistribution();
+        uniform.setLowerBound(ConstantControlParameter.of(5.0));
+        uniform.setUpperBound(ConstantControlParameter.of(6.0));
+
+        Vector sample = RandomVectors.sample(50, uniform);
+
+        Assert.assertEquals(50, sample.size());
+        for (int i = 0; i < sample.size(); i++) {
+            Assert.assertTrue(sample.doubleValueOf(i) >= 5.0 && sample.doubleValueOf(i) < 6.0);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidScale() {
+        RandomVectors.cauchy(new double[1], 0.0, 0.0);
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
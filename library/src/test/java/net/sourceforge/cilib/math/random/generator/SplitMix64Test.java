@@ -0,0 +1,74 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.math.random.generator;
+
+import org.junit.Assert;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class SplitMix64Test {
+
+    @Test
+    public void testNextDouble() {
+        RandomTester tester = new SimpleRandomTester();
+        SplitMix64 r = new SplitMix64(Rand.nextLong());
+        for (int i = 0; i < 100000; ++i) {
+            double d = r.nextDouble();
+            assertTrue("Random value out of range", 0 <= d && d < 1);
+            tester.addSample(d);
+        }
+        assertTrue("Samples are not random", tester.hasRandomSamples());
+    }
+
+    /**
+     * Reference values of the SplitMix64 generator for a seed of zero.
+     */
+    @Test
+    public void sequence() {
+        SplitMix64 r = new SplitMix64(0L);
+
+        Assert.assertEquals(0xE220A8397B1DCDAFL, r.nextLong());
+        Assert.assertEquals(0x6E789E6AA1B965F4L, r.nextLong());
+        Assert.assertEquals(0x06C45D188009454FL, r.nextLong());
+    }
+
+    @Test
+    public void substream() {
+        SplitMix64 a = SplitMix64.derive(42L, 3, 7);
+        SplitMix64 b = SplitMix64.derive(42L, 3, 7);
+        SplitMix64 c = SplitMix64.derive(42L, 7, 3);
+
+        long first = a.nextLong();
+        Assert.assertEquals(first, b.nextLong());
+        Assert.assertFalse(first == c.nextLong());
+        Assert.assertFalse(first == SplitMix64.derive(42L, 3).nextLong());
+    }
+
+    @Test
+    public void runWithRestoresStream() {
+        Rand.setSeed(11);
+        final long expected = Rand.nextLong();
+
+        Rand.setSeed(11);
+        final double[] inner = new double[2];
+        Rand.runWith(SplitMix64.derive(1L, 2), new Runnable() {
+            @Override
+            public void run() {
+                inner[0] = Rand.nextDouble();
+            }
+        });
+        Rand.runWith(SplitMix64.derive(1L, 2), new Runnable() {
+            @Override
+            public void run() {
+                inner[1] = Rand.nextDouble();
+            }
+        });
+
+        Assert.assertEquals(inner[0], inner[1], 0.0);
+        Assert.assertEquals(expected, Rand.nextLong());
+    }
+}
@@ -36,4 +36,19 @@ public class RandomWeightInitialisationStrategyTest {
         }
     }
 
+    @Test
+    public void testInitialiseChangesWeights() {
+        Vector weights = Vector.newBuilder().repeat(10, Real.valueOf(0.0, new Bounds(-5, 5))).build();
+
+        new RandomWeightInitialisationStrategy().initialise(weights);
+
+        int changed = 0;
+        for (int i = 0; i < weights.size(); i++) {
+            if (weights.doubleValueOf(i) != 0.0) {
+                changed++;
+            }
+        }
+        Assert.assertEquals(weights.size(), changed);
+    }
+
 }
@@ -6,13 +6,20 @@
  */
 package net.sourceforge.cilib.problem;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
 
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.functions.ContinuousFunction;
+import net.sourceforge.cilib.functions.continuous.decorators.ShiftedFunctionDecorator;
 import net.sourceforge.cilib.functions.continuous.unconstrained.Ackley;
 import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.problem.solution.Fitness;
+import net.sourceforge.cilib.type.types.container.Vector;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -60,4 +67,31 @@ public class FunctionOptimisationProblemTest {
         assertSame(f, problem.getFunction());
     }
 
+    @Test
+    public void testBatchFitness() {
+        ShiftedFunctionDecorator shifted = new ShiftedFunctionDecorator();
+        shifted.setFunction(function);
+        shifted.setHorizontalShift(ConstantControlParameter.of(0.5));
+        problem.setFunction(shifted);
+
+        Vector a = Vector.copyOf(x);
+        Vector b = Vector.of(1.0, 2.0, 3.0, 4.0, 5.0);
+        List<Fitness> fitness = problem.getFitness(Arrays.asList(a, b));
+        assertEquals(2, problem.getFitnessEvaluations());
+        assertEquals(problem.getFitness(a), fitness.get(0));
+        assertEquals(problem.getFitness(b), fitness.get(1));
+
+        problem.setFunction(function);
+        assertEquals(problem.getFitness(b), problem.getFitness(Arrays.asList(b)).get(0));
+    }
+
+    @Test
+    public void testFitnessValue() {
+        Vector a = Vector.copyOf(x);
+        double value = problem.getFitnessValue(a);
+        assertEquals(1, problem.getFitnessEvaluations());
+        assertEquals(problem.getFitness(a), problem.getObjective().evaluate(value));
+        assertEquals(2, problem.getFitnessEvaluations());
+    }
+
 }
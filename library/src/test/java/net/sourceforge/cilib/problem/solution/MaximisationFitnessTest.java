@@ -8,6 +8,8 @@ package net.sourceforge.cilib.problem.solution;
 
 import static org.junit.Assert.assertEquals;
 
+import net.sourceforge.cilib.problem.objective.Maximise;
+import net.sourceforge.cilib.problem.objective.Objective;
 import org.junit.Test;
 
 
@@ -39,4 +41,34 @@ public class MaximisationFitnessTest {
         assertEquals(oneFitness.compareTo(inferior), 1);
     }
 
+    /**
+     * Values are compared and hashed as by {@link Double}: {@code NaN} is
+     * greater than any other value and equal to itself.
+     */
+    @Test
+    public void primitiveValue() {
+        Fitness one = new MaximisationFitness(1.0);
+        Fitness nan = new MaximisationFitness(Double.NaN);
+        assertEquals(1, nan.compareTo(one));
+        assertEquals(-1, one.compareTo(nan));
+        assertEquals(0, nan.compareTo(new MaximisationFitness(Double.NaN)));
+        assertEquals(new MaximisationFitness(Double.NaN), nan);
+        assertEquals(new MaximisationFitness(1.0).hashCode(), one.hashCode());
+        assertEquals(1.0, one.doubleValue(), 0.0);
+        assertEquals(Double.valueOf(1.0), one.getValue());
+    }
+
+    /**
+     * The objective compares values as the fitnesses it creates compare.
+     */
+    @Test
+    public void objectiveComparison() {
+        Objective objective = new Maximise();
+        double[] values = {-1.0, 0.0, 2.0, Double.NaN, Double.POSITIVE_INFINITY};
+        for (double a : values) {
+            for (double b : values) {
+                assertEquals(objective.evaluate(a).compareTo(objective.evaluate(b)), objective.compare(a, b));
+            }
+        }
+    }
 }
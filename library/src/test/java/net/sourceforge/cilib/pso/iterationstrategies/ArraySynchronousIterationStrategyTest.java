@@ -0,0 +1,147 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.pso.iterationstrategies;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import net.sourceforge.cilib.algorithm.population.IterationStrategy;
+import net.sourceforge.cilib.entity.EntityType;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.measurement.generic.Iterations;
+import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
+import net.sourceforge.cilib.problem.boundaryconstraint.ClampingBoundaryConstraint;
+import net.sourceforge.cilib.problem.solution.Fitness;
+import net.sourceforge.cilib.problem.solution.MinimisationFitness;
+import net.sourceforge.cilib.pso.PSO;
+import net.sourceforge.cilib.pso.particle.ArrayParticle;
+import net.sourceforge.cilib.pso.particle.Particle;
+import net.sourceforge.cilib.pso.particle.StandardParticle;
+import net.sourceforge.cilib.stoppingcondition.Maximum;
+import net.sourceforge.cilib.stoppingcondition.MeasuredStoppingCondition;
+import net.sourceforge.cilib.type.types.Int;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ArraySynchronousIterationStrategyTest {
+
+    private PSO run(IterationStrategy<PSO> strategy, int iterations) {
+        FunctionOptimisationProblem problem = new FunctionOptimisationProblem();
+        problem.setFunction(new Spherical());
+        problem.setDomain("R(-5.12:5.12)^10");
+
+        Rand.setSeed(7);
+        PSO pso = new PSO();
+        pso.setOptimisationProblem(problem);
+        pso.setIterationStrategy(strategy);
+        pso.addStoppingCondition(new MeasuredStoppingCondition(new Iterations(), new Maximum(), iterations));
+        pso.performInitialisation();
+        pso.run();
+        return pso;
+    }
+
+    /**
+     * Updating the arrays must produce exactly the swarm of the standard
+     * synchronous strategy.
+     */
+    @Test
+    public void sameAsSynchronous() {
+        PSO expected = run(new SynchronousIterationStrategy(), 30);
+        PSO actual = run(new ArraySynchronousIterationStrategy(), 30);
+
+        Assert.assertEquals(expected.getBestSolution().getFitness().getValue(),
+                actual.getBestSolution().getFitness().getValue(), 0.0);
+        for (int i = 0; i < expected.getTopology().size(); i++) {
+            Particle e = expected.getTopology().get(i);
+            Particle a = actual.getTopology().get(i);
+            Assert.assertTrue(a instanceof ArrayParticle);
+            Assert.assertEquals(e.getPosition(), a.getPosition());
+            Assert.assertEquals(e.getVelocity(), a.getVelocity());
+            Assert.assertEquals(e.getBestPosition(), a.getBestPosition());
+            Assert.assertEquals(e.getProperties().get(EntityType.Particle.Count.PBEST_STAGNATION_COUNTER),
+                    a.getProperties().get(EntityType.Particle.Count.PBEST_STAGNATION_COUNTER));
+        }
+    }
+
+    /**
+     * Only particles that leave the search space are constrained, which must
+     * still produce the swarm of the standard synchronous strategy.
+     */
+    @Test
+    public void sameAsSynchronousWhenConstrained() {
+        SynchronousIterationStrategy synchronous = new SynchronousIterationStrategy();
+        synchronous.setBoundaryConstraint(new ClampingBoundaryConstraint());
+        ArraySynchronousIterationStrategy array = new ArraySynchronousIterationStrategy();
+        array.setBoundaryConstraint(new ClampingBoundaryConstraint());
+
+        PSO expected = run(synchronous, 30);
+        PSO actual = run(array, 30);
+
+        Assert.assertEquals(expected.getBestSolution().getFitness().getValue(),
+                actual.getBestSolution().getFitness().getValue(), 0.0);
+        for (int i = 0; i < expected.getTopology().size(); i++) {
+            Particle e = expected.getTopology().get(i);
+            Particle a = actual.getTopology().get(i);
+            Assert.assertEquals(e.getPosition(), a.getPosition());
+            Assert.assertEquals(e.getVelocity(), a.getVelocity());
+            Assert.assertEquals(e.getBestPosition(), a.getBestPosition());
+            Assert.assertEquals(e.getBestFitness(), a.getBestFitness());
+        }
+    }
+
+    /**
+     * Properties of a view are read from and written to the arrays.
+     */
+    @Test
+    public void viewProperties() {
+        PSO pso = run(new ArraySynchronousIterationStrategy(), 2);
+        ArrayParticle particle = (ArrayParticle) pso.getTopology().get(0);
+
+        Vector position = Vector.fill(1.0, 10);
+        particle.getProperties().put(EntityType.CANDIDATE_SOLUTION, position);
+        particle.getProperties().put(EntityType.Particle.Count.PBEST_STAGNATION_COUNTER, Int.valueOf(5));
+        Assert.assertArrayEquals(position.toDoubleArray(), particle.getPosition().toDoubleArray(), 0.0);
+        Assert.assertEquals(1.0, particle.getArrays().getPositions()[9], 0.0);
+        Assert.assertEquals(Int.valueOf(5), particle.getProperties().get(EntityType.Particle.Count.PBEST_STAGNATION_COUNTER));
+
+        particle.getProperties().put(EntityType.FITNESS, new MinimisationFitness(10.0));
+        Assert.assertEquals(10.0, particle.getFitness().getValue(), 0.0);
+        Assert.assertEquals(10.0, ((Fitness) particle.getProperties().get(EntityType.FITNESS)).getValue(), 0.0);
+
+        StandardParticle clone = particle.getClone();
+        Assert.assertArrayEquals(position.toDoubleArray(), clone.getPosition().toDoubleArray(), 0.0);
+        Assert.assertEquals(particle.getBestFitness(), clone.getBestFitness());
+    }
+
+    /**
+     * Views are serialised as standard particles, and the swarm is packed
+     * again after it has been read.
+     */
+    @Test
+    public void serialisation() throws Exception {
+        PSO pso = run(new ArraySynchronousIterationStrategy(), 5);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(pso);
+        out.close();
+        PSO copy = (PSO) new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+
+        for (int i = 0; i < pso.getTopology().size(); i++) {
+            Particle particle = copy.getTopology().get(i);
+            Assert.assertTrue(particle instanceof StandardParticle);
+            Assert.assertEquals(pso.getTopology().get(i).getPosition(), particle.getPosition());
+            Assert.assertTrue(copy.getTopology().contains(particle.getNeighbourhoodBest()));
+        }
+
+        copy.performIteration();
+        Assert.assertTrue(copy.getTopology().get(0) instanceof ArrayParticle);
+    }
+}
@@ -0,0 +1,57 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.pso.velocityprovider;
+
+import net.sourceforge.cilib.entity.EntityType;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.pso.particle.Particle;
+import net.sourceforge.cilib.pso.particle.StandardParticle;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FusedVelocityProviderTest {
+
+    /**
+     * With constant control parameters the fused update must reproduce the
+     * standard velocity update exactly.
+     */
+    @Test
+    public void equivalentToStandard() {
+        Particle particle = createParticle(Vector.of(0.5, -1.0, 2.0), Vector.of(0.1, 0.2, -0.3));
+        Particle nBest = createParticle(Vector.of(1.0, 1.0, 1.0), Vector.of(0.0, 0.0, 0.0));
+        particle.setNeighbourhoodBest(nBest);
+        nBest.setNeighbourhoodBest(nBest);
+
+        Rand.setSeed(0);
+        Vector expected = new StandardVelocityProvider().get(particle);
+        Rand.setSeed(0);
+        Vector actual = new FusedVelocityProvider().get(particle);
+
+        Assert.assertEquals(expected, actual);
+    }
+
+    @Test
+    public void denseVelocity() {
+        Vector position = Vector.copyOf(new double[]{0.5, -1.0});
+        Particle particle = createParticle(position, Vector.copyOf(new double[]{0.1, 0.2}));
+        particle.setNeighbourhoodBest(particle);
+
+        Vector velocity = new FusedVelocityProvider().get(particle);
+
+        Assert.assertTrue(velocity.isDense());
+        Assert.assertEquals(0.729844 * 0.1, velocity.doubleValueOf(0), 1e-15);
+    }
+
+    private Particle createParticle(Vector position, Vector velocity) {
+        Particle particle = new StandardParticle();
+        particle.getProperties().put(EntityType.CANDIDATE_SOLUTION, position);
+        particle.getProperties().put(EntityType.Particle.VELOCITY, velocity);
+        particle.getProperties().put(EntityType.Particle.BEST_POSITION, Vector.copyOf(position));
+        return particle;
+    }
+}
@@ -8,6 +8,7 @@ package net.sourceforge.cilib.stoppingcondition;
 
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.measurement.generic.Iterations;
+import net.sourceforge.cilib.util.SerializationTestHelper;
 import static org.junit.Assert.*;
 import org.junit.Test;
 import org.mockito.Mockito;
@@ -36,4 +37,22 @@ public class MaintainedStoppingConditionTest {
         assertTrue(instance.apply(algorithm));
         assertEquals(instance.getPercentageCompleted(algorithm), 1.0, 0.0);
     }
+
+    /**
+     * The number of consecutive iterations must be part of the serialized
+     * state, so that a restored simulation stops at the same iteration.
+     */
+    @Test
+    public void serialization() {
+        Algorithm algorithm = Mockito.mock(Algorithm.class);
+        Mockito.when(algorithm.getIterations()).thenReturn(1, 1, 1);
+        MaintainedStoppingCondition instance = new MaintainedStoppingCondition(
+                new MeasuredStoppingCondition(new Iterations(), new Maximum(), 1), 3);
+
+        assertFalse(instance.apply(algorithm));
+        assertFalse(instance.apply(algorithm));
+        MaintainedStoppingCondition copy = SerializationTestHelper.roundTrip(instance);
+        assertEquals(instance.getPercentageCompleted(algorithm), copy.getPercentageCompleted(algorithm), 0.0);
+        assertTrue(copy.apply(algorithm));
+    }
 }
@@ -39,6 +39,22 @@ public class DomainParserTest {
         Assert.assertEquals(6, vector.size());
     }
 
+    @Test
+    public void denseDimensionRange() {
+        Vector vector = (Vector) DomainParser.parse("R(-9.0:9.0)^6", true);
+
+        Assert.assertEquals(6, vector.size());
+        Assert.assertTrue(vector.isDense());
+        Assert.assertEquals(DomainParser.parse("R(-9.0:9.0)^6"), vector);
+    }
+
+    @Test
+    public void denseMixedDomain() {
+        Vector vector = (Vector) DomainParser.parse("R(-9.0:9.0)^2,Z(0:5)", true);
+
+        Assert.assertFalse(vector.isDense());
+    }
+
     @Test
     public void infiniteBounds() {
         Vector vector = (Vector) DomainParser.parse("R^6");
@@ -7,8 +7,18 @@
 package net.sourceforge.cilib.type.types.container;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import net.sourceforge.cilib.entity.EntityType;
 import net.sourceforge.cilib.type.types.Blackboard;
+import net.sourceforge.cilib.type.types.Int;
 import net.sourceforge.cilib.type.types.Real;
+import net.sourceforge.cilib.type.types.Type;
 
 import org.junit.Test;
 
@@ -25,4 +35,75 @@ public class BlackboardTest {
         // the value of "first"
         assertEquals("{second=2.0, first=1.0}", properties.toString());
     }
+
+    @Test
+    public void enumKeys() {
+        Blackboard<Enum<?>, Type> properties = new Blackboard<Enum<?>, Type>();
+        properties.put(EntityType.FITNESS, Real.valueOf(1.0));
+        properties.put(EntityType.Particle.VELOCITY, Vector.of(1.0, 2.0));
+        properties.put(EntityType.Particle.Count.PBEST_STAGNATION_COUNTER, Int.valueOf(3));
+
+        assertEquals(Real.valueOf(1.0), properties.get(EntityType.FITNESS));
+        assertEquals(Vector.of(1.0, 2.0), properties.get(EntityType.Particle.VELOCITY));
+        assertEquals(Int.valueOf(3), properties.get(EntityType.Particle.Count.PBEST_STAGNATION_COUNTER));
+        assertNull(properties.get(EntityType.Particle.BEST_POSITION));
+        assertNull(properties.get(EntityType.Coevolution.BOARD));
+        assertEquals(3, properties.entrySet().size());
+
+        assertEquals(Real.valueOf(1.0), properties.put(EntityType.FITNESS, Real.valueOf(2.0)));
+        assertEquals(Real.valueOf(2.0), properties.get(EntityType.FITNESS));
+    }
+
+    @Test
+    public void copy() throws Exception {
+        Blackboard<Enum<?>, Type> properties = new Blackboard<Enum<?>, Type>();
+        properties.put(EntityType.CANDIDATE_SOLUTION, Vector.of(1.0, 2.0));
+
+        Blackboard<Enum<?>, Type> clone = properties.getClone();
+        assertEquals(properties, clone);
+        assertNotSame(properties.get(EntityType.CANDIDATE_SOLUTION), clone.get(EntityType.CANDIDATE_SOLUTION));
+
+        clone.put(EntityType.FITNESS, Real.valueOf(1.0));
+        assertNull(properties.get(EntityType.FITNESS));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream output = new ObjectOutputStream(bytes);
+        output.writeObject(clone);
+        output.close();
+        Object copy = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+        assertEquals(clone, copy);
+    }
+
+    @Test
+    public void share() {
+        Vector position = Vector.of(1.0, 2.0);
+        Vector strategy = Vector.of(0.5);
+        Blackboard<Enum<?>, Type> properties = new Blackboard<Enum<?>, Type>();
+        properties.put(EntityType.CANDIDATE_SOLUTION, position);
+        properties.put(EntityType.STRATEGY_PARAMETERS, strategy);
+
+        Blackboard<Enum<?>, Type> shared = properties.share();
+        Vector replacement = Vector.of(3.0, 4.0);
+        assertSame(position, shared.put(EntityType.CANDIDATE_SOLUTION, replacement));
+        assertSame(replacement, shared.get(EntityType.CANDIDATE_SOLUTION));
+        assertSame(position, properties.get(EntityType.CANDIDATE_SOLUTION));
+
+        // Obtaining a shared value from the copy clones it
+        Type copy = shared.get(EntityType.STRATEGY_PARAMETERS);
+        assertEquals(strategy, copy);
+        assertNotSame(strategy, copy);
+        assertSame(copy, shared.get(EntityType.STRATEGY_PARAMETERS));
+    }
+
+    @Test
+    public void unshare() {
+        Vector strategy = Vector.of(0.5);
+        Blackboard<Enum<?>, Type> properties = new Blackboard<Enum<?>, Type>();
+        properties.put(EntityType.STRATEGY_PARAMETERS, strategy);
+
+        Blackboard<Enum<?>, Type> shared = properties.share();
+        shared.unshare();
+        strategy.setReal(0, 1.0);
+        assertEquals(Vector.of(0.5), shared.get(EntityType.STRATEGY_PARAMETERS));
+    }
 }
@@ -425,4 +425,97 @@ public class VectorTest {
         Rand.setSeed(1);
         assertEquals(v1.permute(), Vector.of(2.0, 4.0, 3.0, 1.0));
     }
+
+    @Test
+    public void denseArithmetic() {
+        Bounds b = new Bounds(-5.0, 5.0);
+        Vector dense = Vector.copyOf(new double[]{1.0, 2.0, 3.0}, new Bounds[]{b, b, b});
+        Vector boxed = Vector.newBuilder().addWithin(1.0, b).addWithin(2.0, b).addWithin(3.0, b).build();
+
+        assertTrue(dense.isDense());
+        assertFalse(boxed.isDense());
+        assertEquals(boxed, dense);
+        assertEquals(dense, boxed);
+        assertEquals(boxed.hashCode(), dense.hashCode());
+
+        Vector sum = dense.plus(boxed);
+        assertTrue(sum.isDense());
+        assertEquals(Vector.newBuilder().addWithin(2.0, b).addWithin(4.0, b).addWithin(6.0, b).build(), sum);
+        assertEquals(boxed.subtract(dense), dense.subtract(boxed));
+        assertEquals(boxed.multiply(2.0), dense.multiply(2.0));
+        assertEquals(boxed.norm(), dense.norm(), 0.0);
+        assertEquals(boxed.dot(boxed), dense.dot(dense), 0.0);
+        assertEquals(b, dense.get(1).getBounds());
+        assertEquals(boxed.toString(), dense.toString());
+    }
+
+    @Test
+    public void denseCopyIsIndependent() {
+        Vector dense = Vector.copyOf(new double[]{1.0, 2.0});
+        Vector copy = Vector.copyOf(dense);
+
+        copy.setReal(0, 5.0);
+
+        assertTrue(copy.isDense());
+        assertEquals(1.0, dense.doubleValueOf(0), 0.0);
+        assertEquals(5.0, copy.doubleValueOf(0), 0.0);
+    }
+
+    @Test
+    public void denseInflatesForNonReal() {
+        Vector dense = Vector.copyOf(new double[]{1.0, 2.0});
+
+        dense.setInt(1, 3);
+
+        assertFalse(dense.isDense());
+        assertEquals(1.0, dense.doubleValueOf(0), 0.0);
+        assertEquals(3, dense.intValueOf(1));
+    }
+
+    @Test
+    public void denseRandomise() {
+        Bounds b = new Bounds(-1.0, 1.0);
+        Vector dense = Vector.newBuilder().addWithin(10.0, b).addWithin(10.0, b).buildDense();
+
+        dense.randomise(0);
+
+        assertTrue(b.isInsideBounds(dense.doubleValueOf(0)));
+        assertEquals(10.0, dense.doubleValueOf(1), 0.0);
+    }
+
+    @Test
+    public void accumulator() {
+        Vector a = Vector.of(1.0, 2.0, 3.0);
+        Vector b = Vector.of(3.0, 2.0, 1.0);
+
+        Vector result = Vector.newAccumulator(a).scale(2.0).addScaled(0.5, b).addScaledDifference(2.0, a, b).subtract(a).build();
+
+        assertEquals(a.multiply(2.0).plus(b.multiply(0.5)).plus(a.subtract(b).multiply(2.0)).subtract(a), result);
+        assertEquals(Vector.of(1.0, 2.0, 3.0), a);
+    }
+
+    @Test
+    public void accumulatorRetainsRepresentation() {
+        Vector dense = Vector.copyOf(new double[]{1.0, 2.0});
+
+        assertTrue(Vector.newAccumulator(dense).add(dense).build().isDense());
+        assertFalse(Vector.newAccumulator(Vector.of(1.0, 2.0)).add(dense).build().isDense());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void accumulatorBuildOnce() {
+        Vector.Accumulator accumulator = Vector.newAccumulator(Vector.of(1.0));
+        accumulator.build();
+        accumulator.scale(2.0);
+    }
+
+    @Test
+    public void subtractInto() {
+        double[] result = new double[2];
+
+        Vector.of(3.0, 2.0).subtractInto(Vector.of(1.0, 5.0), result);
+
+        assertEquals(2.0, result[0], 0.0);
+        assertEquals(-3.0, result[1], 0.0);
+    }
 }
@@ -0,0 +1,42 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+/**
+ * Helper object for testing the serialization of components.
+ */
+public final class SerializationTestHelper {
+
+    /**
+     * Serialize and deserialize an object.
+     * @param object The object to copy.
+     * @return The deserialized copy of the object.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Serializable> T roundTrip(T object) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            ObjectOutputStream out = new ObjectOutputStream(bytes);
+            out.writeObject(object);
+            out.close();
+            return (T) new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+        } catch (IOException ex) {
+            throw new AssertionError(ex);
+        } catch (ClassNotFoundException ex) {
+            throw new AssertionError(ex);
+        }
+    }
+
+    private SerializationTestHelper() { }
+}
@@ -0,0 +1,52 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.util.selection;
+
+import net.sourceforge.cilib.math.random.generator.Rand;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AliasTableTest {
+
+    @Test
+    public void proportional() {
+        Rand.setSeed(3);
+        double[] weights = {1.0, 0.0, 2.0, 5.0, 0.5, 1.5};
+        AliasTable table = AliasTable.of(weights);
+        Assert.assertEquals(10.0, table.getTotal(), 1e-12);
+
+        int draws = 100000;
+        int[] counts = new int[weights.length];
+        for (int i = 0; i < draws; i++) {
+            counts[table.sample()]++;
+        }
+
+        Assert.assertEquals(0, counts[1]);
+        for (int i = 0; i < weights.length; i++) {
+            Assert.assertEquals(weights[i] / 10.0, counts[i] / (double) draws, 0.01);
+        }
+    }
+
+    @Test
+    public void singleNonZeroWeight() {
+        Rand.setSeed(0);
+        AliasTable table = AliasTable.of(0.0, 0.0, 3.0, 0.0);
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertEquals(2, table.sample());
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void zeroWeights() {
+        AliasTable.of(0.0, 0.0).sample();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeWeight() {
+        AliasTable.of(1.0, -1.0);
+    }
+}
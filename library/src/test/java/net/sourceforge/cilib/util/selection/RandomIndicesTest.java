@@ -0,0 +1,95 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.util.selection;
+
+import net.sourceforge.cilib.math.random.generator.Rand;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RandomIndicesTest {
+
+    /**
+     * Every ordered sample must be equally likely, for both Floyd's
+     * algorithm and the partial shuffle.
+     */
+    @Test
+    public void uniformOrderedSamples() {
+        Rand.setSeed(5);
+        checkUniform(5, 2);
+        checkUniform(4, 3);
+    }
+
+    private void checkUniform(int n, int k) {
+        int[] counts = new int[(int) Math.pow(n, k)];
+        int outcomes = 1;
+        for (int i = 0; i < k; i++) {
+            outcomes *= n - i;
+        }
+        int draws = outcomes * 2000;
+        for (int i = 0; i < draws; i++) {
+            int[] sample = RandomIndices.sample(n, k);
+            int key = 0;
+            for (int index : sample) {
+                key = key * n + index;
+            }
+            counts[key]++;
+        }
+
+        for (int count : counts) {
+            if (count > 0) {
+                Assert.assertEquals(2000, count, 250);
+            }
+        }
+    }
+
+    @Test
+    public void distinct() {
+        Rand.setSeed(1);
+        for (int n = 1; n < 40; n++) {
+            for (int k = 0; k <= n; k++) {
+                boolean[] seen = new boolean[n];
+                for (int index : RandomIndices.sample(n, k)) {
+                    Assert.assertFalse(seen[index]);
+                    seen[index] = true;
+                }
+            }
+        }
+    }
+
+    @Test
+    public void excluded() {
+        Rand.setSeed(2);
+        for (int i = 0; i < 1000; i++) {
+            int[] sample = RandomIndices.sampleExcluding(6, 3, 4, -1, 0, 4);
+            Assert.assertEquals(3, sample.length);
+            for (int index : sample) {
+                Assert.assertTrue(index > 0 && index < 6 && index != 4);
+            }
+        }
+        Assert.assertArrayEquals(new int[] {2}, RandomIndices.sampleExcluding(3, 1, 0, 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void tooFewRemaining() {
+        RandomIndices.sampleExcluding(3, 2, 0, 1);
+    }
+
+    @Test
+    public void partialShuffle() {
+        Rand.setSeed(3);
+        int[] indices = {0, 1, 2, 3, 4, 5, 6, 7};
+        RandomIndices.partialShuffle(indices, 3);
+
+        boolean[] seen = new boolean[indices.length];
+        for (int index : indices) {
+            seen[index] = true;
+        }
+        for (boolean s : seen) {
+            Assert.assertTrue(s);
+        }
+    }
+}
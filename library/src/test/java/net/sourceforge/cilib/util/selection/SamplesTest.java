@@ -7,6 +7,7 @@
 package net.sourceforge.cilib.util.selection;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import java.util.List;
 import org.junit.Assert;
 import org.junit.Test;
@@ -104,4 +105,14 @@ public class SamplesTest {
         Assert.assertEquals(2, result.get(1).intValue());
         Assert.assertEquals(3, result.get(2).intValue());
     }
+
+    @Test
+    public void randomN() {
+        List<Integer> ints = Lists.newArrayList(1, 2, 3, 4, 5, 6);
+        List<Integer> result = Selection.copyOf(ints).select(Samples.random(3));
+
+        Assert.assertEquals(3, result.size());
+        Assert.assertEquals(3, Sets.newHashSet(result).size());
+        Assert.assertTrue(ints.containsAll(result));
+    }
 }
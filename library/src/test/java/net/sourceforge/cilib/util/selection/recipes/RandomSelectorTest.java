@@ -32,4 +32,21 @@ public class RandomSelectorTest {
         int selected = selection.on(elements).select();
         Assert.assertThat(selected, is(1));
     }
+
+    @Test
+    public void selectExcluding() {
+        List<Integer> elements = Lists.newArrayList(1, 2, 3, 4);
+        RandomSelector<Integer> selection = new RandomSelector<Integer>();
+        for (int i = 0; i < 100; i++) {
+            int selected = selection.on(elements).exclude(1, 3).select();
+            Assert.assertTrue(selected == 2 || selected == 4);
+        }
+        Assert.assertEquals(Lists.newArrayList(1, 2, 3, 4), elements);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void selectAllExcluded() {
+        List<Integer> elements = Lists.newArrayList(1, 2);
+        new RandomSelector<Integer>().on(elements).exclude(1, 2).select();
+    }
 }
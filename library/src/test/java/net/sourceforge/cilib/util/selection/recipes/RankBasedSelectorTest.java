@@ -36,6 +36,10 @@ public class RankBasedSelectorTest {
         List<Integer> elements = Lists.newArrayList(9, 8, 7, 6, 5, 4, 3, 2, 1);
         RankBasedSelector<Integer> selection = new RankBasedSelector<Integer>();
         int selected = selection.on(elements).select();
-        Assert.assertThat(selected, is(8));
+
+        // A random number of the best elements, then one of those
+        Rand.setSeed(0);
+        int count = Rand.nextInt(elements.size()) + 1;
+        Assert.assertThat(selected, is(9 - Rand.nextInt(count)));
     }
 }
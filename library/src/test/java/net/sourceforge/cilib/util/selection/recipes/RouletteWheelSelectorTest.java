@@ -7,14 +7,17 @@
 package net.sourceforge.cilib.util.selection.recipes;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import java.util.List;
 import net.sourceforge.cilib.ec.Individual;
 import net.sourceforge.cilib.entity.EntityType;
 import net.sourceforge.cilib.entity.Topology;
 import net.sourceforge.cilib.entity.topologies.GBestTopology;
+import net.sourceforge.cilib.math.random.generator.Rand;
 import net.sourceforge.cilib.problem.solution.InferiorFitness;
 import net.sourceforge.cilib.problem.solution.MaximisationFitness;
 import net.sourceforge.cilib.problem.solution.MinimisationFitness;
+import net.sourceforge.cilib.util.selection.PreparedSelection;
 import net.sourceforge.cilib.util.selection.weighting.EntityWeighting;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.core.Is.is;
@@ -115,4 +118,20 @@ public class RouletteWheelSelectorTest {
         Assert.assertThat(selected, is(notNullValue()));
         Assert.assertThat(topology, hasItem(selected));
     }
+
+    @Test
+    public void preparedDistinctSelection() {
+        Rand.setSeed(0);
+        List<Integer> elements = Lists.newArrayList(1, 2, 3, 4, 5);
+        PreparedSelection<Integer> prepared = new RouletteWheelSelector<Integer>().prepare(elements);
+
+        for (int i = 0; i < 100; i++) {
+            List<Integer> selected = prepared.select(4);
+            Assert.assertThat(Sets.newHashSet(selected), is(Sets.newHashSet(2, 3, 4, 5)));
+        }
+
+        List<Integer> all = prepared.select(5);
+        Assert.assertThat(all.size(), is(5));
+        Assert.assertThat(all.get(4), is(1));
+    }
 }
@@ -7,12 +7,14 @@
 package net.sourceforge.cilib.util.selection.recipes;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ProportionalControlParameter;
 import net.sourceforge.cilib.math.random.generator.Rand;
-import net.sourceforge.cilib.math.random.generator.RandomAdaptor;
+import net.sourceforge.cilib.util.selection.RandomIndices;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
@@ -51,6 +53,16 @@ public class TournamentSelectorTest {
         Assert.assertThat(selected, is(9));
     }
 
+    @Test
+    public void comparator() {
+        List<Integer> list = Lists.newArrayList(4, 2, 7, 1, 9);
+        TournamentSelector<Integer> selection = new TournamentSelector<Integer>();
+        selection.setTournamentSize(new ProportionalControlParameter(1.0));
+        selection.setComparator(Ordering.<Integer>natural().reverse());
+        Assert.assertThat(selection.on(list).select(), is(1));
+        Assert.assertThat(selection.prepare(list).select(2), is(Arrays.asList(1, 2)));
+    }
+
     @Test
     public void partialTournament() {
         Rand.setSeed(0);
@@ -61,13 +73,13 @@ public class TournamentSelectorTest {
 
         List<Integer> otherList = Lists.newArrayList(1, 2, 3, 4, 5, 6, 7, 8, 9);
 
-        // First shuffle.
-        Rand.setSeed(0);
-        Collections.shuffle(otherList, new RandomAdaptor());
-
         // Select tournament list.
+        Rand.setSeed(0);
         int tournamentSize = Double.valueOf(selection.getTournamentSize().getParameter() * otherList.size()).intValue();
-        List<Integer> tournamentList = otherList.subList(otherList.size() - tournamentSize, otherList.size());
+        List<Integer> tournamentList = Lists.newArrayList();
+        for (int index : RandomIndices.sample(otherList.size(), tournamentSize)) {
+            tournamentList.add(otherList.get(index));
+        }
         Assert.assertThat(tournamentList, hasItem(selected));
 
         // Sort tournament, and select best.
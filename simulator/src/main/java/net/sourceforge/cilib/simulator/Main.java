@@ -30,9 +30,10 @@ public final class Main {
             System.exit(1);
         }
 
-        final List<Simulator> simulators = SimulatorShell.prepare(new File(args[0]));
+        File specification = new File(args[0]);
+        final List<Simulator> simulators = SimulatorShell.prepare(specification);
         ProgressText progress = new ProgressText(simulators.size());
 
-        SimulatorShell.execute(simulators, progress);
+        SimulatorShell.execute(SimulatorShell.createScheduler(specification), simulators, progress);
     }
 }
@@ -6,153 +6,320 @@
  */
 package net.sourceforge.cilib.simulator;
 
+import com.google.common.base.Charsets;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Multimap;
-import java.io.BufferedReader;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.BufferedWriter;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.Charset;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * <p>
- * Create a combined view of the generated data in the normal CIlib text
- * file format.
- *
- * @TODO: This class should probably use a divide and conquer strategy to combine files as needed
+ * Create a combined view of the generated data of all the samples of a
+ * simulation, in either the normal CIlib text file format or a binary format.
+ * </p><p>
+ * The partial results of the samples are merged as a stream: a block of rows
+ * of every sample is read, the combined rows are written and the next block
+ * is read. The memory required is therefore independent of the number of
+ * iterations.
+ * </p><p>
+ * The binary format is columnar. It consists of a header, containing a magic
+ * number, the format version, the number of measurements, the number of
+ * samples and the description of each measurement, followed by blocks of up
+ * to {@value #BLOCK_ROWS} measured iterations. A block contains the number of
+ * rows, the iteration number of each row and then one column for every
+ * sample of the first measurement, every sample of the second measurement,
+ * and so forth. A column starts with the type of its values. Columns of
+ * reals and integers store the values contiguously as primitives, and columns
+ * of text store the length of each UTF-8 encoded value followed by its bytes.
+ * A column whose values have different types stores each value with its own
+ * type. The combined file may optionally be compressed with GZIP. Binary
+ * results may be converted to the text format with
+ * {@link #exportText(File, File)}.
+ * </p><p>
+ * The partial results of a single sample are written row by row, as each
+ * measurement is taken, and are only converted to columns when they are
+ * combined.
+ * </p>
  */
 public class MeasurementCombiner {
 
+    static final int MAGIC = 0x43494c42;
+    static final int VERSION = 2;
+    static final int BLOCK_ROWS = 256;
+    private static final byte MIXED = 3;
+    private static final int BUFFER_SIZE = 1 << 16;
+
     private final File file;
+    private final boolean binary;
+    private final boolean compressed;
 
     MeasurementCombiner(File file) {
+        this(file, false, false);
+    }
+
+    MeasurementCombiner(File file, boolean binary, boolean compressed) {
         this.file = file;
+        this.binary = binary;
+        this.compressed = compressed;
     }
 
     /**
-     * {@inheritDoc}
-     *
-     * <p>
-     * This method actually creates a text file, named {@code filename}.
+     * Combine the partial results into the file of this combiner. The
+     * partial result files are deleted once they have been combined.
+     * @param descriptions The descriptions of the measurements.
+     * @param partials The partial results, one file per sample.
      */
     public void combine(List<String> descriptions, List<File> partials) {
         Preconditions.checkArgument(descriptions.size() >= 1);
         Preconditions.checkArgument(partials.size() >= 1);
 
+        List<DataInputStream> inputs = Lists.newArrayListWithCapacity(partials.size());
         try {
-            file.getParentFile().mkdirs();
-            BufferedWriter writer = new BufferedWriter(new FileWriter(file));
-            int columnId = 0;
-            writer.write("# " + columnId++ + " - Iterations\n");
-            for (String description : descriptions) {
-                for (int i = 0; i < partials.size(); i++) {
-                    writer.write("# " + columnId + " - " + description + " (" + i + ")\n");
-                    columnId++;
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+            for (File f : partials) {
+                inputs.add(new DataInputStream(new BufferedInputStream(new FileInputStream(f), BUFFER_SIZE)));
+            }
+
+            OutputStream stream = new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE);
+            if (compressed) {
+                stream = new GZIPOutputStream(stream, BUFFER_SIZE);
+            }
+
+            Block block = new Block(descriptions.size(), partials.size());
+            if (binary) {
+                DataOutputStream output = new DataOutputStream(stream);
+                writeBinaryHeader(output, descriptions, partials.size());
+                while (block.readRows(inputs)) {
+                    block.write(output);
                 }
+                output.close();
+            } else {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(stream, Charsets.UTF_8));
+                writeTextHeader(writer, descriptions, partials.size());
+                while (block.readRows(inputs)) {
+                    block.writeText(writer);
+                }
+                writer.close();
+            }
+
+            for (DataInputStream input : inputs) {
+                input.close();
+            }
+            for (File f : partials) {
+                f.delete();
             }
-            combineData(writer, partials);
-            writer.flush();
-            writer.close();
         } catch (IOException ex) {
             throw new RuntimeException(ex);
         }
     }
 
     /**
-     * Combine the actual line data. The data is read line for line and
-     * then appended one after the other and then written to the file.
-     * <p>
-     * The order of the files is maintained so that the data is not corrupted
-     * once the writing out to the final result file is performed.
-     * @param writer destination of the final output.
-     * @param partials list of partial results.
+     * Convert a file in the binary format to the text format.
+     * @param source The binary file, which may be compressed.
+     * @param destination The text file to create.
      */
-    private void combineData(final BufferedWriter writer, final List<File> partials) {
-        List<BufferedReader> readers = Lists.newArrayListWithCapacity(partials.size());
-        for (File f : partials) {
-            try {
-                InputStreamReader is = new InputStreamReader(new FileInputStream(f), Charset.forName("UTF-8"));
-                readers.add(new BufferedReader(is));
-            } catch (FileNotFoundException ex) {
-                throw new RuntimeException(ex);
+    public static void exportText(File source, File destination) {
+        try {
+            BufferedInputStream buffered = new BufferedInputStream(new FileInputStream(source), BUFFER_SIZE);
+            buffered.mark(2);
+            boolean gzip = buffered.read() == 0x1f && buffered.read() == 0x8b;
+            buffered.reset();
+
+            InputStream stream = gzip ? new GZIPInputStream(buffered, BUFFER_SIZE) : buffered;
+            DataInputStream input = new DataInputStream(stream);
+            if (input.readInt() != MAGIC) {
+                throw new IOException("Not a CIlib measurement file: " + source);
+            }
+            int version = input.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported measurement file version: " + version);
+            }
+
+            int measurements = input.readInt();
+            int samples = input.readInt();
+            List<String> descriptions = Lists.newArrayListWithCapacity(measurements);
+            for (int i = 0; i < measurements; i++) {
+                descriptions.add(MeasurementValue.readText(input));
+            }
+
+            Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(destination), Charsets.UTF_8), BUFFER_SIZE);
+            writeTextHeader(writer, descriptions, samples);
+
+            Block block = new Block(measurements, samples);
+            while (block.read(input)) {
+                block.writeText(writer);
             }
+
+            writer.close();
+            input.close();
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
         }
+    }
 
-        try {
-            BufferedReader checkReader = readers.get(0); // There will always be at least 1
-            String checkLine = checkReader.readLine();
-            String[] parts = checkLine.split(" ");
-            Entry entry = new Entry(parts[0], parts.length - 1);
-            for (int i = 1; i < parts.length; i++) {
-                entry.add(i - 1, parts[i]);
-            }
-
-            List<BufferedReader> loopingList = readers.subList(1, readers.size());
-            while (checkLine != null) {
-                for (BufferedReader reader : loopingList) {
-                    String string = reader.readLine();
-                    String[] localParts = string.split(" ");
-                    for (int i = 1; i < localParts.length; i++) {
-                        entry.add(i - 1, localParts[i]);
+    private static void writeBinaryHeader(DataOutputStream output, List<String> descriptions, int samples) throws IOException {
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeInt(descriptions.size());
+        output.writeInt(samples);
+        for (String description : descriptions) {
+            MeasurementValue.writeText(output, description);
+        }
+    }
+
+    private static void writeTextHeader(Writer writer, List<String> descriptions, int samples) throws IOException {
+        int columnId = 0;
+        writer.write("# " + columnId++ + " - Iterations\n");
+        for (String description : descriptions) {
+            for (int i = 0; i < samples; i++) {
+                writer.write("# " + columnId + " - " + description + " (" + i + ")\n");
+                columnId++;
+            }
+        }
+    }
+
+    /**
+     * A block of combined rows, stored as one column of values for every
+     * sample of every measurement. The values are reused for every block.
+     */
+    private static final class Block {
+        private final int[] iterations;
+        private final MeasurementValue[][][] columns;
+        private final StringBuilder builder;
+        private int rows;
+
+        Block(int measurements, int samples) {
+            this.iterations = new int[BLOCK_ROWS];
+            this.columns = new MeasurementValue[measurements][samples][BLOCK_ROWS];
+            for (MeasurementValue[][] measurement : columns) {
+                for (MeasurementValue[] column : measurement) {
+                    for (int row = 0; row < BLOCK_ROWS; row++) {
+                        column[row] = new MeasurementValue();
                     }
                 }
+            }
+            this.builder = new StringBuilder();
+        }
 
-                writer.write(entry.toString());
-                writer.newLine();
-                checkLine = checkReader.readLine();
+        /**
+         * Read the next rows of the partial results, one partial result per
+         * sample.
+         * @return {@code false} if there are no more rows.
+         */
+        boolean readRows(List<DataInputStream> inputs) throws IOException {
+            DataInputStream first = inputs.get(0); // There will always be at least 1
+            rows = 0;
+            while (rows < BLOCK_ROWS) {
+                try {
+                    iterations[rows] = first.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
 
-                if (checkLine != null) {
-                    parts = checkLine.split(" ");
-                    entry = new Entry(parts[0], parts.length - 1);
-                    for (int i = 1; i < parts.length; i++) {
-                        entry.add(i - 1, parts[i]);
+                for (int sample = 0; sample < inputs.size(); sample++) {
+                    DataInputStream input = inputs.get(sample);
+                    if (sample > 0) {
+                        input.readInt();
+                    }
+                    for (MeasurementValue[][] measurement : columns) {
+                        measurement[sample][rows].read(input);
                     }
                 }
+                rows++;
             }
+            return rows > 0;
+        }
 
-            for (BufferedReader reader : readers) {
-                reader.close();
+        /**
+         * Read the next block of a combined binary file.
+         * @return {@code false} if there are no more blocks.
+         */
+        boolean read(DataInput input) throws IOException {
+            try {
+                rows = input.readInt();
+            } catch (EOFException e) {
+                return false;
+            }
+            if (rows < 1 || rows > BLOCK_ROWS) {
+                throw new IOException("Invalid block size: " + rows);
             }
 
-            for (File f : partials) {
-                f.delete();
+            for (int row = 0; row < rows; row++) {
+                iterations[row] = input.readInt();
             }
-        } catch (IOException ex) {
-            throw new RuntimeException(ex);
+            for (MeasurementValue[][] measurement : columns) {
+                for (MeasurementValue[] column : measurement) {
+                    byte type = input.readByte();
+                    for (int row = 0; row < rows; row++) {
+                        if (type == MIXED) {
+                            column[row].read(input);
+                        } else {
+                            column[row].read(input, type);
+                        }
+                    }
+                }
+            }
+            return true;
         }
-    }
-
-    private static class Entry {
 
-        private final Multimap<Integer, String> map;
-        private final String iteration;
-
-        Entry(String iteration, int categories) {
-            this.map = LinkedListMultimap.create(categories);
-            this.iteration = iteration;
-        }
+        void write(DataOutput output) throws IOException {
+            output.writeInt(rows);
+            for (int row = 0; row < rows; row++) {
+                output.writeInt(iterations[row]);
+            }
+            for (MeasurementValue[][] measurement : columns) {
+                for (MeasurementValue[] column : measurement) {
+                    byte type = column[0].getTag();
+                    for (int row = 1; row < rows && type != MIXED; row++) {
+                        if (column[row].getTag() != type) {
+                            type = MIXED;
+                        }
+                    }
 
-        void add(Integer key, String value) {
-            this.map.put(key, value);
+                    output.writeByte(type);
+                    for (int row = 0; row < rows; row++) {
+                        if (type == MIXED) {
+                            column[row].write(output);
+                        } else {
+                            column[row].writeValue(output);
+                        }
+                    }
+                }
+            }
         }
 
-        @Override
-        public String toString() {
-            StringBuilder builder = new StringBuilder();
-            builder.append(iteration);
-            for (Integer i : map.keySet()) {
-                for (String s : map.get(i)) {
-                    builder.append(" ").append(s);
+        void writeText(Writer writer) throws IOException {
+            for (int row = 0; row < rows; row++) {
+                builder.setLength(0);
+                builder.append(iterations[row]);
+                for (MeasurementValue[][] measurement : columns) {
+                    for (MeasurementValue[] column : measurement) {
+                        builder.append(' ');
+                        column[row].appendTo(builder);
+                    }
                 }
+                builder.append('\n');
+                writer.write(builder.toString());
             }
-            return builder.toString();
         }
     }
 }
@@ -7,10 +7,13 @@
 package net.sourceforge.cilib.simulator;
 
 import com.google.common.collect.Lists;
-import java.io.BufferedWriter;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
 import java.io.File;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.Serializable;
 import net.sourceforge.cilib.measurement.MeasurementStateManager;
 import java.util.ArrayList;
 import java.util.List;
@@ -26,11 +29,12 @@ import net.sourceforge.cilib.type.types.Type;
  * @see net.sourceforge.Measurement.Measurement
  *
  */
-public class MeasurementSuite {
+public class MeasurementSuite implements Serializable {
 
     private static final long serialVersionUID = 8021290553229945841L;
     private File file;
-    private BufferedWriter writer;
+    private transient FileOutputStream stream;
+    private transient DataOutputStream output;
     private int resolution;
     private List<Measurement<?>> measurements;
     private MeasurementStateManager measurementStateManager;
@@ -48,12 +52,58 @@ public class MeasurementSuite {
     public void initialise() {
         try {
             file = File.createTempFile("cilib_data", ".tmp");
-            writer = new BufferedWriter(new FileWriter(file));
+            open(false);
         } catch (IOException ex) {
             ex.printStackTrace();
         }
     }
 
+    /**
+     * Initialise the output of the {@linkplain MeasurementSuite} to the
+     * provided file, replacing any existing content.
+     * @param file The destination of the measurements.
+     * @throws IOException if the file cannot be opened.
+     */
+    public void initialise(File file) throws IOException {
+        this.file = file;
+        file.getAbsoluteFile().getParentFile().mkdirs();
+        open(false);
+    }
+
+    /**
+     * Continue writing measurements to the provided file, discarding any
+     * content after the first {@code length} bytes. The length should have
+     * been obtained from {@link #flush()}.
+     * @param file The destination of the measurements.
+     * @param length The length of the valid content of the file.
+     * @throws IOException if the file cannot be opened.
+     */
+    public void resume(File file, long length) throws IOException {
+        this.file = file;
+        RandomAccessFile truncate = new RandomAccessFile(file, "rw");
+        try {
+            truncate.setLength(length);
+        } finally {
+            truncate.close();
+        }
+        open(true);
+    }
+
+    private void open(boolean append) throws IOException {
+        stream = new FileOutputStream(file, append);
+        output = new DataOutputStream(new BufferedOutputStream(stream));
+    }
+
+    /**
+     * Flush all measurements to the output file.
+     * @return The length of the output file.
+     * @throws IOException if the measurements cannot be written.
+     */
+    public long flush() throws IOException {
+        output.flush();
+        return stream.getChannel().position();
+    }
+
     public File getFile() {
         return file;
     }
@@ -94,6 +144,8 @@ public class MeasurementSuite {
      * {@linkplain StateAwareMeasurement state aware} instances will
      * automatically have their internal state saved and restored
      * as measurements are taken on the current {@linkplain Algorithm}.
+     * The values are appended to a temporary file in the binary measurement
+     * format, which is later merged by the {@linkplain MeasurementCombiner}.
      * @param algorithm The {@linkplain Algorithm} to measure.
      */
     public void measure(Algorithm algorithm) {
@@ -113,15 +165,12 @@ public class MeasurementSuite {
 
             tmp[index++] = value;
         }
-        StringBuilder builder = new StringBuilder();
-        builder.append(algorithm.getIterations());
-        for (Type t : tmp) {
-            builder.append(" ").append(t);
-        }
 
         try {
-            writer.write(builder.toString());
-            writer.newLine();
+            output.writeInt(algorithm.getIterations());
+            for (Type t : tmp) {
+                MeasurementValue.write(output, t);
+            }
         } catch (IOException ex) {
             throw new RuntimeException(ex);
         }
@@ -132,8 +181,7 @@ public class MeasurementSuite {
     }
 
     public void close() throws IOException {
-        this.writer.flush();
-        this.writer.close();
+        this.output.close();
     }
 
     public List<String> getDescriptions() {
@@ -0,0 +1,166 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.simulator;
+
+import com.google.common.base.Charsets;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import net.sourceforge.cilib.type.types.Int;
+import net.sourceforge.cilib.type.types.Real;
+import net.sourceforge.cilib.type.types.Type;
+
+/**
+ * A single measured value in the binary measurement format. Reals and
+ * integers are stored as primitives, all other types are stored as the
+ * text obtained from {@code Type.toString()}. A {@code MeasurementValue}
+ * is mutable so that a single instance can be reused for every row that is
+ * read.
+ */
+final class MeasurementValue {
+
+    static final byte REAL = 0;
+    static final byte INTEGER = 1;
+    static final byte TEXT = 2;
+
+    private byte tag;
+    private double real;
+    private int integer;
+    private String text;
+
+    /**
+     * Write {@code value} to {@code output} in the binary format.
+     * @param output The destination.
+     * @param value The measured value.
+     * @throws IOException if the value cannot be written.
+     */
+    static void write(DataOutput output, Type value) throws IOException {
+        if (value != null && value.getClass() == Real.class) {
+            output.writeByte(REAL);
+            output.writeDouble(((Real) value).doubleValue());
+        } else if (value != null && value.getClass() == Int.class) {
+            output.writeByte(INTEGER);
+            output.writeInt(((Int) value).intValue());
+        } else {
+            output.writeByte(TEXT);
+            writeText(output, String.valueOf(value));
+        }
+    }
+
+    /**
+     * Write {@code text} as its length in bytes followed by its UTF-8
+     * encoding. Unlike {@code DataOutput.writeUTF}, the length of the text is
+     * not limited to 64 KB.
+     * @param output The destination.
+     * @param text The text to write.
+     * @throws IOException if the text cannot be written.
+     */
+    static void writeText(DataOutput output, String text) throws IOException {
+        byte[] bytes = text.getBytes(Charsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Read text that was written by {@link #writeText(DataOutput, String)}.
+     * @param input The source.
+     * @return The text.
+     * @throws IOException if the text cannot be read.
+     */
+    static String readText(DataInput input) throws IOException {
+        byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return new String(bytes, Charsets.UTF_8);
+    }
+
+    /**
+     * Get the type of this value.
+     * @return One of {@link #REAL}, {@link #INTEGER} or {@link #TEXT}.
+     */
+    byte getTag() {
+        return tag;
+    }
+
+    /**
+     * Replace the state of this value with the next value from {@code input}.
+     * @param input The source.
+     * @throws IOException if the value cannot be read.
+     */
+    void read(DataInput input) throws IOException {
+        read(input, input.readByte());
+    }
+
+    /**
+     * Replace the state of this value with the next value of type
+     * {@code tag} from {@code input}, which is not preceded by its type.
+     * @param input The source.
+     * @param tag The type of the value.
+     * @throws IOException if the value cannot be read.
+     */
+    void read(DataInput input, byte tag) throws IOException {
+        switch (tag) {
+            case REAL:
+                real = input.readDouble();
+                break;
+            case INTEGER:
+                integer = input.readInt();
+                break;
+            case TEXT:
+                text = readText(input);
+                break;
+            default:
+                throw new IOException("Unknown measurement value tag: " + tag);
+        }
+        this.tag = tag;
+    }
+
+    /**
+     * Write this value to {@code output} in the binary format.
+     * @param output The destination.
+     * @throws IOException if the value cannot be written.
+     */
+    void write(DataOutput output) throws IOException {
+        output.writeByte(tag);
+        writeValue(output);
+    }
+
+    /**
+     * Write this value to {@code output} without its type.
+     * @param output The destination.
+     * @throws IOException if the value cannot be written.
+     */
+    void writeValue(DataOutput output) throws IOException {
+        switch (tag) {
+            case REAL:
+                output.writeDouble(real);
+                break;
+            case INTEGER:
+                output.writeInt(integer);
+                break;
+            default:
+                writeText(output, text);
+        }
+    }
+
+    /**
+     * Append the text representation of this value, which is identical to
+     * the {@code toString()} of the measured {@code Type}.
+     * @param builder The destination.
+     */
+    void appendTo(StringBuilder builder) {
+        switch (tag) {
+            case REAL:
+                builder.append(real);
+                break;
+            case INTEGER:
+                builder.append(integer);
+                break;
+            default:
+                builder.append(text);
+        }
+    }
+}
@@ -49,8 +49,8 @@ final class ProgressText implements ProgressListener {
         System.out.print(sb.toString());
     }
 
-    public void setSimulation(int simulation) {
-        System.out.println("Starting simulation " + (simulation + 1) + " of " + simulations + ".");
+    public void start() {
+        System.out.println("Starting " + simulations + (simulations == 1 ? " simulation." : " simulations."));
         printedDone = false;
     }
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.simulator;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits the rate at which progress is reported to listeners. Progress is
+ * updated by many threads at every measurement, while listeners only need to
+ * be notified a few times per second. The throttle does not block: a thread
+ * that is not permitted to notify simply skips the notification.
+ */
+final class ProgressThrottle {
+
+    static final long DEFAULT_INTERVAL = TimeUnit.MILLISECONDS.toNanos(250);
+
+    private final long interval;
+    private final AtomicLong next;
+
+    /**
+     * Create a throttle that permits one notification per interval.
+     * @param interval The minimum number of nanoseconds between notifications.
+     */
+    ProgressThrottle(long interval) {
+        this.interval = interval;
+        this.next = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Determine whether a notification may be sent now.
+     * @param force {@code true} if the notification must be sent regardless
+     *        of the interval, such as the notification of completion.
+     * @return {@code true} if the caller should notify its listeners.
+     */
+    boolean permit(boolean force) {
+        long now = System.nanoTime();
+        long due = next.get();
+        if (now - due < 0) {
+            return force;
+        }
+        return next.compareAndSet(due, now + interval) || force;
+    }
+}
@@ -0,0 +1,145 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.simulator;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import net.sourceforge.cilib.algorithm.Algorithm;
+
+/**
+ * The files that allow a single sample of a simulation to be resumed. For a
+ * sample, the checkpoint directory contains the partial measurement file, the
+ * serialised state of the sample at the most recent checkpoint and, once the
+ * sample has completed, a marker file.
+ */
+final class SampleCheckpoint {
+
+    private final File directory;
+    private final int sample;
+    private final int interval;
+
+    SampleCheckpoint(File directory, int sample, int interval) {
+        checkArgument(interval > 0, "The checkpoint interval must be positive.");
+        this.directory = directory;
+        this.sample = sample;
+        this.interval = interval;
+    }
+
+    /**
+     * Determine whether a checkpoint should be written after {@code iteration}.
+     */
+    boolean isDue(int iteration) {
+        return iteration % interval == 0;
+    }
+
+    File getMeasurementFile() {
+        return new File(directory, "sample-" + sample + ".dat");
+    }
+
+    private File getStateFile() {
+        return new File(directory, "sample-" + sample + ".ckpt");
+    }
+
+    private File getCompletedFile() {
+        return new File(directory, "sample-" + sample + ".done");
+    }
+
+    boolean hasState() {
+        return getStateFile().exists();
+    }
+
+    boolean isCompleted() {
+        return getCompletedFile().exists() && getMeasurementFile().exists();
+    }
+
+    /**
+     * Write {@code state} as the most recent checkpoint of the sample. The
+     * state is first written to a temporary file, so that the previous
+     * checkpoint remains intact if writing fails.
+     */
+    void write(State state) throws IOException {
+        directory.mkdirs();
+        File temporary = new File(directory, "sample-" + sample + ".ckpt.tmp");
+        ObjectOutputStream output = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(temporary)));
+        try {
+            output.writeObject(state);
+        } finally {
+            output.close();
+        }
+
+        File target = getStateFile();
+        if (!temporary.renameTo(target)) {
+            target.delete();
+            if (!temporary.renameTo(target)) {
+                throw new IOException("Unable to replace checkpoint " + target);
+            }
+        }
+    }
+
+    State read() throws IOException {
+        ObjectInputStream input = new ObjectInputStream(new BufferedInputStream(new FileInputStream(getStateFile())));
+        try {
+            return (State) input.readObject();
+        } catch (ClassNotFoundException ex) {
+            throw new IOException(ex);
+        } finally {
+            input.close();
+        }
+    }
+
+    /**
+     * Mark the sample as completed. The state of the sample is no longer
+     * required.
+     */
+    void complete() throws IOException {
+        directory.mkdirs();
+        if (!getCompletedFile().exists() && !getCompletedFile().createNewFile()) {
+            throw new IOException("Unable to mark sample " + sample + " as completed");
+        }
+        getStateFile().delete();
+    }
+
+    /**
+     * Remove all the files of the sample, as well as the checkpoint directory
+     * once it is empty.
+     */
+    void clear() {
+        getStateFile().delete();
+        getCompletedFile().delete();
+        getMeasurementFile().delete();
+        directory.delete();
+    }
+
+    /**
+     * The state of a sample at a checkpoint.
+     */
+    static final class State implements Serializable {
+
+        private static final long serialVersionUID = -3518937017014262815L;
+        final Algorithm algorithm;
+        final MeasurementSuite measurementSuite;
+        final Serializable random;
+        final long nextEntityId;
+        final long measurementLength;
+
+        State(Algorithm algorithm, MeasurementSuite measurementSuite, Serializable random, long nextEntityId, long measurementLength) {
+            this.algorithm = algorithm;
+            this.measurementSuite = measurementSuite;
+            this.random = random;
+            this.nextEntityId = nextEntityId;
+            this.measurementLength = measurementLength;
+        }
+    }
+}
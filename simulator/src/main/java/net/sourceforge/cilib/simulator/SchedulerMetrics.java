@@ -0,0 +1,64 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.simulator;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * The statistics of a {@linkplain SimulationScheduler} while it executes a
+ * list of simulators.
+ */
+public class SchedulerMetrics implements SchedulerMetricsMBean {
+
+    private final SimulationScheduler scheduler;
+    private final List<Simulator> simulators;
+
+    public SchedulerMetrics(SimulationScheduler scheduler, List<Simulator> simulators) {
+        this.scheduler = scheduler;
+        this.simulators = simulators;
+    }
+
+    @Override
+    public double getProgress() {
+        return SimulationScheduler.getProgress(simulators);
+    }
+
+    @Override
+    public int getRunningSamples() {
+        return scheduler.getRunningSamples();
+    }
+
+    @Override
+    public long getHeapUsed() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    @Override
+    public long getHeapMax() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getMax();
+    }
+
+    @Override
+    public long getGarbageCollections() {
+        long count = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, collector.getCollectionCount());
+        }
+        return count;
+    }
+
+    @Override
+    public long getGarbageCollectionTime() {
+        long time = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(0, collector.getCollectionTime());
+        }
+        return time;
+    }
+}
@@ -0,0 +1,42 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.simulator;
+
+/**
+ * The management interface of {@link SchedulerMetrics}, through which the
+ * overall progress of a {@linkplain SimulationScheduler} and the memory
+ * pressure of the virtual machine are published over JMX.
+ */
+public interface SchedulerMetricsMBean {
+
+    /**
+     * @return The progress of all the samples, as a fraction.
+     */
+    double getProgress();
+
+    int getRunningSamples();
+
+    /**
+     * @return The number of bytes of heap memory in use.
+     */
+    long getHeapUsed();
+
+    /**
+     * @return The maximum number of bytes of heap memory, or {@code -1} if undefined.
+     */
+    long getHeapMax();
+
+    /**
+     * @return The total number of garbage collections.
+     */
+    long getGarbageCollections();
+
+    /**
+     * @return The total time spent on garbage collection, in milliseconds.
+     */
+    long getGarbageCollectionTime();
+}
@@ -6,13 +6,20 @@
  */
 package net.sourceforge.cilib.simulator;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.ObjectStreamException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.algorithm.AlgorithmEvent;
 import net.sourceforge.cilib.algorithm.AlgorithmListener;
+import net.sourceforge.cilib.entity.EntityIdFactory;
 import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.math.random.generator.seeder.Seeder;
 import net.sourceforge.cilib.problem.Problem;
+import net.sourceforge.cilib.problem.solution.Fitness;
 
 /**
  * A Simulation is a complete simulation that runs as a separate thread.
@@ -21,9 +28,19 @@ public class Simulation implements AlgorithmListener, Runnable {
 
     private static final long serialVersionUID = -3733724215662398762L;
     private final Simulator simulator;
-    private final Algorithm algorithm;
-    private final Problem problem;
-    private final MeasurementSuite measurementSuite;
+    private volatile Algorithm algorithm;
+    private Problem problem;
+    private MeasurementSuite measurementSuite;
+    private final long seed;
+    private SampleCheckpoint checkpoint;
+    private boolean resumed;
+    private volatile double progress;
+    private volatile int iterations;
+    private volatile int evaluations;
+    private volatile Fitness bestFitness;
+    private volatile long startTime;
+    private volatile long finishTime;
+    private boolean bestFitnessAvailable = true;
 
     /**
      * Create a Simulation with the required dependencies.
@@ -32,10 +49,24 @@ public class Simulation implements AlgorithmListener, Runnable {
      * @param problemFactory The factory that creates {@code Problem} instances.
      */
     public Simulation(Simulator simulator, Algorithm algorithm, Problem problem, MeasurementSuite measurementSuite) {
+        this(simulator, algorithm, problem, measurementSuite, Seeder.getSeed());
+    }
+
+    /**
+     * Create a Simulation with the required dependencies that runs with the
+     * provided seed.
+     * @param simulator The controlling {@code Simulator}.
+     * @param algorithm The {@code Algorithm} to execute.
+     * @param problem The {@code Problem} to optimise.
+     * @param measurementSuite The {@code MeasurementSuite} to record measurements.
+     * @param seed The seed of the random stream of the simulation.
+     */
+    public Simulation(Simulator simulator, Algorithm algorithm, Problem problem, MeasurementSuite measurementSuite, long seed) {
         this.simulator = simulator;
         this.algorithm = algorithm;
         this.problem = problem;
         this.measurementSuite = measurementSuite;
+        this.seed = seed;
     }
 
     /**
@@ -55,16 +86,96 @@ public class Simulation implements AlgorithmListener, Runnable {
      */
     @Override
     public void run() {
-        Rand.reset();
-        init();
+        if (checkpoint != null && checkpoint.isCompleted()) {
+            startTime = finishTime = System.nanoTime();
+            simulator.updateProgress(this, 1.0);
+            return;
+        }
+
+        startTime = System.nanoTime();
+
+        if (checkpoint != null && checkpoint.hasState()) {
+            resume();
+        } else {
+            Rand.setSeed(seed);
+            init();
+        }
         algorithm.run();
     }
 
+    /**
+     * Restore the state of the simulation from its most recent checkpoint.
+     */
+    private void resume() {
+        try {
+            SampleCheckpoint.State state = checkpoint.read();
+            algorithm = state.algorithm;
+            problem = algorithm.getOptimisationProblem();
+            measurementSuite = state.measurementSuite;
+            measurementSuite.resume(checkpoint.getMeasurementFile(), state.measurementLength);
+            Rand.setState(state.random);
+            EntityIdFactory.setNextId(state.nextEntityId);
+
+            AbstractAlgorithm alg = (AbstractAlgorithm) algorithm;
+            alg.removeAlgorithmListener(Detached.INSTANCE);
+            alg.addAlgorithmListener(this);
+            resumed = true;
+        } catch (IOException ex) {
+            throw new RuntimeException("Unable to resume from checkpoint", ex);
+        }
+    }
+
+    /**
+     * Write the current state of the simulation to its checkpoint. A failure
+     * to write the checkpoint does not affect the simulation, but no further
+     * checkpoints are attempted.
+     */
+    private void writeCheckpoint() {
+        try {
+            checkpoint.write(new SampleCheckpoint.State(algorithm, measurementSuite, Rand.getState(),
+                    EntityIdFactory.peekNextId(), measurementSuite.flush()));
+        } catch (IOException ex) {
+            Logger.getLogger(Simulation.class.getName()).log(Level.WARNING, "Checkpointing disabled for simulation", ex);
+            checkpoint = null;
+        }
+    }
+
+    /**
+     * Enable checkpoints for this simulation. If the checkpoint contains the
+     * state of a previous execution, the simulation continues from that
+     * state when it is run.
+     * @param checkpoint The checkpoint files of the simulation.
+     */
+    void setCheckpoint(SampleCheckpoint checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
+    /**
+     * Get the file containing the measurements of this simulation.
+     * @return The measurement file.
+     */
+    File getMeasurementFile() {
+        return checkpoint != null ? checkpoint.getMeasurementFile() : measurementSuite.getFile();
+    }
+
     /**
      * Terminate the current simulation.
      */
     public void terminate() {
-        ((AbstractAlgorithm) algorithm).terminate();
+        Algorithm current = algorithm;
+        if (current != null) {
+            ((AbstractAlgorithm) current).terminate();
+        }
+    }
+
+    /**
+     * Release the algorithm, problem and measurements of a completed
+     * simulation. The statistics of the simulation remain available.
+     */
+    void release() {
+        algorithm = null;
+        problem = null;
+        measurementSuite = null;
     }
 
     /**
@@ -72,7 +183,19 @@ public class Simulation implements AlgorithmListener, Runnable {
      */
     @Override
     public void algorithmStarted(AlgorithmEvent event) {
-        measurementSuite.initialise(); // Initialise the temporary data store
+        if (resumed) {
+            return; // The data store has been restored from the checkpoint
+        }
+
+        if (checkpoint == null) {
+            measurementSuite.initialise(); // Initialise the temporary data store
+        } else {
+            try {
+                measurementSuite.initialise(checkpoint.getMeasurementFile());
+            } catch (IOException ex) {
+                throw new RuntimeException(ex);
+            }
+        }
     }
 
     /**
@@ -81,10 +204,15 @@ public class Simulation implements AlgorithmListener, Runnable {
     @Override
     public void algorithmFinished(AlgorithmEvent event) {
         measurementSuite.measure(event.getSource());
-        simulator.updateProgress(this, ((AbstractAlgorithm) event.getSource()).getPercentageComplete());
+        record(event.getSource(), true);
+        finishTime = System.nanoTime();
+        simulator.updateProgress(this, 1.0);
 
         try {
             measurementSuite.close();
+            if (checkpoint != null) {
+                checkpoint.complete();
+            }
         } catch (IOException ex) {
             throw new RuntimeException(ex);
         }
@@ -96,10 +224,33 @@ public class Simulation implements AlgorithmListener, Runnable {
     @Override
     public void iterationCompleted(AlgorithmEvent event) {
         Algorithm alg = event.getSource();
-        if (alg.getIterations() % measurementSuite.getResolution() == 0) {
+        boolean measured = alg.getIterations() % measurementSuite.getResolution() == 0;
+        record(alg, measured);
+        if (measured) {
             measurementSuite.measure(alg);
             simulator.updateProgress(this, ((AbstractAlgorithm) alg).getPercentageComplete());
         }
+
+        if (checkpoint != null && checkpoint.isDue(alg.getIterations())) {
+            writeCheckpoint();
+        }
+    }
+
+    /**
+     * Record the statistics of the running algorithm that are reported by
+     * {@link SimulatorMetrics}. The best solution is only obtained when
+     * {@code best} is set, as it may be expensive to determine.
+     */
+    private void record(Algorithm alg, boolean best) {
+        iterations = alg.getIterations();
+        evaluations = alg.getOptimisationProblem().getFitnessEvaluations();
+        if (best && bestFitnessAvailable) {
+            try {
+                bestFitness = alg.getBestSolution().getFitness();
+            } catch (UnsupportedOperationException ex) {
+                bestFitnessAvailable = false; // The algorithm has no single best solution
+            }
+        }
     }
 
     /**
@@ -118,7 +269,90 @@ public class Simulation implements AlgorithmListener, Runnable {
         return problem;
     }
 
+    public long getSeed() {
+        return seed;
+    }
+
     public Algorithm getAlgorithm() {
         return algorithm;
     }
+
+    double getProgress() {
+        return progress;
+    }
+
+    void setProgress(double progress) {
+        this.progress = progress;
+    }
+
+    int getIterations() {
+        return iterations;
+    }
+
+    int getEvaluations() {
+        return evaluations;
+    }
+
+    /**
+     * Get the fitness of the best solution at the most recent measurement.
+     * @return The best fitness, or {@code null} if it is not known.
+     */
+    Fitness getBestFitness() {
+        return bestFitness;
+    }
+
+    /**
+     * Get the value of {@link System#nanoTime()} when the simulation started.
+     * @return The start time, or {@code 0} if the simulation has not started.
+     */
+    long getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Get the value of {@link System#nanoTime()} when the simulation finished.
+     * @return The finish time, or {@code 0} if the simulation has not finished.
+     */
+    long getFinishTime() {
+        return finishTime;
+    }
+
+    /**
+     * The simulation itself is not part of a checkpoint. When the algorithm is
+     * serialised, the simulation is replaced by a placeholder listener which is
+     * exchanged for the simulation again when the checkpoint is resumed.
+     */
+    private Object writeReplace() throws ObjectStreamException {
+        return Detached.INSTANCE;
+    }
+
+    /**
+     * Placeholder for a {@code Simulation} within a checkpoint.
+     */
+    private static final class Detached implements AlgorithmListener {
+
+        private static final long serialVersionUID = 4512286406349632315L;
+        static final Detached INSTANCE = new Detached();
+
+        @Override
+        public void algorithmStarted(AlgorithmEvent event) {
+        }
+
+        @Override
+        public void algorithmFinished(AlgorithmEvent event) {
+        }
+
+        @Override
+        public void iterationCompleted(AlgorithmEvent event) {
+        }
+
+        @Override
+        public AlgorithmListener getClone() {
+            return this;
+        }
+
+        private Object readResolve() throws ObjectStreamException {
+            return INSTANCE;
+        }
+    }
 }
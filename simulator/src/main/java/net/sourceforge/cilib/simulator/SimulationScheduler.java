@@ -0,0 +1,276 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.simulator;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import com.google.common.collect.Lists;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import net.sourceforge.cilib.algorithm.ProgressEvent;
+import net.sourceforge.cilib.algorithm.ProgressListener;
+
+/**
+ * <p>
+ * Executes the samples of several {@linkplain Simulator} instances on a single,
+ * shared work-stealing pool, so that the samples of all simulations are
+ * interleaved and no processor is left idle while the slowest sample of a
+ * simulation completes.
+ * </p><p>
+ * The number of samples that execute at the same time is limited by the
+ * concurrency of the scheduler. In addition, a new sample is only admitted
+ * while at least the configured amount of memory is available to the virtual
+ * machine, unless no other sample is running. The algorithm and problem of
+ * a sample are created when it is admitted, so samples that are waiting to
+ * be admitted do not use any memory.
+ * </p><p>
+ * The results of a {@linkplain Simulator} are combined as soon as all of its
+ * samples have completed.
+ * </p><p>
+ * A monitored scheduler publishes {@link SchedulerMetrics} and the
+ * {@link SimulatorMetrics} of every simulator as MBeans on the platform
+ * MBean server while it executes, so that the progress, evaluation rate,
+ * best fitness and memory pressure of a run can be inspected with any JMX
+ * client.
+ * </p>
+ */
+public class SimulationScheduler {
+
+    private static final long ADMISSION_INTERVAL = 1000;
+    private static final String DOMAIN = "net.sourceforge.cilib.simulator";
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    private final int concurrency;
+    private final long minimumFreeMemory;
+    private final CopyOnWriteArrayList<ProgressListener> progressListeners;
+    private final ProgressThrottle progressThrottle;
+    private final int id;
+    private boolean monitored;
+    private int running;
+
+    /**
+     * Create a scheduler that uses all available processors, without a
+     * memory requirement.
+     */
+    public SimulationScheduler() {
+        this(Runtime.getRuntime().availableProcessors(), 0);
+    }
+
+    /**
+     * Create a scheduler.
+     * @param concurrency The maximum number of samples that may execute at the same time.
+     * @param minimumFreeMemory The number of bytes that must be available before a
+     *        further sample is started.
+     */
+    public SimulationScheduler(int concurrency, long minimumFreeMemory) {
+        checkArgument(concurrency > 0, "Concurrency must be positive.");
+        checkArgument(minimumFreeMemory >= 0, "Minimum free memory may not be negative.");
+        this.concurrency = concurrency;
+        this.minimumFreeMemory = minimumFreeMemory;
+        this.progressListeners = new CopyOnWriteArrayList<ProgressListener>();
+        this.progressThrottle = new ProgressThrottle(ProgressThrottle.DEFAULT_INTERVAL);
+        this.id = INSTANCES.incrementAndGet();
+    }
+
+    /**
+     * Execute all the samples of the provided, initialised, simulators and
+     * combine the results of each simulator. The simulation of a sample is
+     * only created once the sample is admitted, and its algorithm and problem
+     * are released as soon as it completes. This method returns once all
+     * results have been combined.
+     * @param simulators The simulators to execute.
+     */
+    public void execute(final List<Simulator> simulators) {
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        final List<ForkJoinTask<?>> tasks = Lists.newArrayList();
+        final ForkJoinPool pool = new ForkJoinPool(concurrency);
+        final List<ObjectName> names = monitored ? register(simulators) : Lists.<ObjectName>newArrayList();
+
+        for (final Simulator simulator : simulators) {
+            simulator.addProgressListener(new ProgressListener() {
+                @Override
+                public void handleProgressEvent(ProgressEvent event) {
+                    if (progressThrottle.permit(event.getPercentage() >= 1.0)) {
+                        notifyProgress(simulators);
+                    }
+                }
+            });
+        }
+
+        try {
+            schedule:
+            for (final Simulator simulator : simulators) {
+                final AtomicInteger remaining = new AtomicInteger(simulator.getSamples());
+                for (int i = 0; i < simulator.getSamples(); i++) {
+                    admit();
+                    if (failure.get() != null) {
+                        release();
+                        break schedule;
+                    }
+
+                    final int sample = i;
+                    final Simulation simulation = simulator.prepareSimulation(sample);
+                    tasks.add(pool.submit(new Runnable() {
+                        @Override
+                        public void run() {
+                            try {
+                                simulation.run();
+                                simulator.complete(sample);
+                                if (remaining.decrementAndGet() == 0) {
+                                    simulator.combine();
+                                }
+                            } catch (Throwable t) {
+                                failure.compareAndSet(null, t);
+                            } finally {
+                                release();
+                            }
+                        }
+                    }));
+                }
+            }
+
+            for (ForkJoinTask<?> task : tasks) {
+                task.join();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            for (Simulator simulator : simulators) {
+                simulator.terminate();
+            }
+            throw new RuntimeException(ex);
+        } finally {
+            pool.shutdown();
+            unregister(names);
+        }
+
+        if (failure.get() != null) {
+            throw new RuntimeException(failure.get());
+        }
+    }
+
+    /**
+     * Block until a further sample may be started.
+     */
+    private synchronized void admit() throws InterruptedException {
+        while (running >= concurrency || (running > 0 && availableMemory() < minimumFreeMemory)) {
+            wait(ADMISSION_INTERVAL);
+        }
+        running++;
+    }
+
+    private synchronized void release() {
+        running--;
+        notifyAll();
+    }
+
+    private static long availableMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory());
+    }
+
+    /**
+     * Adds a listener for the combined progress of all the simulations.
+     * @param listener The event listener.
+     */
+    public void addProgressListener(ProgressListener listener) {
+        progressListeners.add(listener);
+    }
+
+    /**
+     * Removes a listener for progress events.
+     * @param listener The event listener.
+     */
+    public void removeProgressListener(ProgressListener listener) {
+        progressListeners.remove(listener);
+    }
+
+    private void notifyProgress(List<Simulator> simulators) {
+        ProgressEvent event = new ProgressEvent(getProgress(simulators));
+        for (ProgressListener listener : progressListeners) {
+            listener.handleProgressEvent(event);
+        }
+    }
+
+    /**
+     * Determine the progress of all the samples of the provided simulators.
+     */
+    static double getProgress(List<Simulator> simulators) {
+        double total = 0.0;
+        int samples = 0;
+        for (Simulator simulator : simulators) {
+            total += simulator.getProgress() * simulator.getSamples();
+            samples += simulator.getSamples();
+        }
+        return samples == 0 ? 0.0 : total / samples;
+    }
+
+    /**
+     * Register the metrics MBeans for an execution. A failure to register
+     * is logged, and does not prevent the execution.
+     */
+    private List<ObjectName> register(List<Simulator> simulators) {
+        List<ObjectName> names = Lists.newArrayList();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(DOMAIN + ":type=SimulationScheduler,id=" + id);
+            server.registerMBean(new SchedulerMetrics(this, simulators), name);
+            names.add(name);
+            for (int i = 0; i < simulators.size(); i++) {
+                name = new ObjectName(DOMAIN + ":type=Simulator,scheduler=" + id + ",index=" + i);
+                server.registerMBean(new SimulatorMetrics(simulators.get(i)), name);
+                names.add(name);
+            }
+        } catch (JMException ex) {
+            Logger.getLogger(SimulationScheduler.class.getName()).log(Level.WARNING, "Unable to register simulation metrics", ex);
+        }
+        return names;
+    }
+
+    private void unregister(List<ObjectName> names) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (ObjectName name : names) {
+            try {
+                server.unregisterMBean(name);
+            } catch (JMException ex) {
+                Logger.getLogger(SimulationScheduler.class.getName()).log(Level.WARNING, "Unable to unregister " + name, ex);
+            }
+        }
+    }
+
+    synchronized int getRunningSamples() {
+        return running;
+    }
+
+    /**
+     * Set whether the metrics of an execution are published as MBeans.
+     * @param monitored {@code true} to publish the metrics.
+     */
+    public void setMonitored(boolean monitored) {
+        this.monitored = monitored;
+    }
+
+    public boolean isMonitored() {
+        return monitored;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public long getMinimumFreeMemory() {
+        return minimumFreeMemory;
+    }
+}
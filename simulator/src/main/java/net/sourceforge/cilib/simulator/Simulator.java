@@ -6,20 +6,13 @@
  */
 package net.sourceforge.cilib.simulator;
 
+import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import java.io.File;
-import java.util.Map;
+import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.CompletionService;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorCompletionService;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.logging.Level;
-import java.util.logging.Logger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.algorithm.ProgressEvent;
 import net.sourceforge.cilib.algorithm.ProgressListener;
@@ -35,8 +28,9 @@ import net.sourceforge.cilib.problem.Problem;
  * <p>
  * Each simulation experiment is repeated based on the
  * number of samples that the measurement suite requires (although this is subject to change
- * in a future version of the library). In this implementation each experiment is
- * execute in its own thread. Thus, each experiment is execute in parallel for a given simulation.
+ * in a future version of the library). The experiments are executed in parallel by a
+ * {@linkplain SimulationScheduler}, which may interleave them with the experiments of
+ * other simulators.
  * </p>
  * <p>
  * The primary purpose of running simulations is to measure the performance of the given algorithm
@@ -47,15 +41,20 @@ import net.sourceforge.cilib.problem.Problem;
 public class Simulator {
 
     private static final long serialVersionUID = 8987667794610802908L;
-    private final Simulation[] simulations;
+    private final AtomicReferenceArray<Simulation> simulations;
+    private final long[] seeds;
+    private final File[] measurementFiles;
+    private volatile List<String> descriptions;
     private final CopyOnWriteArrayList<ProgressListener> progressListeners;
-    private final Map<Simulation, Double> progress;
+    private final ProgressThrottle progressThrottle;
     private final XMLObjectFactory algorithmFactory;
     private final XMLObjectFactory problemFactory;
     private final XMLObjectFactory measurementFactory;
     private final MeasurementCombiner combiner;
     private final int samples;
     private final SeedSelectionStrategy seeder;
+    private File checkpointDirectory;
+    private int checkpointInterval;
 
     /**
      * Creates a new instance of Simulator given an algorithm factory, a problem factory and a
@@ -75,63 +74,121 @@ public class Simulator {
         this.combiner = combiner;
         this.samples = samples;
         this.progressListeners = new CopyOnWriteArrayList<ProgressListener>();
-        this.progress = new ConcurrentHashMap<Simulation, Double>();
-        this.simulations = new Simulation[samples];
+        this.progressThrottle = new ProgressThrottle(ProgressThrottle.DEFAULT_INTERVAL);
+        this.simulations = new AtomicReferenceArray<Simulation>(samples);
+        this.seeds = new long[samples];
+        this.measurementFiles = new File[samples];
         this.seeder = seeder;
     }
 
     /**
-     * Perform the initialisation of the {@code Simulator} by creating the required
-     * {@code Simulation} instances and executing the threads.
+     * Perform the initialisation of the {@code Simulator} by assigning the
+     * seed of every sample. The {@code Simulation} of a sample, with its
+     * algorithm and problem, is only created when the sample is started by
+     * the {@linkplain SimulationScheduler}.
      */
     public void init() {
         Seeder.setSeederStrategy(seeder);
         for (int i = 0; i < samples; ++i) {
-            simulations[i] = createSimulation();
-            progress.put(simulations[i], 0.0);
+            seeds[i] = Seeder.getSeed();
         }
     }
 
+    /**
+     * Get the {@code Simulation} of a sample, creating it with the seed of the
+     * sample if it has not been created yet.
+     * @param sample The index of the sample.
+     * @return The {@code Simulation} of the sample.
+     */
+    synchronized Simulation prepareSimulation(int sample) {
+        Simulation simulation = simulations.get(sample);
+        if (simulation == null) {
+            simulation = createSimulation(seeds[sample]);
+            if (checkpointDirectory != null) {
+                simulation.setCheckpoint(new SampleCheckpoint(checkpointDirectory, sample, checkpointInterval));
+            }
+            simulations.set(sample, simulation);
+        }
+        return simulation;
+    }
+
+    /**
+     * Record the results of a sample that has completed and release its
+     * algorithm and problem. Only the statistics of the sample are retained.
+     * @param sample The index of the sample.
+     */
+    void complete(int sample) {
+        Simulation simulation = simulations.get(sample);
+        if (descriptions == null) {
+            descriptions = simulation.getMeasurementSuite().getDescriptions(); // Law of demeter!
+        }
+        measurementFiles[sample] = simulation.getMeasurementFile();
+        simulation.release();
+    }
+
     public Simulation createSimulation() {
+        return createSimulation(Seeder.getSeed());
+    }
+
+    /**
+     * Create a {@code Simulation} that runs with the given seed. Seeds are
+     * assigned when the simulations are created, so that the seed of a sample
+     * does not depend on the order in which the samples are executed.
+     * @param seed The seed of the random stream of the simulation.
+     * @return The new {@code Simulation}.
+     */
+    public Simulation createSimulation(long seed) {
         return new Simulation(this, (Algorithm) algorithmFactory.newObject(),
                 (Problem) problemFactory.newObject(),
-                (MeasurementSuite) measurementFactory.newObject());
+                (MeasurementSuite) measurementFactory.newObject(), seed);
     }
 
     /**
      * Executes all the experiments for this simulation. The measurement suite will
      * be closed once this method completes.
+     * @see SimulationScheduler
      */
     public void execute() {
-        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
-        CompletionService<Simulation> completionService = new ExecutorCompletionService<Simulation>(executor);
-        for (int i = 0; i < samples; ++i) {
-            completionService.submit(simulations[i], simulations[i]); // The return value is explicitly null.
-        }
+        new SimulationScheduler().execute(Collections.singletonList(this));
+    }
+
+    /**
+     * Combine the results of all the experiments, in the order of the samples.
+     */
+    void combine() {
+        combiner.combine(descriptions, Lists.newArrayList(measurementFiles));
 
-        final Simulation[] completedSimulations = new Simulation[samples];
-        try {
+        if (checkpointDirectory != null) {
             for (int i = 0; i < samples; i++) {
-                Future<Simulation> simulation = completionService.take();
-                completedSimulations[i] = simulation.get();
+                new SampleCheckpoint(checkpointDirectory, i, checkpointInterval).clear();
             }
-        } catch (InterruptedException ex) {
-            Logger.getLogger(Simulator.class.getName()).log(Level.SEVERE, null, ex);
-        } catch (ExecutionException ex) {
-            executor.shutdownNow(); // Shutdown now - time to explode
-            throw new RuntimeException(ex);
         }
+    }
 
-        // Get the names of the measurements.
-        List<String> descriptions = simulations[0].getMeasurementSuite().getDescriptions(); // Law of demeter!
-
-        List<File> fileList = Lists.newArrayList();
-        for (Simulation simulation : completedSimulations) {
-            fileList.add(simulation.getMeasurementSuite().getFile());
-        }
-        executor.shutdown();
+    /**
+     * Enable periodic checkpoints of the samples. The state of every sample is
+     * written to {@code directory} after each {@code interval} iterations.
+     * When the simulator is initialised, samples that have a checkpoint in
+     * {@code directory} resume from it, and samples that have completed are
+     * not executed again. The checkpoints are removed once the results have
+     * been combined.
+     * @param directory The directory for the checkpoint files.
+     * @param interval The number of iterations between checkpoints.
+     */
+    public void setCheckpointing(File directory, int interval) {
+        Preconditions.checkArgument(interval > 0, "The checkpoint interval must be positive.");
+        this.checkpointDirectory = directory;
+        this.checkpointInterval = interval;
+    }
 
-        combiner.combine(descriptions, fileList);
+    /**
+     * Get the {@code Simulation} of a sample.
+     * @param sample The index of the sample.
+     * @return The {@code Simulation}, or {@code null} if the sample has not
+     *         been started.
+     */
+    Simulation getSimulation(int sample) {
+        return simulations.get(sample);
     }
 
     /**
@@ -139,13 +196,16 @@ public class Simulator {
      */
     public void terminate() {
         for (int i = 0; i < samples; ++i) {
-            simulations[i].terminate();
+            Simulation simulation = simulations.get(i);
+            if (simulation != null) {
+                simulation.terminate();
+            }
         }
     }
 
     /**
      * Adds a listener for progress events. A progress is fired periodically based on the resolution
-     * of the measurements. {@see ProgressEvent} {@see ProgressListener}
+     * of the measurements, but at most a few times per second. {@see ProgressEvent} {@see ProgressListener}
      * @param listener The event listener
      */
     public void addProgressListener(ProgressListener listener) {
@@ -160,28 +220,37 @@ public class Simulator {
         progressListeners.remove(listener);
     }
 
-    private void notifyProgress() {
-        double ave = 0;
-        for (Double tmp : progress.values()) {
-            ave += tmp.doubleValue();
-        }
-
-        ave /= progress.size();
-
-        for (ProgressListener listener : progressListeners) {
-            listener.handleProgressEvent(new ProgressEvent(ave));
+    /**
+     * Get the average progress of the samples. The progress is read without
+     * locking, so it may not reflect updates that occur concurrently.
+     * @return The progress as a fraction {@literal (0 <= i <= 1.0)}.
+     */
+    public double getProgress() {
+        double total = 0.0;
+        for (int i = 0; i < samples; i++) {
+            Simulation simulation = simulations.get(i);
+            if (simulation != null) {
+                total += simulation.getProgress();
+            }
         }
+        return total / samples;
     }
 
     /**
      * Update the progress of the current simulation with the provided
-     * percentage.
+     * percentage. Listeners are notified at most a few times per second,
+     * except when a sample completes.
      * @param simulation to be updated.
      * @param percentageComplete updated percentage value.
      */
     void updateProgress(Simulation simulation, double percentageComplete) {
-        progress.put(simulation, percentageComplete);
-        notifyProgress();
+        simulation.setProgress(percentageComplete);
+        if (progressThrottle.permit(percentageComplete >= 1.0)) {
+            ProgressEvent event = new ProgressEvent(getProgress());
+            for (ProgressListener listener : progressListeners) {
+                listener.handleProgressEvent(event);
+            }
+        }
     }
 
     public int getSamples() {
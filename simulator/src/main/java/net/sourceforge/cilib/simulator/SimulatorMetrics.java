@@ -0,0 +1,129 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.simulator;
+
+import net.sourceforge.cilib.problem.solution.Fitness;
+
+/**
+ * The statistics of a running {@linkplain Simulator}. The statistics are
+ * recorded by the samples without any synchronisation, and are only combined
+ * when they are read.
+ * <p>
+ * Rates are determined over the time since the first sample started, up to
+ * the time that the last sample finished.
+ */
+public class SimulatorMetrics implements SimulatorMetricsMBean {
+
+    private final Simulator simulator;
+
+    public SimulatorMetrics(Simulator simulator) {
+        this.simulator = simulator;
+    }
+
+    @Override
+    public double getProgress() {
+        return simulator.getProgress();
+    }
+
+    @Override
+    public int getSamples() {
+        return simulator.getSamples();
+    }
+
+    @Override
+    public int getCompletedSamples() {
+        int completed = 0;
+        for (int i = 0; i < simulator.getSamples(); i++) {
+            Simulation simulation = simulator.getSimulation(i);
+            if (simulation != null && simulation.getFinishTime() != 0) {
+                completed++;
+            }
+        }
+        return completed;
+    }
+
+    @Override
+    public long getIterations() {
+        long iterations = 0;
+        for (int i = 0; i < simulator.getSamples(); i++) {
+            Simulation simulation = simulator.getSimulation(i);
+            if (simulation != null) {
+                iterations += simulation.getIterations();
+            }
+        }
+        return iterations;
+    }
+
+    @Override
+    public double getIterationRate() {
+        return rate(getIterations());
+    }
+
+    @Override
+    public long getEvaluations() {
+        long evaluations = 0;
+        for (int i = 0; i < simulator.getSamples(); i++) {
+            Simulation simulation = simulator.getSimulation(i);
+            if (simulation != null) {
+                evaluations += simulation.getEvaluations();
+            }
+        }
+        return evaluations;
+    }
+
+    @Override
+    public double getEvaluationRate() {
+        return rate(getEvaluations());
+    }
+
+    @Override
+    public double getBestFitness() {
+        Fitness best = null;
+        for (int i = 0; i < simulator.getSamples(); i++) {
+            Simulation simulation = simulator.getSimulation(i);
+            Fitness fitness = simulation == null ? null : simulation.getBestFitness();
+            if (fitness != null && (best == null || fitness.compareTo(best) > 0)) {
+                best = fitness;
+            }
+        }
+        return best == null ? Double.NaN : best.getValue();
+    }
+
+    /**
+     * Determine the rate per second of {@code count} events, which occurred
+     * between the start of the first sample and the end of the last sample.
+     */
+    private double rate(long count) {
+        long start = 0;
+        long finish = 0;
+        boolean started = false;
+        boolean finished = true;
+        for (int i = 0; i < simulator.getSamples(); i++) {
+            Simulation simulation = simulator.getSimulation(i);
+            if (simulation == null || simulation.getStartTime() == 0) {
+                finished = false;
+                continue;
+            }
+            if (!started || simulation.getStartTime() - start < 0) {
+                start = simulation.getStartTime();
+            }
+            if (simulation.getFinishTime() == 0) {
+                finished = false;
+            } else if (!started || simulation.getFinishTime() - finish > 0) {
+                finish = simulation.getFinishTime();
+            }
+            started = true;
+        }
+
+        if (!started) {
+            return 0.0;
+        }
+
+        long elapsed = (finished ? finish : System.nanoTime()) - start;
+        return elapsed <= 0 ? 0.0 : count * 1e9 / elapsed;
+    }
+}
@@ -0,0 +1,49 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.simulator;
+
+/**
+ * The management interface of {@link SimulatorMetrics}, through which the
+ * statistics of a running {@linkplain Simulator} are published over JMX.
+ */
+public interface SimulatorMetricsMBean {
+
+    /**
+     * @return The average progress of the samples, as a fraction.
+     */
+    double getProgress();
+
+    int getSamples();
+
+    int getCompletedSamples();
+
+    /**
+     * @return The total number of iterations performed by all samples.
+     */
+    long getIterations();
+
+    /**
+     * @return The number of iterations per second, over all samples.
+     */
+    double getIterationRate();
+
+    /**
+     * @return The total number of fitness evaluations performed by all samples.
+     */
+    long getEvaluations();
+
+    /**
+     * @return The number of fitness evaluations per second, over all samples.
+     */
+    double getEvaluationRate();
+
+    /**
+     * @return The best fitness value found by any sample at its most recent
+     *         measurement, or {@code NaN} if it is not known.
+     */
+    double getBestFitness();
+}
@@ -32,6 +32,11 @@ public class SimulatorShell {
     
     /**
      * Prepare a list of {@code Simulator} instances for execution.
+     * <p>
+     * A {@code checkpoint} attribute on a {@code simulation} element enables
+     * checkpoints of its samples every given number of iterations. The
+     * checkpoints are kept in a directory next to the output file, and an
+     * interrupted simulation resumes from them when it is executed again.
      * @param specification to be read defining the simulations.
      * @return the list of instances to execute.
      */
@@ -63,6 +68,11 @@ public class SimulatorShell {
                 }
 
                 Simulator simulator = new Simulator(algorithmFactory, problemFactory, measurementsFactory, combiner, samples, seeder);
+                if (current.hasAttribute("checkpoint")) {
+                    Element output = (Element) current.getElementsByTagName("output").item(0);
+                    simulator.setCheckpointing(new File(output.getAttribute("file") + ".checkpoint"),
+                            Integer.valueOf(current.getAttribute("checkpoint")));
+                }
                 simulators.add(simulator);
             }
             
@@ -73,22 +83,80 @@ public class SimulatorShell {
     }
 
     /**
-     * Run and execute the simulations, reporting progress.
+     * Create the {@code SimulationScheduler} defined by the {@code simulations}
+     * element of the specification. The optional {@code concurrency} attribute
+     * limits the number of samples that execute at the same time (by default
+     * the number of available processors), and the optional
+     * {@code minimumFreeMemory} attribute specifies the number of megabytes
+     * that must be available before a further sample is started. When the
+     * {@code monitor} attribute is {@code true}, the metrics of the run are
+     * published over JMX.
+     * @param specification to be read defining the simulations.
+     * @return the scheduler to execute the simulations with.
+     */
+    public static SimulationScheduler createScheduler(File specification) {
+        try {
+            DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+            DocumentBuilder db = dbf.newDocumentBuilder();
+            Document config = db.parse(specification);
+
+            Element simulations = (Element) config.getElementsByTagName("simulations").item(0);
+            int concurrency = Runtime.getRuntime().availableProcessors();
+            long minimumFreeMemory = 0;
+            if (simulations != null && simulations.hasAttribute("concurrency")) {
+                concurrency = Integer.parseInt(simulations.getAttribute("concurrency"));
+            }
+            if (simulations != null && simulations.hasAttribute("minimumFreeMemory")) {
+                minimumFreeMemory = Long.parseLong(simulations.getAttribute("minimumFreeMemory")) << 20;
+            }
+
+            SimulationScheduler scheduler = new SimulationScheduler(concurrency, minimumFreeMemory);
+            scheduler.setMonitored(simulations != null && Boolean.parseBoolean(simulations.getAttribute("monitor")));
+            return scheduler;
+        } catch (Exception ex) {
+            throw new RuntimeException("Error preparing: " + specification.getAbsolutePath(), ex);
+        }
+    }
+
+    /**
+     * Run and execute the simulations on a default scheduler, reporting progress.
      * @param simulators iterable list to execute.
      * @param listener responsible to monitor progress.
-     * TODO: This listener idea is not fresh - one listener per simulation should be the case.
      */
     public static void execute(Iterable<Simulator> simulators, ProgressText listener) {
-        int index = 0;
-        for (Simulator simulator : simulators) {
-            simulator.init(); // Prepare the simulator by initialising the simulations
-            simulator.addProgressListener(listener);
-            listener.setSimulation(index++);
-            simulator.execute();
+        execute(new SimulationScheduler(), simulators, listener);
+    }
+
+    /**
+     * Run and execute the simulations, reporting progress. The samples of all
+     * the simulations are executed concurrently by the provided scheduler.
+     * @param scheduler to execute the simulations with.
+     * @param simulators iterable list to execute.
+     * @param listener responsible to monitor progress.
+     */
+    public static void execute(SimulationScheduler scheduler, Iterable<Simulator> simulators, ProgressText listener) {
+        List<Simulator> list = Lists.newArrayList(simulators);
+        for (Simulator simulator : list) {
+            simulator.init(); // Assign the seeds of the samples
+        }
+        listener.start();
+        scheduler.addProgressListener(listener);
+        try {
+            scheduler.execute(list);
+        } finally {
+            scheduler.removeProgressListener(listener);
         }
     }
 
+    /**
+     * Create the combiner for the {@code output} element. The {@code format}
+     * attribute selects either the {@code TXT} (default) or {@code BINARY}
+     * format, and a {@code compress} attribute of {@code true} compresses
+     * the output with GZIP.
+     */
     private static MeasurementCombiner createCombiner(Element item) {
-        return new MeasurementCombiner(new File(item.getAttribute("file")));
+        boolean binary = "BINARY".equalsIgnoreCase(item.getAttribute("format"));
+        boolean compress = Boolean.parseBoolean(item.getAttribute("compress"));
+        return new MeasurementCombiner(new File(item.getAttribute("file")), binary, compress);
     }
 }
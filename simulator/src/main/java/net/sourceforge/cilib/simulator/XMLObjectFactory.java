@@ -6,9 +6,13 @@
  */
 package net.sourceforge.cilib.simulator;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.w3c.dom.*;
 
 /**
@@ -47,6 +51,11 @@ import org.w3c.dom.*;
  * a hierarchical fashion to handle the construction of complex objects.
  * </p>
  * <p>
+ * The XML description is read only once: the first call to {@link #newObject()}
+ * compiles it into a construction plan containing the resolved classes, the
+ * methods to invoke and the parsed values. Further calls only replay the plan.
+ * </p>
+ * <p>
  * Note: Requires the Java API for XML processing (JAXP).
  * </p>
  *
@@ -55,8 +64,11 @@ import org.w3c.dom.*;
  */
 public class XMLObjectFactory {
 
+    private static final ConcurrentMap<String, Class<?>> CLASSES = new ConcurrentHashMap<String, Class<?>>();
+
     private Document xmlDocument;
     private Element xmlObjectDescription;
+    private Plan plan;
 
     /**
      * Creates a new instance of <code>XMLObjectFactory</code> for constructing objects
@@ -77,15 +89,21 @@ public class XMLObjectFactory {
      * @return A new {@link java.lang.Object} constructed according to the given description.
      */
     public Object newObject() {
-        return newObject(xmlObjectDescription);
+        return getPlan().newObject();
     }
 
-    @SuppressWarnings("unchecked")
-    private Object newObject(Element xml) {
+    private synchronized Plan getPlan() {
+        if (plan == null) {
+            plan = compile(xmlObjectDescription);
+        }
+        return plan;
+    }
+
+    private Instance compile(Element xml) {
         Class<?> objectClass = getClass(xml);
-        Object object = instanciate(xml, objectClass);
-        setup(object, xml);
-        return object;
+        Instance instance = new Instance(xml, getConstructor(xml, objectClass));
+        compileSetup(instance, xml);
+        return instance;
     }
 
     private Element getReferencedElement(Element xml) {
@@ -113,40 +131,38 @@ public class XMLObjectFactory {
             error(xml, "No class specified");
         }
 
-        try {
-            return Class.forName("net.sourceforge.cilib." + className);
-        } catch (ClassNotFoundException e) {
-            System.out.println("Class not found: net.sourceforge.cilib." + className);
-            e.printStackTrace();
+        Class<?> objectClass = CLASSES.get(className);
+        if (objectClass != null) {
+            return objectClass;
         }
 
         try {
-            return Class.forName(className);
+            objectClass = Class.forName("net.sourceforge.cilib." + className);
         } catch (ClassNotFoundException e) {
-            System.out.println("Class not found: " + className);
-            e.printStackTrace();
+            try {
+                objectClass = Class.forName(className);
+            } catch (ClassNotFoundException ex) {
+                error(xml, "Class not found: " + className);
+            }
         }
 
-        error(xml, "Class not found: " + className);
-        return null;
+        CLASSES.putIfAbsent(className, objectClass);
+        return objectClass;
     }
 
-    private Object instanciate(Element xml, Class<?> objectClass) {
-        // Attempt to instantiate the class
-        Object object = null;
+    private Constructor<?> getConstructor(Element xml, Class<?> objectClass) {
         try {
-            object = objectClass.newInstance();
-        } catch (Exception ex) {
+            return objectClass.getConstructor();
+        } catch (NoSuchMethodException ex) {
             error(xml, "Could not instanciate " + objectClass.getName());
         }
-
-        return object;
+        return null;
     }
 
-    private void setup(Object object, Element xml) {
+    private void compileSetup(Instance instance, Element xml) {
         // handle any referenced element
         if (xml.hasAttribute("idref")) {
-            setup(object, getReferencedElement(xml));
+            compileSetup(instance, getReferencedElement(xml));
         }
 
         // handle attributes of current element
@@ -156,37 +172,38 @@ public class XMLObjectFactory {
             if (attribute.getName().equals("id") || attribute.getName().equals("idref") || attribute.getName().equals("class") || attribute.getName().equals("value")) {
                 continue;
             }
-            invokeSetMethod(xml, object, attribute.getName(), newObject(attribute.getValue()));
+            instance.add(compileSetMethod(xml, instance, attribute.getName(), newConstant(attribute.getValue())));
         }
 
         // handle sub-elements of current element
         for (Element e = getFirstChildElement(xml); e != null; e = getNextSiblingElement(e)) {
             if (e.hasAttribute("value")) {
-                invokeSetMethod(e, object, e.getTagName(), newObject(e.getAttribute("value")));
+                instance.add(compileSetMethod(e, instance, e.getTagName(), newConstant(e.getAttribute("value"))));
             } else if (e.hasAttribute("class") || e.hasAttribute("idref")) {
-                invokeAnyMethod(e, object, e.getTagName(), newObject(e));
+                instance.add(compileAnyMethod(e, instance, e.getTagName(), compile(e)));
             } else if (getFirstChildElement(e) == null) {
                 Text text = getFirstChildText(e);
                 if (text == null) {
                     error(e, "Can't create object from null text");
                 }
-                invokeAnyMethod(e, object, e.getTagName(), newObject(text.getNodeValue()));
+                instance.add(compileAnyMethod(e, instance, e.getTagName(), newConstant(text.getNodeValue())));
             } else {
-                ArrayList<Object> parameters = new ArrayList<Object>();
+                List<Plan> parameters = new ArrayList<Plan>();
                 for (Element ee = getFirstChildElement(e); ee != null; ee = getNextSiblingElement(ee)) {
                     if (ee.hasAttribute("value")) {
-                        parameters.add(newObject(ee.getAttribute("value")));
+                        parameters.add(newConstant(ee.getAttribute("value")));
                     } else if (ee.hasAttribute("class") || ee.hasAttribute("idref")) {
-                        parameters.add(newObject(ee));
+                        parameters.add(compile(ee));
                     } else {
                         Text text = getFirstChildText(ee);
                         if (text == null) {
                             error(ee, "Can't create object from null text");
                         }
-                        parameters.add(newObject(text.getNodeValue()));
+                        parameters.add(newConstant(text.getNodeValue()));
                     }
                 }
-                invokeMethod(e, object, e.getTagName(), parameters.toArray());
+                Plan[] arguments = parameters.toArray(new Plan[parameters.size()]);
+                instance.add(new Invocation(e, getMethod(e, instance.getType(), e.getTagName(), arguments), arguments));
             }
         }
     }
@@ -215,6 +232,10 @@ public class XMLObjectFactory {
         return (Text) current;
     }
 
+    private Constant newConstant(String value) {
+        return new Constant(newObject(value));
+    }
+
     private Object newObject(String value) {
         try {
             return Integer.valueOf(value.trim());
@@ -235,39 +256,47 @@ public class XMLObjectFactory {
         }
     }
 
-    private void invokeAnyMethod(Element xml, Object target, String name, Object value) {
-        try {
-            invokeSetMethod(xml, target, name, value);
-        } catch (Exception ex) {
-            Object[] parameter = {value};
-            invokeMethod(xml, target, name, parameter);
+    private Invocation compileAnyMethod(Element xml, Instance target, String name, Plan value) {
+        Plan[] arguments = {value};
+        Method method = findMethod(target.getType(), getSetMethodName(name), arguments);
+        if (method == null) {
+            method = getMethod(xml, target.getType(), name, arguments);
         }
+        return new Invocation(xml, method, arguments);
+    }
+
+    private Invocation compileSetMethod(Element xml, Instance target, String property, Plan value) {
+        Plan[] arguments = {value};
+        return new Invocation(xml, getMethod(xml, target.getType(), getSetMethodName(property), arguments), arguments);
     }
 
-    private void invokeSetMethod(Element xml, Object target, String property, Object value) {
-        String setMethodName = "set" + property.substring(0, 1).toUpperCase() + property.substring(1);
-        Object[] parameters = {value};
-        invokeMethod(xml, target, setMethodName, parameters);
+    private String getSetMethodName(String property) {
+        return "set" + property.substring(0, 1).toUpperCase() + property.substring(1);
     }
 
-    private String getParameterString(Object[] parameters) {
+    private static String getParameterString(Plan[] parameters) {
         StringBuilder builder = new StringBuilder();
         boolean comma = false;
         for (int i = 0; i < parameters.length; ++i) {
             if (comma) {
                 builder.append(", ");
             }
-            builder.append(parameters[i].getClass().getName());
+            builder.append(parameters[i].getType().getName());
             comma = true;
         }
         return builder.toString();
     }
 
-    private void invokeMethod(Element xml, Object target, String methodName, Object[] parameters) {
-        Method method = null;
+    private Method getMethod(Element xml, Class<?> targetClass, String methodName, Plan[] parameters) {
+        Method method = findMethod(targetClass, methodName, parameters);
+        if (method == null) {
+            error(xml, targetClass.getName() + " does not expose a " + methodName + "(" + getParameterString(parameters) + ") method");
+        }
+        return method;
+    }
 
-        // Find the method
-        Method[] methods = target.getClass().getMethods();
+    private Method findMethod(Class<?> targetClass, String methodName, Plan[] parameters) {
+        Method[] methods = targetClass.getMethods();
         for (int i = 0; i < methods.length; ++i) {
             if (methods[i].getName().equals(methodName)) {
                 if (parameters.length != methods[i].getParameterTypes().length) {
@@ -276,43 +305,142 @@ public class XMLObjectFactory {
 
                 boolean match = true;
                 for (int j = 0; j < parameters.length; ++j) {
+                    Class<?> parameter = parameters[j].getType();
                     if (methods[i].getParameterTypes()[j].isPrimitive()) {
                         Class<?> type = methods[i].getParameterTypes()[j];
-                        if (parameters[j] instanceof Integer && !(type.equals(Integer.TYPE) || type.equals(Long.TYPE) || type.equals(Double.TYPE))) {
+                        if (parameter == Integer.class && !(type.equals(Integer.TYPE) || type.equals(Long.TYPE) || type.equals(Double.TYPE))) {
                             match = false;
-                        } else if (parameters[j] instanceof Long && !(type.equals(Long.TYPE) || type.equals(Double.TYPE))) {
+                        } else if (parameter == Long.class && !(type.equals(Long.TYPE) || type.equals(Double.TYPE))) {
                             match = false;
-                        } else if (parameters[j] instanceof Double && !type.equals(Double.TYPE)) {
+                        } else if (parameter == Double.class && !type.equals(Double.TYPE)) {
                             match = false;
-                        } else if (parameters[j] instanceof Boolean && !type.equals(Boolean.TYPE)) {
+                        } else if (parameter == Boolean.class && !type.equals(Boolean.TYPE)) {
                             match = false;
                         }
-                    } else if (!methods[i].getParameterTypes()[j].isInstance(parameters[j])) {
+                    } else if (!methods[i].getParameterTypes()[j].isAssignableFrom(parameter)) {
                         match = false;
                     }
                 }
                 if (match) {
-                    method = methods[i];
-                    break;
+                    return methods[i];
                 }
             }
         }
+        return null;
+    }
 
-        if (method == null) {
-            error(xml, target.getClass().getName() + " does not expose a " + methodName + "(" + getParameterString(parameters) + ") method");
+    protected void error(Element element, String message) {
+        throw new RuntimeException("In <" + element.getTagName() + "> : " + message);
+    }
+
+    /**
+     * A compiled part of the XML description, which produces a value each
+     * time it is replayed.
+     */
+    private interface Plan {
+
+        Object newObject();
+
+        /**
+         * Get the type of the values produced by the plan, used to resolve
+         * the methods which accept them.
+         */
+        Class<?> getType();
+    }
+
+    /**
+     * A value parsed from the XML description. Parsed values are immutable
+     * and are shared by all the constructed objects.
+     */
+    private static class Constant implements Plan {
+
+        private final Object value;
+
+        Constant(Object value) {
+            this.value = value;
         }
 
-        try {
-            method.invoke(target, parameters);
-        } catch (InvocationTargetException ex) {
-            ex.printStackTrace();
-            error(xml, "Invoking " + target.getClass().getName() + "." + method.getName() + "(" + getParameterString(parameters) + ") caused: " + ex.getTargetException().toString());
-        } catch (Exception ex) {
-            error(xml, "Could not invoke " + target.getClass().getName() + "." + method.getName() + "(" + getParameterString(parameters) + ")");
+        @Override
+        public Object newObject() {
+            return value;
+        }
+
+        @Override
+        public Class<?> getType() {
+            return value.getClass();
         }
     }
 
-    protected void error(Element element, String message) {
-        throw new RuntimeException("In <" + element.getTagName() + "> : " + message);
+    /**
+     * The construction of a new instance of a class, followed by the method
+     * invocations that set it up.
+     */
+    private class Instance implements Plan {
+
+        private final Element xml;
+        private final Constructor<?> constructor;
+        private final List<Invocation> invocations;
+
+        Instance(Element xml, Constructor<?> constructor) {
+            this.xml = xml;
+            this.constructor = constructor;
+            this.invocations = new ArrayList<Invocation>();
+        }
+
+        void add(Invocation invocation) {
+            invocations.add(invocation);
+        }
+
+        @Override
+        public Object newObject() {
+            Object object = null;
+            try {
+                object = constructor.newInstance();
+            } catch (Exception ex) {
+                error(xml, "Could not instanciate " + constructor.getDeclaringClass().getName());
+            }
+
+            for (Invocation invocation : invocations) {
+                invocation.invoke(object);
+            }
+            return object;
+        }
+
+        @Override
+        public Class<?> getType() {
+            return constructor.getDeclaringClass();
+        }
+    }
+
+    /**
+     * The invocation of a resolved method with the values of its argument plans.
+     */
+    private class Invocation {
+
+        private final Element xml;
+        private final Method method;
+        private final Plan[] arguments;
+
+        Invocation(Element xml, Method method, Plan[] arguments) {
+            this.xml = xml;
+            this.method = method;
+            this.arguments = arguments;
+        }
+
+        void invoke(Object target) {
+            Object[] parameters = new Object[arguments.length];
+            for (int i = 0; i < arguments.length; ++i) {
+                parameters[i] = arguments[i].newObject();
+            }
+
+            try {
+                method.invoke(target, parameters);
+            } catch (InvocationTargetException ex) {
+                ex.printStackTrace();
+                error(xml, "Invoking " + target.getClass().getName() + "." + method.getName() + "(" + getParameterString(arguments) + ") caused: " + ex.getTargetException().toString());
+            } catch (Exception ex) {
+                error(xml, "Could not invoke " + target.getClass().getName() + "." + method.getName() + "(" + getParameterString(arguments) + ")");
+            }
+        }
     }
 }
@@ -0,0 +1,127 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.simulator;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.Lists;
+import com.google.common.io.Files;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import net.sourceforge.cilib.type.types.Int;
+import net.sourceforge.cilib.type.types.Real;
+import net.sourceforge.cilib.type.types.StringType;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MeasurementCombinerTest {
+
+    private static final String EXPECTED = "# 0 - Iterations\n"
+            + "# 1 - Fitness (0)\n"
+            + "# 2 - Fitness (1)\n"
+            + "# 3 - Diversity (0)\n"
+            + "# 4 - Diversity (1)\n"
+            + "1 0.5 1.5 3 [1.0,2.0]\n"
+            + "2 0.25 1.25 4 [1.0,2.0]\n";
+
+    private List<File> createPartials() throws IOException {
+        List<File> partials = Lists.newArrayList();
+        for (int sample = 0; sample < 2; sample++) {
+            File f = File.createTempFile("cilib_test", ".tmp");
+            DataOutputStream output = new DataOutputStream(new FileOutputStream(f));
+            for (int iteration = 1; iteration <= 2; iteration++) {
+                output.writeInt(iteration);
+                if (sample == 0) {
+                    MeasurementValue.write(output, Real.valueOf(1.0 / (1 << iteration)));
+                    MeasurementValue.write(output, Int.valueOf(iteration + 2));
+                } else {
+                    MeasurementValue.write(output, Real.valueOf(1.0 + 1.0 / (1 << iteration)));
+                    MeasurementValue.write(output, Vector.of(1.0, 2.0));
+                }
+            }
+            output.close();
+            partials.add(f);
+        }
+        return partials;
+    }
+
+    @Test
+    public void combineText() throws IOException {
+        File output = File.createTempFile("cilib_test", ".txt");
+        output.deleteOnExit();
+        List<File> partials = createPartials();
+
+        new MeasurementCombiner(output).combine(Arrays.asList("Fitness", "Diversity"), partials);
+
+        Assert.assertEquals(EXPECTED, Files.toString(output, Charsets.UTF_8));
+        for (File f : partials) {
+            Assert.assertFalse(f.exists());
+        }
+    }
+
+    @Test
+    public void exportCompressedBinary() throws IOException {
+        File output = File.createTempFile("cilib_test", ".bin.gz");
+        File text = File.createTempFile("cilib_test", ".txt");
+        output.deleteOnExit();
+        text.deleteOnExit();
+
+        new MeasurementCombiner(output, true, true).combine(Arrays.asList("Fitness", "Diversity"), createPartials());
+        MeasurementCombiner.exportText(output, text);
+
+        Assert.assertEquals(EXPECTED, Files.toString(text, Charsets.UTF_8));
+    }
+
+    @Test
+    public void largeValuesAndBlocks() throws IOException {
+        StringBuilder large = new StringBuilder();
+        while (large.length() <= 70000) {
+            large.append("0.123456789,");
+        }
+        int iterations = MeasurementCombiner.BLOCK_ROWS + 10;
+
+        File[] text = new File[2];
+        for (int run = 0; run < 2; run++) {
+            List<File> partials = Lists.newArrayList();
+            for (int sample = 0; sample < 2; sample++) {
+                File f = File.createTempFile("cilib_test", ".tmp");
+                DataOutputStream output = new DataOutputStream(new FileOutputStream(f));
+                for (int iteration = 1; iteration <= iterations; iteration++) {
+                    output.writeInt(iteration);
+                    MeasurementValue.write(output, Real.valueOf(iteration * 0.5));
+                    if (sample == 1 && iteration == 3) {
+                        MeasurementValue.write(output, new StringType(large.toString()));
+                    } else {
+                        MeasurementValue.write(output, Int.valueOf(iteration));
+                    }
+                }
+                output.close();
+                partials.add(f);
+            }
+
+            text[run] = File.createTempFile("cilib_test", ".txt");
+            text[run].deleteOnExit();
+            if (run == 0) {
+                new MeasurementCombiner(text[run]).combine(Arrays.asList("Fitness", "Diversity"), partials);
+            } else {
+                File binary = File.createTempFile("cilib_test", ".bin");
+                binary.deleteOnExit();
+                new MeasurementCombiner(binary, true, false).combine(Arrays.asList("Fitness", "Diversity"), partials);
+                MeasurementCombiner.exportText(binary, text[run]);
+            }
+        }
+
+        String expected = Files.toString(text[0], Charsets.UTF_8);
+        Assert.assertTrue(expected.contains("3 1.5 1.5 3 " + large + "\n"));
+        Assert.assertTrue(expected.endsWith(iterations + " " + iterations * 0.5 + " " + iterations * 0.5 + " " + iterations + " " + iterations + "\n"));
+        Assert.assertEquals(expected, Files.toString(text[1], Charsets.UTF_8));
+    }
+}
@@ -0,0 +1,128 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.simulator;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Files;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
+import net.sourceforge.cilib.algorithm.AlgorithmEvent;
+import net.sourceforge.cilib.algorithm.AlgorithmListener;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SimulationCheckpointTest {
+
+    private static final String SPECIFICATION = "<?xml version=\"1.0\"?>\n"
+            + "<!DOCTYPE simulator [\n"
+            + "<!ATTLIST algorithm id ID #IMPLIED>\n"
+            + "<!ATTLIST problem id ID #IMPLIED>\n"
+            + "<!ATTLIST measurements id ID #IMPLIED>\n"
+            + "]>\n"
+            + "<simulator>\n"
+            + "  <algorithms>\n"
+            + "    <algorithm id=\"pso\" class=\"pso.PSO\">\n"
+            + "      <addStoppingCondition class=\"stoppingcondition.MeasuredStoppingCondition\" target=\"30\"/>\n"
+            + "    </algorithm>\n"
+            + "  </algorithms>\n"
+            + "  <problems>\n"
+            + "    <problem id=\"spherical\" class=\"problem.FunctionOptimisationProblem\" domain=\"R(-5.12:5.12)^5\">\n"
+            + "      <function class=\"functions.continuous.unconstrained.Spherical\"/>\n"
+            + "    </problem>\n"
+            + "  </problems>\n"
+            + "  <measurements id=\"fitness\" class=\"simulator.MeasurementSuite\" resolution=\"5\">\n"
+            + "    <addMeasurement class=\"measurement.single.Fitness\"/>\n"
+            + "  </measurements>\n"
+            + "  <simulations>\n"
+            + "    <simulation samples=\"2\" %s>\n"
+            + "      <algorithm idref=\"pso\"/><problem idref=\"spherical\"/><measurements idref=\"fitness\"/>\n"
+            + "      <output format=\"TXT\" file=\"%s\"/>\n"
+            + "      <seeder class=\"math.random.generator.seeder.FixedSeederStrategy\">\n"
+            + "        <seed value=\"11\"/><seed value=\"12\"/>\n"
+            + "      </seeder>\n"
+            + "    </simulation>\n"
+            + "  </simulations>\n"
+            + "</simulator>\n";
+
+    private static List<Simulator> prepare(File directory, String attributes, File output) throws IOException {
+        File specification = new File(directory, "simulation.xml");
+        Files.write(String.format(SPECIFICATION, attributes, output.getPath()), specification, Charsets.UTF_8);
+        List<Simulator> simulators = SimulatorShell.prepare(specification);
+        for (Simulator simulator : simulators) {
+            simulator.init();
+        }
+        return simulators;
+    }
+
+    /**
+     * A sample that is interrupted must resume from its last checkpoint and
+     * produce exactly the same results as an uninterrupted sample.
+     */
+    @Test
+    public void resume() throws IOException {
+        File directory = Files.createTempDir();
+        File expected = new File(directory, "expected.txt");
+        File actual = new File(directory, "actual.txt");
+        SimulationScheduler scheduler = new SimulationScheduler(1, 0);
+
+        scheduler.execute(prepare(directory, "", expected));
+
+        List<Simulator> interrupted = prepare(directory, "checkpoint=\"10\"", actual);
+        ((AbstractAlgorithm) interrupted.get(0).prepareSimulation(1).getAlgorithm()).addAlgorithmListener(new Crash(17));
+        try {
+            scheduler.execute(interrupted);
+            Assert.fail("The simulation should have been interrupted.");
+        } catch (RuntimeException e) {
+            // expected
+        }
+        Assert.assertFalse(actual.exists());
+        Assert.assertTrue(new File(directory, "actual.txt.checkpoint/sample-0.done").exists());
+        Assert.assertTrue(new File(directory, "actual.txt.checkpoint/sample-1.ckpt").exists());
+
+        Crash.armed = false;
+        scheduler.execute(prepare(directory, "checkpoint=\"10\"", actual));
+
+        Assert.assertEquals(Files.toString(expected, Charsets.UTF_8), Files.toString(actual, Charsets.UTF_8));
+        Assert.assertFalse(new File(directory, "actual.txt.checkpoint").exists());
+    }
+
+    /**
+     * Simulates a failure of the virtual machine at a given iteration.
+     */
+    private static class Crash implements AlgorithmListener {
+
+        private static final long serialVersionUID = 1L;
+        static volatile boolean armed = true;
+        private final int iteration;
+
+        Crash(int iteration) {
+            this.iteration = iteration;
+        }
+
+        @Override
+        public void algorithmStarted(AlgorithmEvent e) {
+        }
+
+        @Override
+        public void algorithmFinished(AlgorithmEvent e) {
+        }
+
+        @Override
+        public void iterationCompleted(AlgorithmEvent e) {
+            if (armed && e.getSource().getIterations() == iteration) {
+                throw new IllegalStateException("Crash");
+            }
+        }
+
+        @Override
+        public AlgorithmListener getClone() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.simulator;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Files;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import net.sourceforge.cilib.algorithm.ProgressEvent;
+import net.sourceforge.cilib.algorithm.ProgressListener;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SimulationSchedulerTest {
+
+    private static final String SPECIFICATION = "<?xml version=\"1.0\"?>\n"
+            + "<!DOCTYPE simulator [\n"
+            + "<!ATTLIST algorithm id ID #IMPLIED>\n"
+            + "<!ATTLIST problem id ID #IMPLIED>\n"
+            + "<!ATTLIST measurements id ID #IMPLIED>\n"
+            + "]>\n"
+            + "<simulator>\n"
+            + "  <algorithms>\n"
+            + "    <algorithm id=\"pso\" class=\"pso.PSO\">\n"
+            + "      <addStoppingCondition class=\"stoppingcondition.MeasuredStoppingCondition\" target=\"20\"/>\n"
+            + "    </algorithm>\n"
+            + "  </algorithms>\n"
+            + "  <problems>\n"
+            + "    <problem id=\"spherical\" class=\"problem.FunctionOptimisationProblem\" domain=\"R(-5.12:5.12)^5\">\n"
+            + "      <function class=\"functions.continuous.unconstrained.Spherical\"/>\n"
+            + "    </problem>\n"
+            + "  </problems>\n"
+            + "  <measurements id=\"fitness\" class=\"simulator.MeasurementSuite\" resolution=\"10\">\n"
+            + "    <addMeasurement class=\"measurement.single.Fitness\"/>\n"
+            + "  </measurements>\n"
+            + "  <simulations concurrency=\"2\" minimumFreeMemory=\"1\">\n"
+            + "    <simulation samples=\"3\">\n"
+            + "      <algorithm idref=\"pso\"/><problem idref=\"spherical\"/><measurements idref=\"fitness\"/>\n"
+            + "      <output format=\"TXT\" file=\"%s/first.txt\"/>\n"
+            + "    </simulation>\n"
+            + "    <simulation samples=\"2\">\n"
+            + "      <algorithm idref=\"pso\"/><problem idref=\"spherical\"/><measurements idref=\"fitness\"/>\n"
+            + "      <output format=\"TXT\" file=\"%s/second.txt\"/>\n"
+            + "    </simulation>\n"
+            + "  </simulations>\n"
+            + "</simulator>\n";
+
+    /**
+     * All samples of all the simulations must be executed and combined.
+     */
+    @Test
+    public void executeConcurrently() throws IOException {
+        File directory = Files.createTempDir();
+        File specification = new File(directory, "simulation.xml");
+        Files.write(String.format(SPECIFICATION, directory.getPath(), directory.getPath()), specification, Charsets.UTF_8);
+
+        SimulationScheduler scheduler = SimulatorShell.createScheduler(specification);
+        Assert.assertEquals(2, scheduler.getConcurrency());
+        Assert.assertEquals(1L << 20, scheduler.getMinimumFreeMemory());
+
+        List<Simulator> simulators = SimulatorShell.prepare(specification);
+        for (Simulator simulator : simulators) {
+            simulator.init();
+        }
+        scheduler.execute(simulators);
+
+        List<String> first = Files.readLines(new File(directory, "first.txt"), Charsets.UTF_8);
+        List<String> second = Files.readLines(new File(directory, "second.txt"), Charsets.UTF_8);
+
+        // Header lines, followed by iterations 10 and 20 and the final measurement
+        Assert.assertEquals(4 + 3, first.size());
+        Assert.assertEquals(3 + 3, second.size());
+        Assert.assertEquals(4, first.get(4).split(" ").length);
+        Assert.assertTrue(first.get(5).startsWith("20 "));
+        Assert.assertEquals(3, second.get(3).split(" ").length);
+    }
+
+    /**
+     * The metrics must be published during the execution, the final progress
+     * must be reported, and the statistics of all samples must be recorded.
+     */
+    @Test
+    public void monitoredExecution() throws IOException {
+        File directory = Files.createTempDir();
+        File specification = new File(directory, "simulation.xml");
+        Files.write(String.format(SPECIFICATION.replace("minimumFreeMemory=\"1\"", "monitor=\"true\""),
+                directory.getPath(), directory.getPath()), specification, Charsets.UTF_8);
+
+        SimulationScheduler scheduler = SimulatorShell.createScheduler(specification);
+        Assert.assertTrue(scheduler.isMonitored());
+
+        final AtomicBoolean registered = new AtomicBoolean();
+        final AtomicBoolean completed = new AtomicBoolean();
+        scheduler.addProgressListener(new ProgressListener() {
+            @Override
+            public void handleProgressEvent(ProgressEvent event) {
+                registered.compareAndSet(false, !queryMetrics().isEmpty());
+                completed.compareAndSet(false, event.getPercentage() == 1.0);
+            }
+        });
+
+        List<Simulator> simulators = SimulatorShell.prepare(specification);
+        for (Simulator simulator : simulators) {
+            simulator.init();
+        }
+        scheduler.execute(simulators);
+
+        Assert.assertTrue(registered.get());
+        Assert.assertTrue(completed.get());
+        Assert.assertTrue(queryMetrics().isEmpty());
+
+        SimulatorMetrics metrics = new SimulatorMetrics(simulators.get(0));
+        Assert.assertEquals(1.0, metrics.getProgress(), 0.0);
+        Assert.assertEquals(3, metrics.getCompletedSamples());
+        Assert.assertEquals(3 * 20, metrics.getIterations());
+        Assert.assertTrue(metrics.getEvaluations() > metrics.getIterations());
+        Assert.assertTrue(metrics.getEvaluationRate() > 0.0);
+        Assert.assertTrue(metrics.getBestFitness() >= 0.0);
+    }
+
+    /**
+     * Simulations must only be created when their sample is admitted, and
+     * their algorithm and problem must be released once they complete.
+     */
+    @Test
+    public void lazySimulations() throws IOException {
+        File directory = Files.createTempDir();
+        File specification = new File(directory, "simulation.xml");
+        Files.write(String.format(SPECIFICATION, directory.getPath(), directory.getPath()), specification, Charsets.UTF_8);
+
+        SimulationScheduler scheduler = SimulatorShell.createScheduler(specification);
+        List<Simulator> simulators = SimulatorShell.prepare(specification);
+        for (Simulator simulator : simulators) {
+            simulator.init();
+            Assert.assertNull(simulator.getSimulation(0));
+        }
+        scheduler.execute(simulators);
+
+        for (int i = 0; i < 3; i++) {
+            Simulation simulation = simulators.get(0).getSimulation(i);
+            Assert.assertNull(simulation.getAlgorithm());
+            Assert.assertNull(simulation.getMeasurementSuite());
+            Assert.assertEquals(20, simulation.getIterations());
+        }
+        Assert.assertEquals(4 + 3, Files.readLines(new File(directory, "first.txt"), Charsets.UTF_8).size());
+    }
+
+    private static Set<ObjectName> queryMetrics() {
+        try {
+            return ManagementFactory.getPlatformMBeanServer().queryNames(new ObjectName("net.sourceforge.cilib.simulator:*"), null);
+        } catch (MalformedObjectNameException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidConcurrency() {
+        new SimulationScheduler(0, 0);
+    }
+}
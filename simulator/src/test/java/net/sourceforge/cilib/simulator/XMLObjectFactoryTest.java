@@ -0,0 +1,79 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.simulator;
+
+import java.io.ByteArrayInputStream;
+import javax.xml.parsers.DocumentBuilderFactory;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
+import net.sourceforge.cilib.pso.PSO;
+import net.sourceforge.cilib.stoppingcondition.MeasuredStoppingCondition;
+import org.junit.Assert;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+public class XMLObjectFactoryTest {
+
+    private static final String XML = "<?xml version=\"1.0\"?>"
+            + "<!DOCTYPE simulator [<!ATTLIST problem id ID #IMPLIED>]>"
+            + "<simulator>"
+            + "<problem id=\"spherical\" class=\"problem.FunctionOptimisationProblem\" domain=\"R(-5.12:5.12)^10\">"
+            + "<function class=\"functions.continuous.unconstrained.Spherical\"/>"
+            + "</problem>"
+            + "<algorithm class=\"pso.PSO\">"
+            + "<addStoppingCondition class=\"stoppingcondition.MeasuredStoppingCondition\" target=\"200\"/>"
+            + "</algorithm>"
+            + "<simulation><problem idref=\"spherical\"/></simulation>"
+            + "</simulator>";
+
+    private Document parse() throws Exception {
+        return DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new ByteArrayInputStream(XML.getBytes("UTF-8")));
+    }
+
+    /**
+     * Every replay of the construction plan must create new, equally
+     * configured, objects.
+     */
+    @Test
+    public void replayCreatesNewObjects() throws Exception {
+        Document document = parse();
+        XMLObjectFactory factory = new XMLObjectFactory(document, (Element) document.getElementsByTagName("algorithm").item(0));
+
+        PSO first = (PSO) factory.newObject();
+        PSO second = (PSO) factory.newObject();
+
+        Assert.assertNotSame(first, second);
+        Assert.assertEquals(1, first.getStoppingConditions().size());
+        Assert.assertEquals(1, second.getStoppingConditions().size());
+        Assert.assertNotSame(first.getStoppingConditions().get(0), second.getStoppingConditions().get(0));
+        Assert.assertEquals(200.0, ((MeasuredStoppingCondition) second.getStoppingConditions().get(0)).getTarget(), 0.0);
+    }
+
+    @Test
+    public void idrefIsResolved() throws Exception {
+        Document document = parse();
+        Element simulation = (Element) document.getElementsByTagName("simulation").item(0);
+        XMLObjectFactory factory = new XMLObjectFactory(document, (Element) simulation.getElementsByTagName("problem").item(0));
+
+        FunctionOptimisationProblem first = (FunctionOptimisationProblem) factory.newObject();
+        FunctionOptimisationProblem second = (FunctionOptimisationProblem) factory.newObject();
+
+        Assert.assertEquals("R(-5.12:5.12)^10", second.getDomain().getDomainString());
+        Assert.assertTrue(second.getFunction() instanceof Spherical);
+        Assert.assertNotSame(first.getFunction(), second.getFunction());
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void unknownClass() throws Exception {
+        Document document = parse();
+        Element algorithm = (Element) document.getElementsByTagName("algorithm").item(0);
+        algorithm.setAttribute("class", "pso.DoesNotExist");
+
+        new XMLObjectFactory(document, algorithm).newObject();
+    }
+}